@@ -11,14 +11,12 @@
 package org.eclipse.cdt.cmake.core.internal;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,12 +37,9 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.jobs.Job;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
 
-import com.google.gson.Gson;
-
 public class CMakeBuildConfiguration extends CBuildConfiguration {
 
 	public static final String CMAKE_GENERATOR = "cmake.generator"; //$NON-NLS-1$
@@ -312,26 +307,9 @@ public class CMakeBuildConfiguration extends CBuildConfiguration {
 		IProject project = getProject();
 		Path commandsFile = getBuildDirectory().resolve("compile_commands.json"); //$NON-NLS-1$
 		if (Files.exists(commandsFile)) {
-			List<Job> jobsList = new ArrayList<>();
 			monitor.setTaskName(Messages.CMakeBuildConfiguration_ProcCompJson);
-			try (FileReader reader = new FileReader(commandsFile.toFile())) {
-				Gson gson = new Gson();
-				CompileCommand[] commands = gson.fromJson(reader, CompileCommand[].class);
-				Map<String, CompileCommand> dedupedCmds = new HashMap<>();
-				for (CompileCommand command : commands) {
-					dedupedCmds.put(command.getFile(), command);
-				}
-				for (CompileCommand command : dedupedCmds.values()) {
-					processLine(command.getCommand(), jobsList);
-				}
-				for (Job j : jobsList) {
-					try {
-						j.join();
-					} catch (InterruptedException e) {
-						// ignore
-					}
-				}
-				shutdown();
+			try {
+				processCompileCommands(commandsFile, monitor);
 			} catch (IOException e) {
 				throw new CoreException(Activator.errorStatus(
 						String.format(Messages.CMakeBuildConfiguration_ProcCompCmds, project.getName()), e));
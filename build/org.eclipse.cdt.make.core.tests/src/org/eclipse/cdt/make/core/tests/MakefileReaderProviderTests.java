@@ -16,14 +16,18 @@ package org.eclipse.cdt.make.core.tests;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
 
 import org.eclipse.cdt.make.core.MakeCorePlugin;
 import org.eclipse.cdt.make.core.makefile.IMacroDefinition;
@@ -122,6 +126,72 @@ public class MakefileReaderProviderTests extends TestCase {
 		assertMakefileContents(makefile);
 	}
 
+	public void testIncludedMakefileParsedOnce() throws Exception {
+		File dir = Files.createTempDirectory("makefile").toFile();
+		try {
+			File main = new File(dir, "Makefile.main");
+			File incl = new File(dir, "Makefile.incl");
+			writeFile(main, "VAR = foo\n" + "\n" + "include Makefile.incl\n" + "\n" + "main: $(VAR) $(INCLVAR)\n"
+					+ "	nothing\n");
+			writeFile(incl, "INCLVAR = bar\n" + "\n" + "foo.o: .PHONY\n");
+
+			final int[] inclReads = { 0 };
+			IMakefile makefile = MakeCorePlugin.createMakefile(URIUtil.toURI(main.getAbsolutePath()), true,
+					new String[] { dir.getAbsolutePath() }, new IMakefileReaderProvider() {
+
+						@Override
+						public Reader getReader(URI fileURI) throws IOException {
+							if (new File(fileURI).getName().equals("Makefile.incl"))
+								inclReads[0]++;
+							return new FileReader(new File(fileURI));
+						}
+
+					});
+
+			assertMakefileContents(makefile);
+			assertEquals("foo bar", makefile.expandString("$(VAR) $(INCLVAR)"));
+			assertEquals(1, makefile.getTargetRules("foo.o").length);
+			assertEquals(1, inclReads[0]);
+
+			// Parsed again once the file changed
+			writeFile(incl, "INCLVAR = bar baz\n" + "\n" + "foo.o: .PHONY\n");
+			assertEquals("foo bar baz", makefile.expandString("$(VAR) $(INCLVAR)"));
+			assertEquals(2, inclReads[0]);
+		} finally {
+			for (File file : dir.listFiles()) {
+				file.delete();
+			}
+			dir.delete();
+		}
+	}
+
+	public void testInMemoryIncludedMakefileParsedAgain() throws Exception {
+		final String[] inclContents = { "INCLVAR = bar\r\n" + "\r\n" + "foo.o: .PHONY\r\n" };
+		IMakefile makefile = MakeCorePlugin.createMakefile(URIUtil.toURI("/memory/Makefile.main"), true, inclDirs,
+				new IMakefileReaderProvider() {
+
+					@Override
+					public Reader getReader(URI fileURI) throws IOException {
+						String name = new File(fileURI).getName();
+						if (name.equals("Makefile.main"))
+							return new StringReader("VAR = foo\r\n" + "\r\n" + "include Makefile.incl\r\n" + "\r\n"
+									+ "main: $(VAR) $(INCLVAR)\r\n" + "	nothing\r\n");
+						if (name.equals("Makefile.incl"))
+							return new StringReader(inclContents[0]);
+
+						throw new FileNotFoundException(fileURI.getPath());
+					}
+
+				});
+
+		assertMakefileContents(makefile);
+		assertEquals("foo bar", makefile.expandString("$(VAR) $(INCLVAR)"));
+
+		// There is no file to tell whether the contents changed
+		inclContents[0] = "INCLVAR = baz\r\n" + "\r\n" + "foo.o: .PHONY\r\n";
+		assertEquals("foo baz", makefile.expandString("$(VAR) $(INCLVAR)"));
+	}
+
 	public void testReaderIsClosed_Bug338936() throws Exception {
 		final boolean[] streamIsClosed = { false };
 		MakeCorePlugin.createMakefile(URIUtil.toURI("Makefile.main"), true, inclDirs, new IMakefileReaderProvider() {
@@ -157,6 +227,12 @@ public class MakefileReaderProviderTests extends TestCase {
 		assertEquals("main", rules[1].getTarget().toString());
 	}
 
+	private static void writeFile(File file, String contents) throws IOException {
+		try (Writer writer = new FileWriter(file)) {
+			writer.write(contents);
+		}
+	}
+
 	/**
 	 * Try to get a file in the development version of a plugin --
 	 * will return <code>null</code> for a jar-packaged plugin.
@@ -16,8 +16,10 @@ package org.eclipse.cdt.make.internal.core.makefile;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.cdt.make.core.makefile.IBuiltinFunction;
 import org.eclipse.cdt.make.core.makefile.IDirective;
@@ -60,13 +62,8 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 
 	@Override
 	public IRule[] getRules() {
-		IDirective[] stmts = getDirectives(true);
-		List<IDirective> array = new ArrayList<>(stmts.length);
-		for (IDirective stmt : stmts) {
-			if (stmt instanceof IRule) {
-				array.add(stmt);
-			}
-		}
+		List<IRule> array = new ArrayList<>();
+		collectDirectives(IRule.class, array);
 		return array.toArray(new IRule[0]);
 	}
 
@@ -84,13 +81,8 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 
 	@Override
 	public IInferenceRule[] getInferenceRules() {
-		IRule[] rules = getRules();
-		List<IRule> array = new ArrayList<>(rules.length);
-		for (IRule rule : rules) {
-			if (rule instanceof IInferenceRule) {
-				array.add(rule);
-			}
-		}
+		List<IInferenceRule> array = new ArrayList<>();
+		collectDirectives(IInferenceRule.class, array);
 		return array.toArray(new IInferenceRule[0]);
 	}
 
@@ -108,13 +100,8 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 
 	@Override
 	public ITargetRule[] getTargetRules() {
-		IRule[] trules = getRules();
-		List<IRule> array = new ArrayList<>(trules.length);
-		for (IRule trule : trules) {
-			if (trule instanceof ITargetRule) {
-				array.add(trule);
-			}
-		}
+		List<ITargetRule> array = new ArrayList<>();
+		collectDirectives(ITargetRule.class, array);
 		return array.toArray(new ITargetRule[0]);
 	}
 
@@ -132,13 +119,8 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 
 	@Override
 	public IMacroDefinition[] getMacroDefinitions() {
-		IDirective[] stmts = getDirectives(true);
-		List<IDirective> array = new ArrayList<>(stmts.length);
-		for (IDirective stmt : stmts) {
-			if (stmt instanceof IMacroDefinition) {
-				array.add(stmt);
-			}
-		}
+		List<IMacroDefinition> array = new ArrayList<>();
+		collectDirectives(IMacroDefinition.class, array);
 		return array.toArray(new IMacroDefinition[0]);
 	}
 
@@ -207,7 +189,26 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 
 	@Override
 	public String expandString(String line, boolean recursive) {
-		return expandString(line, recursive, new HashSet<String>());
+		if (line.indexOf('$') < 0) {
+			return line;
+		}
+		return expandString(line, recursive, new HashSet<String>(), getMacroDefinitionsByName());
+	}
+
+	/**
+	 * Returns the first definition of each macro, the built-in definitions coming after
+	 * those of the makefile.  Collected once for all the macros of a line, rather than
+	 * looking up the whole makefile for each of them.
+	 */
+	private Map<String, IMacroDefinition> getMacroDefinitionsByName() {
+		Map<String, IMacroDefinition> definitions = new HashMap<>();
+		for (IMacroDefinition def : getMacroDefinitions()) {
+			definitions.putIfAbsent(def.getName(), def);
+		}
+		for (IMacroDefinition def : getBuiltinMacroDefinitions()) {
+			definitions.putIfAbsent(def.getName(), def);
+		}
+		return definitions;
 	}
 
 	/**
@@ -215,10 +216,13 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 	 *            - line to expand
 	 * @param expandedMacros
 	 *            - keep track of expanded macros to prevent infinite recursion.
+	 * @param definitions
+	 *            - the macro definitions by name.
 	 *
 	 * @return line after expanding any macros.
 	 */
-	private String expandString(String line, boolean recursive, HashSet<String> expandedMacros) {
+	private String expandString(String line, boolean recursive, HashSet<String> expandedMacros,
+			Map<String, IMacroDefinition> definitions) {
 		int len = line.length();
 		boolean foundDollar = false;
 		boolean inMacro = false;
@@ -249,16 +253,13 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 				if (inMacro) {
 					String name = macroName.toString();
 					if (name.length() > 0) {
-						IMacroDefinition[] defs = getMacroDefinitions(name);
-						if (defs.length == 0) {
-							defs = getBuiltinMacroDefinitions(name);
-						}
-						if (defs.length > 0) {
-							String result = defs[0].getValue().toString();
+						IMacroDefinition def = definitions.get(name);
+						if (def != null) {
+							String result = def.getValue().toString();
 							if (result.indexOf('$') != -1 && recursive && !expandedMacros.contains(result)) {
 								String prevResult = result;
 								expandedMacros.add(prevResult);
-								result = expandString(result, recursive, expandedMacros);
+								result = expandString(result, recursive, expandedMacros, definitions);
 								expandedMacros.remove(prevResult);
 							}
 							buffer.append(result);
@@ -277,16 +278,13 @@ public abstract class AbstractMakefile extends Parent implements IMakefile {
 					macroName.append(c);
 				} else if (foundDollar) {
 					String name = String.valueOf(c);
-					IMacroDefinition[] defs = getMacroDefinitions(name);
-					if (defs.length == 0) {
-						defs = getBuiltinMacroDefinitions(name);
-					}
-					if (defs.length > 0) {
-						String result = defs[0].getValue().toString();
+					IMacroDefinition def = definitions.get(name);
+					if (def != null) {
+						String result = def.getValue().toString();
 						if (result.indexOf('$') != -1 && recursive && !expandedMacros.contains(result)) {
 							String prevResult = result;
 							expandedMacros.add(prevResult);
-							result = expandString(result, recursive, expandedMacros);
+							result = expandString(result, recursive, expandedMacros, definitions);
 							expandedMacros.remove(prevResult);
 						}
 						buffer.append(result);
@@ -31,12 +31,19 @@ public class MakefileReader extends LineNumberReader {
 
 	@Override
 	public String readLine() throws IOException {
+		String firstLine = super.readLine();
+		if (firstLine == null || !Util.isEscapedLine(firstLine)) {
+			// Most lines are not continued, no need to copy them
+			return firstLine;
+		}
+
 		boolean done = false;
 		StringBuilder buffer = new StringBuilder();
 		boolean escapedLine = false;
 		boolean escapedCommand = false;
 		while (!done) {
-			String line = super.readLine();
+			String line = firstLine != null ? firstLine : super.readLine();
+			firstLine = null;
 			if (line == null) {
 				return null;
 			}
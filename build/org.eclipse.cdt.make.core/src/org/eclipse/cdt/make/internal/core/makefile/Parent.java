@@ -47,6 +47,23 @@ public abstract class Parent extends Directive implements IParent {
 		return getDirectives();
 	}
 
+	/**
+	 * Adds the directives of the given type among the children of this parent and their
+	 * descendants to the list, in the order of {@link #getDirectives(boolean)}.  Unlike the
+	 * latter, no array is built for each parent on the way.
+	 */
+	public <T> void collectDirectives(Class<T> type, List<T> result) {
+		getDirectives(); // populates children for class Include
+		for (Directive directive : children) {
+			if (type.isInstance(directive)) {
+				result.add(type.cast(directive));
+			}
+			if (directive instanceof Parent) {
+				((Parent) directive).collectDirectives(type, result);
+			}
+		}
+	}
+
 	@Override
 	public IDirective[] getDirectives() {
 		children.trimToSize();
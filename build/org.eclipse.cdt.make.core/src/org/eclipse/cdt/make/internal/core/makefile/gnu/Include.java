@@ -16,6 +16,8 @@ package org.eclipse.cdt.make.internal.core.makefile.gnu;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.cdt.make.core.makefile.IDirective;
 import org.eclipse.cdt.make.core.makefile.IMakefile;
@@ -23,7 +25,10 @@ import org.eclipse.cdt.make.core.makefile.IMakefileReaderProvider;
 import org.eclipse.cdt.make.core.makefile.gnu.IInclude;
 import org.eclipse.cdt.make.internal.core.makefile.Directive;
 import org.eclipse.cdt.make.internal.core.makefile.Parent;
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.filesystem.IFileInfo;
 import org.eclipse.core.filesystem.URIUtil;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
@@ -32,6 +37,22 @@ public class Include extends Parent implements IInclude {
 	String[] filenames;
 	String[] dirs;
 
+	/**
+	 * An included makefile along with the stamp of the file it was parsed from.
+	 */
+	private static class IncludedMakefile {
+		final String stamp;
+		final GNUMakefile makefile;
+
+		IncludedMakefile(String stamp, GNUMakefile makefile) {
+			this.stamp = stamp;
+			this.makefile = makefile;
+		}
+	}
+
+	// The makefiles included by the last lookup, only parsed again once their file changed
+	private Map<URI, IncludedMakefile> included = new HashMap<>();
+
 	public Include(Directive parent, String[] files, String[] directories) {
 		super(parent);
 		filenames = files;
@@ -68,6 +89,7 @@ public class Include extends Parent implements IInclude {
 	@Override
 	public IDirective[] getDirectives() {
 		clearDirectives();
+		Map<URI, IncludedMakefile> resolved = new HashMap<>();
 		URI uri = getMakefile().getFileURI();
 		IMakefileReaderProvider makefileReaderProvider = getCurrentMakefileReaderProvider();
 		for (int i = 0; i < filenames.length; i++) {
@@ -83,9 +105,7 @@ public class Include extends Parent implements IInclude {
 					try {
 						URI includeURI = URIUtil.toURI(includeFilePath);
 						if (!isAlreadyIncluded(includeURI)) {
-							GNUMakefile gnu = new GNUMakefile();
-							gnu.parse(includeURI, makefileReaderProvider);
-							addDirective(gnu);
+							addDirective(getIncludedMakefile(includeURI, makefileReaderProvider, resolved));
 						}
 						continue;
 					} catch (IOException e) {
@@ -103,9 +123,7 @@ public class Include extends Parent implements IInclude {
 						URI includeURI = new URI(uri.getScheme(), uri.getUserInfo(), uri.getHost(), uri.getPort(),
 								uriPath, null, null);
 						if (!isAlreadyIncluded(includeURI)) {
-							GNUMakefile gnu = new GNUMakefile();
-							gnu.parse(includeURI, makefileReaderProvider);
-							addDirective(gnu);
+							addDirective(getIncludedMakefile(includeURI, makefileReaderProvider, resolved));
 						}
 						break;
 					} catch (IOException e) {
@@ -114,9 +132,46 @@ public class Include extends Parent implements IInclude {
 				}
 			}
 		}
+		// Forget the makefiles no longer included, for instance once an include path changed
+		included = resolved;
 		return super.getDirectives();
 	}
 
+	/**
+	 * Returns the makefile included from the given location, only parsed again if the
+	 * file changed since it was last parsed.  The included makefiles are looked up each
+	 * time the directives of the makefile are, for instance to expand each variable.
+	 * Makefiles without a file to check, as those provided by a reader provider only,
+	 * are parsed each time since their contents may have changed.
+	 */
+	private GNUMakefile getIncludedMakefile(URI includeURI, IMakefileReaderProvider makefileReaderProvider,
+			Map<URI, IncludedMakefile> resolved) throws IOException {
+		String stamp = getStamp(includeURI);
+		IncludedMakefile include = included.get(includeURI);
+		if (include == null || stamp == null || !stamp.equals(include.stamp)) {
+			GNUMakefile gnu = new GNUMakefile();
+			gnu.parse(includeURI, makefileReaderProvider);
+			include = new IncludedMakefile(stamp, gnu);
+		}
+		resolved.put(includeURI, include);
+		return include.makefile;
+	}
+
+	/**
+	 * Returns the time stamp and size of the file, or <code>null</code> if they are not known,
+	 * as for the files provided by a reader provider only.
+	 */
+	private static String getStamp(URI uri) {
+		try {
+			IFileInfo info = EFS.getStore(uri).fetchInfo();
+			if (info.exists()) {
+				return info.getLastModified() + ":" + info.getLength(); //$NON-NLS-1$
+			}
+		} catch (CoreException e) {
+		}
+		return null;
+	}
+
 	private boolean isAlreadyIncluded(URI includeURI) {
 		for (IDirective parent = getParent(); parent != null; parent = parent.getParent()) {
 			if (parent instanceof IMakefile) {
@@ -21,7 +21,9 @@ import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.IPDOMManager;
 import org.eclipse.cdt.managedbuilder.core.regressions.RegressionTests;
 import org.eclipse.cdt.managedbuilder.core.tests.BuildDescriptionModelTests;
+import org.eclipse.cdt.managedbuilder.core.tests.BuildSignaturesTests;
 import org.eclipse.cdt.managedbuilder.core.tests.BuildSystem40Tests;
+import org.eclipse.cdt.managedbuilder.core.tests.GnuMakefileGeneratorTests;
 import org.eclipse.cdt.managedbuilder.core.tests.ManagedBuildCoreTests;
 import org.eclipse.cdt.managedbuilder.core.tests.ManagedBuildCoreTests20;
 import org.eclipse.cdt.managedbuilder.core.tests.ManagedBuildCoreTests_SharedToolOptions;
@@ -92,6 +94,8 @@ public class AutomatedIntegrationSuite {
 		suite.addTest(OptionCategoryEnablementTests.suite());
 		suite.addTest(ManagedBuildDependencyCalculatorTests.suite());
 		suite.addTest(BuildDescriptionModelTests.suite());
+		suite.addTest(BuildSignaturesTests.suite());
+		suite.addTest(GnuMakefileGeneratorTests.suite());
 		suite.addTest(PathConverterTest.suite());
 
 		// managedbuilder.templateengine.tests
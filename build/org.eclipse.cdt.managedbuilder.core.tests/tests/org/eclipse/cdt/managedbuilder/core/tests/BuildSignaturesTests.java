@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuildManager;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildCommand;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildDescription;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildSignatures;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStateManager;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStep;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.IConfigurationBuildState;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.IProjectBuildState;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.IRebuildState;
+import org.eclipse.cdt.managedbuilder.testplugin.ManagedBuildTestHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the signatures used to skip the build steps whose commands and input contents
+ * did not change.
+ */
+public class BuildSignaturesTests extends TestCase {
+	private static final String PROJ_NAME = "BuildSignatures_1";
+
+	private IProject fProject;
+	private IConfiguration fCfg;
+	private IFile fSource;
+	private BuildStep fStep;
+
+	public static Test suite() {
+		return new TestSuite(BuildSignaturesTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		fProject = ManagedBuildTestHelper.createProject(PROJ_NAME, "cdt.managedbuild.target.gnu30.exe");
+		fSource = ManagedBuildTestHelper.createFile(fProject, "a.c", "int a;\n");
+		ManagedBuildTestHelper.createFile(fProject, "a.o");
+		fCfg = ManagedBuildManager.getBuildInfo(fProject).getManagedProject().getConfigurations()[0];
+
+		BuildDescription des = new BuildDescription(fCfg);
+		fStep = des.createStep(null, null);
+		fStep.createIOType(true, true, null).addResource(des.createResource("a.c"));
+		fStep.createIOType(false, true, null).addResource(des.createResource("a.o"));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ManagedBuildTestHelper.removeProject(PROJ_NAME);
+	}
+
+	private IBuildCommand[] getCommands(String... args) {
+		IPath cwd = fProject.getLocation();
+		return new IBuildCommand[] { new BuildCommand(new Path("gcc"), args, null, cwd, fStep) };
+	}
+
+	public void testSignatureHit() {
+		BuildSignatures signatures = new BuildSignatures();
+		String signature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		assertNotNull(signature);
+		assertFalse("step was never built", signatures.isUpToDate(fStep, signature));
+
+		signatures.stepBuilt(fStep, signature);
+		String newSignature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		assertEquals(signature, newSignature);
+		assertTrue(signatures.isUpToDate(fStep, newSignature));
+		assertEquals(1, signatures.getHits());
+		assertEquals(1, signatures.getMisses());
+	}
+
+	public void testSignatureMissAfterInputChange() throws Exception {
+		BuildSignatures signatures = new BuildSignatures();
+		String signature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		signatures.stepBuilt(fStep, signature);
+
+		fSource.setContents(new ByteArrayInputStream("int a, b;\n".getBytes()), true, false, null);
+		String newSignature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		assertFalse(signature.equals(newSignature));
+		assertFalse(signatures.isUpToDate(fStep, newSignature));
+		assertEquals(0, signatures.getHits());
+		assertEquals(1, signatures.getMisses());
+	}
+
+	public void testSignatureMissAfterCommandChange() {
+		BuildSignatures signatures = new BuildSignatures();
+		String signature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		signatures.stepBuilt(fStep, signature);
+
+		String newSignature = signatures.computeSignature(fStep, getCommands("-O2", "-c", "a.c"));
+		assertFalse(signature.equals(newSignature));
+		assertFalse(signatures.isUpToDate(fStep, newSignature));
+
+		// The arguments are kept apart
+		newSignature = signatures.computeSignature(fStep, getCommands("-ca.c"));
+		assertFalse(signature.equals(newSignature));
+	}
+
+	public void testSignatureMissAfterFailure() {
+		BuildSignatures signatures = new BuildSignatures();
+		String signature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		signatures.stepBuilt(fStep, signature);
+		signatures.stepFailed(fStep);
+		assertFalse(signatures.isUpToDate(fStep, signature));
+	}
+
+	public void testSignaturesPersistAfterFailedBuild() {
+		BuildStateManager mgr = BuildStateManager.getInstance();
+		IProjectBuildState pbs = mgr.getProjectBuildState(fProject);
+		IConfigurationBuildState cbs = pbs.getConfigurationBuildState(fCfg.getId(), true);
+		BuildSignatures signatures = cbs.getBuildSignatures();
+		String signature = signatures.computeSignature(fStep, getCommands("-c", "a.c"));
+		signatures.stepBuilt(fStep, signature);
+
+		// Another step failed, the configuration is left to be rebuilt
+		cbs.setState(IRebuildState.NEED_REBUILD);
+		mgr.setProjectBuildState(fProject, pbs);
+
+		pbs = mgr.getProjectBuildState(fProject);
+		assertNull(pbs.getConfigurationBuildState(fCfg.getId(), false));
+		cbs = pbs.getConfigurationBuildState(fCfg.getId(), true);
+		signatures = cbs.getBuildSignatures();
+		assertTrue(signatures.isUpToDate(fStep, signatures.computeSignature(fStep, getCommands("-c", "a.c"))));
+	}
+}
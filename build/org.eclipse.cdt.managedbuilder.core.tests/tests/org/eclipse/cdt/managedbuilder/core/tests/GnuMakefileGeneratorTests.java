@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.ListIterator;
+
+import org.eclipse.cdt.managedbuilder.core.IManagedBuildInfo;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuildManager;
+import org.eclipse.cdt.managedbuilder.makegen.gnu.GnuMakefileGenerator;
+import org.eclipse.cdt.managedbuilder.makegen.internal.BuildVarPathList;
+import org.eclipse.cdt.managedbuilder.testplugin.ManagedBuildTestHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the lists of the build variables of the makefile generator and that the generated
+ * makefiles are only written when their contents change.
+ */
+public class GnuMakefileGeneratorTests extends TestCase {
+	private static final String PROJ_NAME = "GnuMakefileGenerator_1";
+
+	private static final IPath A = new Path("/src/a.c");
+	private static final IPath B = new Path("/src/b.c");
+	private static final IPath C = new Path("/src/c.c");
+
+	public static Test suite() {
+		return new TestSuite(GnuMakefileGeneratorTests.class);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ManagedBuildTestHelper.removeProject(PROJ_NAME);
+	}
+
+	public void testBuildVarPathListAdd() {
+		BuildVarPathList list = new BuildVarPathList();
+		assertFalse(list.containsPath(A));
+		list.add(A);
+		list.add(B);
+		assertTrue(list.containsPath(A));
+		assertTrue(list.containsPath(B));
+		assertFalse(list.containsPath(C));
+	}
+
+	public void testBuildVarPathListRemoveThenAdd() {
+		BuildVarPathList list = new BuildVarPathList();
+		list.add(A);
+		list.add(B);
+		assertTrue(list.containsPath(A));
+
+		// The size of the list is the same as before
+		list.remove(A);
+		list.add(C);
+		assertFalse(list.containsPath(A));
+		assertTrue(list.containsPath(B));
+		assertTrue(list.containsPath(C));
+	}
+
+	public void testBuildVarPathListSet() {
+		BuildVarPathList list = new BuildVarPathList();
+		list.add(A);
+		assertTrue(list.containsPath(A));
+
+		list.set(0, B);
+		assertFalse(list.containsPath(A));
+		assertTrue(list.containsPath(B));
+
+		list.replaceAll(path -> C);
+		assertFalse(list.containsPath(B));
+		assertTrue(list.containsPath(C));
+	}
+
+	public void testBuildVarPathListIteratorSet() {
+		BuildVarPathList list = new BuildVarPathList();
+		list.add(A);
+		list.add(B);
+		assertTrue(list.containsPath(A));
+
+		// Replacing through an iterator is not a concurrent modification
+		ListIterator<IPath> iterator = list.listIterator();
+		iterator.next();
+		iterator.set(C);
+		assertEquals(B, iterator.next());
+		assertEquals(Arrays.asList(C, B), list);
+		assertFalse(list.containsPath(A));
+		assertTrue(list.containsPath(C));
+	}
+
+	public void testBuildVarPathListSubList() {
+		BuildVarPathList list = new BuildVarPathList();
+		list.add(A);
+		list.add(B);
+		assertTrue(list.containsPath(A));
+
+		list.subList(0, 1).set(0, C);
+		assertFalse(list.containsPath(A));
+		assertTrue(list.containsPath(C));
+	}
+
+	private IFolder generateMakefiles(IProject project) throws Exception {
+		IManagedBuildInfo info = ManagedBuildManager.getBuildInfo(project);
+		GnuMakefileGenerator generator = new GnuMakefileGenerator();
+		generator.initialize(project, info, new NullProgressMonitor());
+		assertEquals(IStatus.OK, generator.regenerateMakefiles().getSeverity());
+		return project.getFolder(info.getDefaultConfiguration().getName());
+	}
+
+	public void testUnchangedMakefileNotWritten() throws Exception {
+		IProject project = ManagedBuildTestHelper.createProject(PROJ_NAME, "cdt.managedbuild.target.gnu.exe");
+		ManagedBuildTestHelper.createFile(project, "a.c", "int a;\n");
+
+		IFile makefile = generateMakefiles(project).getFile("subdir.mk");
+		assertTrue(makefile.exists());
+		long stamp = makefile.getModificationStamp();
+
+		generateMakefiles(project);
+		assertEquals(stamp, makefile.getModificationStamp());
+
+		// Another source changes its contents
+		ManagedBuildTestHelper.createFile(project, "b.c", "int b;\n");
+		generateMakefiles(project);
+		assertFalse(stamp == makefile.getModificationStamp());
+	}
+
+	public void testUnchangedMakefileSynchronized() throws Exception {
+		IProject project = ManagedBuildTestHelper.createProject(PROJ_NAME, "cdt.managedbuild.target.gnu.exe");
+		ManagedBuildTestHelper.createFile(project, "a.c", "int a;\n");
+
+		IFile makefile = generateMakefiles(project).getFile("subdir.mk");
+		// The same contents written behind the back of the workspace
+		File file = makefile.getLocation().toFile();
+		Files.write(file.toPath(), Files.readAllBytes(file.toPath()));
+		file.setLastModified(file.lastModified() - 10000);
+		assertFalse(makefile.isSynchronized(IResource.DEPTH_ZERO));
+
+		generateMakefiles(project);
+		assertTrue(makefile.isSynchronized(IResource.DEPTH_ZERO));
+		makefile.getContents().close();
+	}
+}
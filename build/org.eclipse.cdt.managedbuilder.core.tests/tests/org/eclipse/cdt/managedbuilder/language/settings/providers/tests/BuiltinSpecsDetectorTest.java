@@ -16,7 +16,9 @@ package org.eclipse.cdt.managedbuilder.language.settings.providers.tests;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +50,10 @@ import org.eclipse.cdt.internal.core.XmlUtil;
 import org.eclipse.cdt.internal.core.envvar.EnvironmentVariableManager;
 import org.eclipse.cdt.internal.core.envvar.UserDefinedEnvironmentSupplier;
 import org.eclipse.cdt.internal.core.settings.model.CProjectDescriptionManager;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.cdt.managedbuilder.internal.language.settings.providers.BuiltinSpecsCache;
 import org.eclipse.cdt.managedbuilder.language.settings.providers.AbstractBuiltinSpecsDetector;
+import org.eclipse.cdt.managedbuilder.testplugin.ManagedBuildTestHelper;
 import org.eclipse.cdt.utils.envvar.StorableEnvironment;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -73,6 +78,7 @@ public class BuiltinSpecsDetectorTest extends BaseTestCase {
 	private static final String ENV_SAMPLE = "SAMPLE";
 	private static final String ENV_SAMPLE_VALUE_1 = "Sample Value 1";
 	private static final String ENV_SAMPLE_VALUE_2 = "Sample Value 2";
+	private static final String PROJECT_TYPE_EXECUTABLE_GNU = "cdt.managedbuild.target.gnu.exe";
 
 	// those attributes must match that in AbstractBuiltinSpecsDetector
 	private static final String ATTR_PARAMETER = "parameter"; //$NON-NLS-1$
@@ -241,14 +247,83 @@ public class BuiltinSpecsDetectorTest extends BaseTestCase {
 		}
 	}
 
+	/**
+	 * Mock built-in specs detector which counts how many times it ran the command, to test
+	 * the cache of the detected settings.
+	 */
+	private class MockCachedBuiltinSpecsDetector extends DummyBuiltinSpecsDetector {
+		private final List<ICLanguageSettingEntry> output;
+		private int runCount = 0;
+		private int status = ICommandLauncher.OK;
+		private boolean cancel = false;
+
+		public MockCachedBuiltinSpecsDetector(String command, ICLanguageSettingEntry... output) {
+			configureProvider(PROVIDER_ID, PROVIDER_NAME, Arrays.asList(LANGUAGE_ID), null, null);
+			setCommand(command);
+			this.output = Arrays.asList(output);
+		}
+
+		@Override
+		protected int runProgramForLanguage(String languageId, String command, String[] envp, URI workingDirectoryURI,
+				OutputStream consoleOut, OutputStream consoleErr, IProgressMonitor monitor)
+				throws CoreException, IOException {
+			runCount++;
+			setSettingEntries(output);
+			if (cancel) {
+				monitor.setCanceled(true);
+			}
+			return status;
+		}
+
+		@Override
+		protected IStatus runForEachLanguage(IProgressMonitor monitor) {
+			return super.runForEachLanguage(monitor);
+		}
+
+		public List<ICLanguageSettingEntry> run(ICConfigurationDescription cfgDescription) throws CoreException {
+			startup(cfgDescription, null);
+			runForEachLanguage(null);
+			shutdown();
+			return getSettingEntries(cfgDescription, null, LANGUAGE_ID);
+		}
+
+		public int getRunCount() {
+			return runCount;
+		}
+
+		public void setStatus(int status) {
+			this.status = status;
+		}
+
+		public void setCancel(boolean cancel) {
+			this.cancel = cancel;
+		}
+	}
+
+	private java.io.File defaultCacheFolder;
+	private java.io.File cacheFolder;
+
 	@Override
 	protected void setUp() throws Exception {
 		super.setUp();
+		// Keeps the settings cached by the tests out of the user area
+		BuiltinSpecsCache cache = BuiltinSpecsCache.getDefault();
+		defaultCacheFolder = cache.getCacheFolder();
+		cacheFolder = Files.createTempDirectory("builtin-specs").toFile();
+		cache.setCacheFolder(cacheFolder);
 	}
 
 	@Override
 	protected void tearDown() throws Exception {
 		waitForProviderToFinish();
+		BuiltinSpecsCache.getDefault().setCacheFolder(defaultCacheFolder);
+		java.io.File[] files = cacheFolder.listFiles();
+		if (files != null) {
+			for (java.io.File file : files) {
+				file.delete();
+			}
+		}
+		cacheFolder.delete();
 		super.tearDown();
 	}
 
@@ -979,6 +1054,161 @@ public class BuiltinSpecsDetectorTest extends BaseTestCase {
 		provider.unregisterListener();
 	}
 
+	/**
+	 * Create a "compiler" for the command of the detectors. Its content is unique so that
+	 * the settings cached by earlier runs of the tests are not found.
+	 */
+	private String createCompilerCommand() throws Exception {
+		IPath folder = ResourceHelper.createWorkspaceFolder(getName() + "_compiler");
+		java.io.File compiler = new java.io.File(folder.append("compiler").toOSString());
+		Files.write(compiler.toPath(), (getName() + System.nanoTime()).getBytes());
+		return '"' + compiler.getAbsolutePath() + '"' + " -E -dM";
+	}
+
+	/**
+	 * Test that the settings detected for a project are reused for another project.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheSharedByProjects() throws Exception {
+		String command = createCompilerCommand();
+		ICLanguageSettingEntry macro = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		// Managed projects, their environments differ by the build directory
+		String projectName_1 = getName() + "_1";
+		String projectName_2 = getName() + "_2";
+		IProject project_1 = ManagedBuildTestHelper.createProject(projectName_1, PROJECT_TYPE_EXECUTABLE_GNU);
+		IProject project_2 = ManagedBuildTestHelper.createProject(projectName_2, PROJECT_TYPE_EXECUTABLE_GNU);
+		try {
+			MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, macro);
+			List<ICLanguageSettingEntry> entries_1 = provider_1.run(getConfigurationDescriptions(project_1)[0]);
+			assertEquals(1, provider_1.getRunCount());
+			assertEquals(Arrays.asList(macro), entries_1);
+
+			MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, macro);
+			List<ICLanguageSettingEntry> entries_2 = provider_2.run(getConfigurationDescriptions(project_2)[0]);
+			assertEquals(0, provider_2.getRunCount());
+			assertEquals(entries_1, entries_2);
+
+			// Another command is detected again
+			MockCachedBuiltinSpecsDetector provider_3 = new MockCachedBuiltinSpecsDetector(command + " -v", macro);
+			provider_3.run(getConfigurationDescriptions(project_2)[0]);
+			assertEquals(1, provider_3.getRunCount());
+		} finally {
+			ManagedBuildTestHelper.removeProject(projectName_1);
+			ManagedBuildTestHelper.removeProject(projectName_2);
+		}
+	}
+
+	/**
+	 * Test that the command runs when the console is enabled, even if its settings are cached.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheBypassedForConsole() throws Exception {
+		String command = createCompilerCommand();
+		ICLanguageSettingEntry macro = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_1.run(null);
+		assertEquals(1, provider_1.getRunCount());
+
+		MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_2.setConsoleEnabled(true);
+		assertEquals(Arrays.asList(macro), provider_2.run(null));
+		assertEquals(1, provider_2.getRunCount());
+	}
+
+	/**
+	 * Test that the settings detected by a command which failed are not cached, they may be partial.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheBypassedForFailedCommand() throws Exception {
+		String command = createCompilerCommand();
+		ICLanguageSettingEntry macro = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_1.setStatus(ICommandLauncher.ILLEGAL_COMMAND);
+		provider_1.run(null);
+		assertEquals(1, provider_1.getRunCount());
+		assertEquals(0, cacheFolder.list().length);
+
+		MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, macro);
+		assertEquals(Arrays.asList(macro), provider_2.run(null));
+		assertEquals(1, provider_2.getRunCount());
+		assertEquals(1, cacheFolder.list().length);
+	}
+
+	/**
+	 * Test that the settings detected by a command which was cancelled are not cached.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheBypassedForCancelledCommand() throws Exception {
+		String command = createCompilerCommand();
+		ICLanguageSettingEntry macro = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_1.setCancel(true);
+		provider_1.run(null);
+		assertEquals(1, provider_1.getRunCount());
+		assertEquals(0, cacheFolder.list().length);
+
+		MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_2.run(null);
+		assertEquals(1, provider_2.getRunCount());
+	}
+
+	/**
+	 * Test that the settings are not cached when the user provided the spec file,
+	 * its content is not part of the key.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheBypassedForUserSpecFile() throws Exception {
+		String command = createCompilerCommand() + " ${INPUTS}";
+		ICLanguageSettingEntry macro = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		java.io.File specFile = ManagedBuilderCorePlugin.getDefault().getStateLocation().append("spec").toFile();
+		specFile.createNewFile();
+		try {
+			MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, macro);
+			provider_1.run(null);
+			assertEquals(1, provider_1.getRunCount());
+
+			MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, macro);
+			assertEquals(Arrays.asList(macro), provider_2.run(null));
+			assertEquals(1, provider_2.getRunCount());
+		} finally {
+			specFile.delete();
+		}
+
+		// The spec file created by the detector is empty, the settings are cached
+		MockCachedBuiltinSpecsDetector provider_3 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_3.run(null);
+		assertEquals(1, provider_3.getRunCount());
+		assertFalse(specFile.exists());
+
+		MockCachedBuiltinSpecsDetector provider_4 = new MockCachedBuiltinSpecsDetector(command, macro);
+		provider_4.run(null);
+		assertEquals(0, provider_4.getRunCount());
+	}
+
+	/**
+	 * Test that the settings referring to the project are not shared.
+	 */
+	public void testAbstractBuiltinSpecsDetector_CacheBypassedForProjectEntries() throws Exception {
+		String command = createCompilerCommand();
+		IProject project = ResourceHelper.createCDTProjectWithConfig(getName());
+		ICConfigurationDescription cfgDescription = getConfigurationDescriptions(project)[0];
+		ICLanguageSettingEntry includePath = new CIncludePathEntry(project.getLocation().append("include"),
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		MockCachedBuiltinSpecsDetector provider_1 = new MockCachedBuiltinSpecsDetector(command, includePath);
+		provider_1.run(cfgDescription);
+		assertEquals(1, provider_1.getRunCount());
+
+		MockCachedBuiltinSpecsDetector provider_2 = new MockCachedBuiltinSpecsDetector(command, includePath);
+		assertEquals(Arrays.asList(includePath), provider_2.run(cfgDescription));
+		assertEquals(1, provider_2.getRunCount());
+	}
+
 	/**
 	 * Check that entries get grouped by kinds by stock built-in specs detector.
 	 */
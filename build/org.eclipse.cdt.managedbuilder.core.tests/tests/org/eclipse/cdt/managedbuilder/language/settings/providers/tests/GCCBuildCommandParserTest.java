@@ -1323,6 +1323,43 @@ public class GCCBuildCommandParserTest extends BaseTestCase {
 		assertEquals(1, entries.size());
 	}
 
+	/**
+	 * Ensure that a path resolved to a missing folder is resolved again for the next
+	 * line with the same options, once the folder exists.
+	 */
+	public void testPathEntry_MissingFolderCreatedDuringBuild() throws Exception {
+		// Create model project and accompanied descriptions
+		String projectName = getName();
+		IProject project = ResourceHelper.createCDTProjectWithConfig(projectName);
+		ICConfigurationDescription[] cfgDescriptions = getConfigurationDescriptions(project);
+		ICConfigurationDescription cfgDescription = cfgDescriptions[0];
+
+		IFile file1 = ResourceHelper.createFile(project, "file1.cpp");
+		IFile file2 = ResourceHelper.createFile(project, "file2.cpp");
+		ICLanguageSetting ls = cfgDescription.getLanguageSettingForFile(file1.getProjectRelativePath(), true);
+		String languageId = ls.getLanguageId();
+
+		// create GCCBuildCommandParser
+		GCCBuildCommandParser parser = (GCCBuildCommandParser) LanguageSettingsManager
+				.getExtensionProviderCopy(GCC_BUILD_COMMAND_PARSER_EXT, true);
+		parser.setResolvingPaths(true);
+
+		// parse lines with the same options, the folder being created in between
+		parser.startup(cfgDescription, null);
+		parser.processLine("gcc " + " -IFolder" + " file1.cpp");
+		IFolder folder = ResourceHelper.createFolder(project, "Sub/Folder");
+		parser.processLine("gcc " + " -IFolder" + " file2.cpp");
+		parser.shutdown();
+
+		// check populated entries
+		List<ICLanguageSettingEntry> entries1 = parser.getSettingEntries(cfgDescription, file1, languageId);
+		assertEquals(new CIncludePathEntry("/${ProjName}/Folder", ICSettingEntry.VALUE_WORKSPACE_PATH),
+				entries1.get(0));
+		List<ICLanguageSettingEntry> entries2 = parser.getSettingEntries(cfgDescription, file2, languageId);
+		assertEquals(new CIncludePathEntry("/${ProjName}/" + folder.getProjectRelativePath(),
+				ICSettingEntry.VALUE_WORKSPACE_PATH), entries2.get(0));
+	}
+
 	/**
 	 * Test that working directory supplied by ErrorParserManager is considered.
 	 */
@@ -36,6 +36,17 @@ public class BuildProcessManager {
 	protected Vector<ProcessLauncher> processes;
 	protected int maxProcesses;
 
+	private int completionCount;
+	private final Runnable completionListener = new Runnable() {
+		@Override
+		public void run() {
+			synchronized (BuildProcessManager.this) {
+				completionCount++;
+				BuildProcessManager.this.notifyAll();
+			}
+		}
+	};
+
 	/**
 	 * Initializes process manager
 	 *
@@ -73,6 +84,7 @@ public class BuildProcessManager {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
 				processes.add(process);
+				process.setCompletionListener(completionListener);
 				process.launch();
 				return process;
 
@@ -81,6 +93,7 @@ public class BuildProcessManager {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
 				processes.set(i, process);
+				process.setCompletionListener(completionListener);
 				process.launch();
 				return process;
 			}
@@ -117,6 +130,34 @@ public class BuildProcessManager {
 		return false;
 	}
 
+	/**
+	 * Returns the number of processes which completed so far
+	 */
+	public synchronized int getCompletionCount() {
+		return completionCount;
+	}
+
+	/**
+	 * Waits until another process completes after the given number of completed
+	 * processes was read, or until the timeout elapses.
+	 *
+	 * @param count Value of {@link #getCompletionCount()} the caller knows of
+	 * @param timeout Maximum time to wait, in milliseconds
+	 */
+	public synchronized void waitForCompletion(int count, long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		while (completionCount == count) {
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0)
+				break;
+			try {
+				wait(remaining);
+			} catch (InterruptedException e) {
+				// do nothing
+			}
+		}
+	}
+
 	/**
 	 * Returns maximum threads used up to that point
 	 */
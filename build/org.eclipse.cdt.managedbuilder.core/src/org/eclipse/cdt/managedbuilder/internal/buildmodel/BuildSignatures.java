@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.internal.buildmodel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Records, for each build step of a configuration, a signature of the command lines
+ * it was last built with and of the content of its inputs.  A step whose signature
+ * did not change since it was built, and whose outputs exist, need not be built again
+ * even when its inputs were touched.
+ *
+ * The content hashes of the input files are kept along with their time stamp and size,
+ * so that a file is only read again once it was modified.
+ *
+ * NOTE: This class is subject to change and discuss,
+ * and is currently available in experimental mode only
+ */
+public class BuildSignatures {
+	private static final String STEP_PREFIX = "step:"; //$NON-NLS-1$
+	private static final String FILE_PREFIX = "file:"; //$NON-NLS-1$
+	private static final String TOTAL_HITS = "stats:hits"; //$NON-NLS-1$
+	private static final String TOTAL_MISSES = "stats:misses"; //$NON-NLS-1$
+	private static final String DIGEST_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+	private static final char SEPARATOR = ',';
+	private static final int BUFFER_SIZE = 64 * 1024;
+	// A file modified this recently may change again without its time stamp changing
+	private static final long RACY_INTERVAL = 2000;
+
+	private static class FileHash {
+		final long timeStamp;
+		final long size;
+		final String hash;
+
+		FileHash(long timeStamp, long size, String hash) {
+			this.timeStamp = timeStamp;
+			this.size = size;
+			this.hash = hash;
+		}
+	}
+
+	private Map<String, String> fStepSignatures = new HashMap<>();
+	private Map<String, FileHash> fFileHashes = new HashMap<>();
+	private byte[] fBuffer;
+	private boolean fIsDirty;
+
+	// Statistics of the current build
+	private int fHits;
+	private int fMisses;
+	private int fFilesHashed;
+	// Statistics of all the builds
+	private long fTotalHits;
+	private long fTotalMisses;
+
+	/**
+	 * Returns the signatures held by the given rebuild state container, or null if it
+	 * does not record any.
+	 */
+	static BuildSignatures get(IResourceRebuildStateContainer rs) {
+		if (rs instanceof IConfigurationBuildState)
+			return ((IConfigurationBuildState) rs).getBuildSignatures();
+		return null;
+	}
+
+	/**
+	 * Computes the signature of the given step, from the commands that build it and the
+	 * content of its inputs.  Returns null if the step cannot be checked this way, that
+	 * is when it has no commands or no output.
+	 */
+	public String computeSignature(IBuildStep step, IBuildCommand[] cmds) {
+		if (cmds == null || cmds.length == 0 || getStepKey(step) == null)
+			return null;
+
+		MessageDigest digest = createDigest();
+		if (digest == null)
+			return null;
+
+		for (IBuildCommand cmd : cmds) {
+			update(digest, cmd.getCWD());
+			update(digest, cmd.getCommand());
+			for (String arg : cmd.getArgs()) {
+				update(digest, arg);
+			}
+			update(digest, "\n"); //$NON-NLS-1$
+		}
+
+		for (IBuildResource rc : step.getInputResources()) {
+			IPath location = rc.getLocation();
+			if (location == null)
+				continue;
+			String path = location.toOSString();
+			update(digest, path);
+			String hash = getFileHash(path);
+			update(digest, hash != null ? hash : "-"); //$NON-NLS-1$
+		}
+
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Checks whether the step was built with the given signature and its outputs exist,
+	 * and counts the result in the statistics.
+	 */
+	public boolean isUpToDate(IBuildStep step, String signature) {
+		if (signature == null)
+			return false;
+
+		boolean upToDate = signature.equals(fStepSignatures.get(getStepKey(step)));
+		if (upToDate) {
+			for (IBuildResource rc : step.getOutputResources()) {
+				IPath location = rc.getLocation();
+				if (location == null || !location.toFile().exists()) {
+					upToDate = false;
+					break;
+				}
+			}
+		}
+
+		if (upToDate) {
+			fHits++;
+			fTotalHits++;
+		} else {
+			fMisses++;
+			fTotalMisses++;
+		}
+		fIsDirty = true;
+
+		if (DbgUtil.DEBUG)
+			DbgUtil.trace("step " + DbgUtil.stepName(step) + (upToDate ? " is up to date" : " is out of date")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return upToDate;
+	}
+
+	/**
+	 * Records the signature the step was successfully built with.
+	 */
+	public void stepBuilt(IBuildStep step, String signature) {
+		String key = getStepKey(step);
+		if (key == null)
+			return;
+
+		if (signature != null)
+			fStepSignatures.put(key, signature);
+		else
+			fStepSignatures.remove(key);
+		fIsDirty = true;
+	}
+
+	/**
+	 * Forgets the signature of a step whose build failed.
+	 */
+	public void stepFailed(IBuildStep step) {
+		stepBuilt(step, null);
+	}
+
+	public int getHits() {
+		return fHits;
+	}
+
+	public int getMisses() {
+		return fMisses;
+	}
+
+	public String getStatistics() {
+		return "up-to-date checks: " + fHits + " hits, " + fMisses + " misses, " + fFilesHashed //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " files hashed; all builds: " + fTotalHits + " hits, " + fTotalMisses + " misses"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	boolean isDirty() {
+		return fIsDirty;
+	}
+
+	public void load(InputStream iStream) throws IOException {
+		Properties props = new Properties();
+		props.load(iStream);
+
+		for (@SuppressWarnings("rawtypes")
+		Entry entry : props.entrySet()) {
+			String key = (String) entry.getKey();
+			String value = (String) entry.getValue();
+			if (key.startsWith(STEP_PREFIX)) {
+				fStepSignatures.put(key.substring(STEP_PREFIX.length()), value);
+			} else if (key.startsWith(FILE_PREFIX)) {
+				FileHash fileHash = parseFileHash(value);
+				if (fileHash != null)
+					fFileHashes.put(key.substring(FILE_PREFIX.length()), fileHash);
+			}
+		}
+		fTotalHits = parseLong(props.getProperty(TOTAL_HITS));
+		fTotalMisses = parseLong(props.getProperty(TOTAL_MISSES));
+		fIsDirty = false;
+	}
+
+	public void store(OutputStream oStream) throws IOException {
+		Properties props = new Properties();
+		for (Entry<String, String> entry : fStepSignatures.entrySet()) {
+			props.setProperty(STEP_PREFIX + entry.getKey(), entry.getValue());
+		}
+		for (Entry<String, FileHash> entry : fFileHashes.entrySet()) {
+			// The hashes of the files which were removed are of no more use
+			if (!new File(entry.getKey()).exists())
+				continue;
+			FileHash fileHash = entry.getValue();
+			props.setProperty(FILE_PREFIX + entry.getKey(),
+					Long.toString(fileHash.timeStamp) + SEPARATOR + fileHash.size + SEPARATOR + fileHash.hash);
+		}
+		props.setProperty(TOTAL_HITS, Long.toString(fTotalHits));
+		props.setProperty(TOTAL_MISSES, Long.toString(fTotalMisses));
+		props.store(oStream, ""); //$NON-NLS-1$
+		fIsDirty = false;
+	}
+
+	private String getStepKey(IBuildStep step) {
+		IBuildResource[] outputs = step.getOutputResources();
+		if (outputs.length == 0 || outputs[0].getLocation() == null)
+			return null;
+		return outputs[0].getLocation().toOSString();
+	}
+
+	/**
+	 * Returns the content hash of the file, read again only if its time stamp or size
+	 * changed, or null if the file does not exist.
+	 */
+	private String getFileHash(String path) {
+		File file = new File(path);
+		long timeStamp = file.lastModified();
+		if (timeStamp == 0) {
+			fFileHashes.remove(path);
+			return null;
+		}
+		long size = file.length();
+
+		FileHash fileHash = fFileHashes.get(path);
+		if (fileHash != null && fileHash.timeStamp == timeStamp && fileHash.size == size)
+			return fileHash.hash;
+
+		String hash = hashContent(file);
+		if (hash == null)
+			return null;
+		fFilesHashed++;
+		if (System.currentTimeMillis() - timeStamp >= RACY_INTERVAL) {
+			fFileHashes.put(path, new FileHash(timeStamp, size, hash));
+			fIsDirty = true;
+		} else {
+			fFileHashes.remove(path);
+		}
+		return hash;
+	}
+
+	private String hashContent(File file) {
+		MessageDigest digest = createDigest();
+		if (digest == null)
+			return null;
+
+		if (fBuffer == null)
+			fBuffer = new byte[BUFFER_SIZE];
+		try (InputStream iStream = new FileInputStream(file)) {
+			int read;
+			while ((read = iStream.read(fBuffer)) > 0) {
+				digest.update(fBuffer, 0, read);
+			}
+		} catch (IOException e) {
+			if (DbgUtil.DEBUG)
+				DbgUtil.trace("failed to hash " + file + ", error: " + e.getLocalizedMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, IPath path) {
+		update(digest, path != null ? path.toString() : ""); //$NON-NLS-1$
+	}
+
+	private static void update(MessageDigest digest, String str) {
+		digest.update(str.getBytes(StandardCharsets.UTF_8));
+		// Keeps "a" "bc" apart from "ab" "c"
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buf = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buf.append(Character.forDigit((b >> 4) & 0xf, 16));
+			buf.append(Character.forDigit(b & 0xf, 16));
+		}
+		return buf.toString();
+	}
+
+	private static FileHash parseFileHash(String value) {
+		int first = value.indexOf(SEPARATOR);
+		int second = first < 0 ? -1 : value.indexOf(SEPARATOR, first + 1);
+		if (second < 0)
+			return null;
+		try {
+			return new FileHash(Long.parseLong(value.substring(0, first)),
+					Long.parseLong(value.substring(first + 1, second)), value.substring(second + 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static long parseLong(String value) {
+		if (value == null)
+			return 0;
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
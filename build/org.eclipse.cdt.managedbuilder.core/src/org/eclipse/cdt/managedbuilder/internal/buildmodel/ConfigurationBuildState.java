@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -36,6 +38,8 @@ public class ConfigurationBuildState implements IConfigurationBuildState {
 	private String fCfgId;
 	private IProject fProject;
 	private int fState;
+	private File fSignaturesFile;
+	private BuildSignatures fSignatures;
 
 	ConfigurationBuildState(IProject project, String cfgId) {
 		fCfgId = cfgId;
@@ -220,4 +224,30 @@ public class ConfigurationBuildState implements IConfigurationBuildState {
 	public boolean exists() {
 		return fState == 0;
 	}
+
+	void setSignaturesFile(File file) {
+		fSignaturesFile = file;
+	}
+
+	@Override
+	public BuildSignatures getBuildSignatures() {
+		if (fSignatures == null) {
+			fSignatures = new BuildSignatures();
+			if (fSignaturesFile != null && fSignaturesFile.exists()) {
+				try (InputStream iStream = new FileInputStream(fSignaturesFile)) {
+					fSignatures.load(iStream);
+				} catch (IOException e) {
+					ManagedBuilderCorePlugin.log(e);
+				}
+			}
+		}
+		return fSignatures;
+	}
+
+	/**
+	 * Returns the signatures if they were changed since they were loaded, null otherwise.
+	 */
+	BuildSignatures getChangedBuildSignatures() {
+		return fSignatures != null && fSignatures.isDirty() ? fSignatures : null;
+	}
 }
@@ -175,6 +175,10 @@ public class DescriptionBuilder implements IBuildModelBuilder {
 		if (status == STATUS_OK)
 			clearRebuildStates();
 
+		BuildSignatures signatures = BuildSignatures.get(fRebuildStateContainer);
+		if (DbgUtil.DEBUG && signatures != null)
+			DbgUtil.trace(signatures.getStatistics());
+
 		return status;
 	}
 
@@ -19,4 +19,9 @@ public interface IConfigurationBuildState extends IResourceRebuildStateContainer
 	String getConfigurationId();
 
 	IProject getProject();
+
+	/**
+	 * Returns the signatures the steps of the configuration were last built with.
+	 */
+	BuildSignatures getBuildSignatures();
 }
@@ -17,11 +17,16 @@ package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -53,6 +58,7 @@ public class ParallelBuilder {
 	public static final int STATUS_CANCELED = 2;
 	public static final int STATUS_INVALID = -1;
 	public static final long MAIN_LOOP_DELAY = 50L;
+	private static final int SLOWEST_STEPS_TRACED = 10;
 
 	private static final String BUILDER_MSG_HEADER = "InternalBuilder.msg.header"; //$NON-NLS-1$
 	private static final String LINE_SEPARATOR = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -70,7 +76,9 @@ public class ParallelBuilder {
 	protected HashMap<IBuildStep, BuildQueueElement> queueHash = new HashMap<>();
 	protected LinkedList<BuildQueueElement> queue = new LinkedList<>();
 	private IResourceRebuildStateContainer fRebuildStateContainer;
+	private BuildSignatures fSignatures;
 	private IBuildDescription fDes;
+	private List<ActiveBuildStep> completedSteps = new ArrayList<>();
 
 	/**
 	 * This class implements queue element
@@ -78,6 +86,8 @@ public class ParallelBuilder {
 	protected class BuildQueueElement implements Comparable<BuildQueueElement> {
 		protected IBuildStep step;
 		protected int level;
+		// Length of the longest chain of steps which depend on this one, this one included
+		protected int criticalPath;
 
 		public BuildQueueElement(IBuildStep _step, int _level) {
 			step = _step;
@@ -96,6 +106,10 @@ public class ParallelBuilder {
 			level = _level;
 		}
 
+		public int getCriticalPath() {
+			return criticalPath;
+		}
+
 		@Override
 		public int hashCode() {
 			return step.hashCode();
@@ -142,9 +156,15 @@ public class ParallelBuilder {
 		protected int activeCmd;
 		protected boolean done;
 		protected ProcessLauncher launcher;
+		protected long startTime;
+		protected long endTime;
+		protected String signature;
+		protected boolean upToDate;
+		protected boolean failed;
 
 		public ActiveBuildStep(IBuildStep _step) {
 			step = _step;
+			startTime = System.nanoTime();
 
 			if (dirs == null)
 				stepDirs = new GenDirInfo(step.getBuildDescription().getConfiguration());
@@ -190,6 +210,28 @@ public class ParallelBuilder {
 			return launcher;
 		}
 
+		/**
+		 * Returns true if all the commands of the step were run without error
+		 */
+		public boolean isSucceeded() {
+			return launcher != null && !failed && activeCmd == cmds.length - 1;
+		}
+
+		/**
+		 * Marks the step complete
+		 */
+		public void complete() {
+			done = true;
+			endTime = System.nanoTime();
+		}
+
+		/**
+		 * Returns the time spent running the commands of the step, in nanoseconds
+		 */
+		public long getWallTime() {
+			return (endTime != 0 ? endTime : System.nanoTime()) - startTime;
+		}
+
 		protected void createOutDirs() {
 			IBuildResource rcs[] = step.getOutputResources();
 
@@ -405,6 +447,7 @@ public class ParallelBuilder {
 		resumeOnErrors = _resumeOnErrors;
 		buildIncrementally = _buildIncrementally;
 		fRebuildStateContainer = _fRebuildStateContainer;
+		fSignatures = BuildSignatures.get(_fRebuildStateContainer);
 		fDes = _fDes;
 	}
 
@@ -416,10 +459,13 @@ public class ParallelBuilder {
 	}
 
 	/**
-	 * Sorts the queue
+	 * Sorts the queue, the steps on the longest chains of dependent steps first
+	 * so that they are not left for the end of the build, then by level.
 	 */
 	protected void sortQueue() {
+		Map<IBuildStep, Integer> criticalPaths = new HashMap<>();
 		for (BuildQueueElement elem : unsorted) {
+			elem.criticalPath = computeCriticalPath(elem.getStep(), criticalPaths);
 			queue.add(elem);
 		}
 		unsorted.clear();
@@ -427,7 +473,36 @@ public class ParallelBuilder {
 		queueHash.clear();
 		queueHash = null;
 
-		Collections.sort(queue);
+		Collections.sort(queue, new Comparator<BuildQueueElement>() {
+			@Override
+			public int compare(BuildQueueElement e1, BuildQueueElement e2) {
+				if (e1.getCriticalPath() != e2.getCriticalPath())
+					return e1.getCriticalPath() > e2.getCriticalPath() ? -1 : 1;
+				return e1.compareTo(e2);
+			}
+		});
+	}
+
+	/**
+	 * Returns the length of the longest chain of steps which depend on the given one,
+	 * the step included.
+	 */
+	private int computeCriticalPath(IBuildStep step, Map<IBuildStep, Integer> criticalPaths) {
+		Integer known = criticalPaths.get(step);
+		if (known != null)
+			return known.intValue();
+
+		// Guards against cycles in the step graph
+		criticalPaths.put(step, 1);
+		int longest = 0;
+		for (IBuildResource resource : step.getOutputResources()) {
+			for (IBuildStep dependent : resource.getDependentSteps()) {
+				if (dependent != null && dependent.getBuildDescription().getOutputStep() != dependent)
+					longest = Math.max(longest, computeCriticalPath(dependent, criticalPaths));
+			}
+		}
+		criticalPaths.put(step, longest + 1);
+		return longest + 1;
 	}
 
 	/**
@@ -468,19 +543,30 @@ public class ParallelBuilder {
 	}
 
 	/**
-	 * Dispatches the build queue and returns build status
+	 * Dispatches the build queue and returns build status.
+	 *
+	 * The queue is dispatched again whenever a process completes; the loop only
+	 * waits for {@link #MAIN_LOOP_DELAY} at most, to notice cancellation.
 	 */
 	protected int dispatch(BuildProcessManager mgr) {
 		int maxProcesses = mgr.getMaxProcesses();
 		Vector<ActiveBuildStep> active = new Vector<>(Math.min(maxProcesses, 10), 10);
 
+		// Steps which are queued or running, the steps which need their outputs must wait for them
+		Set<IBuildStep> pending = new HashSet<>();
+		for (BuildQueueElement elem : queue) {
+			pending.add(elem.getStep());
+		}
+
 		int activeCount = 0;
-		int maxLevel = 0;
 		int status = STATUS_OK;
 		String errorMsg = null;
 
 		// Going into "infinite" main loop
 		main_loop: while (true) {
+			// Completions from now on wake up the wait at the end of this iteration
+			int completions = mgr.getCompletionCount();
+
 			if (monitor.isCanceled()) {
 				status = STATUS_CANCELED;
 				errorMsg = CCorePlugin.getResourceString("CommandLauncher.error.commandCanceled"); //$NON-NLS-1$
@@ -497,137 +583,160 @@ public class ParallelBuilder {
 				errorMsg = launcher.getErrorMessage();
 				break main_loop;
 			}
-			// Everything goes OK.
-			boolean proceed = true;
 
-			// Check if there is room for new process
-			if (!mgr.hasEmpty()) {
-				proceed = false;
-			} else {
-				// Check "active steps" list for completed ones
-				for (ActiveBuildStep buildStep : active) {
-					ProcessLauncher pl = buildStep.getLauncher();
-					if (pl == null)
-						continue;
-					if (pl.queryState() == ProcessLauncher.STATE_DONE) {
-						// If process has terminated with error, break loop
-						// (except resumeOnErrors == true)
-
-						if (!resumeOnErrors && pl.getExitCode() != 0) {
-							status = STATUS_ERROR;
-							break main_loop;
-						}
-						// Try to launch next command for the current active step
-						if (buildStep.isDone())
-							continue;
-						if (buildStep.launchNextCmd(mgr)) {
-							// Command has been launched. Check if process pool is not maximized yet
-							if (!mgr.hasEmpty()) {
-								proceed = false;
-								break;
-							}
-						} else {
-							// Command has not been launched: step complete
-							refreshOutputs(buildStep.getStep());
-							activeCount--;
-							monitor.worked(1);
-						}
+			// Check "active steps" list for completed ones
+			for (ActiveBuildStep buildStep : active) {
+				ProcessLauncher pl = buildStep.getLauncher();
+				if (pl == null || buildStep.isDone())
+					continue;
+				if (pl.queryState() == ProcessLauncher.STATE_DONE) {
+					if (pl.getExitCode() != 0)
+						buildStep.failed = true;
+					// If process has terminated with error, break loop
+					// (except resumeOnErrors == true)
+					if (!resumeOnErrors && pl.getExitCode() != 0) {
+						status = STATUS_ERROR;
+						break main_loop;
+					}
+					// Try to launch next command for the current active step
+					if (!buildStep.launchNextCmd(mgr)) {
+						// Command has not been launched: step complete
+						completeStep(buildStep, pending);
+						activeCount--;
+						monitor.worked(1);
 					}
 				}
 			}
 
-			// If nothing to do, then sleep and continue main loop
-			if (!proceed) {
-				try {
-					Thread.sleep(MAIN_LOOP_DELAY);
-				} catch (InterruptedException e) {
-					// do nothing
-				}
-				continue main_loop;
+			// Schedule the queued steps whose prerequisites are built, by order of priority
+			boolean progressed = false;
+			Iterator<BuildQueueElement> iter = queue.iterator();
+			while (iter.hasNext() && activeCount < maxProcesses && mgr.hasEmpty()) {
+				BuildQueueElement elem = iter.next();
+				if (!isReady(elem.getStep(), pending))
+					continue;
+
+				// Remove element from the build queue and add it to the
+				// "active steps" list.
+				iter.remove();
+				if (startStep(elem.getStep(), active, pending, mgr))
+					activeCount++;
+				progressed = true;
 			}
-
-			// Check if we need to schedule another process
-			if (queue.size() != 0 && activeCount < maxProcesses) {
-				// Need to schedule another process
-				Iterator<BuildQueueElement> iter = queue.iterator();
-
-				// Iterate over build queue
-				while (iter.hasNext()) {
-					BuildQueueElement elem = iter.next();
-
-					// If "active steps" list reaches maximum, then break loop
-					if (activeCount == maxProcesses)
-						break;
-
-					// If current element's level exceeds maximum level of currently built
-					// resources, then stop iteration (we can not build it anyway)
-					if (elem.getLevel() > maxLevel + 1)
-						break;
-
-					//Check if all prerequisites are built
-					boolean prereqBuilt = true;
-					for (IBuildResource bldRes : elem.getStep().getInputResources()) {
-						IBuildStep step = bldRes.getProducerStep(); // step which produces input for curr
-						boolean built = true;
-						if (step != step.getBuildDescription().getInputStep()) {
-							for (ActiveBuildStep buildStep : active) {
-								if (buildStep != null && buildStep.getStep().equals(step) && !buildStep.isDone()) {
-									built = false;
-									break;
-								}
-							}
-						}
-						if (!built) {
-							prereqBuilt = false;
-							break;
-						}
-					}
-
-					if (prereqBuilt) {
-						// All prereqs are built
-						IBuildStep step = elem.getStep();
-
-						// Remove element from the build queue and add it to the
-						// "active steps" list.
-						iter.remove();
-						for (int i = 0; i < maxProcesses; i++) {
-							if (i >= active.size()) {
-								// add new item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.add(buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-							if (active.get(i).isDone()) {
-								// replace old item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.set(i, buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-						}
-
-						// Update maxLevel
-						if (elem.getLevel() > maxLevel)
-							maxLevel = elem.getLevel();
-						// We don't need to start new process immediately since
-						// it will be done on the next main loop iteration
-					}
-				}
+			if (!progressed && activeCount <= 0 && queue.size() != 0) {
+				// Nothing runs and no step is ready: the queued steps depend on each
+				// other, start the first one anyway
+				if (startStep(queue.removeFirst().getStep(), active, pending, mgr))
+					activeCount++;
+				progressed = true;
 			}
 
 			// Now finally, check if we're done
 			if (activeCount <= 0 && queue.size() == 0)
 				break main_loop;
+
+			// Wait for a process to complete, unless the queue must be looked at again
+			if (!progressed)
+				mgr.waitForCompletion(completions, MAIN_LOOP_DELAY);
 		}
 
 		if (status != STATUS_OK && errorMsg != null)
 			printMessage(errorMsg, out);
+		if (DbgUtil.DEBUG) {
+			traceSlowestSteps();
+			if (fSignatures != null)
+				DbgUtil.trace(fSignatures.getStatistics());
+		}
 		return status;
 	}
 
+	/**
+	 * Starts building a step, returns true if a command of the step was launched
+	 */
+	private boolean startStep(IBuildStep step, Vector<ActiveBuildStep> active, Set<IBuildStep> pending,
+			BuildProcessManager mgr) {
+		ActiveBuildStep buildStep = new ActiveBuildStep(step);
+		boolean added = false;
+		for (int i = 0; i < active.size(); i++) {
+			if (active.get(i).isDone()) {
+				// replace old item
+				active.set(i, buildStep);
+				added = true;
+				break;
+			}
+		}
+		if (!added)
+			active.add(buildStep);
+
+		if (fSignatures != null && buildStep.cmds.length > 0) {
+			buildStep.signature = fSignatures.computeSignature(step, buildStep.cmds);
+			if (fSignatures.isUpToDate(step, buildStep.signature)) {
+				// The inputs and the commands are the same as when the step was last built
+				buildStep.upToDate = true;
+				completeStep(buildStep, pending);
+				monitor.worked(1);
+				return false;
+			}
+		}
+
+		if (buildStep.launchNextCmd(mgr))
+			return true;
+
+		// Nothing to run for the step
+		completeStep(buildStep, pending);
+		monitor.worked(1);
+		return false;
+	}
+
+	/**
+	 * Checks that the steps producing the inputs of the given one are built
+	 */
+	private boolean isReady(IBuildStep step, Set<IBuildStep> pending) {
+		for (IBuildResource bldRes : step.getInputResources()) {
+			IBuildStep producer = bldRes.getProducerStep(); // step which produces input for curr
+			if (producer != null && producer != step && pending.contains(producer))
+				return false;
+		}
+		return true;
+	}
+
+	private void completeStep(ActiveBuildStep buildStep, Set<IBuildStep> pending) {
+		buildStep.complete();
+		if (buildStep.getLauncher() != null)
+			refreshOutputs(buildStep.getStep());
+		else if (buildStep.upToDate)
+			clearStepRebuildStep(buildStep.getStep());
+
+		if (fSignatures != null && buildStep.getLauncher() != null) {
+			if (buildStep.isSucceeded())
+				fSignatures.stepBuilt(buildStep.getStep(), buildStep.signature);
+			else
+				fSignatures.stepFailed(buildStep.getStep());
+		}
+		pending.remove(buildStep.getStep());
+		completedSteps.add(buildStep);
+	}
+
+	/**
+	 * Traces the steps which took the longest to build
+	 */
+	private void traceSlowestSteps() {
+		List<ActiveBuildStep> steps = new ArrayList<>(completedSteps);
+		Collections.sort(steps, new Comparator<ActiveBuildStep>() {
+			@Override
+			public int compare(ActiveBuildStep s1, ActiveBuildStep s2) {
+				return Long.compare(s2.getWallTime(), s1.getWallTime());
+			}
+		});
+		DbgUtil.trace("slowest build steps:"); //$NON-NLS-1$
+		for (int i = 0; i < steps.size() && i < SLOWEST_STEPS_TRACED; i++) {
+			ActiveBuildStep step = steps.get(i);
+			IBuildResource[] outputs = step.getStep().getOutputResources();
+			String name = outputs.length > 0 ? DbgUtil.resourceName(outputs[0]) : DbgUtil.stepName(step.getStep());
+			DbgUtil.trace(name + ": " + step.getWallTime() / 1000000 + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	/**
 	 * Prints output to the console
 	 */
@@ -47,6 +47,38 @@ public class ProcessLauncher {
 	protected Process process;
 	protected ProcessClosure closure = null;
 	protected int state;
+	protected Runnable completionListener;
+
+	/**
+	 * Process closure which tells the completion listener when the output of
+	 * the process was entirely read, that is when the process becomes done.
+	 */
+	private class NotifyingProcessClosure extends ProcessClosure {
+		public NotifyingProcessClosure(Process process) {
+			super(process, out, err);
+		}
+
+		@Override
+		public void runNonBlocking() {
+			super.runNonBlocking();
+			final Thread outputReader = fOutputReader;
+			final Thread errorReader = fErrorReader;
+			Thread watcher = new Thread("Build process watcher") { //$NON-NLS-1$
+				@Override
+				public void run() {
+					try {
+						outputReader.join();
+						errorReader.join();
+					} catch (InterruptedException e) {
+						// notify anyway, the listener queries the state
+					}
+					notifyCompletion();
+				}
+			};
+			watcher.setDaemon(true);
+			watcher.start();
+		}
+	}
 
 	/**
 	 * Returns command line as a string array
@@ -129,6 +161,19 @@ public class ProcessLauncher {
 		lineSeparator = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Sets the runnable which is called, from another thread, when the
+	 * process completes or fails to launch. Must be set before launching.
+	 */
+	public void setCompletionListener(Runnable listener) {
+		completionListener = listener;
+	}
+
+	protected void notifyCompletion() {
+		if (completionListener != null)
+			completionListener.run();
+	}
+
 	/**
 	 * Launches a process
 	 */
@@ -138,7 +183,7 @@ public class ProcessLauncher {
 				printCommandLine();
 			state = STATE_RUNNING;
 			process = ProcessFactory.getFactory().exec(cmd, env, cwd);
-			closure = new ProcessClosure(process, out, err);
+			closure = new NotifyingProcessClosure(process);
 			// Close the input of the process since we will never write to it
 			try {
 				process.getOutputStream().close();
@@ -149,6 +194,7 @@ public class ProcessLauncher {
 		} catch (IOException e) {
 			error = e.getMessage();
 			closure = null;
+			notifyCompletion();
 		}
 	}
 
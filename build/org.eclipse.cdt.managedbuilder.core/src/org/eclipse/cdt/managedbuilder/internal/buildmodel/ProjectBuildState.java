@@ -34,6 +34,8 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
 
 public class ProjectBuildState implements IProjectBuildState {
+	private static final String SIGNATURES_FILE_SUFFIX = ".signatures"; //$NON-NLS-1$
+
 	private Properties fCfgIdToFileNameProps;
 	private Map<String, ConfigurationBuildState> fCfgIdToStateMap = new HashMap<>();
 	private IProject fProject;
@@ -67,6 +69,7 @@ public class ProjectBuildState implements IProjectBuildState {
 	private ConfigurationBuildState loadState(String id, boolean create) {
 		File file = getFileForCfg(id, create);
 		ConfigurationBuildState bs = new ConfigurationBuildState(fProject, id);
+		bs.setSignaturesFile(getSignaturesFile(id));
 		if (file != null && file.exists()) {
 			try {
 				InputStream iStream = new FileInputStream(file);
@@ -144,6 +147,30 @@ public class ProjectBuildState implements IProjectBuildState {
 		return path.toFile();
 	}
 
+	/**
+	 * Returns the file of the build signatures of the configuration.  Unlike the rebuild
+	 * state, which is dropped whenever the configuration needs to be rebuilt, the signatures
+	 * are kept until the configuration or the project is removed, so that a failed or
+	 * cancelled build does not lose them.
+	 */
+	private File getSignaturesFile(String id) {
+		String name = id.replaceAll("[^A-Za-z0-9._-]", "_"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (!name.equals(id))
+			name += '-' + Integer.toHexString(id.hashCode());
+		IPath path = BuildStateManager.getInstance().getPrefsDirPath(fProject);
+		return path.append(name + SIGNATURES_FILE_SUFFIX).toFile();
+	}
+
+	/**
+	 * Deletes the build signatures of a configuration which was removed.
+	 */
+	void removeBuildSignatures(String id) {
+		ConfigurationBuildState cbs = fCfgIdToStateMap.get(id);
+		if (cbs != null)
+			cbs.setSignaturesFile(null);
+		getSignaturesFile(id).delete();
+	}
+
 	private void saveMapFile() {
 		if (fCfgIdToFileNameProps == null)
 			return;
@@ -226,6 +253,22 @@ public class ProjectBuildState implements IProjectBuildState {
 					ManagedBuilderCorePlugin.log(e);
 				}
 			}
+
+			// Stored whatever the state, the steps which were built are still up to date
+			// after a failed build
+			BuildSignatures signatures = s.getChangedBuildSignatures();
+			if (signatures != null) {
+				File signaturesFile = getSignaturesFile(id);
+				File parent = signaturesFile.getParentFile();
+				if (!parent.exists())
+					parent.mkdirs();
+				s.setSignaturesFile(signaturesFile);
+				try (OutputStream oStream = new FileOutputStream(signaturesFile)) {
+					signatures.store(oStream);
+				} catch (IOException e) {
+					ManagedBuilderCorePlugin.log(e);
+				}
+			}
 		}
 
 		if (fIsMapInfoDirty)
@@ -48,6 +48,7 @@ public class StepBuilder implements IBuildModelBuilder {
 	private GenDirInfo fDirs;
 	private boolean fResumeOnErrs;
 	private int fNumCommands = -1;
+	private IBuildCommand fCommands[];
 	private CommandBuilder fCommandBuilders[];
 	private IResourceRebuildStateContainer fRebuildStateContainer;
 
@@ -86,6 +87,17 @@ public class StepBuilder implements IBuildModelBuilder {
 
 		int status = STATUS_OK;
 		CommandBuilder bs[] = getCommandBuilders();
+		BuildSignatures signatures = BuildSignatures.get(fRebuildStateContainer);
+		String signature = null;
+		if (signatures != null && bs.length > 0) {
+			signature = signatures.computeSignature(fStep, fCommands);
+			if (signatures.isUpToDate(fStep, signature)) {
+				// The inputs and the commands are the same as when the step was last built
+				clearRebuildState();
+				monitor.done();
+				return status;
+			}
+		}
 		if (bs.length > 0) {
 			//TODO: monitor
 			createOutDirs(new NullProgressMonitor());
@@ -110,6 +122,13 @@ public class StepBuilder implements IBuildModelBuilder {
 			}
 			//TODO: monitor
 			status = postProcess(status, new NullProgressMonitor());
+
+			if (signatures != null) {
+				if (status == STATUS_OK)
+					signatures.stepBuilt(fStep, signature);
+				else
+					signatures.stepFailed(fStep);
+			}
 		}
 		monitor.done();
 		return status;
@@ -219,6 +238,7 @@ public class StepBuilder implements IBuildModelBuilder {
 	protected CommandBuilder[] getCommandBuilders() {
 		if (fCommandBuilders == null) {
 			IBuildCommand cmds[] = fStep.getCommands(fCWD, null, null, true);
+			fCommands = cmds;
 			if (cmds == null)
 				fCommandBuilders = new CommandBuilder[0];
 			else {
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.managedbuilder.internal.language.settings.providers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.cdt.core.settings.model.ICLanguageSettingEntry;
+import org.eclipse.cdt.core.settings.model.util.CDataUtil;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.datalocation.Location;
+
+/**
+ * Cache of the built-in settings detected by the built-in specs detectors, shared by all
+ * the projects of the workspace and by the workspaces of the same user.
+ * <p>
+ * The settings are addressed by a hash of what determines the output of the detection
+ * command: the detector, the language, the command, the content of the compiler
+ * executable and the environment.  A compiler which changes gets a new key, so the
+ * settings detected with the old one are no longer found.  The settings are kept in
+ * memory and in one file per key in the user area, the files not used for
+ * {@link #EXPIRATION_TIME} are removed.
+ */
+public class BuiltinSpecsCache {
+	private static final String CACHE_FOLDER = ".eclipse/" + ManagedBuilderCorePlugin.PLUGIN_ID + "/builtin-specs"; //$NON-NLS-1$ //$NON-NLS-2$
+	private static final String FILE_EXTENSION = ".specs"; //$NON-NLS-1$
+	private static final String DIGEST_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final long EXPIRATION_TIME = 90L * 24 * 60 * 60 * 1000;
+	// Set to the build directory of the project, the detection does not depend on them
+	private static final Set<String> IGNORED_VARIABLES = new HashSet<>(Arrays.asList("CWD", //$NON-NLS-1$
+			"PWD")); //$NON-NLS-1$
+
+	private static BuiltinSpecsCache fInstance;
+
+	private static class FileHash {
+		final long timeStamp;
+		final long size;
+		final String hash;
+
+		FileHash(long timeStamp, long size, String hash) {
+			this.timeStamp = timeStamp;
+			this.size = size;
+			this.hash = hash;
+		}
+	}
+
+	private volatile File fFolder;
+	private final Map<String, List<ICLanguageSettingEntry>> fEntries = new ConcurrentHashMap<>();
+	private final Map<String, Object> fLocks = new ConcurrentHashMap<>();
+	private final Map<String, FileHash> fCompilerHashes = new ConcurrentHashMap<>();
+
+	private BuiltinSpecsCache(File folder) {
+		fFolder = folder;
+		if (fFolder != null) {
+			removeExpiredFiles();
+		}
+	}
+
+	public static synchronized BuiltinSpecsCache getDefault() {
+		if (fInstance == null) {
+			fInstance = new BuiltinSpecsCache(getDefaultCacheFolder());
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Computes the key of the settings detected by running the given command.  Returns
+	 * null if the compiler executable is not found, the settings cannot be cached then
+	 * as there is no way to know whether the compiler changed.
+	 *
+	 * @param detectorId - ID of the detector which parses the output of the command.
+	 * @param languageId - language ID.
+	 * @param command - the command, with the spec file replaced by a placeholder.
+	 * @param compiler - the compiler executable.
+	 * @param environment - the environment the command runs in, except for the variables
+	 *    of the working directory which differ between the projects.
+	 */
+	public String computeKey(String detectorId, String languageId, String command, File compiler,
+			Map<String, String> environment) {
+		if (compiler == null) {
+			return null;
+		}
+		String compilerHash = getCompilerHash(compiler);
+		if (compilerHash == null) {
+			return null;
+		}
+		MessageDigest digest = createDigest();
+		if (digest == null) {
+			return null;
+		}
+
+		update(digest, detectorId);
+		update(digest, languageId);
+		update(digest, command);
+		update(digest, compilerHash);
+		for (Entry<String, String> var : new TreeMap<>(environment).entrySet()) {
+			if (IGNORED_VARIABLES.contains(var.getKey())) {
+				continue;
+			}
+			update(digest, var.getKey());
+			update(digest, var.getValue());
+		}
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Returns the lock to hold while detecting the settings for the given key, so that
+	 * the detectors which run concurrently for the same key only run the command once.
+	 */
+	public Object getLock(String key) {
+		return fLocks.computeIfAbsent(key, k -> new Object());
+	}
+
+	/**
+	 * Returns the settings detected for the given key, or null if there are none.
+	 */
+	public List<ICLanguageSettingEntry> get(String key) {
+		List<ICLanguageSettingEntry> entries = fEntries.get(key);
+		File folder = fFolder;
+		if (entries == null && folder != null) {
+			File file = new File(folder, key + FILE_EXTENSION);
+			entries = read(file);
+			if (entries != null) {
+				fEntries.put(key, entries);
+				// Keeps the file from expiring
+				file.setLastModified(System.currentTimeMillis());
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Records the settings detected for the given key.
+	 */
+	public void put(String key, List<ICLanguageSettingEntry> entries) {
+		entries = Collections.unmodifiableList(new ArrayList<>(entries));
+		fEntries.put(key, entries);
+		File folder = fFolder;
+		if (folder != null && (folder.isDirectory() || folder.mkdirs())) {
+			write(new File(folder, key + FILE_EXTENSION), entries);
+		}
+	}
+
+	/**
+	 * Returns the folder the settings are kept in, or null if they are only kept in memory.
+	 */
+	public File getCacheFolder() {
+		return fFolder;
+	}
+
+	/**
+	 * Sets the folder the settings are kept in, for instance so that tests do not leave
+	 * files in the user area.  The settings kept in memory are forgotten.
+	 *
+	 * @param folder - the folder, or null to only keep the settings in memory.
+	 */
+	public void setCacheFolder(File folder) {
+		fFolder = folder;
+		fEntries.clear();
+	}
+
+	private static File getDefaultCacheFolder() {
+		Location location = Platform.getUserLocation();
+		if (location != null && !location.isReadOnly()) {
+			URL url = location.getURL();
+			if (url != null && "file".equals(url.getProtocol())) { //$NON-NLS-1$
+				return new File(url.getFile(), CACHE_FOLDER);
+			}
+		}
+		// Only shared by the projects of the workspace then
+		ManagedBuilderCorePlugin plugin = ManagedBuilderCorePlugin.getDefault();
+		return plugin != null ? plugin.getStateLocation().append("builtin-specs").toFile() : null; //$NON-NLS-1$
+	}
+
+	private void removeExpiredFiles() {
+		File[] files = fFolder.listFiles();
+		if (files == null) {
+			return;
+		}
+		long expired = System.currentTimeMillis() - EXPIRATION_TIME;
+		for (File file : files) {
+			if (file.getName().endsWith(FILE_EXTENSION) && file.lastModified() < expired) {
+				file.delete();
+			}
+		}
+	}
+
+	private List<ICLanguageSettingEntry> read(File file) {
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			int count = in.readInt();
+			List<ICLanguageSettingEntry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int kind = in.readInt();
+				int flags = in.readInt();
+				String name = in.readUTF();
+				String value = in.readBoolean() ? in.readUTF() : null;
+				entries.add((ICLanguageSettingEntry) CDataUtil.createEntry(kind, name, value, null, flags));
+			}
+			return Collections.unmodifiableList(entries);
+		} catch (IOException | RuntimeException e) {
+			// A file from another version or partially written, detect again
+			return null;
+		}
+	}
+
+	private void write(File file, List<ICLanguageSettingEntry> entries) {
+		File tmpFile = null;
+		try {
+			// Written aside then moved so that other workspaces never read it partially written
+			tmpFile = File.createTempFile(file.getName(), null, file.getParentFile());
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(entries.size());
+				for (ICLanguageSettingEntry entry : entries) {
+					out.writeInt(entry.getKind());
+					out.writeInt(entry.getFlags());
+					out.writeUTF(entry.getName());
+					String value = entry.getValue();
+					out.writeBoolean(value != null);
+					if (value != null) {
+						out.writeUTF(value);
+					}
+				}
+			}
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			ManagedBuilderCorePlugin.log(e);
+		} finally {
+			if (tmpFile != null) {
+				tmpFile.delete();
+			}
+		}
+	}
+
+	/**
+	 * Returns the content hash of the compiler executable, only read again once its
+	 * time stamp or size changed.
+	 */
+	private String getCompilerHash(File compiler) {
+		long timeStamp = compiler.lastModified();
+		if (timeStamp == 0) {
+			return null;
+		}
+		long size = compiler.length();
+		String path = compiler.getPath();
+
+		FileHash fileHash = fCompilerHashes.get(path);
+		if (fileHash != null && fileHash.timeStamp == timeStamp && fileHash.size == size) {
+			return fileHash.hash;
+		}
+
+		MessageDigest digest = createDigest();
+		if (digest == null) {
+			return null;
+		}
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream in = new FileInputStream(compiler)) {
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				digest.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			return null;
+		}
+		String hash = toHex(digest.digest());
+		fCompilerHashes.put(path, new FileHash(timeStamp, size, hash));
+		return hash;
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, String str) {
+		if (str != null) {
+			digest.update(str.getBytes(StandardCharsets.UTF_8));
+		}
+		// Keeps "a" "bc" apart from "ab" "c"
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buf = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buf.append(Character.forDigit((b >> 4) & 0xf, 16));
+			buf.append(Character.forDigit(b & 0xf, 16));
+		}
+		return buf.toString();
+	}
+}
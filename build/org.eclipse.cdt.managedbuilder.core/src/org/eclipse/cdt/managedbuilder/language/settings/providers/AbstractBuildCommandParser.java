@@ -24,10 +24,13 @@ import org.eclipse.cdt.core.IMarkerGenerator;
 import org.eclipse.cdt.core.errorparsers.RegexErrorParser;
 import org.eclipse.cdt.core.errorparsers.RegexErrorPattern;
 import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvider;
+import org.eclipse.cdt.core.language.settings.providers.IWorkingDirectoryTracker;
 import org.eclipse.cdt.core.language.settings.providers.LanguageSettingsManager;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICLanguageSettingEntry;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
 
 /**
  * Abstract class for providers parsing compiler option from build command when present in build output.
@@ -88,6 +91,11 @@ public abstract class AbstractBuildCommandParser extends AbstractLanguageSetting
 	// Used to handle line continuations in the build output.
 	private String partialLine;
 
+	// Compiled compiler command patterns, made from the templates once per compiler pattern
+	private String compiledCompilerPattern = null;
+	private Pattern[] compilerCommandPatterns = null;
+	private int fileGroup;
+
 	/**
 	 * The compiler command pattern without specifying compiler options.
 	 * The options are intended to be handled with option parsers,
@@ -209,17 +217,40 @@ public abstract class AbstractBuildCommandParser extends AbstractLanguageSetting
 		return pattern;
 	}
 
+	/**
+	 * Compile the compiler command patterns unless they were compiled for the current compiler pattern.
+	 * The file extensions are only looked up again at {@link #startup}.
+	 */
+	private Pattern[] getCompilerCommandPatterns() {
+		String compilerPattern = getCompilerPattern();
+		if (compilerCommandPatterns == null || !compilerPattern.equals(compiledCompilerPattern)) {
+			Pattern[] patterns = new Pattern[COMPILER_COMMAND_PATTERN_TEMPLATES.length];
+			for (int i = 0; i < patterns.length; i++) {
+				patterns[i] = Pattern.compile(makePattern(COMPILER_COMMAND_PATTERN_TEMPLATES[i]));
+			}
+			fileGroup = adjustFileGroup();
+			compilerCommandPatterns = patterns;
+			compiledCompilerPattern = compilerPattern;
+		}
+		return compilerCommandPatterns;
+	}
+
+	@Override
+	public void startup(ICConfigurationDescription cfgDescription, IWorkingDirectoryTracker cwdTracker)
+			throws CoreException {
+		super.startup(cfgDescription, cwdTracker);
+		compilerCommandPatterns = null;
+	}
+
 	@Override
 	protected String parseResourceName(String line) {
 		if (line == null) {
 			return null;
 		}
 
-		for (String template : COMPILER_COMMAND_PATTERN_TEMPLATES) {
-			String pattern = makePattern(template);
-			Matcher fileMatcher = Pattern.compile(pattern).matcher(line);
+		for (Pattern pattern : getCompilerCommandPatterns()) {
+			Matcher fileMatcher = pattern.matcher(line);
 			if (fileMatcher.matches()) {
-				int fileGroup = adjustFileGroup();
 				String sourceFileName = fileMatcher.group(fileGroup);
 				return sourceFileName;
 			}
@@ -49,11 +49,13 @@ import org.eclipse.cdt.core.resources.IConsole;
 import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICLanguageSettingEntry;
 import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.cdt.core.settings.model.ICSettingEntry;
 import org.eclipse.cdt.internal.core.BuildRunnerHelper;
 import org.eclipse.cdt.internal.core.XmlUtil;
 import org.eclipse.cdt.internal.core.envvar.EnvironmentVariableManager;
 import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
 import org.eclipse.cdt.managedbuilder.internal.core.ManagedMakeMessages;
+import org.eclipse.cdt.managedbuilder.internal.language.settings.providers.BuiltinSpecsCache;
 import org.eclipse.cdt.utils.CommandLineUtil;
 import org.eclipse.cdt.utils.PathUtil;
 import org.eclipse.cdt.utils.envvar.IEnvironmentChangeEvent;
@@ -145,6 +147,7 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 	private SDMarkerGenerator markerGenerator = new SDMarkerGenerator();
 	private boolean isConsoleEnabled = false;
 	private String currentCommandResolved = null;
+	private volatile int markersAdded = 0;
 
 	private class SDMarkerGenerator implements IMarkerGenerator {
 		// Reuse scanner discovery markers defined in org.eclipse.cdt.managedbuilder.core plugin.xml
@@ -159,6 +162,7 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 
 		@Override
 		public void addMarker(final ProblemMarkerInfo problemMarkerInfo) {
+			markersAdded++;
 			final String providerName = getName();
 			final String providerId = getId();
 			// Add markers in a job to avoid deadlocks
@@ -444,24 +448,11 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 					envHashNew = 31 * envHashNew + command.hashCode();
 				}
 
-				String[] cmdArray = CommandLineUtil.argumentsToArray(command);
-				if (cmdArray != null && cmdArray.length > 0) {
-					IPath location = new Path(cmdArray[0]);
-					if (!location.isAbsolute()) {
-						location = PathUtil.findProgramLocation(cmdArray[0], envPathValue);
-					}
-					if (location != null) {
-						java.io.File file = new java.io.File(location.toString());
-						try {
-							// handles symbolic links as java.io.File.getCanonicalPath() resolves symlinks on UNIX
-							file = file.getCanonicalFile();
-						} catch (IOException e) {
-							ManagedBuilderCorePlugin.log(e);
-						}
-						long lastModified = file.lastModified();
-						envHashNew = 31 * envHashNew + location.hashCode();
-						envHashNew = 31 * envHashNew + lastModified;
-					}
+				IPath location = findProgramLocation(command, envPathValue);
+				if (location != null) {
+					long lastModified = toCanonicalFile(location).lastModified();
+					envHashNew = 31 * envHashNew + location.hashCode();
+					envHashNew = 31 * envHashNew + lastModified;
 				}
 			} catch (CoreException e) {
 				ManagedBuilderCorePlugin.log(e);
@@ -470,6 +461,32 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 		return envHashNew;
 	}
 
+	/**
+	 * Find the location of the program the command runs, or {@code null} if not found.
+	 */
+	private static IPath findProgramLocation(String command, String envPathValue) {
+		String[] cmdArray = CommandLineUtil.argumentsToArray(command);
+		if (cmdArray == null || cmdArray.length == 0) {
+			return null;
+		}
+		IPath location = new Path(cmdArray[0]);
+		if (!location.isAbsolute()) {
+			location = PathUtil.findProgramLocation(cmdArray[0], envPathValue);
+		}
+		return location;
+	}
+
+	private static java.io.File toCanonicalFile(IPath location) {
+		java.io.File file = new java.io.File(location.toString());
+		try {
+			// handles symbolic links as java.io.File.getCanonicalPath() resolves symlinks on UNIX
+			file = file.getCanonicalFile();
+		} catch (IOException e) {
+			ManagedBuilderCorePlugin.log(e);
+		}
+		return file;
+	}
+
 	/**
 	 * This method does 2 related things:
 	 * <br>
@@ -588,7 +605,7 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 							languageId);
 					try {
 						startupForLanguage(languageId);
-						runForLanguage(new SubProgressMonitor(monitor, TICKS_RUN_FOR_ONE_LANGUAGE));
+						runForLanguageCached(new SubProgressMonitor(monitor, TICKS_RUN_FOR_ONE_LANGUAGE));
 					} catch (Exception e) {
 						IStatus s = new Status(IStatus.ERROR, ManagedBuilderCorePlugin.PLUGIN_ID, IStatus.ERROR,
 								"Error running Builtin Specs Detector", e); //$NON-NLS-1$
@@ -663,13 +680,98 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 		currentLanguageId = null;
 	}
 
+	/**
+	 * Run built-in specs command for one language unless the settings it detects are found
+	 * in the {@link BuiltinSpecsCache} shared with the other projects and workspaces.
+	 * When the console is enabled the command always runs, to show its output, and
+	 * refreshes the cache.
+	 */
+	private void runForLanguageCached(IProgressMonitor monitor) throws CoreException {
+		String key = getCacheKey();
+		if (key == null) {
+			runForLanguage(monitor);
+			return;
+		}
+
+		BuiltinSpecsCache cache = BuiltinSpecsCache.getDefault();
+		// Detectors of other projects running the same command wait for this one
+		synchronized (cache.getLock(key)) {
+			if (!isConsoleEnabled) {
+				List<ICLanguageSettingEntry> entries = cache.get(key);
+				if (entries != null) {
+					detectedSettingEntries.addAll(entries);
+					if (monitor != null) {
+						monitor.done();
+					}
+					return;
+				}
+			}
+
+			int markers = markersAdded;
+			boolean succeeded = runForLanguage(monitor);
+			// Output of a failed or cancelled command may be partial, and problems reported
+			// by the command are to be reported again
+			if (succeeded && (monitor == null || !monitor.isCanceled()) && markersAdded == markers
+					&& isShareable(detectedSettingEntries)) {
+				cache.put(key, detectedSettingEntries);
+			}
+		}
+	}
+
+	/**
+	 * Compute the key of the settings detected for the current language in the
+	 * {@link BuiltinSpecsCache}, or {@code null} if they cannot be shared.
+	 */
+	private String getCacheKey() {
+		if (currentCommandResolved == null || (specFile != null && preserveSpecFile)) {
+			// the content of a spec file provided by the user is not accounted for
+			return null;
+		}
+		IPath location = findProgramLocation(currentCommandResolved, environmentMap.get(ENV_PATH));
+		if (location == null) {
+			return null;
+		}
+		String command = currentCommandResolved;
+		if (specFile != null) {
+			// the spec file is in the workspace area, other workspaces have their own
+			command = command.replace(new Path(specFile.getPath()).toString(), SPEC_FILE_MACRO);
+		}
+		return BuiltinSpecsCache.getDefault().computeKey(getClass().getName() + '#' + getId(), currentLanguageId,
+				command, toCanonicalFile(location), environmentMap);
+	}
+
+	/**
+	 * Check that the entries do not depend on the current project.
+	 */
+	private boolean isShareable(List<ICLanguageSettingEntry> entries) {
+		if (entries == null || entries.isEmpty()) {
+			return false;
+		}
+		String projectLocation = null;
+		if (currentProject != null && currentProject.getLocation() != null) {
+			projectLocation = currentProject.getLocation().toString();
+		}
+		for (ICLanguageSettingEntry entry : entries) {
+			if ((entry.getFlags() & ICSettingEntry.VALUE_WORKSPACE_PATH) != 0) {
+				return false;
+			}
+			if (projectLocation != null && entry.getKind() != ICSettingEntry.MACRO
+					&& new Path(entry.getName()).toString().startsWith(projectLocation)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Run built-in specs command for one language.
 	 *
 	 * @param monitor - progress monitor in the initial state where {@link IProgressMonitor#beginTask(String, int)}
 	 *    has not been called yet.
+	 * @return whether the command ran to completion and succeeded.
 	 */
-	private void runForLanguage(IProgressMonitor monitor) throws CoreException {
+	private boolean runForLanguage(IProgressMonitor monitor) throws CoreException {
+		boolean succeeded = false;
 		buildRunnerHelper = new BuildRunnerHelper(currentProject);
 
 		if (monitor == null) {
@@ -723,12 +825,13 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 
 			OutputStream outStream = buildRunnerHelper.getOutputStream();
 			OutputStream errStream = buildRunnerHelper.getErrorStream();
-			runProgramForLanguage(currentLanguageId, currentCommandResolved, envp, buildDirURI, outStream, errStream,
-					new SubProgressMonitor(monitor, TICKS_EXECUTE_COMMAND,
+			int status = runProgramForLanguage(currentLanguageId, currentCommandResolved, envp, buildDirURI, outStream,
+					errStream, new SubProgressMonitor(monitor, TICKS_EXECUTE_COMMAND,
 							SubProgressMonitor.PREPEND_MAIN_LABEL_TO_SUBTASK));
 
 			buildRunnerHelper.close();
 			buildRunnerHelper.goodbye();
+			succeeded = status == ICommandLauncher.OK && !monitor.isCanceled();
 
 		} catch (Exception e) {
 			ManagedBuilderCorePlugin.log(new CoreException(new Status(IStatus.ERROR, ManagedBuilderCorePlugin.PLUGIN_ID,
@@ -741,6 +844,7 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 			}
 			monitor.done();
 		}
+		return succeeded;
 	}
 
 	/**
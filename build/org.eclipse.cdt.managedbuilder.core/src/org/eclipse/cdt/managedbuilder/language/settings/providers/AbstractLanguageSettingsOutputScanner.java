@@ -20,6 +20,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +77,7 @@ import org.w3c.dom.Element;
 public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSettingsSerializableProvider
 		implements ICBuildOutputParser {
 	protected static final String ATTR_KEEP_RELATIVE_PATHS = "keep-relative-paths"; //$NON-NLS-1$
+	private static final int PARSED_OPTIONS_CACHE_SIZE = 64;
 	// evaluates to "/${ProjName)/"
 	private static final String PROJ_NAME_PREFIX = '/'
 			+ CdtVariableResolver.createVariableReference(CdtVariableResolver.VAR_PROJ_NAME) + '/';
@@ -89,6 +91,13 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 	protected String parsedResourceName = null;
 	protected boolean isResolvingPaths = true;
 
+	// Entries parsed from the options of the recent lines, by options and base locations.
+	// Most of the compile commands of a build share the same options.
+	private Map<List<Object>, List<ICLanguageSettingEntry>> parsedOptionsCache = null;
+	// Cleared while parsing a line when one of its paths is resolved to a resource which does not exist.
+	// Such a path may resolve differently once the resource is created, so the entries are not reused.
+	private boolean isParsedEntriesReusable = true;
+
 	/** @since 8.2 */
 	protected EFSExtensionProvider efsProvider = null;
 
@@ -135,8 +144,8 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 	 */
 	protected static abstract class AbstractOptionParser {
 		private final int kind;
-		private final String patternStr;
 		private final Pattern pattern;
+		private final Pattern optionPattern;
 		private final String nameExpression;
 		private final String valueExpression;
 		private final int extraFlag;
@@ -156,12 +165,12 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		public AbstractOptionParser(int kind, String pattern, String nameExpression, String valueExpression,
 				int extraFlag) {
 			this.kind = kind;
-			this.patternStr = pattern;
 			this.nameExpression = nameExpression;
 			this.valueExpression = valueExpression;
 			this.extraFlag = extraFlag;
 
 			this.pattern = Pattern.compile(pattern);
+			this.optionPattern = Pattern.compile("(" + pattern + ").*"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 		/**
@@ -213,8 +222,7 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		 */
 		public boolean parseOption(String optionString) {
 			// get rid of extra text at the end (for example file name could be confused for an argument)
-			@SuppressWarnings("nls")
-			String option = optionString.replaceFirst("(" + patternStr + ").*", "$1");
+			String option = optionPattern.matcher(optionString).replaceFirst("$1"); //$NON-NLS-1$
 
 			Matcher matcher = pattern.matcher(option);
 			boolean isMatch = matcher.matches();
@@ -428,6 +436,12 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		this.currentProject = cfgDescription != null ? cfgDescription.getProjectDescription().getProject() : null;
 		this.cwdTracker = cwdTracker;
 		this.efsProvider = getEFSProvider();
+		this.parsedOptionsCache = new LinkedHashMap<List<Object>, List<ICLanguageSettingEntry>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, List<ICLanguageSettingEntry>> eldest) {
+				return size() > PARSED_OPTIONS_CACHE_SIZE;
+			}
+		};
 	}
 
 	@Override
@@ -438,6 +452,7 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		currentLanguageId = null;
 		currentResource = null;
 		cwdTracker = null;
+		parsedOptionsCache = null;
 	}
 
 	@Override
@@ -471,46 +486,23 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 			buildDirURI = getBuildDirURI(mappedRootURI);
 		}
 
-		List<ICLanguageSettingEntry> entries = new ArrayList<>();
-
 		List<String> options = parseOptions(line);
 		if (options != null) {
-			AbstractOptionParser[] optionParsers = getOptionParsers();
-			for (String option : options) {
-				for (AbstractOptionParser optionParser : optionParsers) {
-					try {
-						if (optionParser.parseOption(option)) {
-							ICLanguageSettingEntry entry = null;
-							if (isResolvingPaths && (optionParser.isForFile() || optionParser.isForFolder())) {
-								URI baseURI = mappedRootURI;
-								if (buildDirURI != null && !new Path(optionParser.parsedName).isAbsolute()) {
-									if (mappedRootURI != null) {
-										baseURI = efsProvider.append(mappedRootURI, buildDirURI.getPath());
-									} else {
-										baseURI = buildDirURI;
-									}
-								}
-								entry = createResolvedPathEntry(optionParser, optionParser.parsedName, 0, baseURI);
-							} else {
-								entry = optionParser.createEntry(optionParser.parsedName, optionParser.parsedValue, 0);
-							}
-
-							if (entry != null && !entries.contains(entry)) {
-								entries.add(entry);
-								break;
-							}
-						}
-					} catch (Throwable e) {
-						@SuppressWarnings("nls")
-						String msg = "Exception trying to parse option [" + option + "], class "
-								+ getClass().getSimpleName();
-						ManagedBuilderCorePlugin
-								.log(new Status(IStatus.ERROR, ManagedBuilderCorePlugin.PLUGIN_ID, msg, e));
-					}
+			List<ICLanguageSettingEntry> entries = null;
+			List<Object> key = null;
+			if (parsedOptionsCache != null) {
+				key = Arrays.asList(options, currentLanguageId, mappedRootURI, buildDirURI);
+				entries = parsedOptionsCache.get(key);
+			}
+			if (entries == null) {
+				isParsedEntriesReusable = true;
+				entries = parseEntries(options, mappedRootURI, buildDirURI);
+				if (key != null && isParsedEntriesReusable) {
+					parsedOptionsCache.put(key, entries);
 				}
 			}
 			if (entries.size() > 0) {
-				setSettingEntries(entries);
+				setSettingEntries(new ArrayList<>(entries));
 			} else {
 				setSettingEntries(null);
 			}
@@ -518,6 +510,47 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		return false;
 	}
 
+	/**
+	 * Parse language settings entries out of the options of a line.
+	 */
+	private List<ICLanguageSettingEntry> parseEntries(List<String> options, URI mappedRootURI, URI buildDirURI) {
+		List<ICLanguageSettingEntry> entries = new ArrayList<>();
+		AbstractOptionParser[] optionParsers = getOptionParsers();
+		for (String option : options) {
+			for (AbstractOptionParser optionParser : optionParsers) {
+				try {
+					if (optionParser.parseOption(option)) {
+						ICLanguageSettingEntry entry = null;
+						if (isResolvingPaths && (optionParser.isForFile() || optionParser.isForFolder())) {
+							URI baseURI = mappedRootURI;
+							if (buildDirURI != null && !new Path(optionParser.parsedName).isAbsolute()) {
+								if (mappedRootURI != null) {
+									baseURI = efsProvider.append(mappedRootURI, buildDirURI.getPath());
+								} else {
+									baseURI = buildDirURI;
+								}
+							}
+							entry = createResolvedPathEntry(optionParser, optionParser.parsedName, 0, baseURI);
+						} else {
+							entry = optionParser.createEntry(optionParser.parsedName, optionParser.parsedValue, 0);
+						}
+
+						if (entry != null && !entries.contains(entry)) {
+							entries.add(entry);
+							break;
+						}
+					}
+				} catch (Throwable e) {
+					@SuppressWarnings("nls")
+					String msg = "Exception trying to parse option [" + option + "], class "
+							+ getClass().getSimpleName();
+					ManagedBuilderCorePlugin.log(new Status(IStatus.ERROR, ManagedBuilderCorePlugin.PLUGIN_ID, msg, e));
+				}
+			}
+		}
+		return entries;
+	}
+
 	/**
 	 * In case when absolute path is mapped to the source tree in a project
 	 * this function will try to figure mapping and return "mapped root",
@@ -1060,6 +1093,7 @@ public abstract class AbstractLanguageSettingsOutputScanner extends LanguageSett
 		if (entry != null) {
 			return entry;
 		}
+		isParsedEntriesReusable = false;
 		entry = resolvePathEntryInWorkspaceToNonexistingResource(optionParser, uri, flag, presentAsRelative);
 		if (entry != null) {
 			return entry;
@@ -20,10 +20,12 @@
 package org.eclipse.cdt.managedbuilder.makegen.gnu;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -78,6 +80,7 @@ import org.eclipse.cdt.managedbuilder.makegen.IManagedDependencyGenerator2;
 import org.eclipse.cdt.managedbuilder.makegen.IManagedDependencyGeneratorType;
 import org.eclipse.cdt.managedbuilder.makegen.IManagedDependencyInfo;
 import org.eclipse.cdt.managedbuilder.makegen.IManagedDependencyPreBuild;
+import org.eclipse.cdt.managedbuilder.makegen.internal.BuildVarPathList;
 import org.eclipse.cdt.utils.EFSExtensionManager;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -714,7 +717,7 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 		// NOTE WELL: For now, always recreate all of the fragment makefile.  This is necessary
 		//     in order to re-populate the buildVariable lists.  In the future, the list could
 		//     possibly segmented by subdir so that all fragments didn't need to be
-		//     regenerated
+		//     regenerated.  Only the fragments whose content changed are written.
 		for (IResource res : getSubdirList()) {
 			IContainer subDir = (IContainer) res;
 			try {
@@ -819,12 +822,34 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 			bytes = buffer.toString().getBytes();
 		}
 
+		// Leave an unchanged file alone, so that make does not see a new time stamp
+		if (bytes != null && hasContents(file, bytes)) {
+			// Its contents were compared on disk, the resource may not know about them yet
+			if (!file.isSynchronized(IResource.DEPTH_ZERO))
+				file.refreshLocal(IResource.DEPTH_ZERO, null);
+			return;
+		}
+
 		ByteArrayInputStream stream = new ByteArrayInputStream(bytes);
 		// use a platform operation to update the resource contents
 		boolean force = true;
 		file.setContents(stream, force, false, null); // Don't record history
 	}
 
+	private static boolean hasContents(IFile file, byte[] bytes) {
+		IPath location = file.getLocation();
+		if (location == null)
+			return false;
+		File localFile = location.toFile();
+		if (localFile.length() != bytes.length || !localFile.isFile())
+			return false;
+		try {
+			return Arrays.equals(Files.readAllBytes(localFile.toPath()), bytes);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.cdt.managedbuilder.makegen.IManagedBuilderMakefileGenerator#regenerateDependencies()
 	 */
@@ -1083,7 +1108,7 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 							handledInputExtensions.add(extensionName);
 							buildMacro = getSourceMacroName(extensionName).toString();
 							if (!buildSrcVars.containsKey(buildMacro)) {
-								buildSrcVars.put(buildMacro, new ArrayList<IPath>());
+								buildSrcVars.put(buildMacro, new BuildVarPathList());
 							}
 							// Add any generated dependency file macros
 							IManagedDependencyGeneratorType depType = buildTool
@@ -1099,7 +1124,7 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 												(calcType != IManagedDependencyGeneratorType.TYPE_PREBUILD_COMMANDS)));
 									}
 									if (!buildOutVars.containsKey(buildMacro)) {
-										buildOutVars.put(buildMacro, new ArrayList<IPath>());
+										buildOutVars.put(buildMacro, new BuildVarPathList());
 									}
 								}
 							}
@@ -1111,14 +1136,14 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 						for (IOutputType outputType : outTypes) {
 							buildMacro = outputType.getBuildVariable();
 							if (!buildOutVars.containsKey(buildMacro)) {
-								buildOutVars.put(buildMacro, new ArrayList<IPath>());
+								buildOutVars.put(buildMacro, new BuildVarPathList());
 							}
 						}
 					} else {
 						// For support of pre-CDT 3.0 integrations.
 						buildMacro = OBJS_MACRO;
 						if (!buildOutVars.containsKey(buildMacro)) {
-							buildOutVars.put(buildMacro, new ArrayList<IPath>());
+							buildOutVars.put(buildMacro, new BuildVarPathList());
 						}
 					}
 				}
@@ -2176,6 +2201,17 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 		return new Path(resource.getLocationURI().getPath());
 	}
 
+	/**
+	 * Returns <code>true</code> if the path is not in the list of a build variable yet.
+	 */
+	private static boolean isNewBuildVarPath(List<IPath> varList, IPath path) {
+		if (varList instanceof BuildVarPathList) {
+			return !((BuildVarPathList) varList).containsPath(path);
+		}
+		// Put in the map by other code
+		return !varList.contains(path);
+	}
+
 	/**
 	 * Adds the source file to the appropriate build variable
 	 *
@@ -2200,7 +2236,7 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 		//  Add the resource to the list of all resources associated with a variable.
 		//  Do not allow duplicates - there is no reason to and it can be 'bad' -
 		//  e.g., having the same object in the OBJS list can cause duplicate symbol errors from the linker
-		if ((varList != null) && !(varList.contains(sourceLocation))) {
+		if ((varList != null) && isNewBuildVarPath(varList, sourceLocation)) {
 			//  Since we don't know how these files will be used, we store them using a "location"
 			//  path rather than a relative path
 			varList.add(sourceLocation);
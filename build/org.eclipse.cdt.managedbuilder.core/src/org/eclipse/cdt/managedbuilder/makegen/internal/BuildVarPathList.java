@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.makegen.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * List of the paths of a build variable which also keeps its paths in a set, to find the
+ * duplicates quickly. The set follows the paths added by {@link #add(IPath)} and is rebuilt
+ * after any other change of the list, such as those made by the tool infos of the makefile
+ * generator.
+ */
+public class BuildVarPathList extends ArrayList<IPath> {
+	private static final long serialVersionUID = 1L;
+
+	private transient Set<IPath> pathSet;
+	// Value of modCount the set was last synchronized with, it changes with the size of the list
+	private transient int pathSetModCount;
+	// Set once an element was replaced, which does not change modCount
+	private transient boolean isReplaced;
+	// A view of the list could change it behind our back
+	private transient boolean hasViews;
+
+	/**
+	 * Returns <code>true</code> if the list contains the path.
+	 */
+	public boolean containsPath(IPath path) {
+		if (hasViews) {
+			return contains(path);
+		}
+		if (pathSet == null || pathSetModCount != modCount || isReplaced) {
+			pathSet = new HashSet<>(this);
+			pathSetModCount = modCount;
+			isReplaced = false;
+		}
+		return pathSet.contains(path);
+	}
+
+	@Override
+	public boolean add(IPath path) {
+		boolean isSynchronized = pathSet != null && pathSetModCount == modCount && !isReplaced;
+		super.add(path);
+		if (isSynchronized) {
+			pathSet.add(path);
+			pathSetModCount = modCount;
+		}
+		return true;
+	}
+
+	@Override
+	public IPath set(int index, IPath path) {
+		isReplaced = true;
+		return super.set(index, path);
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<IPath> operator) {
+		isReplaced = true;
+		super.replaceAll(operator);
+	}
+
+	@Override
+	public List<IPath> subList(int fromIndex, int toIndex) {
+		hasViews = true;
+		return super.subList(fromIndex, toIndex);
+	}
+}
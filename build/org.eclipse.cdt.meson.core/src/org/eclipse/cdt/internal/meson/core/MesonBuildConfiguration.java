@@ -10,14 +10,12 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.meson.core;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,8 +44,6 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
 
-import com.google.gson.Gson;
-
 public class MesonBuildConfiguration extends CBuildConfiguration {
 
 	private static final String TOOLCHAIN_FILE = "cdt.meson.toolchainfile"; //$NON-NLS-1$
@@ -331,26 +327,9 @@ public class MesonBuildConfiguration extends CBuildConfiguration {
 		IProject project = getProject();
 		Path commandsFile = getBuildDirectory().resolve("compile_commands.json"); //$NON-NLS-1$
 		if (Files.exists(commandsFile)) {
-			List<Job> jobsList = new ArrayList<>();
 			monitor.setTaskName(Messages.MesonBuildConfiguration_ProcCompJson);
-			try (FileReader reader = new FileReader(commandsFile.toFile())) {
-				Gson gson = new Gson();
-				CompileCommand[] commands = gson.fromJson(reader, CompileCommand[].class);
-				Map<String, CompileCommand> dedupedCmds = new HashMap<>();
-				for (CompileCommand command : commands) {
-					dedupedCmds.put(command.getFile(), command);
-				}
-				for (CompileCommand command : dedupedCmds.values()) {
-					processLine(command.getCommand(), jobsList);
-				}
-				for (Job j : jobsList) {
-					try {
-						j.join();
-					} catch (InterruptedException e) {
-						// ignore
-					}
-				}
-				shutdown();
+			try {
+				processCompileCommands(commandsFile, monitor);
 			} catch (IOException e) {
 				throw new CoreException(Activator.errorStatus(
 						String.format(Messages.MesonBuildConfiguration_ProcCompCmds, project.getName()), e));
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.build.tests;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the processing of the compile commands of a JSON compilation database.
+ */
+public class CBuildConfigurationTests extends TestCase {
+	private IProject project;
+	private TestToolChain toolChain;
+	private TestBuildConfiguration buildConfig;
+	private IFile a;
+	private IFile b;
+	private Path commandsFile;
+
+	public static Test suite() {
+		return new TestSuite(CBuildConfigurationTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		project = ResourceHelper.createCDTProjectWithConfig(getName());
+		a = ResourceHelper.createFile(project, "a.c");
+		b = ResourceHelper.createFile(project, "b.c");
+		commandsFile = project.getLocation().append("compile_commands.json").toFile().toPath();
+		toolChain = new TestToolChain();
+		buildConfig = new TestBuildConfiguration(project.getActiveBuildConfig(), toolChain);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		buildConfig.dispose();
+		ResourceHelper.cleanUp(getName());
+	}
+
+	private static String escape(String str) {
+		return str.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private String command(String options, IFile file) {
+		String compiler = project.getLocation().append("bin/gcc").toString();
+		return '\'' + compiler + "' " + options + " -c " + file.getLocation().toString();
+	}
+
+	private String entry(String options, IFile file) {
+		return "{\"directory\": \"" + escape(project.getLocation().toString()) + "\", \"command\": \""
+				+ escape(command(options, file)) + "\", \"file\": \"" + escape(file.getLocation().toString()) + "\"}";
+	}
+
+	private void writeCommands(String... entries) throws Exception {
+		Files.write(commandsFile, ("[" + String.join(",\n", entries) + "]").getBytes());
+	}
+
+	private Map<String, String> getDefinedSymbols(IFile file) {
+		IScannerInfo info = buildConfig.getScannerInformation(file);
+		assertNotNull(info);
+		return info.getDefinedSymbols();
+	}
+
+	public void testProcessCompileCommands() throws Exception {
+		writeCommands(entry("-DA", a), entry("-DB", b), entry("-DA2", a));
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+
+		// The last command of a file wins
+		assertTrue(getDefinedSymbols(a).containsKey("A2"));
+		assertFalse(getDefinedSymbols(a).containsKey("A"));
+		assertTrue(getDefinedSymbols(b).containsKey("B"));
+		assertEquals(2, toolChain.getScannerInfoCount());
+	}
+
+	public void testProcessCompileCommandsNotDatabase() throws Exception {
+		Files.write(commandsFile, "{\"file\": \"a.c\"}".getBytes());
+		try {
+			buildConfig.processCompileCommands(commandsFile);
+			fail("not a compilation database");
+		} catch (java.io.IOException e) {
+			// expected
+		}
+	}
+
+	public void testProcessCompileCommandsUnchanged() throws Exception {
+		writeCommands(entry("-DA", a), entry("-DB", b));
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+		assertEquals(2, toolChain.getScannerInfoCount());
+
+		assertFalse(buildConfig.processCompileCommands(commandsFile));
+		assertEquals(2, toolChain.getScannerInfoCount());
+
+		// Once it changed the file is processed again
+		writeCommands(entry("-DA", a), entry("-DB2", b));
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+		assertEquals(3, toolChain.getScannerInfoCount());
+		assertTrue(getDefinedSymbols(b).containsKey("B2"));
+	}
+
+	public void testProcessCompileCommandsRefresh() throws Exception {
+		writeCommands(entry("-DA", a), entry("-DB", b));
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+		assertEquals(2, toolChain.getScannerInfoCount());
+
+		// The toolchain asks for the scanner info to be calculated again
+		toolChain.setProperty("cdt.needScannerRefresh", "true");
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+		assertEquals(4, toolChain.getScannerInfoCount());
+	}
+
+	public void testProcessCompileCommandsDuplicates() throws Exception {
+		writeCommands(entry("-DA", a), entry("-DA", b));
+		assertTrue(buildConfig.processCompileCommands(commandsFile));
+
+		// The scanner info of the same options is calculated once for both files
+		assertEquals(1, toolChain.getScannerInfoCount());
+		assertTrue(getDefinedSymbols(a).containsKey("A"));
+		assertTrue(getDefinedSymbols(b).containsKey("A"));
+	}
+}
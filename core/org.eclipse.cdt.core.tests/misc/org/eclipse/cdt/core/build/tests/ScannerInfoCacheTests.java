@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.build.tests;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.cdt.core.build.ScannerInfoCache;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the scanner info cache of the build configurations, which stores each scanner
+ * info once for all the commands which lead to it.
+ */
+public class ScannerInfoCacheTests extends TestCase {
+	private IProject project;
+	private TestToolChain toolChain;
+	private TestBuildConfiguration buildConfig;
+	private IFile a;
+	private IFile b;
+	private IFile c;
+
+	public static Test suite() {
+		return new TestSuite(ScannerInfoCacheTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		project = ResourceHelper.createCDTProjectWithConfig(getName());
+		a = ResourceHelper.createFile(project, "a.c");
+		b = ResourceHelper.createFile(project, "b.c");
+		c = ResourceHelper.createFile(project, "c.c");
+		toolChain = new TestToolChain();
+		buildConfig = new TestBuildConfiguration(project.getActiveBuildConfig(), toolChain);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		buildConfig.dispose();
+		ResourceHelper.cleanUp(getName());
+	}
+
+	private static List<String> command(String... args) {
+		return Arrays.asList(args);
+	}
+
+	private static IExtendedScannerInfo info(String symbol) {
+		return new ExtendedScannerInfo(Collections.singletonMap(symbol, ""), new String[] { "/include" });
+	}
+
+	private static void assertInfo(String symbol, IScannerInfo info) {
+		assertNotNull(info);
+		assertEquals(Collections.singletonMap(symbol, ""), info.getDefinedSymbols());
+		assertEquals(Arrays.asList("/include"), Arrays.asList(info.getIncludePaths()));
+	}
+
+	private static String escape(String str) {
+		return str.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static String oldCommand(String options, String symbol, IFile... files) {
+		StringBuilder buf = new StringBuilder();
+		buf.append("{\"command\":[\"gcc\",\"").append(options).append("\"],");
+		buf.append("\"info\":{\"definedSymbols\":{\"").append(symbol).append("\":\"\"},");
+		buf.append("\"includePaths\":[\"/include\"]},");
+		buf.append("\"resourcePaths\":[");
+		for (int i = 0; i < files.length; i++) {
+			if (i > 0) {
+				buf.append(',');
+			}
+			buf.append('"').append(escape(files[i].getLocation().toOSString())).append('"');
+		}
+		return buf.append("]}").toString();
+	}
+
+	private static int countInfos(File cacheFile) throws Exception {
+		String contents = new String(Files.readAllBytes(cacheFile.toPath()));
+		return contents.split("\"definedSymbols\"", -1).length - 1;
+	}
+
+	public void testLoadOldFormat() throws Exception {
+		// Saved before the scanner info was shared, each command had its own copy
+		File cacheFile = TestBuildConfiguration.getScannerInfoCacheFile(project);
+		cacheFile.getParentFile().mkdirs();
+		String contents = "{\"commands\":[" + oldCommand("-DA", "A", a) + "," + oldCommand("-O2", "A", b) + ","
+				+ oldCommand("-DC", "C", c) + "]}";
+		Files.write(cacheFile.toPath(), contents.getBytes());
+
+		ScannerInfoCache cache = buildConfig.loadCache();
+		assertInfo("A", buildConfig.getScannerInformation(a));
+		assertInfo("A", buildConfig.getScannerInformation(b));
+		assertInfo("C", buildConfig.getScannerInformation(c));
+		assertInfo("A", cache.getScannerInfo(command("gcc", "-O2")));
+
+		// Saved in the new format, the scanner info of a and b once
+		buildConfig.saveCache();
+		assertEquals(2, countInfos(cacheFile));
+		assertFalse(new String(Files.readAllBytes(cacheFile.toPath())).contains("\"info\":"));
+
+		TestBuildConfiguration reloaded = new TestBuildConfiguration(project.getActiveBuildConfig(), toolChain);
+		try {
+			assertInfo("A", reloaded.getScannerInformation(a));
+			assertInfo("A", reloaded.getScannerInformation(b));
+			assertInfo("C", reloaded.getScannerInformation(c));
+		} finally {
+			reloaded.dispose();
+		}
+	}
+
+	public void testCompact() throws Exception {
+		ScannerInfoCache cache = buildConfig.loadCache();
+		cache.addScannerInfo(command("gcc", "-DA"), info("A"), a);
+		cache.addScannerInfo(command("gcc", "-DB"), info("B"), b);
+		// The first command is no longer used, nor is its scanner info
+		cache.addScannerInfo(command("gcc", "-DC"), info("C"), a);
+
+		buildConfig.saveCache();
+		assertEquals(2, countInfos(TestBuildConfiguration.getScannerInfoCacheFile(project)));
+
+		// The indexes of the scanner info moved
+		assertInfo("C", cache.getScannerInfo(a));
+		assertInfo("B", cache.getScannerInfo(b));
+		assertInfo("B", cache.getScannerInfo(command("gcc", "-DB")));
+		assertInfo("C", cache.getScannerInfo(command("gcc", "-DC")));
+
+		// The scanner info added from now on is still shared
+		cache.addScannerInfo(command("gcc", "-DB", "-O2"), info("B"), c);
+		assertInfo("B", cache.getScannerInfo(c));
+		buildConfig.saveCache();
+		assertEquals(2, countInfos(TestBuildConfiguration.getScannerInfoCacheFile(project)));
+
+		TestBuildConfiguration reloaded = new TestBuildConfiguration(project.getActiveBuildConfig(), toolChain);
+		try {
+			assertInfo("C", reloaded.getScannerInformation(a));
+			assertInfo("B", reloaded.getScannerInformation(b));
+			assertInfo("B", reloaded.getScannerInformation(c));
+		} finally {
+			reloaded.dispose();
+		}
+	}
+}
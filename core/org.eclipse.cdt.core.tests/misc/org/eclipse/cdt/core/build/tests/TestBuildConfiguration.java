@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.build.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.IConsole;
+import org.eclipse.cdt.core.build.CBuildConfiguration;
+import org.eclipse.cdt.core.build.IToolChain;
+import org.eclipse.cdt.core.build.ScannerInfoCache;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Build configuration which gives the tests access to its scanner info.
+ */
+public class TestBuildConfiguration extends CBuildConfiguration {
+	private static final String NAME = "test";
+
+	public TestBuildConfiguration(IBuildConfiguration config, IToolChain toolChain) {
+		super(config, NAME, toolChain);
+	}
+
+	/**
+	 * Returns the file the scanner info of the build configuration of the project is kept in.
+	 */
+	public static File getScannerInfoCacheFile(IProject project) {
+		return CCorePlugin.getDefault().getStateLocation().append("infoCache").append(project.getName())
+				.append(NAME + ".json").toFile();
+	}
+
+	@Override
+	public IProject[] build(int kind, Map<String, String> args, IConsole console, IProgressMonitor monitor) {
+		return new IProject[] { getProject() };
+	}
+
+	@Override
+	public void clean(IConsole console, IProgressMonitor monitor) {
+	}
+
+	public boolean processCompileCommands(Path commandsFile) throws IOException {
+		return processCompileCommands(commandsFile, new NullProgressMonitor());
+	}
+
+	public ScannerInfoCache loadCache() {
+		loadScannerInfoCache();
+		return getScannerInfoCache();
+	}
+
+	public void saveCache() {
+		saveScannerInfoCache();
+	}
+
+	/**
+	 * Forgets the settings and the scanner info of the build configuration.
+	 */
+	public void dispose() throws BackingStoreException {
+		CoreModel.getDefault().removeElementChangedListener(this);
+		getSettings().removeNode();
+		getScannerInfoCacheFile(getProject()).delete();
+	}
+}
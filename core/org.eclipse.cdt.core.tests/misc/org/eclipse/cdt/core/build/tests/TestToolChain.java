@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.build.tests;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.IConsole;
+import org.eclipse.cdt.core.build.ICBuildConfiguration;
+import org.eclipse.cdt.core.build.IToolChain;
+import org.eclipse.cdt.core.build.IToolChain2;
+import org.eclipse.cdt.core.build.IToolChainProvider;
+import org.eclipse.cdt.core.envvar.IEnvironmentVariable;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * Toolchain whose compiler is gcc and whose scanner info holds the macros defined
+ * on the command line. It counts how many times the scanner info is calculated.
+ */
+public class TestToolChain implements IToolChain, IToolChain2 {
+	private final Map<String, String> properties = new HashMap<>();
+	private final AtomicInteger scannerInfoCount = new AtomicInteger();
+
+	public int getScannerInfoCount() {
+		return scannerInfoCount.get();
+	}
+
+	@Override
+	public <T> T getAdapter(Class<T> adapter) {
+		return null;
+	}
+
+	@Override
+	public IToolChainProvider getProvider() {
+		return null;
+	}
+
+	@Override
+	public String getTypeId() {
+		return "org.eclipse.cdt.core.tests.toolchain";
+	}
+
+	@Override
+	public String getId() {
+		return "test";
+	}
+
+	@Override
+	public String getVersion() {
+		return "";
+	}
+
+	@Override
+	public String getName() {
+		return "Test Toolchain";
+	}
+
+	@Override
+	public String getProperty(String key) {
+		return properties.get(key);
+	}
+
+	@Override
+	public void setProperty(String key, String value) {
+		properties.put(key, value);
+	}
+
+	@Override
+	public IEnvironmentVariable[] getVariables() {
+		return new IEnvironmentVariable[0];
+	}
+
+	@Override
+	public IEnvironmentVariable getVariable(String name) {
+		return null;
+	}
+
+	@Override
+	public String[] getErrorParserIds() {
+		return new String[0];
+	}
+
+	@Override
+	public String getBinaryParserId() {
+		return CCorePlugin.DEFAULT_BINARY_PARSER_UNIQ_ID;
+	}
+
+	@Override
+	public IExtendedScannerInfo getScannerInfo(IBuildConfiguration buildConfig, List<String> command,
+			IExtendedScannerInfo baseScannerInfo, IResource resource, URI buildDirectoryURI) {
+		scannerInfoCount.incrementAndGet();
+		Map<String, String> symbols = new HashMap<>();
+		for (String arg : command) {
+			if (arg.startsWith("-D")) {
+				symbols.put(arg.substring(2), "");
+			}
+		}
+		return new ExtendedScannerInfo(symbols, new String[0]);
+	}
+
+	@Override
+	public Path getCommandPath(Path command) {
+		return command;
+	}
+
+	@Override
+	public String[] getCompileCommands() {
+		return new String[] { "gcc" };
+	}
+
+	@Override
+	public IResource[] getResourcesFromCommand(List<String> command, URI buildDirectoryURI) {
+		List<IResource> resources = new ArrayList<>();
+		for (String arg : command.subList(1, command.size())) {
+			if (!arg.startsWith("-")) {
+				for (IFile file : ResourcesPlugin.getWorkspace().getRoot()
+						.findFilesForLocationURI(new File(arg).toURI())) {
+					resources.add(file);
+				}
+			}
+		}
+		return resources.toArray(new IResource[resources.size()]);
+	}
+
+	@Override
+	public List<String> stripCommand(List<String> command, IResource[] resources) {
+		List<String> stripped = new ArrayList<>();
+		for (String arg : command) {
+			if (stripped.isEmpty() || arg.startsWith("-")) {
+				stripped.add(arg);
+			}
+		}
+		return stripped;
+	}
+
+	@Override
+	public Process startBuildProcess(ICBuildConfiguration config, List<String> command, String buildDirectory,
+			IEnvironmentVariable[] envVars, IConsole console, IProgressMonitor monitor) {
+		return null;
+	}
+}
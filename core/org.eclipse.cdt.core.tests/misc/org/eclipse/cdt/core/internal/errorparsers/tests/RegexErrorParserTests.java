@@ -256,6 +256,33 @@ public class RegexErrorParserTests extends TestCase {
 		}
 	}
 
+	/**
+	 * Check that the lines are matched the same whether or not they contain
+	 * the characters outside of the groups of the patterns.
+	 *
+	 * @throws Exception...
+	 */
+	public void testRegexErrorPatternRequiredCharacters() throws Exception {
+		final int ERR = IMarkerGenerator.SEVERITY_ERROR_RESOURCE;
+		String[][] patternsAndLines = {
+				// pattern, matching line, other line
+				{ ".*make.*\\[.*\\] Error [-]{0,1}\\d*.*", "make[1]: *** [all] Error 2", "make[1]: Error 2" },
+				{ "(.*):(\\d+):(\\d+:)? ?(?:fatal )?[Ee]rror: (.*)", "a.c:1:2: fatal error: x", "a.c:1:2: warning: x" },
+				{ "ab?c+d*e", "acce", "abdde" }, { "x\\.y\\s*z", "x.y  z", "x y z" },
+				{ "(?i)error: .*", "ERROR: x", "warning: x" }, { "foo|bar", "bar", "baz" },
+				{ "(foo|bar) baz", "bar baz", "bar bat" }, { "a{2}b", "aab", "ab" },
+				{ "[^:\\]]+: (.*)", "file: message", "file:message" }, };
+
+		errorList.clear();
+		ErrorParserManager epManager = new ErrorParserManager(fProject, markerGenerator, new String[0]);
+		for (String[] patternAndLines : patternsAndLines) {
+			RegexErrorPattern pattern = new RegexErrorPattern(patternAndLines[0], null, null, null, null, ERR, true);
+			assertTrue(patternAndLines[0], pattern.processLine(patternAndLines[1], epManager));
+			assertFalse(patternAndLines[0], pattern.processLine(patternAndLines[2], epManager));
+		}
+		assertEquals(patternsAndLines.length, errorList.size());
+	}
+
 	/**
 	 * Checks if compatibility with CCorePlugin methods from CDT 6.0 was not violated.
 	 *
@@ -14,12 +14,16 @@
 
 package org.eclipse.cdt.core.language.settings.providers;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.settings.model.CIncludePathEntry;
+import org.eclipse.cdt.core.settings.model.CMacroEntry;
 import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICLanguageSettingEntry;
 import org.eclipse.cdt.core.settings.model.ICProjectDescription;
@@ -28,6 +32,7 @@ import org.eclipse.cdt.core.testplugin.CModelMock;
 import org.eclipse.cdt.core.testplugin.ResourceHelper;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
 import org.eclipse.cdt.internal.core.XmlUtil;
+import org.eclipse.cdt.internal.core.language.settings.providers.LanguageSettingsBinaryStorage;
 import org.eclipse.cdt.internal.core.language.settings.providers.LanguageSettingsProvidersSerializer;
 import org.eclipse.cdt.internal.core.settings.model.CProjectDescriptionManager;
 import org.eclipse.core.resources.IFile;
@@ -53,6 +58,7 @@ public class LanguageSettingsPersistenceProjectTests extends BaseTestCase {
 	// Constants from LanguageSettingsProvidersSerializer
 	public static final String LANGUAGE_SETTINGS_PROJECT_XML = ".settings/language.settings.xml";
 	public static final String LANGUAGE_SETTINGS_WORKSPACE_XML = "language.settings.xml";
+	public static final String LANGUAGE_SETTINGS_WORKSPACE_BINARY = "language.settings.bin";
 
 	// Arbitrary sample parameters used by the test
 	private static final String CFG_ID = "test.configuration.id.0";
@@ -1329,6 +1335,130 @@ public class LanguageSettingsPersistenceProjectTests extends BaseTestCase {
 		}
 	}
 
+	/**
+	 * Test the binary copy of the workspace area storage.
+	 */
+	public void testProjectPersistence_BinaryWorkspaceStorage() throws Exception {
+		List<ICLanguageSettingEntry> entries = new ArrayList<>();
+		entries.add(new CIncludePathEntry("path0", 0));
+		entries.add(new CMacroEntry("MACRO0", "value0", 0));
+
+		// create a provider keeping its entries in the workspace area
+		MockProjectDescription mockPrjDescription = new MockProjectDescription(
+				new MockConfigurationDescription(CFG_ID));
+		ICConfigurationDescription cfgDescription = mockPrjDescription.getConfigurations()[0];
+		LanguageSettingsSerializableProvider serializableProvider = new LanguageSettingsSerializableProvider(
+				PROVIDER_0, PROVIDER_NAME_0);
+		serializableProvider.setSettingEntries(null, null, null, entries);
+		LanguageSettingsManager.setStoringEntriesInProjectArea(serializableProvider, false);
+		List<ILanguageSettingsProvider> providers = new ArrayList<>();
+		providers.add(serializableProvider);
+		((ILanguageSettingsProvidersKeeper) cfgDescription).setLanguageSettingProviders(providers);
+
+		// serialize language settings to the DOM and write the workspace storage
+		Document prjDoc = XmlUtil.newDocument();
+		Element prjStorageElement = XmlUtil.appendElement(prjDoc, ELEM_TEST);
+		Document wspDoc = XmlUtil.newDocument();
+		Element wspStorageElement = XmlUtil.appendElement(wspDoc, ELEM_TEST);
+		LanguageSettingsProvidersSerializer.serializeLanguageSettingsInternal(prjStorageElement, wspStorageElement,
+				mockPrjDescription);
+
+		File xmlFile = new File(getStoreLocationInWorkspaceArea(getName() + ".xml"));
+		File binaryFile = new File(getStoreLocationInWorkspaceArea(getName() + ".bin"));
+		try {
+			XmlUtil.serializeXml(wspDoc, xmlFile.toURI(), "\n");
+			LanguageSettingsBinaryStorage.store(wspStorageElement, binaryFile, xmlFile);
+
+			// load the entries from the binary copy
+			LanguageSettingsBinaryStorage binaryStorage = LanguageSettingsBinaryStorage.load(binaryFile, xmlFile);
+			assertNotNull(binaryStorage);
+			assertNull(binaryStorage.getProviderElement(CFG_ID, PROVIDER_1));
+			Element providerElement = binaryStorage.getProviderElement(CFG_ID, PROVIDER_0);
+			assertNotNull(providerElement);
+			LanguageSettingsSerializableProvider loadedProvider = new LanguageSettingsSerializableProvider(
+					PROVIDER_0, PROVIDER_NAME_0);
+			loadedProvider.loadEntries(providerElement);
+			assertEquals(entries, loadedProvider.getSettingEntries(null, null, null));
+
+			// the binary copy is ignored once the XML changes
+			XmlUtil.serializeXml(prjDoc, xmlFile.toURI(), "\n");
+			assertNull(LanguageSettingsBinaryStorage.load(binaryFile, xmlFile));
+		} finally {
+			xmlFile.delete();
+			binaryFile.delete();
+		}
+	}
+
+	/**
+	 * Test that the entries are loaded from the XML store when the binary copy is damaged.
+	 */
+	public void testProjectPersistence_DamagedBinaryWorkspaceStorage() throws Exception {
+		IProject project = ResourceHelper.createCDTProjectWithConfig(this.getName());
+
+		List<ICLanguageSettingEntry> entries = new ArrayList<>();
+		entries.add(new CIncludePathEntry("path0", 0));
+
+		File xmlFile = new File(
+				getStoreLocationInWorkspaceArea(project.getName() + '.' + LANGUAGE_SETTINGS_WORKSPACE_XML));
+		File binaryFile = new File(
+				getStoreLocationInWorkspaceArea(project.getName() + '.' + LANGUAGE_SETTINGS_WORKSPACE_BINARY));
+		String cfgId;
+		{
+			// create a provider keeping its entries in the workspace area
+			ICProjectDescription prjDescriptionWritable = CProjectDescriptionManager.getInstance()
+					.getProjectDescription(project, true);
+			ICConfigurationDescription cfgDescriptionWritable = prjDescriptionWritable.getConfigurations()[0];
+			cfgId = cfgDescriptionWritable.getId();
+			LanguageSettingsSerializableProvider mockProvider = new LanguageSettingsSerializableProvider(PROVIDER_0,
+					PROVIDER_NAME_0);
+			LanguageSettingsManager.setStoringEntriesInProjectArea(mockProvider, false);
+			mockProvider.setSettingEntries(cfgDescriptionWritable, null, null, entries);
+			List<ILanguageSettingsProvider> providers = new ArrayList<>();
+			providers.add(mockProvider);
+			((ILanguageSettingsProvidersKeeper) cfgDescriptionWritable).setLanguageSettingProviders(providers);
+
+			// write to project description
+			CProjectDescriptionManager.getInstance().setProjectDescription(project, prjDescriptionWritable);
+			assertTrue(xmlFile.exists());
+			assertTrue(binaryFile.exists());
+			project.close(null);
+		}
+		{
+			// damage the entries but keep the header matching the XML store
+			try (RandomAccessFile file = new RandomAccessFile(binaryFile, "rw")) {
+				file.seek(file.length() - 4);
+				file.writeInt(Integer.MAX_VALUE);
+			}
+			LanguageSettingsBinaryStorage binaryStorage = LanguageSettingsBinaryStorage.load(binaryFile, xmlFile);
+			assertNotNull(binaryStorage);
+			try {
+				binaryStorage.getProviderElement(cfgId, PROVIDER_0);
+				fail("damaged entries were decoded");
+			} catch (IOException e) {
+				// expected
+			}
+		}
+		{
+			// Remove project from internal cache
+			CProjectDescriptionManager.getInstance().projectClosedRemove(project);
+			// open project and check that the entries are not lost
+			project.open(null);
+			ICConfigurationDescription cfgDescription = getFirstConfigurationDescription(project);
+			List<ILanguageSettingsProvider> providers = ((ILanguageSettingsProvidersKeeper) cfgDescription)
+					.getLanguageSettingProviders();
+			assertEquals(1, providers.size());
+			ILanguageSettingsProvider loadedProvider = providers.get(0);
+			assertEquals(PROVIDER_0, loadedProvider.getId());
+			assertEquals(entries, loadedProvider.getSettingEntries(cfgDescription, null, null));
+
+			// the damaged binary copy was deleted
+			LanguageSettingsBinaryStorage binaryStorage = LanguageSettingsBinaryStorage.load(binaryFile, xmlFile);
+			if (binaryStorage != null) {
+				assertNotNull(binaryStorage.getProviderElement(cfgId, PROVIDER_0));
+			}
+		}
+	}
+
 	/**
 	 * TODO: refactor with ErrorParserManager
 	 *
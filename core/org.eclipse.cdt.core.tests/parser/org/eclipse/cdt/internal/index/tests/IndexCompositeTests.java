@@ -29,11 +29,13 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPMethod;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPNamespace;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexManager;
+import org.eclipse.cdt.core.index.IIndexName;
 import org.eclipse.cdt.core.index.IndexFilter;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.testplugin.CTestPlugin;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.index.CIndex;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -434,6 +436,86 @@ public class IndexCompositeTests extends BaseTestCase {
 		}
 	}
 
+	// class C1 {public: int i;};
+	// namespace X { class C2 {}; }
+	// void foo(C1 c) {}
+
+	// #include "h3.h"
+	// class B1 {};
+	// namespace X { class B2 {}; }
+	// C1 c1;
+	// void foo(B1 c) {}
+
+	// #include "h2.h"
+	// class A1 {};
+	// namespace X { class A2 {}; B2 b; C2 c; }
+	// C1 a1;
+	// void foo(X::B2 c) {}
+	public void testParallelQueriesMatchSequentialQueries() throws Exception {
+		CharSequence[] contents = getContentsForTest(3);
+		List<ICProject> projects = new ArrayList<>();
+
+		try {
+			ProjectBuilder pb = new ProjectBuilder("projC_" + getName(), true);
+			pb.addFile("h3.h", contents[0]);
+			ICProject cprojC = createAndAddProject(pb);
+			projects.add(cprojC);
+
+			pb = new ProjectBuilder("projB_" + getName(), true);
+			pb.addFile("h2.h", contents[1]).addDependency(cprojC.getProject());
+			ICProject cprojB = createAndAddProject(pb);
+			projects.add(cprojB);
+
+			pb = new ProjectBuilder("projA_" + getName(), true);
+			pb.addFile("h1.h", contents[2]).addDependency(cprojB.getProject());
+			ICProject cprojA = createAndAddProject(pb);
+			projects.add(cprojA);
+
+			setIndex(cprojA, BOTH);
+			assertTrue(((CIndex) index).getFragments().length >= 3);
+
+			List<String> parallel = describeQueries();
+			CIndex.sPARALLEL_QUERIES = false;
+			List<String> sequential;
+			try {
+				sequential = describeQueries();
+			} finally {
+				CIndex.sPARALLEL_QUERIES = true;
+			}
+			assertEquals(sequential, parallel);
+		} finally {
+			for (ICProject project : projects) {
+				project.getProject().delete(true, true, new NullProgressMonitor());
+			}
+		}
+	}
+
+	/**
+	 * Runs binding and name queries which span all the fragments of the index and describes
+	 * their results, in order.
+	 */
+	private List<String> describeQueries() throws CoreException {
+		List<String> result = new ArrayList<>();
+		for (IBinding binding : index.findBindings(Pattern.compile(".*"), false, FILTER, npm())) {
+			result.add("binding " + describe(binding));
+		}
+		for (IBinding binding : index.findBindings("foo".toCharArray(), FILTER, npm())) {
+			result.add("foo " + describe(binding));
+		}
+		IBinding[] c1 = index.findBindings("C1".toCharArray(), FILTER, npm());
+		assertEquals(1, c1.length);
+		for (IIndexName name : index.findNames(c1[0], IIndex.FIND_ALL_OCCURRENCES)) {
+			result.add("name " + name.getFile().getLocation().getURI() + "@" + name.getNodeOffset());
+		}
+		return result;
+	}
+
+	private static String describe(IBinding binding) {
+		IBinding owner = binding.getOwner();
+		return (owner != null ? owner.getName() + "::" : "") + binding.getName() + " "
+				+ binding.getClass().getSimpleName();
+	}
+
 	/**
 	 * Asserts binding counts, and returns the index tested against
 	 * @param global the number of bindings expected to be found at global scope
@@ -15,6 +15,9 @@
 package org.eclipse.cdt.internal.index.tests;
 
 import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -25,6 +28,7 @@ import org.eclipse.cdt.core.dom.ast.IVariable;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexBinding;
 import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
 import org.eclipse.cdt.core.index.IIndexInclude;
 import org.eclipse.cdt.core.index.IndexFilter;
 import org.eclipse.cdt.core.index.IndexLocationFactory;
@@ -34,6 +38,8 @@ import org.eclipse.cdt.core.model.IPathEntry;
 import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.TestScannerProvider;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.CCoreInternals;
+import org.eclipse.cdt.internal.core.index.IndexIncludeGraph;
 import org.eclipse.cdt.internal.core.pdom.indexer.IndexerPreferences;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -247,6 +253,55 @@ public class IndexIncludeTest extends IndexTestBase {
 		assertEquals(isSystem, include.isSystemInclude());
 	}
 
+	public void testIncludeGraph() throws Exception {
+		TestScannerProvider.sIncludes = new String[] { fProject.getProject().getLocation().toOSString() };
+		IFile base = TestSourceReader.createFile(fProject.getProject(), "base20261019.h", "int base20261019;\n");
+		IFile middle = TestSourceReader.createFile(fProject.getProject(), "middle20261019.h",
+				"#include \"base20261019.h\"\n");
+		IFile source1 = TestSourceReader.createFile(fProject.getProject(), "source20261019_1.cpp",
+				"#include \"middle20261019.h\"\n");
+		IFile source2 = TestSourceReader.createFile(fProject.getProject(), "source20261019_2.cpp",
+				"#include \"base20261019.h\"\n");
+		CCorePlugin.getIndexManager().reindex(fProject);
+		waitForIndexer();
+
+		IndexIncludeGraph graph = CCoreInternals.getPDOMManager().getIncludeGraph(fIndex);
+		IIndexFileLocation baseLocation = IndexLocationFactory.getWorkspaceIFL(base);
+		IIndexFileLocation middleLocation = IndexLocationFactory.getWorkspaceIFL(middle);
+		IIndexFileLocation source1Location = IndexLocationFactory.getWorkspaceIFL(source1);
+		IIndexFileLocation source2Location = IndexLocationFactory.getWorkspaceIFL(source2);
+		fIndex.acquireReadLock();
+		try {
+			assertEquals(set(middleLocation, source2Location), set(graph.getIncluders(fIndex, baseLocation)));
+			assertEquals(set(middleLocation, source1Location, source2Location),
+					set(graph.getTransitiveIncluders(fIndex, baseLocation)));
+			assertEquals(set(source1Location, source2Location),
+					set(graph.getAffectedTranslationUnits(fIndex, baseLocation)));
+			assertEquals(1, graph.getIncludeDepth(fIndex, baseLocation));
+			assertEquals(0, graph.getIncludeDepth(fIndex, source1Location));
+		} finally {
+			fIndex.releaseReadLock();
+		}
+
+		// The graph follows the changes of the index.
+		Thread.sleep(1000);
+		TestSourceReader.createFile(fProject.getProject(), "source20261019_2.cpp", "int source20261019_2;\n");
+		Thread.sleep(1000);
+		waitForIndexer();
+		fIndex.acquireReadLock();
+		try {
+			assertEquals(set(middleLocation), set(graph.getIncluders(fIndex, baseLocation)));
+			assertEquals(set(source1Location), set(graph.getAffectedTranslationUnits(fIndex, baseLocation)));
+			assertEquals(2, graph.getIncludeDepth(fIndex, baseLocation));
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	private static Set<IIndexFileLocation> set(IIndexFileLocation... locations) {
+		return new HashSet<>(Arrays.asList(locations));
+	}
+
 	public void testUpdateOfIncluded() throws Exception {
 		String content1 = "int CONTEXT_20070404(x);\n";
 		String content2 = "int CONTEXT_20070404(y);\n";
@@ -14,11 +14,17 @@
 package org.eclipse.cdt.internal.index.tests;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPMethod;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexBinding;
 import org.eclipse.cdt.core.index.IIndexFile;
@@ -30,7 +36,10 @@ import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.CTestPlugin;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ClassTypeHelper;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
+import org.eclipse.cdt.internal.core.index.IIndexFragment;
+import org.eclipse.cdt.internal.core.index.IndexCallGraph;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -328,6 +337,100 @@ public class IndexNamesTests extends BaseTestCase {
 		}
 	}
 
+	//	class X {
+	//	public:
+	//		virtual void vm() {}
+	//	};
+	//	class Y : public X {
+	//	public:
+	//		virtual void vm() {}
+	//	};
+	//	void f() {}
+	//	void caller(X* x) {
+	//		f();
+	//		x->vm();
+	//		f();
+	//	}
+	public void testCallGraph() throws Exception {
+		waitForIndexer();
+		String content = getComment();
+		IFile file = createFile(getProject().getProject(), "testCallGraph.cpp", content);
+		waitUntilFileIsIndexed(file, 4000);
+
+		fIndex.acquireReadLock();
+		try {
+			IndexCallGraph callGraph = new IndexCallGraph(fIndex);
+			IIndexBinding[] fBS = fIndex.findBindings(getPattern("f"), true, IndexFilter.ALL, npm());
+			assertLength(1, fBS);
+			Map<IIndexName, List<IIndexName>> callers = callGraph.findCallers(fBS[0]);
+			assertEquals(1, callers.size());
+			Map.Entry<IIndexName, List<IIndexName>> caller = callers.entrySet().iterator().next();
+			assertName("caller", caller.getKey());
+			assertEquals(2, caller.getValue().size());
+
+			IIndexBinding[] yvmBS = fIndex.findBindings(getPattern("Y::vm"), true, IndexFilter.ALL, npm());
+			assertLength(1, yvmBS);
+			callers = callGraph.findCallers(yvmBS[0]);
+			assertEquals(1, callers.size());
+			assertName("caller", callers.keySet().iterator().next());
+
+			Map<IIndexBinding, List<IIndexName>> callees = callGraph.findCallees(caller.getKey());
+			assertEquals(3, callees.size());
+			Set<String> calleeNames = new HashSet<>();
+			for (IIndexBinding callee : callees.keySet()) {
+				calleeNames.add(CPPVisitor.getQualifiedName(callee)[0]);
+			}
+			assertTrue(calleeNames.containsAll(Arrays.asList("f", "X", "Y")));
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	//	class B {
+	//	public:
+	//		virtual void vm() {}
+	//	};
+	//	class D1 : public B {
+	//	public:
+	//		virtual void vm() {}
+	//	};
+	//	class D2 : public B {};
+	//	class DD : public D1 {
+	//	public:
+	//		virtual void vm() {}
+	//	};
+	//	void test(B* b) {
+	//		B local;
+	//		b->vm();
+	//	}
+	public void testBaseSpecifiers() throws Exception {
+		waitForIndexer();
+		String content = getComment();
+		IFile file = createFile(getProject().getProject(), "testBaseSpecifiers.cpp", content);
+		waitUntilFileIsIndexed(file, 4000);
+
+		fIndex.acquireReadLock();
+		try {
+			IIndexBinding[] bBS = fIndex.findBindings(getPattern("B"), true, IndexFilter.ALL, npm());
+			assertLength(1, bBS);
+			IIndexName[] names = fIndex.findNames(bBS[0], IIndexFragment.FIND_BASE_SPECIFIERS);
+			assertLength(2, names);
+			Set<String> subClasses = new HashSet<>();
+			for (IIndexName name : names) {
+				assertTrue(name.isBaseSpecifier());
+				subClasses.add(new String(name.getEnclosingDefinition().toCharArray()));
+			}
+			assertEquals(new HashSet<>(Arrays.asList("D1", "D2")), subClasses);
+
+			IIndexBinding[] vmBS = fIndex.findBindings(getPattern("B::vm"), true, IndexFilter.ALL, npm());
+			assertLength(1, vmBS);
+			ICPPMethod[] overriders = ClassTypeHelper.findOverriders(fIndex, (ICPPMethod) vmBS[0]);
+			assertLength(2, overriders);
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
 	//	int _i, ri, wi, rwi;
 	//  int* rp; int* wp; int* rwp;
 	//  const int* cip= &ri;
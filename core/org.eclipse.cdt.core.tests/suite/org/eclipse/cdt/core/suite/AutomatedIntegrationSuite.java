@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.core.suite;
 
+import org.eclipse.cdt.core.build.tests.CBuildConfigurationTests;
+import org.eclipse.cdt.core.build.tests.ScannerInfoCacheTests;
 import org.eclipse.cdt.core.cdescriptor.tests.CDescriptorOldTests;
 import org.eclipse.cdt.core.cdescriptor.tests.CDescriptorTests;
 import org.eclipse.cdt.core.envvar.IEnvironmentVariableManagerTests;
@@ -97,6 +99,8 @@ public class AutomatedIntegrationSuite extends TestSuite {
 		suite.addTest(UNCPathConverterTest.suite());
 		suite.addTest(TestScopeOfBuildConfigResourceChangesPreference.suite());
 		suite.addTest(ElfParserTest.suite());
+		suite.addTest(CBuildConfigurationTests.suite());
+		suite.addTest(ScannerInfoCacheTests.suite());
 
 		// Add in PDOM tests
 		suite.addTest(PDOMTests.suite());
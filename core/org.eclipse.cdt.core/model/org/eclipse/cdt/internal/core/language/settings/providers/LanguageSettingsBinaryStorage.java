@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.language.settings.providers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.cdt.internal.core.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Binary copy of the language settings entries kept in the workspace area for a project,
+ * written next to the XML store so that the XML does not need to be parsed when the
+ * project is opened.
+ * <p>
+ * The XML store remains the reference: the binary copy records the time stamp and size
+ * of the XML it was made from and is ignored once they differ.  All the strings (element
+ * and attribute names, include paths, macros) are stored once in a pool.  The elements of
+ * each provider are indexed by configuration and provider ID and only decoded when that
+ * provider loads its entries, the providers which are no longer used are never decoded.
+ * <p>
+ * The index stops at the provider: a provider still receives all its entries as one DOM
+ * element when the project is loaded, the entries are not decoded per resource and language
+ * on the first query. If a provider fails to decode, the binary copy is deleted and the
+ * caller has to read the XML store.
+ */
+public class LanguageSettingsBinaryStorage {
+	private static final int FORMAT_VERSION = 1;
+	private static final byte NODE_ELEMENT = 0;
+	private static final byte NODE_TEXT = 1;
+
+	private static final String ELEM_CONFIGURATION = LanguageSettingsProvidersSerializer.ELEM_CONFIGURATION;
+	private static final String ELEM_EXTENSION = LanguageSettingsProvidersSerializer.ELEM_EXTENSION;
+	private static final String ELEM_PROVIDER = LanguageSettingsProvidersSerializer.ELEM_PROVIDER;
+	private static final String ATTR_ID = LanguageSettingsProvidersSerializer.ATTR_ID;
+
+	private final String[] fStrings;
+	private final byte[] fData;
+	// Offset and length of the elements of each provider in fData, by configuration and provider ID
+	private final Map<String, int[]> fProviders;
+	private Document fDocument;
+
+	private LanguageSettingsBinaryStorage(String[] strings, byte[] data, Map<String, int[]> providers) {
+		fStrings = strings;
+		fData = data;
+		fProviders = providers;
+	}
+
+	/**
+	 * Returns the element of the given provider of the configuration, or {@code null} if
+	 * this storage has no entries for that provider.
+	 *
+	 * @throws IOException if the entries of the provider cannot be decoded, the binary
+	 *    copy is then damaged and the XML store has to be loaded instead.
+	 */
+	public Element getProviderElement(String cfgId, String providerId) throws IOException {
+		int[] location = fProviders.get(getKey(cfgId, providerId));
+		if (location == null) {
+			return null;
+		}
+		try {
+			if (fDocument == null) {
+				fDocument = XmlUtil.newDocument();
+			}
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(fData, location[0], location[1]));
+			return (Element) readNode(in, fDocument);
+		} catch (ParserConfigurationException | RuntimeException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Reads the binary copy of the XML store.
+	 *
+	 * @param file - the binary file.
+	 * @param xmlFile - the XML store the file was made from.
+	 * @return the storage, or {@code null} if there is no binary copy or if it is out of date.
+	 */
+	public static LanguageSettingsBinaryStorage load(File file, File xmlFile) {
+		if (!file.isFile() || !xmlFile.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+			if (in.readInt() != FORMAT_VERSION || in.readLong() != xmlFile.lastModified()
+					|| in.readLong() != xmlFile.length()) {
+				return null;
+			}
+
+			String[] strings = new String[readLength(in)];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = readString(in);
+			}
+
+			int providerCount = in.readInt();
+			Map<String, int[]> providers = new HashMap<>(providerCount * 2);
+			for (int i = 0; i < providerCount; i++) {
+				String cfgId = strings[in.readInt()];
+				String providerId = strings[in.readInt()];
+				providers.put(getKey(cfgId, providerId), new int[] { in.readInt(), in.readInt() });
+			}
+
+			byte[] data = new byte[readLength(in)];
+			in.readFully(data);
+			return new LanguageSettingsBinaryStorage(strings, data, providers);
+		} catch (IOException | RuntimeException e) {
+			// Written by another version or damaged, the XML store is loaded instead
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the binary copy of the XML store of the workspace area.
+	 *
+	 * @param projectElement - the {@code <project>} element of the XML store.
+	 * @param file - the binary file.
+	 * @param xmlFile - the XML store, already written.
+	 */
+	public static void store(Element projectElement, File file, File xmlFile) throws IOException {
+		Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+		List<int[]> providerKeys = new ArrayList<>();
+		List<int[]> locations = new ArrayList<>();
+		ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(dataBytes);
+
+		for (Element cfgElement : getChildElements(projectElement, ELEM_CONFIGURATION)) {
+			String cfgId = XmlUtil.determineAttributeValue(cfgElement, ATTR_ID);
+			for (Element extElement : getChildElements(cfgElement, ELEM_EXTENSION)) {
+				for (Element providerElement : getChildElements(extElement, ELEM_PROVIDER)) {
+					String providerId = XmlUtil.determineAttributeValue(providerElement, ATTR_ID);
+					providerKeys.add(new int[] { getIndex(cfgId, stringIndexes), getIndex(providerId, stringIndexes) });
+					int offset = data.size();
+					writeNode(data, providerElement, stringIndexes);
+					locations.add(new int[] { offset, data.size() - offset });
+				}
+			}
+		}
+		data.flush();
+
+		File tmpFile = null;
+		try {
+			// Written aside then moved so that it is never read partially written
+			tmpFile = File.createTempFile(file.getName(), null, file.getParentFile());
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeLong(xmlFile.lastModified());
+				out.writeLong(xmlFile.length());
+
+				out.writeInt(stringIndexes.size());
+				for (String str : stringIndexes.keySet()) {
+					writeString(out, str);
+				}
+
+				out.writeInt(locations.size());
+				for (int i = 0; i < locations.size(); i++) {
+					out.writeInt(providerKeys.get(i)[0]);
+					out.writeInt(providerKeys.get(i)[1]);
+					out.writeInt(locations.get(i)[0]);
+					out.writeInt(locations.get(i)[1]);
+				}
+
+				out.writeInt(dataBytes.size());
+				dataBytes.writeTo(out);
+			}
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			if (tmpFile != null) {
+				tmpFile.delete();
+			}
+		}
+	}
+
+	private static String getKey(String cfgId, String providerId) {
+		return cfgId + '\n' + providerId;
+	}
+
+	private static List<Element> getChildElements(Element parent, String name) {
+		List<Element> elements = new ArrayList<>();
+		NodeList nodes = parent.getChildNodes();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Node node = nodes.item(i);
+			if (node instanceof Element && node.getNodeName().equals(name)) {
+				elements.add((Element) node);
+			}
+		}
+		return elements;
+	}
+
+	private static int getIndex(String str, Map<String, Integer> stringIndexes) {
+		if (str == null) {
+			str = ""; //$NON-NLS-1$
+		}
+		Integer index = stringIndexes.get(str);
+		if (index == null) {
+			index = stringIndexes.size();
+			stringIndexes.put(str, index);
+		}
+		return index;
+	}
+
+	private static void writeNode(DataOutputStream out, Element element, Map<String, Integer> stringIndexes)
+			throws IOException {
+		out.writeByte(NODE_ELEMENT);
+		out.writeInt(getIndex(element.getNodeName(), stringIndexes));
+
+		NamedNodeMap attributes = element.getAttributes();
+		out.writeInt(attributes.getLength());
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Node attribute = attributes.item(i);
+			out.writeInt(getIndex(attribute.getNodeName(), stringIndexes));
+			out.writeInt(getIndex(attribute.getNodeValue(), stringIndexes));
+		}
+
+		List<Node> children = new ArrayList<>();
+		NodeList nodes = element.getChildNodes();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Node node = nodes.item(i);
+			// The indentation added by the XML formatting is of no use
+			if (node instanceof Element
+					|| (node.getNodeType() == Node.TEXT_NODE && !node.getNodeValue().trim().isEmpty())) {
+				children.add(node);
+			}
+		}
+		out.writeInt(children.size());
+		for (Node child : children) {
+			if (child instanceof Element) {
+				writeNode(out, (Element) child, stringIndexes);
+			} else {
+				out.writeByte(NODE_TEXT);
+				out.writeInt(getIndex(child.getNodeValue(), stringIndexes));
+			}
+		}
+	}
+
+	private Node readNode(DataInputStream in, Document doc) throws IOException {
+		byte kind = in.readByte();
+		if (kind == NODE_TEXT) {
+			return doc.createTextNode(fStrings[in.readInt()]);
+		}
+		if (kind != NODE_ELEMENT) {
+			throw new IOException("Unexpected node kind " + kind); //$NON-NLS-1$
+		}
+
+		Element element = doc.createElement(fStrings[in.readInt()]);
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			element.setAttribute(fStrings[in.readInt()], fStrings[in.readInt()]);
+		}
+		int childCount = in.readInt();
+		for (int i = 0; i < childCount; i++) {
+			element.appendChild(readNode(in, doc));
+		}
+		return element;
+	}
+
+	/**
+	 * Writes the string as UTF-8 without the 64K limit of {@link DataOutputStream#writeUTF(String)}.
+	 */
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads a length, checked against what is left to read so that a damaged file
+	 * does not lead to allocating a huge array.
+	 */
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Invalid length " + length); //$NON-NLS-1$
+		}
+		return length;
+	}
+}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.language.settings.providers;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -91,15 +92,16 @@ public class LanguageSettingsProvidersSerializer {
 	private static final String CPROJECT_STORAGE_MODULE_LANGUAGE_SETTINGS_PROVIDERS = "org.eclipse.cdt.core.LanguageSettingsProviders"; //$NON-NLS-1$
 	private static final String STORAGE_WORKSPACE_LANGUAGE_SETTINGS = "language.settings.xml"; //$NON-NLS-1$
 	private static final String STORAGE_PROJECT_PATH = ".settings/language.settings.xml"; //$NON-NLS-1$
+	private static final String STORAGE_WORKSPACE_LANGUAGE_SETTINGS_BINARY = "language.settings.bin"; //$NON-NLS-1$
 
 	private static final int PROGRESS_MONITOR_SCALE = 100;
 	private static final int TICKS_SERIALIZING = 1 * PROGRESS_MONITOR_SCALE;
 
 	private static final String ELEM_PLUGIN = "plugin"; //$NON-NLS-1$
-	private static final String ELEM_EXTENSION = "extension"; //$NON-NLS-1$
+	static final String ELEM_EXTENSION = "extension"; //$NON-NLS-1$
 	private static final String ATTR_EXTENSION_POINT = "point"; //$NON-NLS-1$
 	private static final String ELEM_PROJECT = "project"; //$NON-NLS-1$
-	private static final String ELEM_CONFIGURATION = "configuration"; //$NON-NLS-1$
+	static final String ELEM_CONFIGURATION = "configuration"; //$NON-NLS-1$
 	private static final String ELEM_PROVIDER_REFERENCE = "provider-reference"; //$NON-NLS-1$
 	private static final String ATTR_STORE_ENTRIES_WITH_PROJECT = "store-entries-with-project"; //$NON-NLS-1$
 
@@ -406,6 +408,28 @@ public class LanguageSettingsProvidersSerializer {
 		return URIUtil.toURI(location);
 	}
 
+	/**
+	 * Determine location of the binary copy of the workspace area store of the project,
+	 * see {@link LanguageSettingsBinaryStorage}.
+	 */
+	private static java.io.File getBinaryStoreInWorkspaceArea(IProject project) {
+		return CCorePlugin.getDefault().getStateLocation()
+				.append(project.getName() + '.' + STORAGE_WORKSPACE_LANGUAGE_SETTINGS_BINARY).toFile();
+	}
+
+	/**
+	 * Write the binary copy of the workspace area store, the XML store is loaded next time
+	 * if that fails.
+	 */
+	private static void storeBinary(Element projectElementWsp, java.io.File fileBinary, java.io.File fileXml) {
+		try {
+			LanguageSettingsBinaryStorage.store(projectElementWsp, fileBinary, fileXml);
+		} catch (Exception e) {
+			fileBinary.delete();
+			CCorePlugin.log("Can't write language settings binary store " + fileBinary, e); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Set and store user defined providers in workspace area.
 	 *
@@ -912,14 +936,17 @@ public class LanguageSettingsProvidersSerializer {
 
 				// project-specific location in workspace area
 				boolean isWorkspaceStoreEmpty = projectElementStoreWsp.getChildNodes().getLength() == 0;
+				java.io.File fileStoreWspBinary = getBinaryStoreInWorkspaceArea(project);
 				if (isWorkspaceStoreEmpty) {
 					new java.io.File(uriStoreWsp).delete();
+					fileStoreWspBinary.delete();
 				} else {
 					String eol = Util.getLineSeparator(uriStoreWsp);
 					if (eol == null) {
 						eol = Util.getDefaultLineSeparator(project);
 					}
 					XmlUtil.serializeXml(docStoreWsp, uriStoreWsp, eol);
+					storeBinary(projectElementStoreWsp, fileStoreWspBinary, new java.io.File(uriStoreWsp));
 				}
 
 				// manufacture the event only if serialization was successful
@@ -1000,7 +1027,20 @@ public class LanguageSettingsProvidersSerializer {
 	 * @noreference This method is not intended to be referenced by clients.
 	 * It is public solely for benefit of JUnit testing.
 	 */
-	public static void loadLanguageSettingsInternal(Element projectElementPrj, Element projectElementWsp,
+	public static void loadLanguageSettingsInternal(Element projectElementPrj, final Element projectElementWsp,
+			ICProjectDescription prjDescription) {
+		WorkspaceEntries entriesWsp = null;
+		if (projectElementWsp != null) {
+			entriesWsp = (cfgId, providerId) -> findProviderElement(projectElementWsp, cfgId, providerId);
+		}
+		loadLanguageSettingsInternal(projectElementPrj, entriesWsp, prjDescription);
+	}
+
+	/**
+	 * Load language settings to the project description, the entries of the providers
+	 * which keep them in the workspace area are found by {@code entriesWsp}.
+	 */
+	private static void loadLanguageSettingsInternal(Element projectElementPrj, WorkspaceEntries entriesWsp,
 			ICProjectDescription prjDescription) {
 		/*
 		<project>
@@ -1063,8 +1103,11 @@ public class LanguageSettingsProvidersSerializer {
 							}
 							if (provider instanceof LanguageSettingsSerializableProvider) {
 								LanguageSettingsSerializableProvider lss = (LanguageSettingsSerializableProvider) provider;
-								if (!isStoringEntriesInProjectArea(lss) && projectElementWsp != null) {
-									loadProviderEntries(lss, cfgId, projectElementWsp);
+								if (!isStoringEntriesInProjectArea(lss) && entriesWsp != null) {
+									Element providerElementWsp = entriesWsp.getProviderElement(cfgId, lss.getId());
+									if (providerElementWsp != null) {
+										lss.loadEntries(providerElementWsp);
+									}
 								}
 							}
 						}
@@ -1106,10 +1149,69 @@ public class LanguageSettingsProvidersSerializer {
 	}
 
 	/**
-	 * Load provider entries for the given configuration from XML Element.
+	 * Source of the entries of the providers kept in the workspace area.
+	 */
+	private interface WorkspaceEntries {
+		/**
+		 * @return the element holding the entries of the provider for the configuration,
+		 *    or {@code null} if there are none.
+		 */
+		Element getProviderElement(String cfgId, String providerId);
+	}
+
+	/**
+	 * Entries read from the binary copy of the workspace area store. If the binary copy
+	 * turns out to be damaged it is deleted and the entries are read from the XML store.
+	 */
+	private static class BinaryWorkspaceEntries implements WorkspaceEntries {
+		private final LanguageSettingsBinaryStorage binaryStorage;
+		private final java.io.File fileBinary;
+		private final URI uriXml;
+		private boolean isBinaryDamaged = false;
+		private Element projectElementXml = null;
+
+		private BinaryWorkspaceEntries(LanguageSettingsBinaryStorage binaryStorage, java.io.File fileBinary,
+				URI uriXml) {
+			this.binaryStorage = binaryStorage;
+			this.fileBinary = fileBinary;
+			this.uriXml = uriXml;
+		}
+
+		@Override
+		public Element getProviderElement(String cfgId, String providerId) {
+			if (!isBinaryDamaged) {
+				try {
+					return binaryStorage.getProviderElement(cfgId, providerId);
+				} catch (IOException e) {
+					CCorePlugin.log("Can't decode language settings binary store " + fileBinary //$NON-NLS-1$
+							+ ", loading the XML store instead", e); //$NON-NLS-1$
+					isBinaryDamaged = true;
+					projectElementXml = loadXmlStore();
+				}
+			}
+			return projectElementXml != null ? findProviderElement(projectElementXml, cfgId, providerId) : null;
+		}
+
+		private Element loadXmlStore() {
+			try {
+				serializingLock.acquire();
+				// Written again from the XML store next time the project is loaded
+				fileBinary.delete();
+				Document doc = XmlUtil.loadXml(uriXml);
+				return doc != null ? doc.getDocumentElement() : null;
+			} catch (CoreException e) {
+				CCorePlugin.log("Can't load preferences from file " + uriXml, e); //$NON-NLS-1$
+				return null;
+			} finally {
+				serializingLock.release();
+			}
+		}
+	}
+
+	/**
+	 * Find the element of the provider for the given configuration in XML Element.
 	 */
-	private static void loadProviderEntries(LanguageSettingsSerializableProvider provider, String cfgId,
-			Element projectElement) {
+	private static Element findProviderElement(Element projectElement, String cfgId, String providerId) {
 		/*
 		<project>
 			<configuration id="cfg.id">
@@ -1146,13 +1248,13 @@ public class LanguageSettingsProvidersSerializer {
 					}
 
 					String id = XmlUtil.determineAttributeValue(providerNode, ATTR_ID);
-					if (provider.getId().equals(id)) {
-						provider.loadEntries((Element) providerNode);
-						return;
+					if (providerId.equals(id)) {
+						return (Element) providerNode;
 					}
 				}
 			}
 		}
+		return null;
 	}
 
 	/**
@@ -1184,20 +1286,32 @@ public class LanguageSettingsProvidersSerializer {
 
 				URI uriStoreWsp = getStoreInWorkspaceArea(
 						project.getName() + '.' + STORAGE_WORKSPACE_LANGUAGE_SETTINGS);
-				Document docWsp = null;
+				java.io.File fileStoreWsp = new java.io.File(uriStoreWsp);
+				java.io.File fileStoreWspBinary = getBinaryStoreInWorkspaceArea(project);
+				WorkspaceEntries entriesWsp = null;
 				try {
 					serializingLock.acquire();
-					docWsp = XmlUtil.loadXml(uriStoreWsp);
+					// The binary copy spares parsing the XML as long as it is up to date
+					final LanguageSettingsBinaryStorage binaryWsp = LanguageSettingsBinaryStorage
+							.load(fileStoreWspBinary, fileStoreWsp);
+					if (binaryWsp != null) {
+						entriesWsp = new BinaryWorkspaceEntries(binaryWsp, fileStoreWspBinary, uriStoreWsp);
+					} else {
+						Document docWsp = XmlUtil.loadXml(uriStoreWsp);
+						if (docWsp != null) {
+							final Element rootElementWsp = docWsp.getDocumentElement(); // <project>
+							entriesWsp = (cfgId, providerId) -> findProviderElement(rootElementWsp, cfgId,
+									providerId);
+							if (fileStoreWsp.isFile()) {
+								storeBinary(rootElementWsp, fileStoreWspBinary, fileStoreWsp);
+							}
+						}
+					}
 				} finally {
 					serializingLock.release();
 				}
 
-				Element rootElementWsp = null; // <project>
-				if (docWsp != null) {
-					rootElementWsp = docWsp.getDocumentElement();
-				}
-
-				loadLanguageSettingsInternal(rootElementPrj, rootElementWsp, prjDescription);
+				loadLanguageSettingsInternal(rootElementPrj, entriesWsp, prjDescription);
 			} catch (Exception e) {
 				CCorePlugin.log("Can't load preferences from file " + storeInPrjArea.getLocation(), e); //$NON-NLS-1$
 			}
@@ -86,6 +86,8 @@ import org.eclipse.cdt.internal.core.dom.parser.ProblemBinding;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.SemanticUtil;
+import org.eclipse.cdt.internal.core.index.CIndex;
+import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.core.runtime.CoreException;
 
 /**
@@ -858,18 +860,34 @@ public class ClassTypeHelper {
 		}
 
 		// TODO(nathanridge): Also find subclasses referenced via decltype-specifiers rather than names.
+		for (IIndexName indexName : findBaseSpecifiers(index, classOrTypedef)) {
+			IIndexName subClassDef = indexName.getEnclosingDefinition();
+			if (subClassDef != null) {
+				IBinding subClass = index.findBinding(subClassDef);
+				if (subClass instanceof ICPPBinding) {
+					getSubClasses(index, (ICPPBinding) subClass, result, handled);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the base specifiers referring to the given class or typedef.
+	 * The enclosing definitions of these names are the definitions of the direct subclasses.
+	 */
+	public static IIndexName[] findBaseSpecifiers(IIndex index, IBinding classOrTypedef) throws CoreException {
+		if (index instanceof CIndex) {
+			// The index keeps the base specifiers of a class separate from its other references.
+			return index.findNames(classOrTypedef, IIndexFragment.FIND_BASE_SPECIFIERS);
+		}
 		IIndexName[] names = index.findNames(classOrTypedef, IIndex.FIND_REFERENCES | IIndex.FIND_DEFINITIONS);
+		List<IIndexName> result = new ArrayList<>();
 		for (IIndexName indexName : names) {
 			if (indexName.isBaseSpecifier()) {
-				IIndexName subClassDef = indexName.getEnclosingDefinition();
-				if (subClassDef != null) {
-					IBinding subClass = index.findBinding(subClassDef);
-					if (subClass instanceof ICPPBinding) {
-						getSubClasses(index, (ICPPBinding) subClass, result, handled);
-					}
-				}
+				result.add(indexName);
 			}
 		}
+		return result.toArray(new IIndexName[result.size()]);
 	}
 
 	public enum MethodKind {
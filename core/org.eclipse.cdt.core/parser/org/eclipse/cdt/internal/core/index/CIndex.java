@@ -27,6 +27,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -54,6 +61,7 @@ import org.eclipse.cdt.internal.core.index.composite.cpp.CPPCompositesFactory;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
 public class CIndex implements IIndex {
@@ -62,6 +70,38 @@ public class CIndex implements IIndex {
 	 * one fragment, composite binding wrappers will not be used.
 	 */
 	private static final boolean SPECIALCASE_SINGLES = true;
+	/**
+	 * Minimum number of fragments for which queries are distributed over worker threads.
+	 * For fewer fragments handing the queries off costs more than it saves.
+	 */
+	private static final int PARALLEL_QUERY_MIN_FRAGMENTS = 3;
+	/** Keeps idle query threads around for this long before they are discarded. */
+	private static final long QUERY_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+	/** Reports the time each fragment needs to answer a query. */
+	public static boolean sDEBUG_FRAGMENT_LATENCY;
+	/**
+	 * Whether the queries may be distributed over worker threads, turned off by the tests
+	 * which compare the results with those of sequential queries.
+	 */
+	public static volatile boolean sPARALLEL_QUERIES = true;
+
+	private static ExecutorService sQueryExecutor;
+
+	/**
+	 * A query performed on a single fragment.
+	 */
+	private interface FragmentQuery<T> {
+		T query(IIndexFragment fragment, IProgressMonitor monitor) throws CoreException;
+	}
+
+	/**
+	 * A query for bindings performed on a single fragment with a filter that accepts a single linkage.
+	 */
+	private interface FragmentBindingQuery {
+		IBinding[] query(IIndexFragment fragment, IndexFilter filter, IProgressMonitor monitor)
+				throws CoreException;
+	}
 
 	private final IIndexFragment[] fFragments;
 	private int fReadLock;
@@ -107,29 +147,9 @@ public class CIndex implements IIndex {
 			IProgressMonitor monitor) throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
 			return fFragments[0].findBindings(patterns, isFullyQualified, filter, monitor);
-		} else {
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(patterns, isFullyQualified,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			return flatten(result);
 		}
+		return findCompositeBindings("findBindings", filter, monitor, //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findBindings(patterns, isFullyQualified, linkageFilter, m));
 	}
 
 	@Override
@@ -137,29 +157,9 @@ public class CIndex implements IIndex {
 			throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
 			return fFragments[0].findMacroContainers(pattern, filter, monitor);
-		} else {
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findMacroContainers(pattern,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			return flatten(result);
 		}
+		return findCompositeBindings("findMacroContainers", filter, monitor, //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findMacroContainers(pattern, linkageFilter, m));
 	}
 
 	@Override
@@ -186,21 +186,22 @@ public class CIndex implements IIndex {
 		// Read only fragments can be superseded by what the indexer writes into
 		// a writable fragment. Therefore names from a read-only fragment are
 		// ignored if there is a match in a writable fragment.
+		final IBinding target = binding;
+		List<IIndexFragmentName[]> fragmentNames = queryFragments("findNames", //$NON-NLS-1$
+				(fragment, m) -> fragment.findNames(target, flags), null);
 		HashSet<NameKey> encounteredNames = new HashSet<>();
-		for (IIndexFragment fragment : fFragments) {
-			if (fragment instanceof IWritableIndexFragment) {
-				final IIndexFragmentName[] names = fragment.findNames(binding, flags);
-				for (IIndexFragmentName name : names) {
+		for (int i = 0; i < fFragments.length; i++) {
+			if (fFragments[i] instanceof IWritableIndexFragment) {
+				for (IIndexFragmentName name : fragmentNames.get(i)) {
 					if (encounteredNames.add(new NameKey(name, true))) {
 						result.add(name);
 					}
 				}
 			}
 		}
-		for (IIndexFragment fragment : fFragments) {
-			if (!(fragment instanceof IWritableIndexFragment)) {
-				final IIndexFragmentName[] names = fragment.findNames(binding, flags);
-				for (IIndexFragmentName name : names) {
+		for (int i = 0; i < fFragments.length; i++) {
+			if (!(fFragments[i] instanceof IWritableIndexFragment)) {
+				for (IIndexFragmentName name : fragmentNames.get(i)) {
 					if (encounteredNames.add(new NameKey(name, false))) {
 						result.add(name);
 					}
@@ -453,35 +454,10 @@ public class CIndex implements IIndex {
 				CCorePlugin.log(e);
 				return IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
 			}
-		} else {
-			if (monitor == null) {
-				monitor = new NullProgressMonitor();
-			}
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			SubMonitor loopMonitor = SubMonitor.convert(monitor, Messages.CIndex_FindBindingsTask_label,
-					fFragments.length * linkages.length);
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(names, retargetFilter(linkage, filter),
-									loopMonitor.newChild(1));
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			monitor.done();
-			return flatten(result);
 		}
+		SubMonitor progress = SubMonitor.convert(monitor, Messages.CIndex_FindBindingsTask_label, 1);
+		return findCompositeBindings("findBindings", filter, progress.newChild(1), //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findBindings(names, linkageFilter, m));
 	}
 
 	@Override
@@ -529,6 +505,174 @@ public class CIndex implements IIndex {
 		return result;
 	}
 
+	/**
+	 * Queries all fragments for bindings of each linkage accepted by the filter and combines the
+	 * results into composite bindings. Failures of individual fragments are logged and treated
+	 * as empty results.
+	 */
+	private IIndexBinding[] findCompositeBindings(String queryName, IndexFilter filter, IProgressMonitor monitor,
+			FragmentBindingQuery query) throws CoreException {
+		List<ILinkage> linkages = new ArrayList<>();
+		List<IndexFilter> linkageFilters = new ArrayList<>();
+		for (ILinkage linkage : Linkage.getIndexerLinkages()) {
+			if (filter.acceptLinkage(linkage)) {
+				linkages.add(linkage);
+				linkageFilters.add(retargetFilter(linkage, filter));
+			}
+		}
+		if (linkages.isEmpty()) {
+			return IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
+		}
+
+		// Each fragment is queried for all linkages in one go to keep the number of hand-offs low.
+		List<IBinding[][]> fragmentResults = queryFragments(queryName, (fragment, m) -> {
+			IBinding[][] parts = new IBinding[linkageFilters.size()][];
+			for (int j = 0; j < parts.length; j++) {
+				try {
+					parts[j] = query.query(fragment, linkageFilters.get(j), m);
+				} catch (CoreException e) {
+					CCorePlugin.log(e);
+					parts[j] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
+				}
+			}
+			return parts;
+		}, monitor);
+
+		List<IIndexBinding[]> result = new ArrayList<>();
+		for (int j = 0; j < linkages.size(); j++) {
+			IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
+			for (int i = 0; i < fFragments.length; i++) {
+				IBinding[] part = fragmentResults.get(i)[j];
+				fragmentBindings[i] = new IIndexFragmentBinding[part.length];
+				System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
+			}
+			ICompositesFactory factory = getCompositesFactory(linkages.get(j).getLinkageID());
+			result.add(factory.getCompositeBindings(fragmentBindings));
+		}
+		return flatten(result);
+	}
+
+	/**
+	 * Runs a query on every fragment and returns the results in the order of the fragments.
+	 * When the index consists of enough fragments and the calling thread holds the read lock
+	 * for the entire index, the queries run concurrently while the calling thread answers the
+	 * query for the first fragment. The workers rely on the lock held by the calling thread,
+	 * which covers every fragment until this method returns. They must not lock the fragments
+	 * themselves: releasing a PDOM read lock clears its result cache, which still serves the
+	 * caller. The first exception thrown by a fragment is rethrown after all queries have
+	 * finished.
+	 */
+	private <T> List<T> queryFragments(String queryName, FragmentQuery<T> query, IProgressMonitor monitor)
+			throws CoreException {
+		final int length = fFragments.length;
+		List<T> results = new ArrayList<>(length);
+		if (length < PARALLEL_QUERY_MIN_FRAGMENTS || !sPARALLEL_QUERIES || getReadLockCount() == 0) {
+			for (IIndexFragment fragment : fFragments) {
+				results.add(timedQuery(queryName, fragment, query, monitor));
+			}
+			return results;
+		}
+
+		// Progress monitors are not thread safe, the workers only get to see cancellation.
+		final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor != null && monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = getQueryExecutor();
+		List<Future<T>> futures = new ArrayList<>(length - 1);
+		for (int i = 1; i < length; i++) {
+			final IIndexFragment fragment = fFragments[i];
+			futures.add(executor.submit(() -> timedQuery(queryName, fragment, query, workerMonitor)));
+		}
+
+		CoreException exception = null;
+		try {
+			results.add(timedQuery(queryName, fFragments[0], query, workerMonitor));
+		} catch (CoreException e) {
+			exception = e;
+			results.add(null);
+		} catch (RuntimeException | Error e) {
+			cancel(futures);
+			throw e;
+		}
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (InterruptedException e) {
+				cancel(futures);
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof CoreException) {
+					if (exception == null) {
+						exception = (CoreException) cause;
+					}
+					results.add(null);
+				} else if (cause instanceof InterruptedException) {
+					cancel(futures);
+					throw new OperationCanceledException();
+				} else {
+					cancel(futures);
+					if (cause instanceof Error)
+						throw (Error) cause;
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					throw new IllegalStateException(cause);
+				}
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+		return results;
+	}
+
+	private static void cancel(List<? extends Future<?>> futures) {
+		for (Future<?> future : futures) {
+			future.cancel(false);
+		}
+	}
+
+	private static <T> T timedQuery(String queryName, IIndexFragment fragment, FragmentQuery<T> query,
+			IProgressMonitor monitor) throws CoreException {
+		if (!sDEBUG_FRAGMENT_LATENCY) {
+			return query.query(fragment, monitor);
+		}
+		long start = System.nanoTime();
+		try {
+			return query.query(fragment, monitor);
+		} finally {
+			long micros = (System.nanoTime() - start) / 1000;
+			String fragmentId;
+			try {
+				fragmentId = fragment.getProperty(IIndexFragment.PROPERTY_FRAGMENT_ID);
+			} catch (CoreException e) {
+				fragmentId = fragment.toString();
+			}
+			System.out.println("Index fragment " + fragmentId + " answered " + queryName + " in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ micros / 1000 + "." + micros % 1000 / 100 + " ms on " + Thread.currentThread().getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static synchronized ExecutorService getQueryExecutor() {
+		if (sQueryExecutor == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, QUERY_THREAD_KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), r -> {
+						Thread thread = new Thread(r, "Index Fragment Query " + threadCount.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			sQueryExecutor = executor;
+		}
+		return sQueryExecutor;
+	}
+
 	public IIndexFragment[] getFragments() {
 		return fFragments;
 	}
@@ -588,29 +732,9 @@ public class CIndex implements IIndex {
 			IProgressMonitor monitor) throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
 			return fFragments[0].findBindingsForPrefix(prefix, filescope, filter, monitor);
-		} else {
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindingsForPrefix(prefix, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			return flatten(result);
 		}
+		return findCompositeBindings("findBindingsForPrefix", filter, monitor, //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findBindingsForPrefix(prefix, filescope, linkageFilter, m));
 	}
 
 	@Override
@@ -618,29 +742,9 @@ public class CIndex implements IIndex {
 			IProgressMonitor monitor) throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
 			return fFragments[0].findBindingsForContentAssist(prefix, filescope, filter, monitor);
-		} else {
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindingsForContentAssist(prefix, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			return flatten(result);
 		}
+		return findCompositeBindings("findBindingsForContentAssist", filter, monitor, //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findBindingsForContentAssist(prefix, filescope, linkageFilter, m));
 	}
 
 	@Override
@@ -648,29 +752,9 @@ public class CIndex implements IIndex {
 			throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
 			return fFragments[0].findBindings(name, filescope, filter, monitor);
-		} else {
-			List<IIndexBinding[]> result = new ArrayList<>();
-			ILinkage[] linkages = Linkage.getIndexerLinkages();
-			for (ILinkage linkage : linkages) {
-				if (filter.acceptLinkage(linkage)) {
-					IIndexFragmentBinding[][] fragmentBindings = new IIndexFragmentBinding[fFragments.length][];
-					for (int i = 0; i < fFragments.length; i++) {
-						try {
-							IBinding[] part = fFragments[i].findBindings(name, filescope,
-									retargetFilter(linkage, filter), monitor);
-							fragmentBindings[i] = new IIndexFragmentBinding[part.length];
-							System.arraycopy(part, 0, fragmentBindings[i], 0, part.length);
-						} catch (CoreException e) {
-							CCorePlugin.log(e);
-							fragmentBindings[i] = IIndexFragmentBinding.EMPTY_INDEX_BINDING_ARRAY;
-						}
-					}
-					ICompositesFactory factory = getCompositesFactory(linkage.getLinkageID());
-					result.add(factory.getCompositeBindings(fragmentBindings));
-				}
-			}
-			return flatten(result);
 		}
+		return findCompositeBindings("findBindings", filter, monitor, //$NON-NLS-1$
+				(fragment, linkageFilter, m) -> fragment.findBindings(name, filescope, linkageFilter, m));
 	}
 
 	@Override
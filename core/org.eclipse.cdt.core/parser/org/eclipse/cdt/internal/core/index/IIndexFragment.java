@@ -66,6 +66,11 @@ public interface IIndexFragment {
 	final int FIND_ALL_OCCURRENCES = IIndex.FIND_ALL_OCCURRENCES;
 
 	final int FIND_NON_LOCAL_ONLY = 0x10000;
+	/**
+	 * Constant to search for the names of base specifiers referring to a class, i.e. for the
+	 * derived classes of a class. Other kinds of names are not returned when this flag is set.
+	 */
+	final int FIND_BASE_SPECIFIERS = 0x20000;
 	/**
 	 * Property key for the fragment ID. The fragment ID should uniquely identify the fragments
 	 * usage within a logical index.
@@ -220,7 +225,7 @@ public interface IIndexFragment {
 	 * references, declarations or definitions, or a combination of those.
 	 * @param binding a binding for which names are searched for
 	 * @param flags a combination of {@link #FIND_DECLARATIONS}, {@link #FIND_DEFINITIONS},
-	 *     {@link #FIND_REFERENCES}, {@link #FIND_NON_LOCAL_ONLY}, and {@link #FIND_POTENTIAL_MATCHES}.
+	 *     {@link #FIND_REFERENCES}, {@link #FIND_NON_LOCAL_ONLY}, {@link #FIND_BASE_SPECIFIERS} and {@link #FIND_POTENTIAL_MATCHES}.
 	 * @return an array of names
 	 * @throws CoreException
 	 */
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IFunction;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPMethod;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.core.index.IIndexName;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ClassTypeHelper;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Headless queries on the call graph stored in the index. The edges from a calling definition
+ * to the names it encloses are kept in the call graph index of each linkage, the edges from a
+ * function to its callers are given by the references of the function's binding. The index has
+ * to be read-locked while the queries are performed.
+ */
+public final class IndexCallGraph {
+	private final IIndex fIndex;
+	private final Map<IBinding, ICPPMethod[]> fOverriders = new HashMap<>();
+
+	/**
+	 * Creates a call graph for the given index. Virtual overriders computed while answering
+	 * queries are cached, so the call graph should not outlive the read lock on the index.
+	 */
+	public IndexCallGraph(IIndex index) {
+		fIndex = index;
+	}
+
+	/**
+	 * Returns the definitions of the functions calling the given function, each mapped to the
+	 * call sites within the definition. Polymorphic calls of methods overridden by the given
+	 * method are included.
+	 */
+	public Map<IIndexName, List<IIndexName>> findCallers(IBinding callee) throws CoreException {
+		Map<IIndexName, List<IIndexName>> result = new LinkedHashMap<>();
+		addCallers(callee, true, result);
+		if (callee instanceof ICPPMethod) {
+			for (IBinding overridden : ClassTypeHelper.findOverridden((ICPPMethod) callee)) {
+				addCallers(overridden, false, result);
+			}
+		}
+		return result;
+	}
+
+	private void addCallers(IBinding callee, boolean includeOrdinaryCalls, Map<IIndexName, List<IIndexName>> result)
+			throws CoreException {
+		IIndexName[] references = fIndex.findNames(callee,
+				IIndex.FIND_REFERENCES | IIndex.SEARCH_ACROSS_LANGUAGE_BOUNDARIES);
+		for (IIndexName reference : references) {
+			if (includeOrdinaryCalls || reference.couldBePolymorphicMethodCall()) {
+				IIndexName caller = reference.getEnclosingDefinition();
+				if (caller != null) {
+					addEdge(result, caller, reference);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the functions called from within the given definition, each mapped to the call
+	 * sites. A polymorphic method call is also attributed to all overriders of the method.
+	 */
+	public Map<IIndexBinding, List<IIndexName>> findCallees(IIndexName caller) throws CoreException {
+		Map<IIndexBinding, List<IIndexName>> result = new LinkedHashMap<>();
+		for (IIndexName name : caller.getEnclosedNames()) {
+			IIndexBinding binding = fIndex.findBinding(name);
+			if (binding instanceof IFunction) {
+				addEdge(result, binding, name);
+				if (binding instanceof ICPPMethod && name.couldBePolymorphicMethodCall()) {
+					for (ICPPMethod overrider : getOverriders((ICPPMethod) binding)) {
+						IIndexBinding adapted = fIndex.adaptBinding(overrider);
+						if (adapted != null) {
+							addEdge(result, adapted, name);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private ICPPMethod[] getOverriders(ICPPMethod method) throws CoreException {
+		ICPPMethod[] overriders = fOverriders.get(method);
+		if (overriders == null) {
+			overriders = ClassTypeHelper.findOverriders(fIndex, method);
+			fOverriders.put(method, overriders);
+		}
+		return overriders;
+	}
+
+	private static <K> void addEdge(Map<K, List<IIndexName>> edges, K key, IIndexName callSite) {
+		List<IIndexName> callSites = edges.get(key);
+		if (callSites == null) {
+			callSites = new ArrayList<>(2);
+			edges.put(key, callSites);
+		}
+		callSites.add(callSite);
+	}
+}
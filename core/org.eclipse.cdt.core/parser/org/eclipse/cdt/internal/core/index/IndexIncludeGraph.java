@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexInclude;
+import org.eclipse.cdt.internal.core.pdom.PDOM;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * In-memory graph of the include relations stored in the index. Files are identified by their
+ * location, the versions of a file for different linkages or significant macros are merged, as
+ * is done in the include browser. The edges are kept as arrays of file ids, such that transitive
+ * queries do not have to access the index.
+ * <p>
+ * The graph is built on first use and afterwards only the outgoing edges of the files written
+ * to or cleared in the index are re-read. Queries taking an index require the caller to hold
+ * a read lock on it, the graph is brought up to date with that index before answering.
+ */
+public final class IndexIncludeGraph {
+	private static final int[] NO_IDS = {};
+	private static final IIndexFileLocation[] NO_LOCATIONS = {};
+
+	private final ReentrantLock fLock = new ReentrantLock();
+	private final Map<IIndexFileLocation, Integer> fIds = new HashMap<>();
+	private final List<IIndexFileLocation> fLocations = new ArrayList<>();
+	private int[][] fIncludes = new int[16][];
+	private int[][] fIncludedBy = new int[16][];
+	private int[] fIncludesCount = new int[16];
+	private int[] fIncludedByCount = new int[16];
+	/** Files with include directives that could not be resolved. */
+	private final BitSet fHasUnresolved = new BitSet();
+
+	private List<IIndexFragment> fScope;
+	private boolean fNeedsRebuild = true;
+	private final Set<IIndexFileLocation> fDirty = new HashSet<>();
+
+	// Changes reported by the index, guarded by fPending. They are recorded without waiting
+	// for the graph lock, such that writers to the index are not blocked by a query.
+	private final Set<IIndexFileLocation> fPending = new HashSet<>();
+	private boolean fPendingRebuild;
+
+	/**
+	 * Records a change of the index, the affected part of the graph is recomputed with the next
+	 * query.
+	 */
+	public void handleChange(PDOM.ChangeEvent event) {
+		synchronized (fPending) {
+			if (event.isCleared() || event.isReloaded()) {
+				fPendingRebuild = true;
+				fPending.clear();
+			} else if (!fPendingRebuild) {
+				fPending.addAll(event.fClearedFiles);
+				fPending.addAll(event.fFilesWritten);
+			}
+		}
+	}
+
+	private void takePendingChanges() {
+		synchronized (fPending) {
+			if (fPendingRebuild) {
+				fNeedsRebuild = true;
+				fPendingRebuild = false;
+			}
+			if (fNeedsRebuild) {
+				fDirty.clear();
+			} else {
+				fDirty.addAll(fPending);
+			}
+			fPending.clear();
+		}
+	}
+
+	/**
+	 * Returns the files directly including the given one.
+	 */
+	public IIndexFileLocation[] getIncluders(IIndex index, IIndexFileLocation location) throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return NO_LOCATIONS;
+			return toLocations(fIncludedBy[id], fIncludedByCount[id]);
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the files directly included by the given one. Unresolved includes are not part of
+	 * the result.
+	 */
+	public IIndexFileLocation[] getIncludes(IIndex index, IIndexFileLocation location) throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return NO_LOCATIONS;
+			return toLocations(fIncludes[id], fIncludesCount[id]);
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns all files including the given one directly or indirectly.
+	 */
+	public IIndexFileLocation[] getTransitiveIncluders(IIndex index, IIndexFileLocation location)
+			throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return NO_LOCATIONS;
+			BitSet reached = new BitSet();
+			collectReachable(id, fIncludedBy, fIncludedByCount, reached);
+			reached.clear(id);
+			return toLocations(reached);
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the files at the top of the include chains of the given file, i.e. the translation
+	 * units that have to be parsed again when the given file changes. A file that is not included
+	 * by any other file is its own translation unit.
+	 */
+	public IIndexFileLocation[] getAffectedTranslationUnits(IIndex index, IIndexFileLocation location)
+			throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return NO_LOCATIONS;
+			BitSet reached = new BitSet();
+			collectReachable(id, fIncludedBy, fIncludedByCount, reached);
+			BitSet roots = new BitSet();
+			for (int i = reached.nextSetBit(0); i >= 0; i = reached.nextSetBit(i + 1)) {
+				if (fIncludedByCount[i] == 0) {
+					roots.set(i);
+				}
+			}
+			return toLocations(roots);
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the length of the shortest include chain from a file that is not included by any
+	 * other file to the given one, or <code>-1</code> if the file is unknown or only reachable
+	 * through a cycle.
+	 */
+	public int getIncludeDepth(IIndex index, IIndexFileLocation location) throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return -1;
+			BitSet visited = new BitSet();
+			int[] level = { id };
+			visited.set(id);
+			for (int depth = 0; level.length > 0; depth++) {
+				int[] next = NO_IDS;
+				int nextCount = 0;
+				for (int file : level) {
+					if (fIncludedByCount[file] == 0)
+						return depth;
+					for (int i = 0; i < fIncludedByCount[file]; i++) {
+						int includer = fIncludedBy[file][i];
+						if (!visited.get(includer)) {
+							visited.set(includer);
+							next = append(next, nextCount++, includer);
+						}
+					}
+				}
+				level = Arrays.copyOf(next, nextCount);
+			}
+			return -1;
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns whether the given file is included by another file (<code>includers</code> is
+	 * <code>true</code>) or has include directives.
+	 */
+	public boolean hasRelations(IIndex index, IIndexFileLocation location, boolean includers)
+			throws CoreException {
+		fLock.lock();
+		try {
+			update(index);
+			Integer id = fIds.get(location);
+			if (id == null)
+				return false;
+			return includers ? fIncludedByCount[id] > 0 : fIncludesCount[id] > 0 || fHasUnresolved.get(id);
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns whether the given file is included by another file (<code>includers</code> is
+	 * <code>true</code>) or has include directives, without waiting for or accessing the index.
+	 * The result is {@link Boolean#TRUE} or {@link Boolean#FALSE} when it is known from an up to
+	 * date graph, and <code>null</code> otherwise.
+	 */
+	public Boolean hasRelations(IIndexFileLocation location, boolean includers) {
+		if (!fLock.tryLock())
+			return null;
+		try {
+			takePendingChanges();
+			if (fNeedsRebuild || fDirty.contains(location))
+				return null;
+			if (includers) {
+				// Other files may have been changed to include the given one.
+				if (!fDirty.isEmpty())
+					return null;
+				Integer id = fIds.get(location);
+				return id != null && fIncludedByCount[id] > 0;
+			}
+			Integer id = fIds.get(location);
+			return id != null && (fIncludesCount[id] > 0 || fHasUnresolved.get(id));
+		} finally {
+			fLock.unlock();
+		}
+	}
+
+	private void update(IIndex index) throws CoreException {
+		takePendingChanges();
+		List<IIndexFragment> scope = index instanceof CIndex
+				? Arrays.asList(((CIndex) index).getFragments())
+				: Collections.<IIndexFragment>emptyList();
+		if (fNeedsRebuild || !scope.equals(fScope)) {
+			clear();
+			for (IIndexFile file : index.getAllFiles()) {
+				addIncludes(getId(file.getLocation()), file);
+			}
+			fScope = scope;
+			fNeedsRebuild = false;
+		} else if (!fDirty.isEmpty()) {
+			for (IIndexFileLocation location : fDirty) {
+				int id = getId(location);
+				removeIncludes(id);
+				for (IIndexFile file : index.getFiles(location)) {
+					addIncludes(id, file);
+				}
+			}
+		}
+		fDirty.clear();
+	}
+
+	private void clear() {
+		fIds.clear();
+		fLocations.clear();
+		fHasUnresolved.clear();
+		Arrays.fill(fIncludes, null);
+		Arrays.fill(fIncludedBy, null);
+		Arrays.fill(fIncludesCount, 0);
+		Arrays.fill(fIncludedByCount, 0);
+	}
+
+	private int getId(IIndexFileLocation location) {
+		Integer id = fIds.get(location);
+		if (id != null)
+			return id;
+		int newId = fLocations.size();
+		fLocations.add(location);
+		fIds.put(location, newId);
+		if (newId == fIncludes.length) {
+			int newLength = newId * 2;
+			fIncludes = Arrays.copyOf(fIncludes, newLength);
+			fIncludedBy = Arrays.copyOf(fIncludedBy, newLength);
+			fIncludesCount = Arrays.copyOf(fIncludesCount, newLength);
+			fIncludedByCount = Arrays.copyOf(fIncludedByCount, newLength);
+		}
+		fIncludes[newId] = NO_IDS;
+		fIncludedBy[newId] = NO_IDS;
+		return newId;
+	}
+
+	private void addIncludes(int id, IIndexFile file) throws CoreException {
+		for (IIndexInclude include : file.getIncludes()) {
+			IIndexFileLocation target = include.isResolved() ? include.getIncludesLocation() : null;
+			if (target == null) {
+				fHasUnresolved.set(id);
+				continue;
+			}
+			int targetId = getId(target);
+			if (indexOf(fIncludes[id], fIncludesCount[id], targetId) < 0) {
+				fIncludes[id] = append(fIncludes[id], fIncludesCount[id]++, targetId);
+				fIncludedBy[targetId] = append(fIncludedBy[targetId], fIncludedByCount[targetId]++, id);
+			}
+		}
+	}
+
+	private void removeIncludes(int id) {
+		for (int i = 0; i < fIncludesCount[id]; i++) {
+			int target = fIncludes[id][i];
+			int count = fIncludedByCount[target];
+			int idx = indexOf(fIncludedBy[target], count, id);
+			if (idx >= 0) {
+				System.arraycopy(fIncludedBy[target], idx + 1, fIncludedBy[target], idx, count - idx - 1);
+				fIncludedByCount[target] = count - 1;
+			}
+		}
+		fIncludes[id] = NO_IDS;
+		fIncludesCount[id] = 0;
+		fHasUnresolved.clear(id);
+	}
+
+	private static void collectReachable(int id, int[][] edges, int[] counts, BitSet reached) {
+		int[] stack = { id };
+		int size = 1;
+		reached.set(id);
+		while (size > 0) {
+			int file = stack[--size];
+			for (int i = 0; i < counts[file]; i++) {
+				int next = edges[file][i];
+				if (!reached.get(next)) {
+					reached.set(next);
+					stack = append(stack, size++, next);
+				}
+			}
+		}
+	}
+
+	private static int indexOf(int[] ids, int count, int id) {
+		for (int i = 0; i < count; i++) {
+			if (ids[i] == id)
+				return i;
+		}
+		return -1;
+	}
+
+	private static int[] append(int[] ids, int count, int id) {
+		if (count == ids.length) {
+			ids = Arrays.copyOf(ids, Math.max(4, count * 2));
+		}
+		ids[count] = id;
+		return ids;
+	}
+
+	private IIndexFileLocation[] toLocations(int[] ids, int count) {
+		IIndexFileLocation[] result = new IIndexFileLocation[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = fLocations.get(ids[i]);
+		}
+		return result;
+	}
+
+	private IIndexFileLocation[] toLocations(BitSet ids) {
+		IIndexFileLocation[] result = new IIndexFileLocation[ids.cardinality()];
+		int j = 0;
+		for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+			result[j++] = fLocations.get(i);
+		}
+		return result;
+	}
+}
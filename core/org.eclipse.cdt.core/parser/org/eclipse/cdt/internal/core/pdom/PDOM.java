@@ -296,10 +296,12 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 *  CDT 9.5 development (version not supported on the 9.4.x branch)
 	 *  212.0 - C++ constexpr if and if init-statement evaluation
 	 *  213.0 - C++ switch init-statement evaluation
+	 *  214.0 - Call graph index of names ordered by their enclosing definition.
+	 *  215.0 - Index of base specifiers ordered by the base class they refer to.
 	 */
-	private static final int MIN_SUPPORTED_VERSION = version(213, 0);
-	private static final int MAX_SUPPORTED_VERSION = version(213, Short.MAX_VALUE);
-	private static final int DEFAULT_VERSION = version(213, 0);
+	private static final int MIN_SUPPORTED_VERSION = version(215, 0);
+	private static final int MAX_SUPPORTED_VERSION = version(215, Short.MAX_VALUE);
+	private static final int DEFAULT_VERSION = version(215, 0);
 
 	private static int version(int major, int minor) {
 		return (major << 16) + minor;
@@ -1241,6 +1243,14 @@ public class PDOM extends PlatformObject implements IPDOM {
 
 	private void findNamesForMyBinding(PDOMBinding pdomBinding, int options, ArrayList<IIndexFragmentName> names)
 			throws CoreException {
+		if ((options & FIND_BASE_SPECIFIERS) != 0) {
+			for (PDOMName name : pdomBinding.getLinkage().findBaseSpecifiers(pdomBinding)) {
+				if (isCommitted(name)) {
+					names.add(name);
+				}
+			}
+			return;
+		}
 		PDOMName name;
 		if ((options & FIND_DECLARATIONS) != 0) {
 			for (name = pdomBinding.getFirstDeclaration(); name != null; name = name.getNextInBinding()) {
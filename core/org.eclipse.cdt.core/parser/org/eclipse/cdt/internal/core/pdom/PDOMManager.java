@@ -29,10 +29,12 @@ import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -68,12 +70,14 @@ import org.eclipse.cdt.core.model.LanguageManager;
 import org.eclipse.cdt.core.settings.model.CProjectDescriptionEvent;
 import org.eclipse.cdt.core.settings.model.ICProjectDescriptionListener;
 import org.eclipse.cdt.internal.core.CCoreInternals;
+import org.eclipse.cdt.internal.core.index.CIndex;
 import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
 import org.eclipse.cdt.internal.core.index.IWritableIndexManager;
 import org.eclipse.cdt.internal.core.index.IndexChangeEvent;
 import org.eclipse.cdt.internal.core.index.IndexFactory;
 import org.eclipse.cdt.internal.core.index.IndexFileSet;
+import org.eclipse.cdt.internal.core.index.IndexIncludeGraph;
 import org.eclipse.cdt.internal.core.index.IndexerStateEvent;
 import org.eclipse.cdt.internal.core.index.provider.IndexProviderManager;
 import org.eclipse.cdt.internal.core.pdom.PDOM.IListener;
@@ -172,6 +176,16 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 	private ListenerList<IIndexerStateListener> fStateListeners = new ListenerList<>();
 
 	private IndexChangeEvent fIndexChangeEvent = new IndexChangeEvent();
+
+	private static final int MAX_INCLUDE_GRAPHS = 4;
+	/** Include graphs by the fragments of the index they are computed for. */
+	private final Map<List<IIndexFragment>, IndexIncludeGraph> fIncludeGraphs = new LinkedHashMap<List<IIndexFragment>, IndexIncludeGraph>(
+			MAX_INCLUDE_GRAPHS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<IIndexFragment>, IndexIncludeGraph> eldest) {
+			return size() > MAX_INCLUDE_GRAPHS;
+		}
+	};
 	private IndexerStateEvent fIndexerStateEvent = new IndexerStateEvent();
 
 	private CModelListener fCModelListener = new CModelListener(this);
@@ -203,6 +217,8 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		PDOM.sDEBUG_LOCKS = Boolean.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/locks")); //$NON-NLS-1$
 		IndexFileSet.sDEBUG = Boolean
 				.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/IndexFileSet")); //$NON-NLS-1$
+		CIndex.sDEBUG_FRAGMENT_LATENCY = Boolean
+				.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/fragmentLatency")); //$NON-NLS-1$
 		addIndexerSetupParticipant(new WaitForRefreshJobs());
 		fProjectDescriptionListener = new CProjectDescriptionListener(this);
 		fJobChangeListener = new JobChangeListener(this);
@@ -1114,8 +1130,42 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		}
 	}
 
+	/**
+	 * Returns the include graph for the given index. The graph is kept up to date with the changes
+	 * of the index, its queries have to be called with the same index in read-locked state.
+	 */
+	public IndexIncludeGraph getIncludeGraph(IIndex index) {
+		List<IIndexFragment> key = index instanceof CIndex ? Arrays.asList(((CIndex) index).getFragments())
+				: Collections.<IIndexFragment>emptyList();
+		synchronized (fIncludeGraphs) {
+			IndexIncludeGraph graph = fIncludeGraphs.get(key);
+			if (graph == null) {
+				graph = new IndexIncludeGraph();
+				fIncludeGraphs.put(key, graph);
+			}
+			return graph;
+		}
+	}
+
+	private static boolean isFragmentOf(PDOM pdom, List<IIndexFragment> fragments) {
+		for (IIndexFragment fragment : fragments) {
+			// A proxy delegates to the pdom once the project is loaded
+			if (fragment == pdom || fragment instanceof PDOMProxy) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void handleChange(PDOM pdom, final PDOM.ChangeEvent e) {
+		synchronized (fIncludeGraphs) {
+			for (Map.Entry<List<IIndexFragment>, IndexIncludeGraph> entry : fIncludeGraphs.entrySet()) {
+				if (isFragmentOf(pdom, entry.getKey())) {
+					entry.getValue().handleChange(e);
+				}
+			}
+		}
 		if (fChangeListeners.isEmpty()) {
 			return;
 		}
@@ -495,6 +495,7 @@ public class PDOMFile implements IIndexFragmentFile {
 						lastName.setNextInFile(pdomName);
 					}
 					lastName = pdomName;
+					linkage.onAddName(pdomName);
 				} else if (fname instanceof PDOMMacroReferenceName) {
 					PDOMMacroReferenceName macroName = (PDOMMacroReferenceName) fname;
 					if (lastMacroName == null) {
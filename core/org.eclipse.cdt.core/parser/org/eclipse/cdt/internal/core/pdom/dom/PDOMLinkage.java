@@ -20,7 +20,11 @@ package org.eclipse.cdt.internal.core.pdom.dom;
 
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.cdt.core.dom.IPDOMVisitor;
@@ -74,12 +78,14 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 	private static final int INDEX_OFFSET = PDOMNamedNode.RECORD_SIZE + 8;
 	private static final int NESTED_BINDINGS_INDEX = PDOMNamedNode.RECORD_SIZE + 12;
 	private static final int MACRO_BTREE = PDOMNamedNode.RECORD_SIZE + 16;
+	private static final int CALL_GRAPH_BTREE = PDOMNamedNode.RECORD_SIZE + 20;
 
 	@SuppressWarnings("hiding")
-	protected static final int RECORD_SIZE = PDOMNamedNode.RECORD_SIZE + 20;
+	protected static final int RECORD_SIZE = PDOMNamedNode.RECORD_SIZE + 24;
 	protected static final long[] FILE_LOCAL_REC_DUMMY = new long[] { 0 };
 
 	private BTree fMacroIndex = null; // No need for volatile, all fields of BTree are final.
+	private BTree fCallGraphIndex = null; // No need for volatile, all fields of BTree are final.
 	private final PDOM fPDOM;
 	private final Database fDatabase;
 
@@ -328,6 +334,66 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 	 * @since 4.0
 	 */
 	public void onDeleteName(PDOMName name) throws CoreException {
+		if (name.getEnclosingDefinitionRecord() != 0) {
+			getCallGraphIndex().delete(name.getRecord());
+		}
+	}
+
+	/**
+	 * Returns the B-tree of all names that are enclosed by a definition, ordered by the record
+	 * of the enclosing definition. It stores the caller to callee edges of the call graph.
+	 */
+	public BTree getCallGraphIndex() {
+		if (fCallGraphIndex == null) {
+			fCallGraphIndex = new BTree(getDB(), record + CALL_GRAPH_BTREE,
+					new PDOMName.CallGraphBTreeComparator(fDatabase));
+		}
+		return fCallGraphIndex;
+	}
+
+	/**
+	 * Callback informing the linkage that a name has been linked into the list of names of its
+	 * file. This is the counterpart of {@link #onDeleteName(PDOMName)} and is used to maintain
+	 * indexes of names, like the call graph index.
+	 * @param name the name that has been added to its file
+	 */
+	public void onAddName(PDOMName name) throws CoreException {
+		if (name.getEnclosingDefinitionRecord() != 0) {
+			getCallGraphIndex().insert(name.getRecord());
+		}
+	}
+
+	/**
+	 * Returns the names of the base specifiers referring to the given binding.
+	 * @param binding the base class
+	 */
+	public List<PDOMName> findBaseSpecifiers(PDOMBinding binding) throws CoreException {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns the names enclosed by the given definition, in the order they appear in the file.
+	 * @param definition the enclosing definition
+	 */
+	public PDOMName[] getEnclosedNames(PDOMName definition) throws CoreException {
+		final long callerRecord = definition.getRecord();
+		final Database db = getDB();
+		final List<PDOMName> result = new ArrayList<>();
+		getCallGraphIndex().accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long record) throws CoreException {
+				return Long.compare(PDOMName.getEnclosingDefinitionRecord(db, record), callerRecord);
+			}
+
+			@Override
+			public boolean visit(long record) throws CoreException {
+				result.add(new PDOMName(PDOMLinkage.this, record));
+				return true;
+			}
+		});
+		PDOMName[] names = result.toArray(new PDOMName[result.size()]);
+		Arrays.sort(names, PDOMName.OFFSET_COMPARATOR);
+		return names;
 	}
 
 	/**
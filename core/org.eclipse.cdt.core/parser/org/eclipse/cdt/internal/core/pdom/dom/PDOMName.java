@@ -15,7 +15,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.dom;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
@@ -28,6 +28,7 @@ import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentName;
 import org.eclipse.cdt.internal.core.pdom.PDOM;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 
@@ -67,6 +68,52 @@ public final class PDOMName implements IIndexFragmentName {
 	// Note: There is no room in the flags byte for more flags. If more flags are
 	//       needed, the flag byte needs to be expanded to a short.
 
+	/** Orders names by their offset in the file. */
+	static final Comparator<PDOMName> OFFSET_COMPARATOR = (n1, n2) -> Integer.compare(n1.getNodeOffset(),
+			n2.getNodeOffset());
+
+	/**
+	 * Orders names by the record of their enclosing definition, such that all names enclosed by
+	 * a definition are adjacent in the call graph index of the linkage.
+	 */
+	public static class CallGraphBTreeComparator implements IBTreeComparator {
+		private final Database db;
+
+		public CallGraphBTreeComparator(Database database) {
+			db = database;
+		}
+
+		@Override
+		public int compare(long record1, long record2) throws CoreException {
+			int cmp = Long.compare(getEnclosingDefinitionRecord(db, record1), getEnclosingDefinitionRecord(db, record2));
+			if (cmp == 0) {
+				cmp = Long.compare(record1, record2);
+			}
+			return cmp;
+		}
+	}
+
+	/**
+	 * Orders names by the record of their binding, such that all names of a binding stored in
+	 * a B-tree are adjacent.
+	 */
+	public static class BindingBTreeComparator implements IBTreeComparator {
+		private final Database db;
+
+		public BindingBTreeComparator(Database database) {
+			db = database;
+		}
+
+		@Override
+		public int compare(long record1, long record2) throws CoreException {
+			int cmp = Long.compare(getBindingRecord(db, record1), getBindingRecord(db, record2));
+			if (cmp == 0) {
+				cmp = Long.compare(record1, record2);
+			}
+			return cmp;
+		}
+	}
+
 	public PDOMName(PDOMLinkage linkage, IASTName name, PDOMFile file, PDOMBinding binding, PDOMName caller,
 			boolean isPotentialMatch) throws CoreException {
 		this.linkage = linkage;
@@ -209,6 +256,14 @@ public final class PDOMName implements IIndexFragmentName {
 		return linkage.getDB().getRecPtr(record + CALLER_REC_OFFSET);
 	}
 
+	static long getEnclosingDefinitionRecord(Database db, long record) throws CoreException {
+		return db.getRecPtr(record + CALLER_REC_OFFSET);
+	}
+
+	public static long getBindingRecord(Database db, long record) throws CoreException {
+		return db.getRecPtr(record + BINDING_REC_OFFSET);
+	}
+
 	public PDOMName getNextInFile() throws CoreException {
 		return getNameField(FILE_NEXT_OFFSET);
 	}
@@ -424,15 +479,7 @@ public final class PDOMName implements IIndexFragmentName {
 
 	@Override
 	public IIndexName[] getEnclosedNames() throws CoreException {
-		ArrayList<PDOMName> result = new ArrayList<>();
-		PDOMName name = getNextInFile();
-		while (name != null) {
-			if (name.getEnclosingDefinitionRecord() == record) {
-				result.add(name);
-			}
-			name = name.getNextInFile();
-		}
-		return result.toArray(new PDOMName[result.size()]);
+		return linkage.getEnclosedNames(this);
 	}
 
 	/**
@@ -170,6 +170,7 @@ import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
 import org.eclipse.cdt.internal.core.pdom.db.BTree;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
 import org.eclipse.cdt.internal.core.pdom.dom.IPDOMMemberOwner;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMASTAdapter;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMBinding;
@@ -191,9 +192,12 @@ class PDOMCPPLinkage extends PDOMLinkage implements IIndexCPPBindingConstants {
 	public final static int CACHE_INSTANCE_SCOPE = 3;
 
 	private final static int FIRST_NAMESPACE_CHILD_OFFSET = PDOMLinkage.RECORD_SIZE;
+	private final static int BASE_SPECIFIER_BTREE = FIRST_NAMESPACE_CHILD_OFFSET + Database.PTR_SIZE;
 
 	@SuppressWarnings("hiding")
-	private final static int RECORD_SIZE = FIRST_NAMESPACE_CHILD_OFFSET + Database.PTR_SIZE;
+	private final static int RECORD_SIZE = BASE_SPECIFIER_BTREE + Database.PTR_SIZE;
+
+	private BTree fBaseSpecifierIndex; // No need for volatile, all fields of BTree are final.
 
 	// Only used when writing to database, which is single-threaded
 	private final LinkedList<Runnable> postProcesses = new LinkedList<>();
@@ -1542,10 +1546,52 @@ class PDOMCPPLinkage extends PDOMLinkage implements IIndexCPPBindingConstants {
 		return uds.toArray(new ICPPUsingDirective[uds.size()]);
 	}
 
+	/**
+	 * Returns the B-tree of the names of all base specifiers, ordered by the record of the base
+	 * class they refer to. It stores the edges from base classes to their derived classes.
+	 */
+	private BTree getBaseSpecifierIndex() {
+		if (fBaseSpecifierIndex == null) {
+			fBaseSpecifierIndex = new BTree(getDB(), record + BASE_SPECIFIER_BTREE,
+					new PDOMName.BindingBTreeComparator(getDB()));
+		}
+		return fBaseSpecifierIndex;
+	}
+
+	@Override
+	public List<PDOMName> findBaseSpecifiers(PDOMBinding binding) throws CoreException {
+		final long bindingRecord = binding.getRecord();
+		final Database db = getDB();
+		final List<PDOMName> result = new ArrayList<>();
+		getBaseSpecifierIndex().accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long record) throws CoreException {
+				return Long.compare(PDOMName.getBindingRecord(db, record), bindingRecord);
+			}
+
+			@Override
+			public boolean visit(long record) throws CoreException {
+				result.add(new PDOMName(PDOMCPPLinkage.this, record));
+				return true;
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public void onAddName(PDOMName pdomName) throws CoreException {
+		super.onAddName(pdomName);
+		if (pdomName.isBaseSpecifier()) {
+			getBaseSpecifierIndex().insert(pdomName.getRecord());
+		}
+	}
+
 	@Override
 	public void onDeleteName(PDOMName pdomName) throws CoreException {
 		super.onDeleteName(pdomName);
-		if (pdomName.isFriendSpecifier()) {
+		if (pdomName.isBaseSpecifier()) {
+			getBaseSpecifierIndex().delete(pdomName.getRecord());
+		} else if (pdomName.isFriendSpecifier()) {
 			PDOMName enclClassName = (PDOMName) pdomName.getEnclosingDefinition();
 			if (enclClassName != null) {
 				PDOMBinding enclClassBinding = enclClassName.getBinding();
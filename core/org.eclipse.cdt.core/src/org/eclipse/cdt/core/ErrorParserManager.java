@@ -27,6 +27,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.errorparsers.ErrorParserNamedWrapper;
@@ -79,9 +80,12 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	public static final String BUILD_CONTEXT = "build"; //$NON-NLS-1$
 
 	private static final Pattern ANSI_ESCAPE_RE = Pattern.compile("\\e\\[[\\d;]*[^\\d;]"); //$NON-NLS-1$
+	private static final char ESCAPE = '\u001b';
+	private static final int FILE_NAME_CACHE_SIZE = 256;
 
 	private int nOpens;
 	private int lineCounter = 0;
+	private long parseTime = 0;
 
 	private int errorCounter = 0;
 	private int warningCounter = 0;
@@ -103,9 +107,13 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 
 	private boolean hasErrors = false;
 
-	private String cachedFileName = null;
-	private URI cachedWorkingDirectory = null;
-	private IFile cachedFile = null;
+	// The files found by findFileName(), by working directory and file name
+	private final Map<String, IFile> fFileNameCache = new LinkedHashMap<String, IFile>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, IFile> eldest) {
+			return size() > FILE_NAME_CACHE_SIZE;
+		}
+	};
 
 	private boolean deferDeDuplication = false;
 
@@ -329,11 +337,16 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	 */
 	@Override
 	public boolean processLine(String line) {
+		long startTime = System.nanoTime();
 		/*
 		 * If the tool outputs colored text, it will contain ANSI escape
 		 * sequences. Remove them, since they can confuse the error parsers.
 		 */
-		String lineTrimmed = ANSI_ESCAPE_RE.matcher(line).replaceAll("").trim(); //$NON-NLS-1$
+		String lineTrimmed = line;
+		if (line.indexOf(ESCAPE) >= 0) {
+			lineTrimmed = ANSI_ESCAPE_RE.matcher(line).replaceAll(""); //$NON-NLS-1$
+		}
+		lineTrimmed = lineTrimmed.trim();
 		lineCounter++;
 
 		ProblemMarkerInfo marker = null;
@@ -389,6 +402,7 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 				}
 			}
 		}
+		parseTime += System.nanoTime() - startTime;
 		outputLine(line, marker);
 
 		return false;
@@ -424,6 +438,14 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 		return lineCounter;
 	}
 
+	/**
+	 * @return time spent by the error parsers on the processed lines of output, in milliseconds
+	 * @since 6.7
+	 */
+	public long getParseTime() {
+		return TimeUnit.NANOSECONDS.toMillis(parseTime);
+	}
+
 	/**
 	 * Returns the file with the given (partial) location if that file can be uniquely identified.
 	 * Otherwise returns {@code null}.
@@ -441,9 +463,10 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	 * @return - file in the workspace or {@code null}.
 	 */
 	public IFile findFileName(String partialLoc) {
-		if (partialLoc.equals(cachedFileName) && cachedWorkingDirectory != null
-				&& org.eclipse.core.filesystem.URIUtil.equals(getWorkingDirectoryURI(), cachedWorkingDirectory)) {
-			return cachedFile;
+		// The same files are usually reported many times, with warnings and notes
+		String cacheKey = getWorkingDirectoryURI() + "\n" + partialLoc; //$NON-NLS-1$
+		if (fFileNameCache.containsKey(cacheKey)) {
+			return fFileNameCache.get(cacheKey);
 		}
 
 		// To be able to parse Windows paths on Linux systems, see bug 263977
@@ -480,9 +503,7 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 			file = findCygwinFile(partialLoc);
 		}
 
-		cachedFileName = partialLoc;
-		cachedWorkingDirectory = getWorkingDirectoryURI();
-		cachedFile = file;
+		fFileNameCache.put(cacheKey, file);
 		return file;
 	}
 
@@ -678,7 +699,9 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	@Override
 	public synchronized void write(int b) throws IOException {
 		currentLine.append((char) b);
-		checkLine(false);
+		if (b == '\n') {
+			checkLine(false);
+		}
 	}
 
 	@Override
@@ -699,26 +722,30 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	// parsers (processLine method).
 	// If flush is true rest of line is checked by error parsers.
 	private void checkLine(boolean flush) {
-		String buffer = currentLine.toString();
-		int i = 0;
-		while ((i = buffer.indexOf('\n')) != -1) {
-			String line = buffer.substring(0, i);
+		// The lines of the whole buffer are processed before it is compacted once,
+		// rather than after each line
+		int start = 0;
+		int i;
+		while ((i = currentLine.indexOf("\n", start)) != -1) { //$NON-NLS-1$
+			int end = i;
 			// get rid of any trailing '\r'
-			if (line.endsWith("\r")) { //$NON-NLS-1$
-				line = line.substring(0, line.length() - 1);
+			if (end > start && currentLine.charAt(end - 1) == '\r') {
+				end--;
 			}
+			String line = currentLine.substring(start, end);
 			processLine(line);
 			previousLine = line;
-			buffer = buffer.substring(i + 1); // skip the \n and advance
+			start = i + 1; // skip the \n and advance
 		}
-		currentLine.setLength(0);
 		if (flush) {
-			if (buffer.length() > 0) {
-				processLine(buffer);
-				previousLine = buffer;
+			if (start < currentLine.length()) {
+				String line = currentLine.substring(start);
+				processLine(line);
+				previousLine = line;
 			}
+			currentLine.setLength(0);
 		} else {
-			currentLine.append(buffer);
+			currentLine.delete(0, start);
 		}
 	}
 
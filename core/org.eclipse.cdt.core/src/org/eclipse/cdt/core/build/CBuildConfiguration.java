@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -82,6 +83,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
@@ -94,6 +96,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Root class for CDT build configurations. Provides access to the build
@@ -108,6 +111,8 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 
 	private static final String NEED_REFRESH = "cdt.needScannerRefresh"; //$NON-NLS-1$
 
+	private static final String COMPILE_COMMANDS_STAMP = "cdt.compileCommandsStamp"; //$NON-NLS-1$
+
 	private static final List<String> DEFAULT_COMMAND = new ArrayList<>(0);
 
 	private final String name;
@@ -119,6 +124,9 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 
 	private final Map<IResource, List<IScannerInfoChangeListener>> scannerInfoListeners = new HashMap<>();
 	private ScannerInfoCache scannerInfoCache;
+	// The scanner info jobs not done yet, by stripped command
+	private final Map<List<String>, ScannerInfoJob> pendingScannerInfoJobs = new HashMap<>();
+	private JobGroup scannerInfoJobGroup;
 
 	protected CBuildConfiguration(IBuildConfiguration config, String name) throws CoreException {
 		this.config = config;
@@ -709,6 +717,7 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		try (FileWriter writer = new FileWriter(getScannerInfoCacheFile())) {
 			Gson gson = new Gson();
 			synchronized (scannerInfoLock) {
+				scannerInfoCache.compact();
 				gson.toJson(scannerInfoCache, writer);
 			}
 		} catch (IOException e) {
@@ -962,7 +971,8 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		private IToolChain toolchain;
 		private List<String> command;
 		private List<String> commandStrings;
-		private IResource resource;
+		// The resources compiled with the command, guarded by scannerInfoLock
+		private List<IResource> resources = new ArrayList<>();
 		private URI buildDirectoryURI;
 
 		public ScannerInfoJob(String msg, IToolChain toolchain, List<String> command, IResource resource,
@@ -971,22 +981,48 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 			this.toolchain = toolchain;
 			this.command = command;
 			this.commandStrings = commandStrings;
-			this.resource = resource;
+			this.resources.add(resource);
 			this.buildDirectoryURI = buildDirectoryURI;
 		}
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-			IExtendedScannerInfo info = toolchain.getScannerInfo(getBuildConfiguration(), command, null, resource,
-					buildDirectoryURI);
+			IResource resource;
 			synchronized (scannerInfoLock) {
-				scannerInfoCache.addScannerInfo(commandStrings, info, resource);
-				infoChanged = true;
+				resource = resources.get(0);
+			}
+			IExtendedScannerInfo info = null;
+			try {
+				info = toolchain.getScannerInfo(getBuildConfiguration(), command, null, resource, buildDirectoryURI);
+			} finally {
+				synchronized (scannerInfoLock) {
+					// The resources added from now on need a new job
+					if (pendingScannerInfoJobs.get(commandStrings) == this) {
+						pendingScannerInfoJobs.remove(commandStrings);
+					}
+					if (info != null) {
+						for (IResource rc : resources) {
+							scannerInfoCache.addScannerInfo(commandStrings, info, rc);
+						}
+						infoChanged = true;
+					}
+				}
 			}
 			return Status.OK_STATUS;
 		}
 	}
 
+	private JobGroup getScannerInfoJobGroup() {
+		synchronized (scannerInfoLock) {
+			if (scannerInfoJobGroup == null) {
+				// Calculating the scanner info runs the compiler, as many at a time as there are processors
+				scannerInfoJobGroup = new JobGroup(Messages.CBuildConfiguration_CalculatingScannerInfo,
+						Runtime.getRuntime().availableProcessors(), 0);
+			}
+			return scannerInfoJobGroup;
+		}
+	}
+
 	/**
 	 * Process a compile line for Scanner info in a separate job
 	 *
@@ -1062,12 +1098,24 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 						}
 					}
 					if (!hasCommand || needScannerRefresh) {
+						synchronized (scannerInfoLock) {
+							// A job calculating the scanner info of the same command also does it for the resource
+							ScannerInfoJob pendingJob = pendingScannerInfoJobs.get(commandStrings);
+							if (pendingJob != null) {
+								pendingJob.resources.add(resource);
+								continue;
+							}
+						}
 						Path commandPath = findCommand(command.get(0));
 						if (commandPath != null) {
 							command.set(0, commandPath.toString());
-							Job job = new ScannerInfoJob(
+							ScannerInfoJob job = new ScannerInfoJob(
 									String.format(Messages.CBuildConfiguration_RunningScannerInfo, resource),
 									getToolChain(), command, resource, getBuildDirectoryURI(), commandStrings);
+							job.setJobGroup(getScannerInfoJobGroup());
+							synchronized (scannerInfoLock) {
+								pendingScannerInfoJobs.put(commandStrings, job);
+							}
 							job.schedule();
 							jobsArray.add(job);
 						}
@@ -1083,6 +1131,92 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		}
 	}
 
+	/**
+	 * Processes the compile commands of a JSON compilation database, such as the
+	 * compile_commands.json file generated by CMake or Meson, for scanner info.
+	 * The file is read as a stream and the last command of each file is processed.
+	 * Nothing is done if the file did not change since it was last processed, unless
+	 * the toolchain asks for the scanner info to be refreshed.
+	 *
+	 * @param commandsFile - the compilation database
+	 * @param monitor - progress monitor, processing stops when it is canceled
+	 * @return - true if the file was processed, false if it did not change
+	 * @throws IOException if the file cannot be read or is not a compilation database
+	 *
+	 * @since 6.7
+	 */
+	protected boolean processCompileCommands(Path commandsFile, IProgressMonitor monitor) throws IOException {
+		String stamp = Files.getLastModifiedTime(commandsFile).toMillis() + ":" + Files.size(commandsFile); //$NON-NLS-1$
+		if (!needScannerRefresh() && stamp.equals(getProperty(COMPILE_COMMANDS_STAMP))
+				&& getScannerInfoCacheFile().exists()) {
+			return false;
+		}
+
+		// Commands by file, the last one wins
+		Map<String, String> commands = new LinkedHashMap<>();
+		try (JsonReader reader = new JsonReader(Files.newBufferedReader(commandsFile))) {
+			reader.beginArray();
+			while (reader.hasNext()) {
+				String file = null;
+				String command = null;
+				reader.beginObject();
+				while (reader.hasNext()) {
+					switch (reader.nextName()) {
+					case "file": //$NON-NLS-1$
+						file = reader.nextString();
+						break;
+					case "command": //$NON-NLS-1$
+						command = reader.nextString();
+						break;
+					default:
+						reader.skipValue();
+						break;
+					}
+				}
+				reader.endObject();
+				if (file != null && command != null) {
+					commands.put(file, command);
+				}
+			}
+			reader.endArray();
+		} catch (IllegalStateException e) {
+			// Not the structure of a compilation database
+			throw new IOException(e.getMessage(), e);
+		}
+
+		List<Job> jobsList = new ArrayList<>();
+		for (String command : commands.values()) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			processLine(command, jobsList);
+		}
+		for (Job j : jobsList) {
+			try {
+				j.join();
+			} catch (InterruptedException e) {
+				// ignore
+			}
+		}
+		shutdown();
+
+		// The toolchain clears the refresh request once the scanner info jobs refreshed what it needed
+		if (!monitor.isCanceled() && !needScannerRefresh()) {
+			Preferences settings = getSettings();
+			settings.put(COMPILE_COMMANDS_STAMP, stamp);
+			try {
+				settings.flush();
+			} catch (BackingStoreException e) {
+				CCorePlugin.log(e);
+			}
+		}
+		return true;
+	}
+
+	private boolean needScannerRefresh() {
+		return toolChain instanceof IToolChain2 && "true".equals(toolChain.getProperty(NEED_REFRESH)); //$NON-NLS-1$
+	}
+
 	/**
 	 * @since 6.5
 	 */
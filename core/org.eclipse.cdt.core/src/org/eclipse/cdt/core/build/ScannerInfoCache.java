@@ -11,30 +11,43 @@
 package org.eclipse.cdt.core.build;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
 import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IncludeExportPatterns;
 import org.eclipse.core.resources.IResource;
 
 /**
  * Scanner info for a given build configuration.
  *
+ * The commands which lead to the same scanner info share it, it is stored once.
+ *
  * @since 6.1
  */
 public class ScannerInfoCache {
 
 	private static class Command {
 		public List<String> command;
+		// Only set in the caches saved before the scanner info was shared
 		public IExtendedScannerInfo info;
+		// The index of the scanner info in infos
+		public Integer infoIndex;
 		public List<String> resourcePaths;
 	}
 
 	private List<Command> commands;
+	private List<IExtendedScannerInfo> infos;
 
 	private transient Map<List<String>, Command> commandMap = new HashMap<>();
 	private transient Map<String, Command> resourceMap = new HashMap<>();
+	// The index of each scanner info in infos, by content
+	private transient Map<List<Object>, Integer> infoIndexes = new HashMap<>();
 
 	/**
 	 * Initialize the cache of scanner info. Call this after loading this info
@@ -44,8 +57,19 @@ public class ScannerInfoCache {
 		if (commands == null) {
 			commands = new ArrayList<>();
 		}
+		if (infos == null) {
+			infos = new ArrayList<>();
+		}
+
+		for (int i = 0; i < infos.size(); i++) {
+			infoIndexes.put(getInfoKey(infos.get(i)), i);
+		}
 
 		for (Command command : commands) {
+			if (command.info != null) {
+				command.infoIndex = addInfo(command.info);
+				command.info = null;
+			}
 			commandMap.put(command.command, command);
 			for (String resourcePath : command.resourcePaths) {
 				resourceMap.put(resourcePath, command);
@@ -56,12 +80,12 @@ public class ScannerInfoCache {
 	public IExtendedScannerInfo getScannerInfo(IResource resource) {
 		String resourcePath = resource.getLocation().toOSString();
 		Command command = resourceMap.get(resourcePath);
-		return command != null ? command.info : null;
+		return command != null ? getInfo(command) : null;
 	}
 
 	public IExtendedScannerInfo getScannerInfo(List<String> commandStrings) {
 		Command command = commandMap.get(commandStrings);
-		return command != null ? command.info : null;
+		return command != null ? getInfo(command) : null;
 	}
 
 	public boolean hasCommand(List<String> commandStrings) {
@@ -89,13 +113,13 @@ public class ScannerInfoCache {
 
 		Command command = commandMap.get(commandStrings);
 		if (command != null) {
-			command.info = info;
+			command.infoIndex = addInfo(info);
 			command.resourcePaths.add(resourcePath);
 			resourceMap.put(resourcePath, command);
 		} else {
 			command = new Command();
 			command.command = commandStrings;
-			command.info = info;
+			command.infoIndex = addInfo(info);
 			command.resourcePaths = new ArrayList<>();
 			command.resourcePaths.add(resourcePath);
 			commands.add(command);
@@ -113,7 +137,7 @@ public class ScannerInfoCache {
 		if (command == null) {
 			return false;
 		}
-		return command.resourcePaths.contains(resourcePath);
+		return resourceMap.get(resourcePath) == command;
 	}
 
 	public void addResource(List<String> commandStrings, IResource resource) {
@@ -169,4 +193,82 @@ public class ScannerInfoCache {
 		}
 	}
 
+	/**
+	 * Drops the scanner info which no command uses any more. Call this before saving
+	 * this info using Gson.
+	 */
+	void compact() {
+		int[] newIndexes = new int[infos.size()];
+		Arrays.fill(newIndexes, -1);
+		List<IExtendedScannerInfo> usedInfos = new ArrayList<>();
+		boolean moved = false;
+		for (Command command : commands) {
+			if (command.infoIndex == null) {
+				continue;
+			}
+			int index = command.infoIndex;
+			if (newIndexes[index] < 0) {
+				newIndexes[index] = usedInfos.size();
+				usedInfos.add(infos.get(index));
+			}
+			command.infoIndex = newIndexes[index];
+			moved |= newIndexes[index] != index;
+		}
+		if (moved || usedInfos.size() != infos.size()) {
+			infos = usedInfos;
+			infoIndexes.clear();
+			for (int i = 0; i < infos.size(); i++) {
+				infoIndexes.put(getInfoKey(infos.get(i)), i);
+			}
+		}
+	}
+
+	private IExtendedScannerInfo getInfo(Command command) {
+		return command.infoIndex != null ? infos.get(command.infoIndex) : null;
+	}
+
+	/**
+	 * Returns the index of the given scanner info, or of the one with the same content
+	 * already in the cache.
+	 */
+	private Integer addInfo(IExtendedScannerInfo info) {
+		if (info == null) {
+			return null;
+		}
+		List<Object> key = getInfoKey(info);
+		Integer index = infoIndexes.get(key);
+		if (index == null) {
+			index = infos.size();
+			infos.add(info);
+			infoIndexes.put(key, index);
+		}
+		return index;
+	}
+
+	private static List<Object> getInfoKey(IExtendedScannerInfo info) {
+		List<Object> key = new ArrayList<>();
+		Map<String, String> definedSymbols = info.getDefinedSymbols();
+		key.add(definedSymbols != null ? new TreeMap<>(definedSymbols) : null);
+		key.add(asList(info.getIncludePaths()));
+		key.add(asList(info.getLocalIncludePath()));
+		key.add(asList(info.getMacroFiles()));
+		key.add(asList(info.getIncludeFiles()));
+		if (info instanceof ExtendedScannerInfo) {
+			IncludeExportPatterns patterns = ((ExtendedScannerInfo) info).getIncludeExportPatterns();
+			if (patterns != null) {
+				key.add(asString(patterns.getIncludeExportPattern()));
+				key.add(asString(patterns.getIncludeBeginExportsPattern()));
+				key.add(asString(patterns.getIncludeEndExportsPattern()));
+			}
+		}
+		return key;
+	}
+
+	private static List<String> asList(String[] strings) {
+		return strings != null ? Arrays.asList(strings) : null;
+	}
+
+	private static String asString(Pattern pattern) {
+		return pattern != null ? pattern.pattern() : null;
+	}
 }
@@ -60,8 +60,12 @@ public class RegexErrorPattern implements Cloneable {
 	 */
 	public static final int SEVERITY_SKIP = -1;
 	private static final String EMPTY_STR = ""; //$NON-NLS-1$
+	private static final String META_CHARS = ".^$|()[]{}*+?\\"; //$NON-NLS-1$
+	private static final Pattern INLINE_FLAGS = Pattern.compile("\\(\\?[a-zA-Z-]*[ixu]"); //$NON-NLS-1$
 
 	private Pattern pattern;
+	// A string every matching line contains, checked before running the regular expression
+	private String requiredLiteral;
 	private String fileExpression;
 	private String lineExpression;
 	private String descriptionExpression;
@@ -92,6 +96,7 @@ public class RegexErrorPattern implements Cloneable {
 	public RegexErrorPattern(String pattern, String fileExpression, String lineExpression, String descriptionExpression,
 			String varNameExpression, int severity, boolean eat) {
 		this.pattern = Pattern.compile(pattern != null ? pattern : EMPTY_STR);
+		this.requiredLiteral = findRequiredLiteral(this.pattern.pattern());
 		this.fileExpression = fileExpression != null ? fileExpression : EMPTY_STR;
 		this.lineExpression = lineExpression != null ? lineExpression : EMPTY_STR;
 		this.descriptionExpression = descriptionExpression != null ? descriptionExpression : EMPTY_STR;
@@ -158,6 +163,7 @@ public class RegexErrorPattern implements Cloneable {
 	 */
 	public void setPattern(String pattern) {
 		this.pattern = Pattern.compile(pattern);
+		this.requiredLiteral = findRequiredLiteral(this.pattern.pattern());
 	}
 
 	/**
@@ -275,6 +281,11 @@ public class RegexErrorPattern implements Cloneable {
 	 * @return {@code true} if error/warning/info problem was found.
 	 */
 	public boolean processLine(String line, ErrorParserManager eoParser) {
+		// Most of the build output matches none of the patterns, avoid running the regular expression
+		if (requiredLiteral != null && line.indexOf(requiredLiteral) < 0) {
+			return false;
+		}
+
 		Matcher matcher = getMatcher(line);
 		if (!matcher.matches()) {
 			return false;
@@ -344,6 +355,105 @@ public class RegexErrorPattern implements Cloneable {
 		return path;
 	}
 
+	/**
+	 * Finds the longest string which any input matching the regular expression contains, looking
+	 * only at the characters outside of the groups and classes.
+	 *
+	 * @param regex - regular expression.
+	 * @return the string or {@code null} if none was found.
+	 */
+	private static String findRequiredLiteral(String regex) {
+		if (regex.contains("\\Q") || INLINE_FLAGS.matcher(regex).find()) { //$NON-NLS-1$
+			// Quoting and flags change the meaning of the characters
+			return null;
+		}
+
+		String longest = EMPTY_STR;
+		StringBuilder literal = new StringBuilder();
+		int depth = 0;
+		int length = regex.length();
+		for (int i = 0; i < length; i++) {
+			char c = regex.charAt(i);
+			boolean isLiteral = false;
+			if (c == '\\') {
+				if (++i >= length) {
+					return null;
+				}
+				c = regex.charAt(i);
+				if (Character.isLetterOrDigit(c)) {
+					if ("xuUpPkcN0123456789".indexOf(c) >= 0) { //$NON-NLS-1$
+						// Escapes spanning the following characters
+						return null;
+					}
+				} else {
+					isLiteral = depth == 0;
+				}
+			} else if (c == '[') {
+				i = skipClass(regex, i);
+				if (i < 0) {
+					return null;
+				}
+			} else if (c == '{') {
+				i = regex.indexOf('}', i);
+				if (i < 0) {
+					return null;
+				}
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '|') {
+				if (depth == 0) {
+					return null;
+				}
+			} else {
+				isLiteral = depth == 0 && META_CHARS.indexOf(c) < 0;
+			}
+
+			char next = i + 1 < length ? regex.charAt(i + 1) : 0;
+			boolean isOptional = next == '?' || next == '*' || next == '{';
+			if (isLiteral && !isOptional) {
+				literal.append(c);
+			}
+			if (!isLiteral || isOptional || next == '+') {
+				if (literal.length() > longest.length()) {
+					longest = literal.toString();
+				}
+				literal.setLength(0);
+			}
+		}
+		if (literal.length() > longest.length()) {
+			longest = literal.toString();
+		}
+		return longest.isEmpty() ? null : longest;
+	}
+
+	/**
+	 * @return the index of the end of the character class starting at the given index,
+	 *    or {@code -1} if the class could not be parsed.
+	 */
+	private static int skipClass(String regex, int start) {
+		int i = start + 1;
+		if (i < regex.length() && regex.charAt(i) == '^') {
+			i++;
+		}
+		if (i < regex.length() && regex.charAt(i) == ']') {
+			return -1;
+		}
+		int depth = 1;
+		for (; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == '[') {
+				depth++;
+			} else if (c == ']' && --depth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
 	 */
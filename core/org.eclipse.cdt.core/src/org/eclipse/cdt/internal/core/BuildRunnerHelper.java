@@ -67,6 +67,8 @@ public class BuildRunnerHelper implements Closeable {
 	private static final int TICKS_STREAM_PROGRESS_MONITOR = 1 * PROGRESS_MONITOR_SCALE;
 	private static final int TICKS_EXECUTE_PROGRAM = 1 * PROGRESS_MONITOR_SCALE;
 	private static final int TICKS_PARSE_OUTPUT = 1 * PROGRESS_MONITOR_SCALE;
+	// Below this number of lines the rate of parsing is of no interest
+	private static final int MIN_LINES_FOR_RATE = 10000;
 
 	private IProject project;
 
@@ -487,6 +489,14 @@ public class BuildRunnerHelper implements Closeable {
 					Integer.toString(errorCount), Integer.toString(warningCount) });
 		}
 		String goodbye = '\n' + timestamp(endTime) + msg + '\n';
+		int lineCount = errorParserManager.getLineCounter();
+		long parseTime = errorParserManager.getParseTime();
+		if (lineCount >= MIN_LINES_FOR_RATE && parseTime > 0) {
+			long rate = lineCount * 1000L / parseTime;
+			goodbye += CCorePlugin.getFormattedString("BuildRunnerHelper.outputParsed", //$NON-NLS-1$
+					new String[] { Integer.toString(lineCount), durationToString(parseTime), Long.toString(rate) })
+					+ '\n';
+		}
 
 		try {
 			toConsole(goodbye);
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.ui.tests.text;
+
+import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.testplugin.CProjectHelper;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.ui.editor.CEditor;
+import org.eclipse.cdt.ui.CUIPlugin;
+import org.eclipse.cdt.ui.PreferenceConstants;
+import org.eclipse.cdt.ui.testplugin.EditorTestHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures the latency of the reconcile including semantic highlighting after a small edit,
+ * for generated files of increasing size.
+ *
+ * n.b. this is intentionally not added to any test suite at the moment
+ */
+public class SemanticHighlightingPerformanceTest extends TestCase {
+	private static final int[] FUNCTION_COUNTS = { 100, 1000, 5000 };
+	private static final int EDITS = 10;
+
+	private ICProject fCProject;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IPreferenceStore store = CUIPlugin.getDefault().getPreferenceStore();
+		store.setValue(PreferenceConstants.EDITOR_SEMANTIC_HIGHLIGHTING_ENABLED, true);
+		fCProject = CProjectHelper.createCCProject("SHPerfTest", "bin", IPDOMManager.ID_FAST_INDEXER);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		if (fCProject != null)
+			CProjectHelper.delete(fCProject);
+		CUIPlugin.getDefault().getPreferenceStore()
+				.setToDefault(PreferenceConstants.EDITOR_SEMANTIC_HIGHLIGHTING_ENABLED);
+		super.tearDown();
+	}
+
+	private static String createSource(int functions) {
+		StringBuilder buf = new StringBuilder();
+		buf.append("struct Point { int x; int y; };\n");
+		buf.append("enum Color { red, green, blue };\n");
+		for (int i = 0; i < functions; i++) {
+			buf.append("static int func").append(i).append("(Point* p, int n) {\n");
+			buf.append("\tint local = p->x + n;\n");
+			buf.append("\tColor c = green;\n");
+			if (i > 0) {
+				buf.append("\tlocal += func").append(i - 1).append("(p, local);\n");
+			}
+			buf.append("\treturn local + c;\n");
+			buf.append("}\n");
+		}
+		return buf.toString();
+	}
+
+	public void testReconcileLatency() throws Exception {
+		for (int functions : FUNCTION_COUNTS) {
+			String fileName = "SHPerf" + functions + ".cpp";
+			IFile file = TestSourceReader.createFile(fCProject.getProject(), new Path(fileName),
+					createSource(functions));
+			BaseTestCase.waitForIndexer(fCProject);
+			CEditor editor = (CEditor) EditorTestHelper.openInEditor(file, true);
+			SourceViewer sourceViewer = EditorTestHelper.getSourceViewer(editor);
+			assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 60000, 100));
+
+			IDocument document = sourceViewer.getDocument();
+			long total = 0;
+			for (int i = 0; i < EDITS; i++) {
+				int offset = document.getLength() / 2;
+				long start = System.nanoTime();
+				document.replace(offset, 0, " ");
+				assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 60000, 10));
+				total += System.nanoTime() - start;
+				document.replace(offset, 1, "");
+				assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 60000, 10));
+			}
+			System.out.println(fileName + " (" + document.getLength() + " chars): " + total / EDITS / 1000000
+					+ " ms per reconcile");
+			EditorTestHelper.revertEditor(editor, true);
+			EditorTestHelper.closeEditor(editor);
+		}
+	}
+}
@@ -16,7 +16,9 @@ package org.eclipse.cdt.internal.ui.callhierarchy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ILinkage;
@@ -57,6 +59,9 @@ public class CHQueries {
 		if (!(callee instanceof ISourceReference)) {
 			return EMPTY_NODES;
 		}
+		// Many calls are typically made from the same caller, the element for each caller
+		// is determined only once.
+		Map<IIndexName, ICElement> callers = new HashMap<>();
 		boolean done = false;
 		int linkageID = node.getLinkageID();
 		if (linkageID == -1) {
@@ -67,13 +72,13 @@ public class CHQueries {
 			final String ct = tu.getContentTypeId();
 			if (ct.equals(CCorePlugin.CONTENT_TYPE_CXXHEADER) || ct.equals(CCorePlugin.CONTENT_TYPE_CHEADER)) {
 				// Bug 260262: in a header file we need to consider C and C++.
-				findCalledBy(callee, ILinkage.C_LINKAGE_ID, index, result);
-				findCalledBy(callee, ILinkage.CPP_LINKAGE_ID, index, result);
+				findCalledBy(callee, ILinkage.C_LINKAGE_ID, index, callers, result);
+				findCalledBy(callee, ILinkage.CPP_LINKAGE_ID, index, callers, result);
 				done = true;
 			}
 		}
 		if (!done) {
-			findCalledBy(callee, linkageID, index, result);
+			findCalledBy(callee, linkageID, index, callers, result);
 		}
 		for (ICallHierarchyProvider provider : CHProviderManager.INSTANCE.getCallHierarchyProviders()) {
 			provider.findCalledBy(callee, linkageID, index, result);
@@ -92,38 +97,44 @@ public class CHQueries {
 		return false;
 	}
 
-	private static void findCalledBy(ICElement callee, int linkageID, IIndex index, CalledByResult result)
-			throws CoreException {
+	private static void findCalledBy(ICElement callee, int linkageID, IIndex index, Map<IIndexName, ICElement> callers,
+			CalledByResult result) throws CoreException {
 		final ICProject project = callee.getCProject();
 		IIndexBinding calleeBinding = IndexUI.elementToBinding(index, callee, linkageID);
 		if (calleeBinding != null) {
-			findCalledBy1(index, calleeBinding, true, project, result);
+			findCalledBy1(index, calleeBinding, true, project, callers, result);
 			if (calleeBinding instanceof ICPPMethod) {
 				IBinding[] overriddenBindings = ClassTypeHelper.findOverridden((ICPPMethod) calleeBinding);
 				for (IBinding overriddenBinding : overriddenBindings) {
-					findCalledBy1(index, overriddenBinding, false, project, result);
+					findCalledBy1(index, overriddenBinding, false, project, callers, result);
 				}
 			}
 		}
 	}
 
 	private static void findCalledBy1(IIndex index, IBinding callee, boolean includeOrdinaryCalls, ICProject project,
-			CalledByResult result) throws CoreException {
-		findCalledBy2(index, callee, includeOrdinaryCalls, project, result);
+			Map<IIndexName, ICElement> callers, CalledByResult result) throws CoreException {
+		findCalledBy2(index, callee, includeOrdinaryCalls, project, callers, result);
 		List<? extends IBinding> specializations = IndexUI.findSpecializations(index, callee);
 		for (IBinding spec : specializations) {
-			findCalledBy2(index, spec, includeOrdinaryCalls, project, result);
+			findCalledBy2(index, spec, includeOrdinaryCalls, project, callers, result);
 		}
 	}
 
 	private static void findCalledBy2(IIndex index, IBinding callee, boolean includeOrdinaryCalls, ICProject project,
-			CalledByResult result) throws CoreException {
+			Map<IIndexName, ICElement> callers, CalledByResult result) throws CoreException {
 		IIndexName[] names = index.findNames(callee, IIndex.FIND_REFERENCES | IIndex.SEARCH_ACROSS_LANGUAGE_BOUNDARIES);
 		for (IIndexName rname : names) {
 			if (includeOrdinaryCalls || rname.couldBePolymorphicMethodCall()) {
 				IIndexName caller = rname.getEnclosingDefinition();
 				if (caller != null) {
-					ICElement elem = IndexUI.getCElementForName(project, index, caller);
+					ICElement elem;
+					if (callers.containsKey(caller)) {
+						elem = callers.get(caller);
+					} else {
+						elem = IndexUI.getCElementForName(project, index, caller);
+						callers.put(caller, elem);
+					}
 					if (elem != null) {
 						result.add(elem, rname);
 					}
@@ -141,6 +152,9 @@ public class CHQueries {
 		CallsToResult result = new CallsToResult();
 		IIndexName callerName = IndexUI.elementToName(index, caller);
 		if (callerName != null) {
+			// The same function is typically called several times from one caller.
+			Map<IBinding, ICElement[]> overriders = new HashMap<>();
+			Map<IBinding, ICElement[]> representatives = new HashMap<>();
 			IIndexName[] refs = callerName.getEnclosedNames();
 			for (IIndexName name : refs) {
 				IBinding binding = index.findBinding(name);
@@ -148,10 +162,19 @@ public class CHQueries {
 					while (true) {
 						ICElement[] defs = null;
 						if (binding instanceof ICPPMethod && name.couldBePolymorphicMethodCall()) {
-							defs = findOverriders(index, (ICPPMethod) binding);
+							if (overriders.containsKey(binding)) {
+								defs = overriders.get(binding);
+							} else {
+								defs = findOverriders(index, (ICPPMethod) binding);
+								overriders.put(binding, defs);
+							}
 						}
 						if (defs == null) {
-							defs = IndexUI.findRepresentative(index, binding);
+							defs = representatives.get(binding);
+							if (defs == null) {
+								defs = IndexUI.findRepresentative(index, binding);
+								representatives.put(binding, defs);
+							}
 						}
 						if (defs != null && defs.length > 0) {
 							result.add(defs, name);
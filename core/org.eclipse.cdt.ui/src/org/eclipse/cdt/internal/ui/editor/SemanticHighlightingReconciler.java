@@ -64,6 +64,13 @@ import org.eclipse.ui.IWorkbenchPartSite;
  * @since 4.0
  */
 public class SemanticHighlightingReconciler implements ICReconcilingListener {
+	private static final int[] EMPTY_OFFSETS = {};
+	private static final Comparator<Position> OFFSET_COMPARATOR = new Comparator<Position>() {
+		@Override
+		public int compare(final Position p1, final Position p2) {
+			return p1.getOffset() - p2.getOffset();
+		}
+	};
 
 	/**
 	 * Collects positions from the AST.
@@ -314,8 +321,9 @@ public class SemanticHighlightingReconciler implements ICReconcilingListener {
 		@Override
 		protected void addPosition(int offset, int length, HighlightingStyle highlightingStyle) {
 			boolean isExisting = false;
-			// TODO: use binary search
-			for (int i = 0, n = fRemovedPositions.size(); i < n; i++) {
+			// Only the positions starting at the same offset can be equal to the new one.
+			final int[] offsets = fRemovedOffsets;
+			for (int i = findFirstOffset(offsets, offset), n = offsets.length; i < n && offsets[i] == offset; i++) {
 				HighlightedPosition position = fRemovedPositions.get(i);
 				if (position == null)
 					continue;
@@ -350,6 +358,8 @@ public class SemanticHighlightingReconciler implements ICReconcilingListener {
 	protected List<HighlightedPosition> fRemovedPositions = new ArrayList<>();
 	/** Number of removed positions */
 	protected int fNOfRemovedPositions;
+	/** Offsets of the removed positions at the start of the reconcile, in ascending order */
+	private int[] fRemovedOffsets = EMPTY_OFFSETS;
 
 	/** Background job */
 	private Job fJob;
@@ -436,6 +446,31 @@ public class SemanticHighlightingReconciler implements ICReconcilingListener {
 	protected void startReconcilingPositions() {
 		fJobPresenter.addAllPositions(fRemovedPositions);
 		fNOfRemovedPositions = fRemovedPositions.size();
+		// The presenter keeps its positions sorted, so this is normally a linear check.
+		Collections.sort(fRemovedPositions, OFFSET_COMPARATOR);
+		int[] offsets = new int[fNOfRemovedPositions];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = fRemovedPositions.get(i).getOffset();
+		}
+		fRemovedOffsets = offsets;
+	}
+
+	/**
+	 * Returns the index of the first element of the sorted array that is not less than the given
+	 * offset, or the length of the array if there is no such element.
+	 */
+	private static int findFirstOffset(int[] offsets, int offset) {
+		int low = 0;
+		int high = offsets.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (offsets[mid] < offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
 	}
 
 	/**
@@ -459,13 +494,9 @@ public class SemanticHighlightingReconciler implements ICReconcilingListener {
 				newPositions.add(current);
 		}
 		fRemovedPositions = newPositions;
+		fRemovedOffsets = EMPTY_OFFSETS;
 		// Positions need to be sorted by ascending offset
-		Collections.sort(fAddedPositions, new Comparator<Position>() {
-			@Override
-			public int compare(final Position p1, final Position p2) {
-				return p1.getOffset() - p2.getOffset();
-			}
-		});
+		Collections.sort(fAddedPositions, OFFSET_COMPARATOR);
 	}
 
 	/**
@@ -505,6 +536,7 @@ public class SemanticHighlightingReconciler implements ICReconcilingListener {
 	 */
 	protected void stopReconcilingPositions() {
 		fRemovedPositions.clear();
+		fRemovedOffsets = EMPTY_OFFSETS;
 		fNOfRemovedPositions = 0;
 		fAddedPositions.clear();
 	}
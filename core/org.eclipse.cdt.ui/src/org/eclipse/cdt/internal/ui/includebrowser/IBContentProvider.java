@@ -27,6 +27,8 @@ import org.eclipse.cdt.core.index.IIndexManager;
 import org.eclipse.cdt.core.model.CoreModel;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.cdt.internal.core.CCoreInternals;
+import org.eclipse.cdt.internal.core.index.IndexIncludeGraph;
 import org.eclipse.cdt.internal.ui.viewsupport.AsyncTreeContentProvider;
 import org.eclipse.cdt.ui.CUIPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -65,9 +67,19 @@ public class IBContentProvider extends AsyncTreeContentProvider {
 		}
 		if (parentElement instanceof IBNode) {
 			IBNode node = (IBNode) parentElement;
-			if (node.isRecursive() || node.getRepresentedIFL() == null) {
+			IIndexFileLocation ifl = node.getRepresentedIFL();
+			if (node.isRecursive() || ifl == null) {
 				return NO_CHILDREN;
 			}
+			// Leaves are known from the include graph without waiting for the index.
+			try {
+				Boolean hasChildren = getIncludeGraph(getIndex()).hasRelations(ifl, fComputeIncludedBy);
+				if (Boolean.FALSE.equals(hasChildren)) {
+					return NO_CHILDREN;
+				}
+			} catch (CoreException e) {
+				CUIPlugin.log(e);
+			}
 		}
 		// Allow for asynchronous computation
 		return null;
@@ -85,9 +97,7 @@ public class IBContentProvider extends AsyncTreeContentProvider {
 
 			IIndex index;
 			try {
-				ICProject[] scope = CoreModel.getDefault().getCModel().getCProjects();
-				index = CCorePlugin.getIndexManager().getIndex(scope,
-						IIndexManager.ADD_EXTENSION_FRAGMENTS_INCLUDE_BROWSER);
+				index = getIndex();
 				index.acquireReadLock();
 			} catch (CoreException e) {
 				CUIPlugin.log(e);
@@ -97,6 +107,9 @@ public class IBContentProvider extends AsyncTreeContentProvider {
 			}
 
 			try {
+				if (!getIncludeGraph(index).hasRelations(index, ifl, fComputeIncludedBy)) {
+					return NO_CHILDREN;
+				}
 				IBFile directiveFile = null;
 				IBFile targetFile = null;
 				IIndexInclude[] includes;
@@ -133,6 +146,8 @@ public class IBContentProvider extends AsyncTreeContentProvider {
 
 					return result.toArray();
 				}
+			} catch (CoreException e) {
+				CUIPlugin.log(e);
 			} finally {
 				index.releaseReadLock();
 			}
@@ -140,6 +155,15 @@ public class IBContentProvider extends AsyncTreeContentProvider {
 		return NO_CHILDREN;
 	}
 
+	private static IIndex getIndex() throws CoreException {
+		ICProject[] scope = CoreModel.getDefault().getCModel().getCProjects();
+		return CCorePlugin.getIndexManager().getIndex(scope, IIndexManager.ADD_EXTENSION_FRAGMENTS_INCLUDE_BROWSER);
+	}
+
+	private static IndexIncludeGraph getIncludeGraph(IIndex index) {
+		return CCoreInternals.getPDOMManager().getIncludeGraph(index);
+	}
+
 	public void setComputeIncludedBy(boolean value) {
 		fComputeIncludedBy = value;
 	}
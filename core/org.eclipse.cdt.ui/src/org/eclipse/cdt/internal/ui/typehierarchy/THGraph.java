@@ -30,6 +30,7 @@ import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexBinding;
 import org.eclipse.cdt.core.index.IIndexName;
 import org.eclipse.cdt.core.model.ICElement;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ClassTypeHelper;
 import org.eclipse.cdt.internal.core.model.ext.ICElementHandle;
 import org.eclipse.cdt.internal.ui.viewsupport.IndexUI;
 import org.eclipse.cdt.ui.CUIPlugin;
@@ -218,24 +219,26 @@ class THGraph {
 				IBinding binding = IndexUI.elementToBinding(index, elem);
 				if (binding != null) {
 					// TODO(nathanridge): Also find subclasses referenced via decltype-specifiers rather than names.
-					IIndexName[] names = index.findNames(binding, IIndex.FIND_REFERENCES | IIndex.FIND_DEFINITIONS);
+					IIndexName[] names = ClassTypeHelper.findBaseSpecifiers(index, binding);
 					for (IIndexName indexName : names) {
 						if (monitor.isCanceled()) {
 							return;
 						}
-						if (indexName.isBaseSpecifier()) {
-							IIndexName subClassDef = indexName.getEnclosingDefinition();
-							if (subClassDef != null) {
-								IBinding subClass = index.findBinding(subClassDef);
-								ICElementHandle[] subClassElems = IndexUI.findRepresentative(index, subClass);
-								if (subClassElems.length > 0) {
-									ICElementHandle subClassElem = subClassElems[0];
-									THGraphNode subGraphNode = addNode(subClassElem);
-									addMembers(index, subGraphNode, subClass);
-									addEdge(subGraphNode, graphNode);
-									if (handled.add(subClassElem)) {
-										stack.add(subClassElem);
-									}
+						// Fragments unaware of FIND_BASE_SPECIFIERS may return other references
+						if (!indexName.isBaseSpecifier()) {
+							continue;
+						}
+						IIndexName subClassDef = indexName.getEnclosingDefinition();
+						if (subClassDef != null) {
+							IBinding subClass = index.findBinding(subClassDef);
+							ICElementHandle[] subClassElems = IndexUI.findRepresentative(index, subClass);
+							if (subClassElems.length > 0) {
+								ICElementHandle subClassElem = subClassElems[0];
+								THGraphNode subGraphNode = addNode(subClassElem);
+								addMembers(index, subGraphNode, subClass);
+								addEdge(subGraphNode, graphNode);
+								if (handled.add(subClassElem)) {
+									stack.add(subClassElem);
 								}
 							}
 						}
@@ -17,9 +17,12 @@ import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest.GDBRegisterTest_NoContainerTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest.GDBRegisterTest_WithAlternativeProcessIdTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest.GDBRegisterTest_WithContainerDMContextTest;
+import org.eclipse.cdt.dsf.mi.service.DisassemblyCacheTest;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIBreakInsertCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMICommandConstructCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIGDBSetSysroot;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfoTest;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParserTest;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStringHandlerTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadTests;
 import org.junit.runner.RunWith;
@@ -29,10 +32,12 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 
 // Add additional test case classes below
-@SuiteClasses({ MIThreadTests.class, TestMIBreakInsertCommand.class, TestMICommandConstructCommand.class,
-		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, ProcStatParserTest.class,
-		FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
-		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class, })
+@SuiteClasses({ MIThreadTests.class, MIParserTest.class, TestMIBreakInsertCommand.class,
+		TestMICommandConstructCommand.class, TestMIGDBSetSysroot.class, LaunchUtilsTest.class,
+		MIStringHandlerTests.class, ProcStatParserTest.class, FilePartsTest.class, GDBRegisterTest.class,
+		GDBRegisterTest_NoContainerTest.class, GDBRegisterTest_WithAlternativeProcessIdTest.class,
+		GDBRegisterTest_WithContainerDMContextTest.class, DisassemblyCacheTest.class,
+		CLIMaintInfoSectionsInfoTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
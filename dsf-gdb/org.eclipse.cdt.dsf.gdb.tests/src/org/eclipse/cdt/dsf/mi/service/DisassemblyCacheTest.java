@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
+import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IDisassembly.IDisassemblyDMContext;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
+import org.eclipse.cdt.dsf.mi.service.DisassemblyCache.Segment;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo.Section;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.junit.Test;
+
+/**
+ * Tests the disassembly cache of {@link MIDisassembly} against a fake back-end
+ * whose instructions are all 4 bytes long.
+ */
+public class DisassemblyCacheTest {
+	private static final int MODE = MIDataDisassemble.DATA_DISASSEMBLE_MODE_DISASSEMBLY_OPCODES;
+	private static final BigInteger INSTRUCTION_SIZE = BigInteger.valueOf(4);
+
+	private static class TestContext extends AbstractDMContext implements IMemoryDMContext, IDisassemblyDMContext {
+		private final String fName;
+
+		TestContext(String name) {
+			super("session", new IDMContext[0]);
+			fName = name;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return baseEquals(obj) && ((TestContext) obj).fName.equals(fName);
+		}
+
+		@Override
+		public int hashCode() {
+			return baseHashCode() ^ fName.hashCode();
+		}
+	}
+
+	/** A -data-disassemble command sent to the back-end */
+	private static class Request {
+		final BigInteger fStart;
+		final BigInteger fEnd;
+		final DataRequestMonitor<MIDataDisassembleInfo> fRm;
+
+		Request(BigInteger start, BigInteger end, DataRequestMonitor<MIDataDisassembleInfo> rm) {
+			fStart = start;
+			fEnd = end;
+			fRm = rm;
+		}
+
+		/** Answers with instructions from the start address */
+		void complete() {
+			complete(fStart, true);
+		}
+
+		void complete(BigInteger first, boolean withSizes) {
+			fRm.done(disassembly(first, fEnd, withSizes));
+		}
+	}
+
+	private final TestContext fContext = new TestContext("process1");
+	private final List<Request> fRequests = new ArrayList<>();
+	private Section[] fSections = new Section[0];
+
+	private final DisassemblyCache fCache = new DisassemblyCache(ImmediateExecutor.getInstance()) {
+		@Override
+		protected void disassemble(IDisassemblyDMContext context, BigInteger start, BigInteger end, int mode,
+				DataRequestMonitor<MIDataDisassembleInfo> rm) {
+			fRequests.add(new Request(start, end, rm));
+		}
+
+		@Override
+		protected void getSections(IDisassemblyDMContext context, DataRequestMonitor<Section[]> rm) {
+			rm.done(fSections);
+		}
+	};
+
+	private static BigInteger address(long address) {
+		return BigInteger.valueOf(address);
+	}
+
+	private static Section textSection(long start, long end) {
+		return new Section(address(start), address(end), ".text", new HashSet<>(Arrays.asList("READONLY", "CODE")));
+	}
+
+	private static MIDataDisassembleInfo disassembly(BigInteger start, BigInteger end, boolean withSizes) {
+		StringBuilder buf = new StringBuilder("^done,asm_insns=[");
+		for (BigInteger address = start; address.compareTo(end) < 0; address = address.add(INSTRUCTION_SIZE)) {
+			if (!address.equals(start)) {
+				buf.append(',');
+			}
+			buf.append("{address=\"0x").append(address.toString(16))
+					.append("\",func-name=\"main\",offset=\"0\",inst=\"nop\"");
+			if (withSizes) {
+				buf.append(",opcodes=\"90 90 90 90\"");
+			}
+			buf.append('}');
+		}
+		buf.append(']');
+		return new MIDataDisassembleInfo(
+				new MIOutput(new MIParser().parseMIResultRecord(buf.toString()), new MIOOBRecord[0]));
+	}
+
+	/**
+	 * Requests the disassembly of a range, the result is the last element of the list
+	 * once it is available.
+	 */
+	private List<Segment> get(IDisassemblyDMContext context, long start, long end) {
+		final List<Segment> result = new ArrayList<>();
+		fCache.getSegment(context, address(start), address(end), MODE,
+				new DataRequestMonitor<Segment>(ImmediateExecutor.getInstance(), null) {
+					@Override
+					protected void handleSuccess() {
+						result.add(getData());
+					}
+				});
+		return result;
+	}
+
+	/**
+	 * Gets the disassembly of a range, answering the commands sent to the back-end.
+	 */
+	private Segment getCompleted(long start, long end) {
+		List<Segment> result = get(fContext, start, end);
+		while (result.isEmpty() && !fRequests.isEmpty()) {
+			fRequests.remove(0).complete();
+		}
+		assertEquals(1, result.size());
+		return result.get(0);
+	}
+
+	private static void assertInstructions(Segment segment, long start, long end) {
+		assertNotNull(segment);
+		assertEquals((end - start) / 4, segment.fInstructions.length);
+		for (int i = 0; i < segment.fInstructions.length; i++) {
+			assertEquals(address(start + i * 4), segment.fInstructions[i].getAdress());
+		}
+	}
+
+	@Test
+	public void testHitInPrefetchedRange() {
+		assertInstructions(getCompleted(0x1000, 0x1010), 0x1000, 0x1010);
+		// The range was extended by its length
+		assertInstructions(getCompleted(0x1010, 0x1020), 0x1010, 0x1020);
+		assertEquals(0, fRequests.size());
+	}
+
+	@Test
+	public void testOverlappingSegmentsMerged() {
+		getCompleted(0x1000, 0x1010); // caches 0x1000-0x1020
+		getCompleted(0x1018, 0x1030); // caches 0x1018-0x1048
+		assertInstructions(getCompleted(0x1004, 0x1040), 0x1004, 0x1040);
+		assertEquals(0, fRequests.size());
+	}
+
+	@Test
+	public void testAdjacentSegmentsMerged() {
+		getCompleted(0x1000, 0x1010); // caches 0x1000-0x1020
+		getCompleted(0x1020, 0x1030); // caches 0x1020-0x1040
+		assertInstructions(getCompleted(0x1010, 0x1040), 0x1010, 0x1040);
+		assertEquals(0, fRequests.size());
+	}
+
+	@Test
+	public void testMisalignedSegmentsNotMerged() {
+		getCompleted(0x1000, 0x1010); // caches 0x1000-0x1020
+
+		// Decoded from the middle of an instruction of the first range
+		List<Segment> result = get(fContext, 0x1016, 0x1030);
+		fRequests.remove(0).complete(address(0x1016), true);
+		assertEquals(1, result.size());
+
+		result = get(fContext, 0x1000, 0x1030);
+		assertEquals(0, result.size());
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testAdjacentSegmentsWithoutSizesNotMerged() {
+		get(fContext, 0x1000, 0x1010);
+		fRequests.remove(0).complete(address(0x1000), false);
+		get(fContext, 0x1020, 0x1030);
+		fRequests.remove(0).complete(address(0x1020), false);
+
+		// The last instruction of the first range could go past its end
+		List<Segment> result = get(fContext, 0x1010, 0x1040);
+		assertEquals(0, result.size());
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testPendingFetchJoined() {
+		List<Segment> first = get(fContext, 0x1000, 0x1010);
+		List<Segment> second = get(fContext, 0x1008, 0x1018);
+		// The second range is inside the first one extended, it waits for it
+		assertEquals(1, fRequests.size());
+		assertEquals(address(0x1020), fRequests.get(0).fEnd);
+
+		fRequests.remove(0).complete();
+		assertInstructions(first.get(0), 0x1000, 0x1010);
+		assertInstructions(second.get(0), 0x1008, 0x1018);
+		assertEquals(0, fRequests.size());
+	}
+
+	@Test
+	public void testResumeKeepsReadOnlyCode() {
+		fSections = new Section[] { textSection(0x1000, 0x2000) };
+		getCompleted(0x1000, 0x1010);
+		getCompleted(0x8000, 0x8010);
+
+		fCache.resumed(fContext);
+		getCompleted(0x1000, 0x1010);
+		assertEquals(0, fRequests.size());
+
+		// Outside of the code sections, the program may have changed it
+		get(fContext, 0x8000, 0x8010);
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testResumeWithoutSections() {
+		getCompleted(0x1000, 0x1010);
+		fCache.resumed(fContext);
+		get(fContext, 0x1000, 0x1010);
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testFetchDuringResumeNotCached() {
+		List<Segment> result = get(fContext, 0x8000, 0x8010);
+		fCache.resumed(fContext);
+		fRequests.remove(0).complete();
+		assertEquals(1, result.size());
+
+		get(fContext, 0x8000, 0x8010);
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testMemoryChangeFlushes() {
+		fSections = new Section[] { textSection(0x1000, 0x2000) };
+		getCompleted(0x1000, 0x1010);
+
+		// Written by the debugger, in the read-only code as well
+		fCache.flush(DisassemblyCache.getAddressSpace(fContext));
+		get(fContext, 0x1000, 0x1010);
+		assertEquals(1, fRequests.size());
+	}
+
+	@Test
+	public void testFlushOtherAddressSpace() {
+		getCompleted(0x1000, 0x1010);
+		fCache.flush(new TestContext("process2"));
+		getCompleted(0x1000, 0x1010);
+		assertEquals(0, fRequests.size());
+	}
+}
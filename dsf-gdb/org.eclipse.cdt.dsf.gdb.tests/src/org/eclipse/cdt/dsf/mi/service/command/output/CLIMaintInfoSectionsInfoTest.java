@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo.Section;
+import org.junit.Test;
+
+public class CLIMaintInfoSectionsInfoTest {
+	private final MIParser fParser = new MIParser();
+
+	private static MIOOBRecord console(String str) {
+		MIConsoleStreamOutput record = new MIConsoleStreamOutput();
+		record.setCString(str);
+		return record;
+	}
+
+	@Test
+	public void testSections() {
+		MIOOBRecord[] oobs = { console("Exec file:\\n"), console("    `/tmp/a.out', file type elf64-x86-64.\\n"),
+				console(" [13]     0x555555555040->0x5555555551b1 at 0x00001040: .text ALLOC LOAD READONLY CODE\\n"),
+				console(" [23]     0x555555558010->0x555555558020 at 0x00003010: .data ALLOC LOAD DATA HAS_CONTENTS\\n"),
+				// Older versions of GDB do not number the sections
+				console("    0x7ffff7fc5000->0x7ffff7fef000 at 0x00001000: .text ALLOC LOAD READONLY CODE\\n") };
+		Section[] sections = new CLIMaintInfoSectionsInfo(new MIOutput(fParser.parseMIResultRecord("^done"), oobs))
+				.getSections();
+
+		assertEquals(3, sections.length);
+		assertEquals(new BigInteger("555555555040", 16), sections[0].getStart());
+		assertEquals(new BigInteger("5555555551b1", 16), sections[0].getEnd());
+		assertEquals(".text", sections[0].getName());
+		assertTrue(sections[0].isReadOnlyCode());
+		assertEquals(".data", sections[1].getName());
+		assertFalse(sections[1].isReadOnlyCode());
+		assertEquals(new BigInteger("7ffff7fc5000", 16), sections[2].getStart());
+		assertTrue(sections[2].isReadOnlyCode());
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MIParserTest {
+	private final MIParser fParser = new MIParser();
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = fParser.parseMIResultRecord(
+				"12^done,frame={level=\"0\",addr=\"0x0804\",args=[{name=\"a\",value=\"1\"}]},list=[\"x\",\"y\"]");
+		assertEquals(12, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		MIResult[] results = rr.getMIResults();
+		assertEquals(2, results.length);
+		assertEquals("frame", results[0].getVariable());
+		MITuple frame = (MITuple) results[0].getMIValue();
+		assertEquals("level", frame.getMIResults()[0].getVariable());
+		assertEquals("0x0804", frame.getMIResults()[1].getMIValue().toString());
+		MIList args = (MIList) frame.getMIResults()[2].getMIValue();
+		assertEquals("1", ((MITuple) args.getMIValues()[0]).getMIResults()[1].getMIValue().toString());
+		MIList list = (MIList) results[1].getMIValue();
+		assertEquals(2, list.getMIValues().length);
+		assertEquals("y", list.getMIValues()[1].toString());
+	}
+
+	@Test
+	public void testResultClasses() {
+		assertEquals(MIResultRecord.ERROR, fParser.parseMIResultRecord("^error,msg=\"No symbol\"").getResultClass());
+		assertEquals(MIResultRecord.RUNNING, fParser.parseMIResultRecord("3^running").getResultClass());
+		assertEquals(-1, fParser.parseMIResultRecord("^exit").getToken());
+	}
+
+	@Test
+	public void testEscapes() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"say \\\"hi\\\" \\\\n\",next=\"ok\"");
+		assertEquals("say \"hi\" \\n", rr.getMIResults()[0].getMIValue().toString());
+		assertEquals("ok", rr.getMIResults()[1].getMIValue().toString());
+
+		// Backslashes in stream records are not escaped.
+		MIOOBRecord oob = fParser.parseMIOOBRecord("~\"C:\\\\dir\\\"x\\n\"");
+		assertEquals("C:\\\\dir\"x\\n", ((MIStreamRecord) oob).getCString());
+	}
+
+	@Test
+	public void testAsyncRecords() {
+		MIOOBRecord oob = fParser.parseMIOOBRecord("*stopped,reason=\"breakpoint-hit\",thread-id=\"1\"");
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIExecAsyncOutput exec = (MIExecAsyncOutput) oob;
+		assertEquals("stopped", exec.getAsyncClass());
+		assertEquals("thread-id", exec.getMIResults()[1].getVariable());
+
+		MINotifyAsyncOutput notify = (MINotifyAsyncOutput) fParser.parseMIOOBRecord("=thread-group-added ");
+		assertEquals("thread-group-added", notify.getAsyncClass());
+		assertEquals(1, notify.getMIResults().length);
+
+		MIStreamRecord target = (MIStreamRecord) fParser.parseMIOOBRecord("garbage");
+		assertEquals("garbage\n", target.getCString());
+	}
+
+	@Test
+	public void testLargeRecords() {
+		final int frames = 50000;
+		StringBuilder line = new StringBuilder("^done,stack=[");
+		for (int i = 0; i < frames; i++) {
+			if (i > 0)
+				line.append(',');
+			line.append("frame={level=\"").append(i).append("\",addr=\"0x").append(Integer.toHexString(i))
+					.append("\",func=\"f").append(i).append("\",file=\"a.c\",line=\"").append(i).append("\"}");
+		}
+		line.append(']');
+		MIResultRecord rr = fParser.parseMIResultRecord(line.toString());
+		MIList stack = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(frames, stack.getMIResults().length);
+		MITuple last = (MITuple) stack.getMIResults()[frames - 1].getMIValue();
+		assertEquals("f" + (frames - 1), last.getMIResults()[2].getMIValue().toString());
+
+		final int bytes = 1 << 20;
+		StringBuilder memory = new StringBuilder("^done,memory=[{begin=\"0x1000\",offset=\"0x0\",contents=\"");
+		for (int i = 0; i < bytes; i++) {
+			memory.append("ab");
+		}
+		memory.append("\"}]");
+		rr = fParser.parseMIResultRecord(memory.toString());
+		MITuple block = (MITuple) ((MIList) rr.getMIResults()[0].getMIValue()).getMIValues()[0];
+		assertEquals(2 * bytes, block.getMIResults()[2].getMIValue().toString().length());
+	}
+}
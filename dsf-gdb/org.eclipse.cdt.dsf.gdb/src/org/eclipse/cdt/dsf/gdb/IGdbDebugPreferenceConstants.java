@@ -67,6 +67,76 @@ public interface IGdbDebugPreferenceConstants {
 	 */
 	public static final int MAX_MI_OUTPUT_LINES_DEFAULT = 5;
 
+	/**
+	 * The maximum number of MI commands sent to GDB before their results are received.
+	 * Commands beyond that stay queued, where they can still be coalesced or removed.
+	 * Default is {@value #MAX_MI_COMMANDS_IN_FLIGHT_DEFAULT}.
+	 * @since 5.7
+	 */
+	public static final String PREF_MAX_MI_COMMANDS_IN_FLIGHT = "maxMiCommandsInFlight"; //$NON-NLS-1$
+
+	/**
+	 * The default maximum number of MI commands sent to GDB before their results are received.
+	 * @since 5.7
+	 */
+	public static final int MAX_MI_COMMANDS_IN_FLIGHT_DEFAULT = 3;
+
+	/**
+	 * The maximum size of the memory cache of a memory context, in KiB. The least recently used
+	 * memory blocks are evicted beyond that size, 0 means unlimited.
+	 * Default is {@value #MEMORY_CACHE_LIMIT_DEFAULT}.
+	 * @since 5.7
+	 */
+	public static final String PREF_MEMORY_CACHE_LIMIT = "memoryCacheLimit"; //$NON-NLS-1$
+
+	/**
+	 * The default maximum size of the memory cache of a memory context, in KiB.
+	 * @since 5.7
+	 */
+	public static final int MEMORY_CACHE_LIMIT_DEFAULT = 0;
+
+	/**
+	 * Boolean preference whether the memory next to a request that missed the memory cache is read
+	 * ahead, in the direction the requests progress. Reading memory-mapped device registers may have
+	 * side effects, so this is only safe when the memory read is known to be RAM.
+	 * Default is {@value #MEMORY_CACHE_PREFETCH_DEFAULT}.
+	 * @since 5.7
+	 */
+	public static final String PREF_MEMORY_CACHE_PREFETCH = "memoryCachePrefetch"; //$NON-NLS-1$
+
+	/**
+	 * The default for whether memory is read ahead.
+	 * @since 5.7
+	 */
+	public static final boolean MEMORY_CACHE_PREFETCH_DEFAULT = false;
+
+	/**
+	 * Boolean preference whether the disassembly of address ranges is kept across suspends, until
+	 * the memory or the loaded libraries of the process change. Default is {@value #DISASSEMBLY_CACHE_DEFAULT}.
+	 * @since 5.7
+	 */
+	public static final String PREF_DISASSEMBLY_CACHE = "disassemblyCache"; //$NON-NLS-1$
+
+	/**
+	 * The default for whether the disassembly is kept across suspends.
+	 * @since 5.7
+	 */
+	public static final boolean DISASSEMBLY_CACHE_DEFAULT = true;
+
+	/**
+	 * The number of top frames of each stopped thread whose frames, arguments, locals and registers
+	 * are fetched as soon as the thread suspends, 0 disables it. Default is
+	 * {@value #SUSPEND_SNAPSHOT_FRAMES_DEFAULT}.
+	 * @since 5.7
+	 */
+	public static final String PREF_SUSPEND_SNAPSHOT_FRAMES = "suspendSnapshotFrames"; //$NON-NLS-1$
+
+	/**
+	 * The default number of frames fetched when a thread suspends.
+	 * @since 5.7
+	 */
+	public static final int SUSPEND_SNAPSHOT_FRAMES_DEFAULT = 0;
+
 	/**
 	 * Boolean preference whether to automatically terminate GDB when the inferior exists. Default is <code>true</code>.
 	 */
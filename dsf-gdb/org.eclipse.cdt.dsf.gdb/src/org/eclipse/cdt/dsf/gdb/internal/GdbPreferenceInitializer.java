@@ -39,6 +39,16 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_ENABLE_DEFAULT);
 		node.putInt(IGdbDebugPreferenceConstants.PREF_MAX_MI_OUTPUT_LINES,
 				IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MAX_MI_COMMANDS_IN_FLIGHT,
+				IGdbDebugPreferenceConstants.MAX_MI_COMMANDS_IN_FLIGHT_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_LIMIT,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_LIMIT_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PREFETCH,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PREFETCH_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_DISASSEMBLY_CACHE,
+				IGdbDebugPreferenceConstants.DISASSEMBLY_CACHE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES,
+				IGdbDebugPreferenceConstants.SUSPEND_SNAPSHOT_FRAMES_DEFAULT);
 		node.putBoolean(IGdbDebugPreferenceConstants.PREF_AUTO_TERMINATE_GDB, true);
 		node.putBoolean(IGdbDebugPreferenceConstants.PREF_USE_INSPECTOR_HOVER, true);
 		node.putBoolean(IGdbDebugPreferenceConstants.PREF_ENABLE_PRETTY_PRINTING, true);
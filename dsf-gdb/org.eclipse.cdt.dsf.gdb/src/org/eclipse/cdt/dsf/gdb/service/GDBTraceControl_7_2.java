@@ -14,9 +14,16 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.service;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
@@ -31,6 +38,7 @@ import org.eclipse.cdt.dsf.debug.service.ICachingService;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
@@ -45,6 +53,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceFindInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceListVariablesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceListVariablesInfo.MITraceVariableInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MITraceRecord;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceStatusInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceStopInfo;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
@@ -60,7 +69,7 @@ import org.osgi.framework.BundleContext;
  *
  * @since 3.0
  */
-public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTraceControl2, ICachingService {
+public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTraceControl3, ICachingService {
 
 	@Immutable
 	protected static final class MITraceRecordDMContext extends AbstractDMContext implements ITraceRecordDMContext {
@@ -219,6 +228,117 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 		}
 	}
 
+	/**
+	 * The data of all the trace records, read at once, indexed by record,
+	 * by tracepoint and by address.
+	 */
+	private class TraceRecordStore {
+		private final TraceRecordDMData[] fRecords;
+		private final BigInteger[] fAddresses;
+		private final Map<Integer, List<Integer>> fRecordsByTracepoint = new HashMap<>();
+		private final Map<BigInteger, List<Integer>> fRecordsByAddress = new HashMap<>();
+		private int fSize;
+
+		public TraceRecordStore(int capacity) {
+			fRecords = new TraceRecordDMData[capacity];
+			fAddresses = new BigInteger[capacity];
+		}
+
+		public int getCapacity() {
+			return fRecords.length;
+		}
+
+		public int getSize() {
+			return fSize;
+		}
+
+		public void add(int index, MITraceRecord record, CLITraceDumpInfo dump) {
+			fRecords[index] = new TraceRecordDMData(dump.getContent(), dump.getTracepointNumber(),
+					Integer.toString(index), dump.getTimestamp());
+			fSize++;
+
+			Integer tracepoint = record.getTracepointId();
+			if (tracepoint != null) {
+				addToIndex(fRecordsByTracepoint, tracepoint, index);
+			}
+			BigInteger address = record.getStackFrame() != null ? parseAddress(record.getStackFrame().getAddress())
+					: null;
+			if (address != null) {
+				fAddresses[index] = address;
+				addToIndex(fRecordsByAddress, address, index);
+			}
+		}
+
+		public TraceRecordDMData get(int index) {
+			if (index < 0 || index >= fRecords.length) {
+				return null;
+			}
+			return fRecords[index];
+		}
+
+		public List<Integer> find(Integer tracepoint, BigInteger address, String text) {
+			// Start from the smallest index that applies, and check the other criteria on its records only
+			List<Integer> candidates = null;
+			if (tracepoint != null) {
+				candidates = getFromIndex(fRecordsByTracepoint, tracepoint);
+			}
+			if (address != null) {
+				List<Integer> byAddress = getFromIndex(fRecordsByAddress, address);
+				if (candidates == null || byAddress.size() < candidates.size()) {
+					candidates = byAddress;
+				}
+			}
+
+			List<Integer> result = new ArrayList<>();
+			int count = candidates != null ? candidates.size() : fRecords.length;
+			for (int i = 0; i < count; i++) {
+				int index = candidates != null ? candidates.get(i) : i;
+				TraceRecordDMData data = fRecords[index];
+				if (data == null) {
+					continue;
+				}
+				if (tracepoint != null && !tracepoint.toString().equals(data.getTracepointNumber())) {
+					continue;
+				}
+				if (address != null && !address.equals(fAddresses[index])) {
+					continue;
+				}
+				if (text != null && (data.getContent() == null || !data.getContent().contains(text))) {
+					continue;
+				}
+				result.add(index);
+			}
+			return result;
+		}
+
+		private <K> void addToIndex(Map<K, List<Integer>> index, K key, int record) {
+			List<Integer> records = index.get(key);
+			if (records == null) {
+				index.put(key, records = new ArrayList<>());
+			}
+			records.add(record);
+		}
+
+		private <K> List<Integer> getFromIndex(Map<K, List<Integer>> index, K key) {
+			List<Integer> records = index.get(key);
+			return records != null ? records : Collections.<Integer> emptyList();
+		}
+
+		private BigInteger parseAddress(String address) {
+			if (address == null) {
+				return null;
+			}
+			try {
+				if (address.startsWith("0x") || address.startsWith("0X")) { //$NON-NLS-1$ //$NON-NLS-2$
+					return new BigInteger(address.substring(2), 16);
+				}
+				return new BigInteger(address);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+	}
+
 	private class TraceStatusDMData implements ITraceStatusDMData2 {
 		private MITraceStatusInfo fInfo;
 
@@ -429,6 +549,15 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 	private boolean fIsTracingFeatureAvailable = true;
 	private int fTraceRecordsStored;
 
+	/**
+	 * The number of trace records selected and dumped by one batch of
+	 * commands when all the records are read at once.
+	 */
+	private static final int TRACE_RECORDS_PER_BATCH = 256;
+
+	private TraceRecordStore fTraceRecordStore;
+	private int fTraceRecordStoreGeneration;
+
 	public GDBTraceControl_7_2(DsfSession session, ILaunchConfiguration config) {
 		super(session);
 	}
@@ -557,6 +686,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 							@Override
 							protected void handleSuccess() {
 								fTraceStatusCache.reset(context);
+								clearTraceRecordStore();
 
 								fIsTracingActive = true;
 								getSession().dispatchEvent(new TracingStartedEvent(context), getProperties());
@@ -633,6 +763,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 							@Override
 							protected void handleSuccess() {
 								fTraceStatusCache.reset(context);
+								clearTraceRecordStore();
 
 								MITraceStopInfo info = getData();
 
@@ -762,6 +893,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 							@Override
 							protected void handleSuccess() {
 								fTraceStatusCache.reset(context);
+								clearTraceRecordStore();
 
 								fIsTracingCurrentlySupported = true;
 								// Workaround for GDB pre-release where we don't get the details
@@ -1121,6 +1253,20 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 	public void getTraceRecordData(final ITraceRecordDMContext context,
 			final DataRequestMonitor<ITraceRecordDMData> rm) {
 		if (context instanceof MITraceRecordDMContext) {
+			Integer recordNumber = getRecordNumber((MITraceRecordDMContext) context);
+			if (recordNumber == null) {
+				rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
+						"Invalid trace record " + ((MITraceRecordDMContext) context).getRecordId(), null)); //$NON-NLS-1$
+				return;
+			}
+
+			if (fTraceRecordStore != null) {
+				TraceRecordDMData data = fTraceRecordStore.get(recordNumber);
+				if (data != null) {
+					rm.done(data);
+					return;
+				}
+			}
 
 			RequestMonitor tdumpRm = new ImmediateRequestMonitor(rm) {
 				@Override
@@ -1218,8 +1364,156 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 		rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, Messages.ErrorNotSupported, null));
 	}
 
+	/** @since 5.7 */
+	@Override
+	public void loadTraceRecords(final ITraceTargetDMContext context, final DataRequestMonitor<Integer> rm) {
+		if (context == null) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Invalid context", null)); //$NON-NLS-1$
+			return;
+		}
+
+		if (fIsTracingCurrentlySupported == false) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, NOT_SUPPORTED, "Tracing not supported", null)); //$NON-NLS-1$
+			return;
+		}
+
+		if (fIsTracingActive) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
+					"Cannot read trace records while tracing", null)); //$NON-NLS-1$
+			return;
+		}
+
+		if (fTraceRecordStore != null) {
+			rm.done(fTraceRecordStore.getSize());
+			return;
+		}
+
+		getTraceStatus(context, new DataRequestMonitor<ITraceStatusDMData>(getExecutor(), rm) {
+			@Override
+			protected void handleSuccess() {
+				TraceRecordStore store = new TraceRecordStore(Math.max(getData().getNumberOfCollectedFrame(), 0));
+				loadTraceRecords(context, store, 0, fTraceRecordStoreGeneration, rm);
+			}
+		});
+	}
+
+	/**
+	 * Reads the trace records from the given one on, by batches.  The records of a batch
+	 * are selected and dumped one after the other, then the record being visualized is
+	 * selected again at the end of the batch.  The commands of the other services are
+	 * queued between the batches, so they never see GDB on a record that is not the
+	 * one being visualized.
+	 */
+	private void loadTraceRecords(final ITraceTargetDMContext context, final TraceRecordStore store, int start,
+			final int generation, final DataRequestMonitor<Integer> rm) {
+		if (generation != fTraceRecordStoreGeneration) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
+					"Trace data changed while reading trace records", null)); //$NON-NLS-1$
+			return;
+		}
+
+		if (start >= store.getCapacity()) {
+			fTraceRecordStore = store;
+			rm.done(store.getSize());
+			return;
+		}
+
+		// The command which selects the visualized record again at the end of the batch
+		final ICommand<MITraceFindInfo> restoreCommand;
+		if (fCurrentRecordDmc instanceof MITraceRecordDMContext) {
+			Integer current = getRecordNumber((MITraceRecordDMContext) fCurrentRecordDmc);
+			if (current == null) {
+				String recordId = ((MITraceRecordDMContext) fCurrentRecordDmc).getRecordId();
+				rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
+						"Invalid current trace record " + recordId, null)); //$NON-NLS-1$
+				return;
+			}
+			restoreCommand = fCommandFactory.createMITraceFindFrameNumber(context, current);
+		} else {
+			restoreCommand = fCommandFactory.createMITraceFindNone(context);
+		}
+
+		final int end = Math.min(start + TRACE_RECORDS_PER_BATCH, store.getCapacity());
+		CountingRequestMonitor crm = new CountingRequestMonitor(getExecutor(), rm) {
+			@Override
+			protected void handleSuccess() {
+				loadTraceRecords(context, store, end, generation, rm);
+			}
+		};
+
+		for (int i = start; i < end; i++) {
+			final int index = i;
+			final MITraceRecord[] found = new MITraceRecord[1];
+			fConnection.queueCommand(fCommandFactory.createMITraceFindFrameNumber(context, index),
+					new DataRequestMonitor<MITraceFindInfo>(getExecutor(), null) {
+						@Override
+						protected void handleCompleted() {
+							if (isSuccess() && getData().isFound()) {
+								found[0] = getData().getTraceRecord();
+							}
+							crm.done();
+						}
+					});
+			fConnection.queueCommand(
+					fCommandFactory.createCLITraceDump(createTraceRecordContext(context, Integer.toString(index))),
+					new DataRequestMonitor<CLITraceDumpInfo>(getExecutor(), null) {
+						@Override
+						protected void handleCompleted() {
+							// A record that cannot be read is left out of the store, and read
+							// from GDB if it is ever asked for
+							if (isSuccess() && found[0] != null && generation == fTraceRecordStoreGeneration) {
+								store.add(index, found[0], getData());
+							}
+							crm.done();
+						}
+					});
+		}
+
+		fConnection.queueCommand(restoreCommand, new DataRequestMonitor<MITraceFindInfo>(getExecutor(), crm));
+		crm.setDoneCount(2 * (end - start) + 1);
+	}
+
+	/** @since 5.7 */
+	@Override
+	public void findTraceRecords(ITraceTargetDMContext context, Integer tracepoint, BigInteger address, String text,
+			DataRequestMonitor<ITraceRecordDMContext[]> rm) {
+		if (context == null) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Invalid context", null)); //$NON-NLS-1$
+			return;
+		}
+
+		if (fTraceRecordStore == null) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Trace records not read", null)); //$NON-NLS-1$
+			return;
+		}
+
+		List<Integer> indexes = fTraceRecordStore.find(tracepoint, address, text);
+		ITraceRecordDMContext[] records = new ITraceRecordDMContext[indexes.size()];
+		for (int i = 0; i < records.length; i++) {
+			records[i] = createTraceRecordContext(context, Integer.toString(indexes.get(i)));
+		}
+		rm.done(records);
+	}
+
+	/**
+	 * Returns the number of the given trace record, or null if its id is not a number.
+	 */
+	private static Integer getRecordNumber(MITraceRecordDMContext context) {
+		try {
+			return Integer.parseInt(context.getRecordId());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private void clearTraceRecordStore() {
+		fTraceRecordStore = null;
+		fTraceRecordStoreGeneration++;
+	}
+
 	@Override
 	public void flushCache(IDMContext context) {
 		fTraceStatusCache.reset(context);
+		clearTraceRecordStore();
 	}
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.gdb.service;
+
+import java.math.BigInteger;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+
+/**
+ * Enhancements to the trace control functionality, which allow to browse
+ * a large number of trace records without selecting them one at a time.
+ * @since 5.7
+ */
+public interface IGDBTraceControl3 extends IGDBTraceControl2 {
+
+	/**
+	 * Reads the data of all the collected trace records into a local store.  Once
+	 * they are stored, {@link #getTraceRecordData} and {@link #findTraceRecords}
+	 * answer without sending commands to GDB, until the trace data changes.
+	 * Returns the number of stored trace records.
+	 */
+	public void loadTraceRecords(ITraceTargetDMContext context, DataRequestMonitor<Integer> rm);
+
+	/**
+	 * Returns the stored trace records which match all the given criteria, by order of
+	 * record.  A null criterion matches every record.
+	 *
+	 * @param tracepoint the GDB number of the tracepoint which collected the records
+	 * @param address the address of the frame in which the records were collected
+	 * @param text a string contained in the content of the records
+	 */
+	public void findTraceRecords(ITraceTargetDMContext context, Integer tracepoint, BigInteger address, String text,
+			DataRequestMonitor<ITraceRecordDMContext[]> rm);
+}
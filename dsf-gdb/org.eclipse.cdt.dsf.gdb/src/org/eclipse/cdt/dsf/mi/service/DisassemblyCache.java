@@ -0,0 +1,630 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IDisassembly.IDisassemblyDMContext;
+import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IInstructionWithSize;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
+import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo.Section;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+
+/**
+ * Cached disassembly of address ranges, indexed by start address for each address
+ * space and mode, so the threads of a process share it.
+ * <p>
+ * The ranges inside the read-only code sections of the loaded object files are kept
+ * across resumes, the program cannot modify them.  The other ranges, such as code
+ * generated at run time, are dropped each time the program resumes.  The sections of
+ * an address space are requested when its first range is cached, the ranges cached
+ * before they are known are dropped on resume as well.
+ * <p>
+ * Overlapping and adjacent ranges of instructions are merged when the instructions
+ * of both are aligned at the junction, so that a request spanning them is answered
+ * from the cache.  Mixed-mode ranges are not merged, a source line could be split
+ * between them.
+ * <p>
+ * This class must be used on the executor given to the constructor.
+ */
+abstract class DisassemblyCache {
+
+	/**
+	 * Maximum number of instructions kept in the cache, the least recently used
+	 * ranges are evicted beyond that.
+	 */
+	private static final int MAX_CACHED_INSTRUCTIONS = 100000;
+
+	/**
+	 * Maximum number of bytes disassembled ahead of a request that missed the
+	 * cache, in the direction in which the requests progress.
+	 */
+	private static final int MAX_PREFETCH = 4096;
+
+	/**
+	 * Number of cached ranges starting before a request that are checked for
+	 * one that contains it.
+	 */
+	private static final int MAX_LOOKUP = 16;
+
+	/**
+	 * Disassembly of an address range, in one of the modes of -data-disassemble.
+	 */
+	static class Segment {
+		final CacheKey fKey;
+		final BigInteger fStart;
+		final BigInteger fEnd;
+		final IInstruction[] fInstructions;
+		final IMixedInstruction[] fMixedInstructions;
+		/** Whether the range is inside a read-only code section, kept across resumes */
+		boolean fReadOnly;
+
+		Segment(CacheKey key, BigInteger start, BigInteger end, MIDataDisassembleInfo info) {
+			fKey = key;
+			fStart = start;
+			fEnd = end;
+			fInstructions = key.fMixed ? null : info.getMIAssemblyCode();
+			fMixedInstructions = key.fMixed ? info.getMIMixedCode() : null;
+		}
+
+		Segment(CacheKey key, BigInteger start, BigInteger end, IInstruction[] instructions,
+				IMixedInstruction[] mixedInstructions) {
+			fKey = key;
+			fStart = start;
+			fEnd = end;
+			fInstructions = instructions;
+			fMixedInstructions = mixedInstructions;
+		}
+
+		int size() {
+			if (fInstructions != null) {
+				return fInstructions.length;
+			}
+			int size = 0;
+			for (IMixedInstruction mixed : fMixedInstructions) {
+				size += mixed.getInstructions().length + 1;
+			}
+			return size;
+		}
+
+		/**
+		 * Returns the disassembly of [start, end), which must be contained in this
+		 * segment, or null if no instruction of this segment starts at the given start
+		 * address.  Disassembling from inside an instruction would give a different
+		 * result, on the architectures with variable-length instructions.
+		 */
+		Segment slice(BigInteger start, BigInteger end) {
+			if (start.equals(fStart) && end.equals(fEnd)) {
+				return this;
+			}
+			boolean aligned = start.equals(fStart);
+			if (fInstructions != null) {
+				List<IInstruction> instructions = new ArrayList<>();
+				for (IInstruction instruction : fInstructions) {
+					aligned |= add(instruction, start, end, instructions);
+				}
+				return aligned
+						? new Segment(fKey, start, end, instructions.toArray(new IInstruction[instructions.size()]),
+								null)
+						: null;
+			}
+			List<IMixedInstruction> mixedInstructions = new ArrayList<>();
+			for (final IMixedInstruction mixed : fMixedInstructions) {
+				List<IInstruction> instructions = new ArrayList<>();
+				for (IInstruction instruction : mixed.getInstructions()) {
+					aligned |= add(instruction, start, end, instructions);
+				}
+				if (!instructions.isEmpty()) {
+					mixedInstructions.add(new SlicedMixedInstruction(mixed,
+							instructions.toArray(new IInstruction[instructions.size()])));
+				}
+			}
+			return aligned ? new Segment(fKey, start, end, null,
+					mixedInstructions.toArray(new IMixedInstruction[mixedInstructions.size()])) : null;
+		}
+
+		/**
+		 * Adds the instruction to the list if it is in [start, end), returns whether it
+		 * is at the start address.
+		 */
+		private static boolean add(IInstruction instruction, BigInteger start, BigInteger end,
+				List<IInstruction> instructions) {
+			BigInteger address = instruction.getAdress();
+			if (address == null || address.compareTo(start) < 0 || address.compareTo(end) >= 0) {
+				return false;
+			}
+			instructions.add(instruction);
+			return address.equals(start);
+		}
+
+		/**
+		 * Merges this segment with one that starts inside it or right after it and
+		 * ends after it.  Returns null if the instructions are not aligned at the
+		 * first instruction of the other segment, or if that cannot be checked.
+		 */
+		Segment merge(Segment next) {
+			if (fInstructions == null || next.fInstructions == null || next.fInstructions.length == 0) {
+				return null;
+			}
+			BigInteger junction = next.fInstructions[0].getAdress();
+			if (junction == null) {
+				return null;
+			}
+			List<IInstruction> instructions = new ArrayList<>();
+			Boolean aligned = null;
+			for (IInstruction instruction : fInstructions) {
+				BigInteger address = instruction.getAdress();
+				if (address == null) {
+					return null;
+				}
+				if (address.compareTo(junction) >= 0) {
+					aligned = address.equals(junction);
+					break;
+				}
+				instructions.add(instruction);
+			}
+			if (aligned == null) {
+				// All the instructions are before the other segment, the last one
+				// must end where the other segment starts.
+				aligned = !instructions.isEmpty()
+						&& junction.equals(getEnd(instructions.get(instructions.size() - 1)));
+			}
+			if (!aligned) {
+				return null;
+			}
+			for (IInstruction instruction : next.fInstructions) {
+				instructions.add(instruction);
+			}
+			return new Segment(fKey, fStart, next.fEnd, instructions.toArray(new IInstruction[instructions.size()]),
+					null);
+		}
+
+		private static BigInteger getEnd(IInstruction instruction) {
+			if (instruction instanceof IInstructionWithSize) {
+				Integer size = ((IInstructionWithSize) instruction).getSize();
+				if (size != null) {
+					return instruction.getAdress().add(BigInteger.valueOf(size.intValue()));
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Source line with the part of its instructions that are in a requested range.
+	 */
+	private static class SlicedMixedInstruction implements IMixedInstruction {
+		private final IMixedInstruction fMixedInstruction;
+		private final IInstruction[] fInstructions;
+
+		SlicedMixedInstruction(IMixedInstruction mixedInstruction, IInstruction[] instructions) {
+			fMixedInstruction = mixedInstruction;
+			fInstructions = instructions;
+		}
+
+		@Override
+		public String getFileName() {
+			return fMixedInstruction.getFileName();
+		}
+
+		@Override
+		public int getLineNumber() {
+			return fMixedInstruction.getLineNumber();
+		}
+
+		@Override
+		public IInstruction[] getInstructions() {
+			return fInstructions;
+		}
+	}
+
+	/**
+	 * Address space and mode of cached disassembly.
+	 */
+	private static class CacheKey {
+		final IDMContext fAddressSpace;
+		final int fMode;
+		final boolean fMixed;
+
+		CacheKey(IDMContext addressSpace, int mode) {
+			fAddressSpace = addressSpace;
+			fMode = mode;
+			fMixed = mode == MIDataDisassemble.DATA_DISASSEMBLE_MODE_MIXED
+					|| mode == MIDataDisassemble.DATA_DISASSEMBLE_MODE_MIXED_OPCODES;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CacheKey && ((CacheKey) obj).fAddressSpace.equals(fAddressSpace)
+					&& ((CacheKey) obj).fMode == fMode;
+		}
+
+		@Override
+		public int hashCode() {
+			return fAddressSpace.hashCode() * 31 + fMode;
+		}
+	}
+
+	/**
+	 * A -data-disassemble command in progress, the requests for a range it contains
+	 * wait for it rather than sending their own command.
+	 */
+	private static class PendingFetch {
+		final BigInteger fStart;
+		final BigInteger fEnd;
+		final List<Runnable> fWaiting = new ArrayList<>();
+
+		PendingFetch(BigInteger start, BigInteger end) {
+			fStart = start;
+			fEnd = end;
+		}
+	}
+
+	private final Executor fExecutor;
+
+	private final Map<CacheKey, TreeMap<BigInteger, Segment>> fSegments = new HashMap<>();
+	private final Map<CacheKey, List<PendingFetch>> fPendingFetches = new HashMap<>();
+	private final Map<CacheKey, BigInteger> fLastStart = new HashMap<>();
+
+	/** End of the read-only code sections by start address, for each address space */
+	private final Map<IDMContext, TreeMap<BigInteger, BigInteger>> fCodeSections = new HashMap<>();
+	private final Set<IDMContext> fPendingCodeSections = new HashSet<>();
+
+	/** Least recently used segments first */
+	private final LinkedHashMap<Segment, Segment> fLruSegments = new LinkedHashMap<>(16, 0.75f, true);
+	private int fSize;
+
+	/** Incremented when the cache is flushed, so that commands sent before are not cached. */
+	private int fGeneration;
+
+	/**
+	 * Incremented when a program resumes, so that the ranges outside the read-only
+	 * sections read before are not cached.
+	 */
+	private int fResumes;
+
+	DisassemblyCache(Executor executor) {
+		fExecutor = executor;
+	}
+
+	/**
+	 * Disassembles the given range, with -data-disassemble.
+	 */
+	protected abstract void disassemble(IDisassemblyDMContext context, BigInteger start, BigInteger end, int mode,
+			DataRequestMonitor<MIDataDisassembleInfo> rm);
+
+	/**
+	 * Lists the sections of the object files loaded in the address space of the context.
+	 */
+	protected abstract void getSections(IDisassemblyDMContext context, DataRequestMonitor<Section[]> rm);
+
+	/**
+	 * Returns the address space of the context, the cache is shared by its contexts.
+	 */
+	static IDMContext getAddressSpace(IDMContext context) {
+		IMemoryDMContext addressSpace = DMContexts.getAncestorOfType(context, IMemoryDMContext.class);
+		return addressSpace != null ? addressSpace : context;
+	}
+
+	void getSegment(final IDisassemblyDMContext context, final BigInteger start, final BigInteger end, final int mode,
+			final DataRequestMonitor<Segment> rm) {
+		final CacheKey key = new CacheKey(getAddressSpace(context), mode);
+
+		Segment cached = lookup(key, start, end);
+		if (cached != null) {
+			rm.done(cached);
+			return;
+		}
+
+		List<PendingFetch> pending = fPendingFetches.get(key);
+		if (pending != null) {
+			for (PendingFetch fetch : pending) {
+				if (fetch.fStart.compareTo(start) <= 0 && fetch.fEnd.compareTo(end) >= 0) {
+					fetch.fWaiting.add(new Runnable() {
+						@Override
+						public void run() {
+							Segment segment = lookup(key, start, end);
+							if (segment != null) {
+								rm.done(segment);
+							} else {
+								fetch(context, key, start, end, false, rm);
+							}
+						}
+					});
+					return;
+				}
+			}
+		}
+		fetch(context, key, start, end, true, rm);
+	}
+
+	private Segment lookup(CacheKey key, BigInteger start, BigInteger end) {
+		TreeMap<BigInteger, Segment> segments = fSegments.get(key);
+		if (segments == null) {
+			return null;
+		}
+		int checked = 0;
+		for (Segment segment : segments.headMap(start, true).descendingMap().values()) {
+			if (segment.fEnd.compareTo(end) >= 0) {
+				Segment slice = segment.slice(start, end);
+				if (slice != null) {
+					fLruSegments.get(segment);
+					return slice;
+				}
+			}
+			if (++checked == MAX_LOOKUP) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Disassembles a range containing [start, end), extended in the direction in
+	 * which the requests progress when prefetching.
+	 */
+	private void fetch(final IDisassemblyDMContext context, final CacheKey key, final BigInteger start,
+			final BigInteger end, final boolean prefetch, final DataRequestMonitor<Segment> rm) {
+		BigInteger fetchStart = start;
+		BigInteger fetchEnd = end;
+		if (prefetch) {
+			BigInteger extra = end.subtract(start).min(BigInteger.valueOf(MAX_PREFETCH));
+			BigInteger lastStart = fLastStart.get(key);
+			if (lastStart != null && start.compareTo(lastStart) < 0) {
+				fetchStart = start.subtract(extra).max(BigInteger.ZERO);
+			} else {
+				fetchEnd = end.add(extra);
+			}
+		}
+		fLastStart.put(key, start);
+
+		final boolean prefetching = !fetchStart.equals(start) || !fetchEnd.equals(end);
+		final BigInteger finalFetchStart = fetchStart;
+		final BigInteger finalFetchEnd = fetchEnd;
+		final PendingFetch pendingFetch = new PendingFetch(fetchStart, fetchEnd);
+		List<PendingFetch> pending = fPendingFetches.get(key);
+		if (pending == null) {
+			pending = new ArrayList<>();
+			fPendingFetches.put(key, pending);
+		}
+		pending.add(pendingFetch);
+		final int generation = fGeneration;
+		final int resumes = fResumes;
+
+		disassemble(context, fetchStart, fetchEnd, key.fMode,
+				new DataRequestMonitor<MIDataDisassembleInfo>(fExecutor, null) {
+					@Override
+					protected void handleCompleted() {
+						List<PendingFetch> stillPending = fPendingFetches.get(key);
+						if (stillPending != null) {
+							stillPending.remove(pendingFetch);
+							if (stillPending.isEmpty()) {
+								fPendingFetches.remove(key);
+							}
+						}
+
+						Segment slice = null;
+						if (isSuccess()) {
+							Segment segment = new Segment(key, finalFetchStart, finalFetchEnd, getData());
+							segment.fReadOnly = isReadOnly(segment);
+							// What was read while the program ran may already be out of date
+							if (generation == fGeneration && (resumes == fResumes || segment.fReadOnly)) {
+								add(segment);
+								if (!fCodeSections.containsKey(key.fAddressSpace)) {
+									requestCodeSections(context, key.fAddressSpace);
+								}
+							}
+							slice = segment.slice(start, end);
+						}
+
+						if (slice != null) {
+							rm.done(slice);
+						} else if (prefetching) {
+							// The extended range is not readable or its disassembly is not
+							// aligned with the request, send the request as it is.
+							fetch(context, key, start, end, false, rm);
+						} else {
+							rm.done(getStatus());
+						}
+
+						for (Runnable waiting : pendingFetch.fWaiting) {
+							waiting.run();
+						}
+					}
+				});
+	}
+
+	private void requestCodeSections(IDisassemblyDMContext context, final IDMContext addressSpace) {
+		if (!fPendingCodeSections.add(addressSpace)) {
+			return;
+		}
+		final int generation = fGeneration;
+		getSections(context, new DataRequestMonitor<Section[]>(fExecutor, null) {
+			@Override
+			protected void handleCompleted() {
+				fPendingCodeSections.remove(addressSpace);
+				if (generation != fGeneration) {
+					return;
+				}
+				// Without the sections, all the ranges are dropped on resume
+				TreeMap<BigInteger, BigInteger> codeSections = new TreeMap<>();
+				if (isSuccess()) {
+					for (Section section : getData()) {
+						if (section.isReadOnlyCode()) {
+							codeSections.put(section.getStart(), section.getEnd());
+						}
+					}
+				}
+				fCodeSections.put(addressSpace, codeSections);
+
+				for (Map.Entry<CacheKey, TreeMap<BigInteger, Segment>> entry : fSegments.entrySet()) {
+					if (entry.getKey().fAddressSpace.equals(addressSpace)) {
+						for (Segment segment : entry.getValue().values()) {
+							segment.fReadOnly = isReadOnly(segment);
+						}
+					}
+				}
+			}
+		});
+	}
+
+	private boolean isReadOnly(Segment segment) {
+		TreeMap<BigInteger, BigInteger> codeSections = fCodeSections.get(segment.fKey.fAddressSpace);
+		if (codeSections == null) {
+			return false;
+		}
+		Map.Entry<BigInteger, BigInteger> section = codeSections.floorEntry(segment.fStart);
+		return section != null && section.getValue().compareTo(segment.fEnd) >= 0;
+	}
+
+	private void add(Segment segment) {
+		TreeMap<BigInteger, Segment> segments = fSegments.get(segment.fKey);
+		if (segments == null) {
+			segments = new TreeMap<>();
+			fSegments.put(segment.fKey, segments);
+		}
+		Map.Entry<BigInteger, Segment> floor = segments.floorEntry(segment.fStart);
+		if (floor != null && floor.getValue().fEnd.compareTo(segment.fEnd) >= 0
+				&& floor.getValue().slice(segment.fStart, segment.fEnd) != null) {
+			// A range containing this one is already cached.
+			fLruSegments.get(floor.getValue());
+			return;
+		}
+
+		Map.Entry<BigInteger, Segment> lower = segments.lowerEntry(segment.fStart);
+		if (lower != null && lower.getValue().fEnd.compareTo(segment.fStart) >= 0
+				&& lower.getValue().fEnd.compareTo(segment.fEnd) < 0) {
+			Segment merged = lower.getValue().merge(segment);
+			if (merged != null) {
+				segments.remove(lower.getKey());
+				removed(lower.getValue());
+				segment = merged;
+			}
+		}
+
+		// Drop the ranges the new one contains, merge it with the one that goes on after it.
+		Segment next = null;
+		Iterator<Segment> it = segments.subMap(segment.fStart, true, segment.fEnd, true).values().iterator();
+		while (it.hasNext()) {
+			Segment other = it.next();
+			if (other.fEnd.compareTo(segment.fEnd) <= 0) {
+				it.remove();
+				removed(other);
+			} else if (next == null) {
+				next = other;
+			}
+		}
+		if (next != null) {
+			Segment merged = segment.merge(next);
+			if (merged != null) {
+				segments.remove(next.fStart);
+				removed(next);
+				segment = merged;
+			}
+		}
+
+		segment.fReadOnly = isReadOnly(segment);
+		segments.put(segment.fStart, segment);
+		fLruSegments.put(segment, segment);
+		fSize += segment.size();
+
+		Iterator<Segment> lru = fLruSegments.keySet().iterator();
+		while (fSize > MAX_CACHED_INSTRUCTIONS && lru.hasNext()) {
+			Segment eldest = lru.next();
+			if (eldest == segment) {
+				break;
+			}
+			lru.remove();
+			fSize -= eldest.size();
+			TreeMap<BigInteger, Segment> eldestSegments = fSegments.get(eldest.fKey);
+			if (eldestSegments != null && eldestSegments.get(eldest.fStart) == eldest) {
+				eldestSegments.remove(eldest.fStart);
+			}
+		}
+	}
+
+	private void removed(Segment segment) {
+		if (fLruSegments.remove(segment) != null) {
+			fSize -= segment.size();
+		}
+	}
+
+	/**
+	 * Whether the address space is the given context or one of its descendants.
+	 */
+	private static boolean isIn(IDMContext addressSpace, IDMContext context) {
+		return context == null || addressSpace.equals(context) || DMContexts.isAncestorOf(addressSpace, context);
+	}
+
+	/**
+	 * Drops the ranges which are not in read-only code sections, since the program
+	 * may have modified them while it ran.
+	 *
+	 * @param context - the address space which resumed, or a context containing it
+	 */
+	void resumed(IDMContext context) {
+		fResumes++;
+		for (Map.Entry<CacheKey, TreeMap<BigInteger, Segment>> entry : fSegments.entrySet()) {
+			if (isIn(entry.getKey().fAddressSpace, context)) {
+				Iterator<Segment> it = entry.getValue().values().iterator();
+				while (it.hasNext()) {
+					Segment segment = it.next();
+					if (!segment.fReadOnly) {
+						it.remove();
+						removed(segment);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Flushes the disassembly and the sections of the address spaces of the given
+	 * context, or of all of them if it is null.
+	 *
+	 * @param context - an address space or a context containing address spaces
+	 */
+	void flush(IDMContext context) {
+		fGeneration++;
+		Iterator<Map.Entry<CacheKey, TreeMap<BigInteger, Segment>>> it = fSegments.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<CacheKey, TreeMap<BigInteger, Segment>> entry = it.next();
+			if (isIn(entry.getKey().fAddressSpace, context)) {
+				for (Segment segment : entry.getValue().values()) {
+					removed(segment);
+				}
+				it.remove();
+			}
+		}
+		Iterator<IDMContext> sections = fCodeSections.keySet().iterator();
+		while (sections.hasNext()) {
+			if (isIn(sections.next(), context)) {
+				sections.remove();
+			}
+		}
+	}
+}
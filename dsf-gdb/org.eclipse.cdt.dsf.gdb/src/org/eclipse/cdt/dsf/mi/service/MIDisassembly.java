@@ -20,26 +20,53 @@ import java.util.Hashtable;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.ICachingService;
 import org.eclipse.cdt.dsf.debug.service.IDisassembly;
 import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryChangedEvent;
 import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IResumedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IStartedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo.Section;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MINotifyAsyncOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
-public class MIDisassembly extends AbstractDsfService implements IDisassembly {
+/**
+ * Disassembly service.  The disassembly of address ranges is cached per address
+ * space, so the threads of a process share it.  The ranges in the read-only code
+ * sections of the program and its libraries are kept across resumes, the others
+ * are dropped when the program resumes.  The cache of an address space is flushed
+ * when its memory is written, when a library is loaded or unloaded and when the
+ * process starts or exits.
+ */
+public class MIDisassembly extends AbstractDsfService implements IDisassembly, ICachingService, IEventListener {
 
 	// Services
 	ICommandControl fConnection;
 	private CommandFactory fCommandFactory;
 
+	/** Cache of the disassembly of address ranges, null if disabled */
+	private DisassemblyCache fDisassemblyCache;
+
 	///////////////////////////////////////////////////////////////////////////
 	// AbstractDsfService
 	///////////////////////////////////////////////////////////////////////////
@@ -70,6 +97,33 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 		fConnection = getServicesTracker().getService(ICommandControl.class);
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
+		if (Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_DISASSEMBLY_CACHE,
+				IGdbDebugPreferenceConstants.DISASSEMBLY_CACHE_DEFAULT, null)) {
+			fDisassemblyCache = new DisassemblyCache(getExecutor()) {
+				@Override
+				protected void disassemble(IDisassemblyDMContext context, BigInteger start, BigInteger end, int mode,
+						DataRequestMonitor<MIDataDisassembleInfo> rm) {
+					fConnection.queueCommand(
+							fCommandFactory.createMIDataDisassemble(context, start.toString(), end.toString(), mode),
+							rm);
+				}
+
+				@Override
+				protected void getSections(IDisassemblyDMContext context, final DataRequestMonitor<Section[]> rm) {
+					fConnection.queueCommand(fCommandFactory.createCLIMaintInfoSections(context),
+							new DataRequestMonitor<CLIMaintInfoSectionsInfo>(getExecutor(), rm) {
+								@Override
+								protected void handleSuccess() {
+									rm.done(getData().getSections());
+								}
+							});
+				}
+			};
+			fConnection.addEventListener(this);
+			getSession().addServiceEventListener(this, null);
+		}
+
 		register(new String[] { IDisassembly.class.getName(), MIDisassembly.class.getName() },
 				new Hashtable<String, String>());
 		rm.done();
@@ -80,6 +134,10 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 	 */
 	@Override
 	public void shutdown(RequestMonitor rm) {
+		if (fDisassemblyCache != null) {
+			getSession().removeServiceEventListener(this);
+			fConnection.removeEventListener(this);
+		}
 		unregister();
 		super.shutdown(rm);
 	}
@@ -122,6 +180,17 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
+		if (fDisassemblyCache != null && startAddress != null && endAddress != null) {
+			fDisassemblyCache.getSegment(context, startAddress, endAddress, mode,
+					new DataRequestMonitor<DisassemblyCache.Segment>(getExecutor(), drm) {
+						@Override
+						protected void handleSuccess() {
+							drm.done(getData().fInstructions);
+						}
+					});
+			return;
+		}
+
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
 		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
@@ -198,6 +267,17 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
+		if (fDisassemblyCache != null && startAddress != null && endAddress != null) {
+			fDisassemblyCache.getSegment(context, startAddress, endAddress, mode,
+					new DataRequestMonitor<DisassemblyCache.Segment>(getExecutor(), drm) {
+						@Override
+						protected void handleSuccess() {
+							drm.done(getData().fMixedInstructions);
+						}
+					});
+			return;
+		}
+
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
 		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
@@ -247,4 +327,81 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 					}
 				});
 	}
+
+	///////////////////////////////////////////////////////////////////////////
+	// Cache flushing
+	///////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * @since 5.7
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IMemoryChangedEvent e) {
+		flushAddressSpace(e.getDMContext());
+	}
+
+	/**
+	 * The program may modify the memory outside the read-only code sections while it runs.
+	 * @since 5.7
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IResumedDMEvent e) {
+		fDisassemblyCache.resumed(DisassemblyCache.getAddressSpace(e.getDMContext()));
+	}
+
+	/**
+	 * @since 5.7
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IStartedDMEvent e) {
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			flushAddressSpace(e.getDMContext());
+		}
+	}
+
+	/**
+	 * @since 5.7
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IExitedDMEvent e) {
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			flushAddressSpace(e.getDMContext());
+		}
+	}
+
+	private void flushAddressSpace(IDMContext context) {
+		fDisassemblyCache.flush(DisassemblyCache.getAddressSpace(context));
+	}
+
+	/**
+	 * Flushes the cache when a library is loaded or unloaded, its code may be
+	 * at addresses that had other code before.
+	 * @since 5.7
+	 */
+	@Override
+	public void eventReceived(Object output) {
+		if (output instanceof MIOutput) {
+			for (MIOOBRecord oob : ((MIOutput) output).getMIOOBRecords()) {
+				if (oob instanceof MINotifyAsyncOutput) {
+					String asyncClass = ((MINotifyAsyncOutput) oob).getAsyncClass();
+					if ("library-loaded".equals(asyncClass) || "library-unloaded".equals(asyncClass)) { //$NON-NLS-1$ //$NON-NLS-2$
+						fDisassemblyCache.flush(null);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Flushes the disassembly of the address space of the given context, or of the
+	 * address spaces it contains, or of all of them if it is null.
+	 * @since 5.7
+	 */
+	@Override
+	public void flushCache(IDMContext context) {
+		if (fDisassemblyCache != null) {
+			fDisassemblyCache.flush(context != null ? DisassemblyCache.getAddressSpace(context) : null);
+		}
+	}
 }
@@ -21,13 +21,18 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.mi.service;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
@@ -51,6 +56,8 @@ import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbDebugOptions;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.command.IGDBControl;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionChangedEvent;
@@ -64,7 +71,9 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.utils.Addr64;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.osgi.framework.BundleContext;
 
@@ -532,7 +541,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	}
 
 	///////////////////////////////////////////////////////////////////////////
-	// SortedLinkedlist
+	// SortedMemoryBlockMap
 	///////////////////////////////////////////////////////////////////////////
 
 	// This class is really the equivalent of a C struct (old habits die hard...)
@@ -552,94 +561,130 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			fLengthInOctets = lengthInOctets;
 			fBlock = block;
 		}
+
+		public BigInteger getStart() {
+			return fAddress.getValue();
+		}
+
+		public BigInteger getEnd() {
+			return fAddress.getValue().add(BigInteger.valueOf(fLengthInAddressableUnits));
+		}
 	}
 
-	// Address-ordered data structure to cache the memory blocks.
-	// Contiguous blocks are merged if possible.
-	@SuppressWarnings("serial")
-	private static class SortedMemoryBlockList extends LinkedList<MemoryBlock> {
+	// Address-ordered data structure to cache the memory blocks, keyed by their start address.
+	// Cached blocks never overlap and contiguous blocks are merged if possible. The same blocks
+	// are also kept in access order so that the least recently used ones can be evicted.
+	private static class SortedMemoryBlockMap {
+		private final TreeMap<BigInteger, MemoryBlock> fBlocks = new TreeMap<>();
+		private final LinkedHashMap<BigInteger, MemoryBlock> fAccessOrder = new LinkedHashMap<>(16, 0.75f, true);
+		private long fSizeInOctets;
+		private long fMaxMergedOctets = Integer.MAX_VALUE;
+
+		public void clear() {
+			fBlocks.clear();
+			fAccessOrder.clear();
+			fSizeInOctets = 0;
+		}
 
-		public SortedMemoryBlockList() {
-			super();
+		public long getSizeInOctets() {
+			return fSizeInOctets;
 		}
 
-		// Insert the block in the sorted linked list and merge contiguous
-		// blocks if necessary
-		@Override
-		public boolean add(MemoryBlock block) {
+		// Contiguous blocks are not merged beyond that size, this keeps the eviction granular
+		public void setMaxMergedOctets(long maxMergedOctets) {
+			fMaxMergedOctets = Math.min(maxMergedOctets, Integer.MAX_VALUE);
+		}
+
+		// Returns the blocks in address order, starting with the one that could contain the address
+		public Collection<MemoryBlock> tail(IAddress address) {
+			BigInteger first = fBlocks.floorKey(address.getValue());
+			return first == null ? fBlocks.values() : fBlocks.tailMap(first, true).values();
+		}
+
+		// Marks the block as recently used
+		public void touch(MemoryBlock block) {
+			fAccessOrder.get(block.getStart());
+		}
 
-			// If the list is empty, just store the block
-			if (isEmpty()) {
-				addFirst(block);
-				return true;
+		// Insert the block and merge it with the cached blocks it overlaps or is contiguous with.
+		// The content of the new block takes precedence over the cached content.
+		public void add(MemoryBlock block) {
+			if (block.fLengthInAddressableUnits <= 0) {
+				return;
 			}
 
-			// Insert the block at the correct location and then
-			// merge the blocks if possible
-			ListIterator<MemoryBlock> it = listIterator();
-			while (it.hasNext()) {
-				int index = it.nextIndex();
-				MemoryBlock item = it.next();
-				if (block.fAddress.compareTo(item.fAddress) < 0) {
-					add(index, block);
-					compact(index);
-					return true;
+			BigInteger start = block.getStart();
+			BigInteger end = block.getEnd();
+			long wordSize = block.fLengthInOctets / block.fLengthInAddressableUnits;
+
+			// Collect the cached blocks overlapping the new block or contiguous to it
+			BigInteger first = fBlocks.floorKey(start);
+			List<MemoryBlock> neighbors = new ArrayList<>();
+			for (MemoryBlock cachedBlock : fBlocks.subMap(first == null ? start : first, true, end, true).values()) {
+				if (cachedBlock.getEnd().compareTo(start) >= 0) {
+					neighbors.add(cachedBlock);
 				}
 			}
 
-			// Put at the end of the list and merge if necessary
-			addLast(block);
-			compact(size() - 1);
-			return true;
-		}
-
-		// Merge this block with its contiguous neighbors (if any)
-		// Note: Merge is not performed if resulting block size would exceed MAXINT
-		private void compact(int index) {
-
-			MemoryBlock newBlock = get(index);
-
-			// Case where the block is to be merged with the previous block
-			if (index > 0) {
-				MemoryBlock prevBlock = get(index - 1);
-				IAddress endOfPreviousBlock = prevBlock.fAddress.add(prevBlock.fLengthInAddressableUnits);
-				if (endOfPreviousBlock.distanceTo(newBlock.fAddress).longValue() == 0) {
-					long newLengthInOctets = prevBlock.fLengthInOctets + newBlock.fLengthInOctets;
-					long newLengthInAddressableUnits = prevBlock.fLengthInAddressableUnits
-							+ newBlock.fLengthInAddressableUnits;
-					if (newLengthInOctets <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLengthInOctets];
-						System.arraycopy(prevBlock.fBlock, 0, block, 0, (int) prevBlock.fLengthInOctets);
-						System.arraycopy(newBlock.fBlock, 0, block, (int) prevBlock.fLengthInOctets,
-								(int) newBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(prevBlock.fAddress, newLengthInOctets, newLengthInAddressableUnits,
-								block);
-						remove(index);
-						index -= 1;
-						set(index, newBlock);
-					}
+			BigInteger mergedStart = start;
+			BigInteger mergedEnd = end;
+			List<MemoryBlock> merged = new ArrayList<>(neighbors.size());
+			for (MemoryBlock cachedBlock : neighbors) {
+				BigInteger cachedStart = cachedBlock.getStart();
+				BigInteger cachedEnd = cachedBlock.getEnd();
+				BigInteger newStart = mergedStart.min(cachedStart);
+				BigInteger newEnd = mergedEnd.max(cachedEnd);
+				if (newEnd.subtract(newStart).longValue() * wordSize <= fMaxMergedOctets) {
+					merged.add(cachedBlock);
+					mergedStart = newStart;
+					mergedEnd = newEnd;
+				} else if (cachedStart.compareTo(end) < 0 && cachedEnd.compareTo(start) > 0) {
+					// Overlapping content that cannot be merged is outdated anyway
+					remove(cachedBlock);
 				}
 			}
 
-			// Case where the block is to be merged with the following block
-			int lastIndex = size() - 1;
-			if (index < lastIndex) {
-				MemoryBlock nextBlock = get(index + 1);
-				IAddress endOfNewBlock = newBlock.fAddress.add(newBlock.fLengthInAddressableUnits);
-				if (endOfNewBlock.distanceTo(nextBlock.fAddress).longValue() == 0) {
-					long newLength = newBlock.fLengthInOctets + nextBlock.fLengthInOctets;
-					long newAddressesLength = newBlock.fLengthInAddressableUnits + nextBlock.fLengthInAddressableUnits;
-					if (newLength <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLength];
-						System.arraycopy(newBlock.fBlock, 0, block, 0, (int) newBlock.fLengthInOctets);
-						System.arraycopy(nextBlock.fBlock, 0, block, (int) newBlock.fLengthInOctets,
-								(int) nextBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(newBlock.fAddress, newLength, newAddressesLength, block);
-						set(index, newBlock);
-						remove(index + 1);
+			if (!merged.isEmpty()) {
+				int lengthInOctets = (int) (mergedEnd.subtract(mergedStart).longValue() * wordSize);
+				MemoryByte[] content = new MemoryByte[lengthInOctets];
+				IAddress mergedAddress = block.fAddress;
+				for (MemoryBlock cachedBlock : merged) {
+					int pos = (int) (cachedBlock.getStart().subtract(mergedStart).longValue() * wordSize);
+					System.arraycopy(cachedBlock.fBlock, 0, content, pos, (int) cachedBlock.fLengthInOctets);
+					if (cachedBlock.getStart().equals(mergedStart)) {
+						mergedAddress = cachedBlock.fAddress;
 					}
+					remove(cachedBlock);
 				}
+				int pos = (int) (start.subtract(mergedStart).longValue() * wordSize);
+				System.arraycopy(block.fBlock, 0, content, pos, (int) block.fLengthInOctets);
+				block = new MemoryBlock(mergedAddress, lengthInOctets, lengthInOctets / wordSize, content);
+			}
+
+			fBlocks.put(block.getStart(), block);
+			fAccessOrder.put(block.getStart(), block);
+			fSizeInOctets += block.fLengthInOctets;
+		}
+
+		private void remove(MemoryBlock block) {
+			fBlocks.remove(block.getStart());
+			fAccessOrder.remove(block.getStart());
+			fSizeInOctets -= block.fLengthInOctets;
+		}
+
+		// Evict the least recently used blocks until the cache fits the given size.
+		// Returns the number of octets evicted.
+		public long evict(long maxSizeInOctets) {
+			long evicted = 0;
+			Iterator<MemoryBlock> it = fAccessOrder.values().iterator();
+			while (fSizeInOctets > maxSizeInOctets && it.hasNext()) {
+				MemoryBlock block = it.next();
+				it.remove();
+				fBlocks.remove(block.getStart());
+				fSizeInOctets -= block.fLengthInOctets;
+				evicted += block.fLengthInOctets;
 			}
+			return evicted;
 		}
 	}
 
@@ -650,16 +695,100 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	/** @since 4.2 */
 	protected class MIMemoryCache {
 		// The memory cache data structure
-		private SortedMemoryBlockList fMemoryBlockList;
+		private SortedMemoryBlockMap fMemoryBlockList;
+
+		// The maximum size of the cache in octets, 0 if unlimited
+		private final long fMaxSizeInOctets;
+		// Whether the neighboring memory is read ahead in the direction of the accesses
+		private final boolean fPrefetch;
+
+		// Bumped on every reset so that late prefetch results are dropped
+		private int fGeneration;
+		// Number of reads whose result still has to be collected from the cache
+		private int fPendingReads;
+		// The address of the previous request, used to detect the direction of the accesses
+		private BigInteger fLastRequestAddress;
+
+		// Statistics
+		private long fHitCount;
+		private long fMissCount;
+		private long fPrefetchCount;
+		private long fEvictedOctets;
 
 		public MIMemoryCache() {
 			// Create the memory block cache
-			fMemoryBlockList = new SortedMemoryBlockList();
+			fMemoryBlockList = new SortedMemoryBlockMap();
+
+			IPreferencesService prefs = Platform.getPreferencesService();
+			fMaxSizeInOctets = 1024L * Math.max(0, prefs.getInt(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_LIMIT,
+					IGdbDebugPreferenceConstants.MEMORY_CACHE_LIMIT_DEFAULT, null));
+			fPrefetch = prefs.getBoolean(GdbPlugin.PLUGIN_ID, IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PREFETCH,
+					IGdbDebugPreferenceConstants.MEMORY_CACHE_PREFETCH_DEFAULT, null);
+			if (fMaxSizeInOctets > 0) {
+				fMemoryBlockList.setMaxMergedOctets(Math.max(fMaxSizeInOctets / 16, 4096));
+			}
 		}
 
 		public void reset() {
+			if (GdbDebugOptions.DEBUG && fHitCount + fMissCount > 0) {
+				GdbDebugOptions.trace(String.format("%s Memory cache reset: %s\n", GdbPlugin.getDebugTime(), //$NON-NLS-1$
+						getStatistics()));
+			}
 			// Clear the memory cache
 			fMemoryBlockList.clear();
+			fGeneration++;
+			fLastRequestAddress = null;
+		}
+
+		/**
+		 * Returns the number of memory requests that were served from the cache only.
+		 * @since 5.7
+		 */
+		public long getHitCount() {
+			return fHitCount;
+		}
+
+		/**
+		 * Returns the number of memory requests that needed to read memory from the target.
+		 * @since 5.7
+		 */
+		public long getMissCount() {
+			return fMissCount;
+		}
+
+		/**
+		 * Returns the ratio of the memory requests served from the cache only, between 0 and 1.
+		 * @since 5.7
+		 */
+		public double getHitRatio() {
+			long requests = fHitCount + fMissCount;
+			return requests == 0 ? 0 : (double) fHitCount / requests;
+		}
+
+		/**
+		 * Returns the number of octets currently held by the cache.
+		 * @since 5.7
+		 */
+		public long getSizeInOctets() {
+			return fMemoryBlockList.getSizeInOctets();
+		}
+
+		/**
+		 * Returns a one line summary of the cache statistics.
+		 * @since 5.7
+		 */
+		public String getStatistics() {
+			return String.format("hits=%d misses=%d ratio=%.2f prefetches=%d size=%d evicted=%d", //$NON-NLS-1$
+					fHitCount, fMissCount, getHitRatio(), fPrefetchCount, getSizeInOctets(), fEvictedOctets);
+		}
+
+		// Evict the least recently used blocks once no read is waiting for its result in the cache
+		private void readCompleted() {
+			fPendingReads--;
+			if (fPendingReads == 0 && fMaxSizeInOctets > 0) {
+				fEvictedOctets += fMemoryBlockList.evict(fMaxSizeInOctets);
+			}
 		}
 
 		/**
@@ -705,9 +834,10 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 *      At this point, the updated requested block starts just beyond the cached block
 		 *      for the next iteration.
 		 *
-		 *  We iterate over the cached blocks list until there is no entry left or until
-		 *  the remaining requested block count is <= 0, meaning the result list contains
-		 *  only the sub-blocks needed to fill the gap(s), if any.
+		 *  We iterate over the cached blocks, starting with the last one that begins at or
+		 *  before the requested block, until there is no entry left or until the remaining
+		 *  requested block count is <= 0, meaning the result list contains only the sub-blocks
+		 *  needed to fill the gap(s), if any.
 		 *
 		 *  (As is often the case, it takes much more typing to explain it than to just do it :-)
 		 *
@@ -723,7 +853,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			int octetCount = wordCount * wordSize;
 
 			LinkedList<MemoryBlock> list = new LinkedList<>();
-			ListIterator<MemoryBlock> it = fMemoryBlockList.listIterator();
+			Iterator<MemoryBlock> it = fMemoryBlockList.tail(reqBlockStart).iterator();
 
 			// Look for holes in the list of memory blocks
 			while (it.hasNext() && octetCount > 0) {
@@ -798,18 +928,24 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 
 			IAddress reqBlockEnd = reqBlockStart.add(wordCount);
 			MemoryByte[] resultBlock = new MemoryByte[count];
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
+			Iterator<MemoryBlock> iter = fMemoryBlockList.tail(reqBlockStart).iterator();
 
 			while (iter.hasNext()) {
 				MemoryBlock cachedBlock = iter.next();
 				IAddress cachedBlockStart = cachedBlock.fAddress;
 				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
 
+				// The following blocks are all beyond the requested memory block
+				if (reqBlockEnd.distanceTo(cachedBlockStart).signum() >= 0) {
+					break;
+				}
+
 				// Case where the cached block overlaps completely the requested memory block
 				if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
 						&& reqBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
 					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
 					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, count);
+					fMemoryBlockList.touch(cachedBlock);
 				}
 
 				// Case where the beginning of the cached block is within the requested memory block
@@ -818,6 +954,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					int pos = (int) reqBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
 					int length = (int) Math.min(cachedBlock.fLengthInOctets, count - pos);
 					System.arraycopy(cachedBlock.fBlock, 0, resultBlock, pos, length);
+					fMemoryBlockList.touch(cachedBlock);
 				}
 
 				// Case where the end of the cached block is within the requested memory block
@@ -826,6 +963,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
 					int length = (int) Math.min(cachedBlock.fLengthInOctets - pos, count);
 					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, length);
+					fMemoryBlockList.touch(cachedBlock);
 				}
 			}
 			return resultBlock;
@@ -842,7 +980,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 */
 		private void updateMemoryCache(IAddress modBlockStart, int wordCount, MemoryByte[] modBlock, int wordSize) {
 			IAddress modBlockEnd = modBlockStart.add(wordCount);
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
+			Iterator<MemoryBlock> iter = fMemoryBlockList.tail(modBlockStart).iterator();
 			int count = wordCount * wordSize;
 
 			while (iter.hasNext()) {
@@ -850,6 +988,11 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 				IAddress cachedBlockStart = cachedBlock.fAddress;
 				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
 
+				// The following blocks are all beyond the modified memory block
+				if (modBlockEnd.distanceTo(cachedBlockStart).signum() >= 0) {
+					break;
+				}
+
 				// For now, we only bother to update bytes already cached.
 				// Note: In a better implementation (v1.1), we would augment
 				// the cache with the missing memory blocks since we went
@@ -889,6 +1032,71 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			return;
 		}
 
+		/**
+		 * Reads ahead the memory next to a request that missed the cache, in the direction
+		 * the requests are progressing, e.g. while scrolling a memory rendering. The prefetched
+		 * memory is only cached if it could be read entirely. Off by default since the memory
+		 * next to a request may be device registers that reading affects.
+		 */
+		private void prefetch(IMemoryDMContext memoryDMC, IAddress address, int wordSize, int wordCount) {
+			BigInteger lastAddress = fLastRequestAddress;
+			fLastRequestAddress = address.getValue();
+			if (!fPrefetch || lastAddress == null || wordCount == 0) {
+				return;
+			}
+
+			int direction = address.getValue().compareTo(lastAddress);
+			IAddress prefetchStart;
+			int prefetchCount = wordCount;
+			if (direction > 0) {
+				prefetchStart = address.add(wordCount);
+				BigInteger available = address.getMaxOffset().subtract(prefetchStart.getValue());
+				prefetchCount = available.min(BigInteger.valueOf(prefetchCount)).intValue();
+				if (prefetchCount <= 0) {
+					return;
+				}
+			} else if (direction < 0) {
+				prefetchCount = address.getValue().min(BigInteger.valueOf(prefetchCount)).intValue();
+				if (prefetchCount <= 0) {
+					return;
+				}
+				prefetchStart = address.add(-prefetchCount);
+			} else {
+				return;
+			}
+
+			final int generation = fGeneration;
+			for (MemoryBlock block : getListOfMissingBlocks(prefetchStart, prefetchCount, wordSize)) {
+				final IAddress startAddress = block.fAddress;
+				fPrefetchCount++;
+				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, (int) block.fLengthInAddressableUnits,
+						new DataRequestMonitor<MemoryByte[]>(getExecutor(), null) {
+							@Override
+							protected void handleSuccess() {
+								MemoryByte[] block = getData();
+								if (generation != fGeneration) {
+									return;
+								}
+								for (MemoryByte b : block) {
+									if (b == null || !b.isReadable()) {
+										return;
+									}
+								}
+								fMemoryBlockList.add(new MemoryBlock(startAddress, block.length,
+										block.length / wordSize, block));
+								if (fPendingReads == 0 && fMaxSizeInOctets > 0) {
+									fEvictedOctets += fMemoryBlockList.evict(fMaxSizeInOctets);
+								}
+							}
+
+							@Override
+							protected void handleFailure() {
+								// Reading ahead is only an optimization
+							}
+						});
+			}
+		}
+
 		/**
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
@@ -902,8 +1110,15 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			List<MemoryBlock> missingBlocks = getListOfMissingBlocks(address, wordCount, wordSize);
 			int numberOfRequests = missingBlocks.size();
 
+			if (numberOfRequests == 0) {
+				fHitCount++;
+			} else {
+				fMissCount++;
+			}
+
 			// A read request will be issued for each block needed
 			// so we need to keep track of the count
+			fPendingReads++;
 			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
@@ -911,6 +1126,12 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
 					drm.done();
 				}
+
+				@Override
+				protected void handleCompleted() {
+					super.handleCompleted();
+					readCompleted();
+				}
 			};
 			countingRM.setDoneCount(numberOfRequests);
 
@@ -920,7 +1141,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 				final IAddress startAddress = block.fAddress;
 				final int length = (int) block.fLengthInAddressableUnits;
 				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, length,
-						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), drm) {
+						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), countingRM) {
 							@Override
 							protected void handleSuccess() {
 								MemoryByte[] block = getData();
@@ -932,6 +1153,14 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 							}
 						});
 			}
+
+			// Read ahead only when the request is not served from the cache, the read ahead
+			// memory is then available when the next requests in the same direction come
+			if (numberOfRequests > 0) {
+				prefetch(memoryDMC, address, wordSize, wordCount);
+			} else {
+				fLastRequestAddress = address.getValue();
+			}
 		}
 
 		/**
@@ -1000,6 +1229,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 
 			// Read the corresponding memory block
 			fCommandCache.reset();
+			fPendingReads++;
 			readMemoryBlock(memoryDMC, address, offset, wordSize, wordCount,
 					new DataRequestMonitor<MemoryByte[]>(getExecutor(), rm) {
 						@Override
@@ -1027,6 +1257,12 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 							}
 							rm.done();
 						}
+
+						@Override
+						protected void handleCompleted() {
+							super.handleCompleted();
+							readCompleted();
+						}
 					});
 		}
 	}
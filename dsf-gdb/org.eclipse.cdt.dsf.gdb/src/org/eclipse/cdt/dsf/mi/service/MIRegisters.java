@@ -38,12 +38,14 @@ import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRegisters;
 import org.eclipse.cdt.dsf.debug.service.IRunControl;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.IStack;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
@@ -54,6 +56,7 @@ import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
@@ -256,6 +259,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	private CommandCache fRegisterNameCache; // Cache for holding the Register Names in the single Group
 	private CommandCache fRegisterValueCache; // Cache for holding the Register Values
 
+	// The hexadecimal values of all the registers of the top frames, fetched when the threads suspend
+	private final Map<IFrameDMContext, Map<Integer, MIRegisterValue>> fSnapshotValues = new HashMap<>();
+	// The snapshot being taken of each thread, replaced or removed when the thread resumes or suspends again
+	private final Map<IExecutionDMContext, Object> fSnapshots = new HashMap<>();
+	private int fSnapshotFrames;
+
 	public MIRegisters(DsfSession session) {
 		super(session);
 	}
@@ -299,6 +308,10 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 		fRegisterNameCache = new CommandCache(getSession(), commandControl);
 		fRegisterNameCache.setContextAvailable(commandControl.getContext(), true);
 
+		fSnapshotFrames = Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES,
+				IGdbDebugPreferenceConstants.SUSPEND_SNAPSHOT_FRAMES_DEFAULT, null);
+
 		/*
 		 * Sign up so we see events. We use these events to decide how to manage
 		 * any local caches we are providing as well as the lower level register
@@ -382,14 +395,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				return;
 			}
 
-			int[] regnos = { miRegDmc.getRegNo() };
-			fRegisterValueCache.execute(
-					fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, regnos),
-					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+			getRegisterValues(frameDmc, MIFormat.HEXADECIMAL, miRegDmc.getRegNo(),
+					new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
 							// Retrieve the register value.
-							MIRegisterValue[] regValue = getData().getMIRegisterValues();
+							MIRegisterValue[] regValue = getData();
 
 							// If the list is empty just return empty handed.
 							// The only known case this happens is caused by a bug in GDB's Python
@@ -455,13 +466,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 			NumberFormat = MIFormat.DECIMAL;
 		}
 
-		int[] regnos = { regDmc.getRegNo() };
-		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, NumberFormat, regnos),
-				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+		getRegisterValues(frameDmc, NumberFormat, regDmc.getRegNo(),
+				new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						// Retrieve the register value.
-						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						MIRegisterValue[] regValue = getData();
 
 						// If the list is empty just return empty handed.
 						// The only known case this happens is caused by a bug in GDB's Python
@@ -485,6 +495,114 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				});
 	}
 
+	/**
+	 * Returns the value of one register in the given format, from the snapshot taken
+	 * when the thread suspended if it has it.
+	 */
+	private void getRegisterValues(IFrameDMContext frameDmc, int format, int regno,
+			final DataRequestMonitor<MIRegisterValue[]> rm) {
+		if (format == MIFormat.HEXADECIMAL) {
+			Map<Integer, MIRegisterValue> values = fSnapshotValues.get(frameDmc);
+			if (values != null) {
+				MIRegisterValue value = values.get(regno);
+				if (value != null) {
+					rm.done(new MIRegisterValue[] { value });
+					return;
+				}
+			}
+		}
+
+		int[] regnos = { regno };
+		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, format, regnos),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						rm.done(getData().getMIRegisterValues());
+					}
+				});
+	}
+
+	/**
+	 * Fetches the values of all the registers of the top frames of the threads
+	 * stopped by the event, with one command per frame, before the views ask for
+	 * them one register at a time.
+	 */
+	private void takeSnapshot(IRunControl.ISuspendedDMEvent e) {
+		final IRunControl runControl = getServicesTracker().getService(IRunControl.class);
+		final IStack stack = getServicesTracker().getService(IStack.class);
+		if (fSnapshotFrames <= 0 || runControl == null || stack == null) {
+			return;
+		}
+
+		IDMContext ctx = e.getDMContext();
+		if (ctx instanceof IExecutionDMContext) {
+			// Non-stop mode
+			takeSnapshot(runControl, stack, (IExecutionDMContext) ctx);
+		} else if (ctx instanceof IContainerDMContext) {
+			// All-stop mode, every thread of the process stopped
+			runControl.getExecutionContexts((IContainerDMContext) ctx,
+					new DataRequestMonitor<IExecutionDMContext[]>(getExecutor(), null) {
+						@Override
+						protected void handleSuccess() {
+							for (IExecutionDMContext execDmc : getData()) {
+								takeSnapshot(runControl, stack, execDmc);
+							}
+						}
+
+						@Override
+						protected void handleError() {
+							// The snapshot is only an optimization
+						}
+					});
+		}
+	}
+
+	private void takeSnapshot(final IRunControl runControl, IStack stack, final IExecutionDMContext execDmc) {
+		if (!runControl.isSuspended(execDmc)) {
+			return;
+		}
+
+		final Object snapshot = new Object();
+		fSnapshots.put(execDmc, snapshot);
+		for (int level = 0; level < fSnapshotFrames; level++) {
+			final IFrameDMContext frameDmc = stack.createFrameDMContext(execDmc, level);
+			fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL),
+					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), null) {
+						@Override
+						protected void handleSuccess() {
+							// Drop the values if the thread resumed in the meantime
+							if (fSnapshots.get(execDmc) != snapshot) {
+								return;
+							}
+							Map<Integer, MIRegisterValue> values = new HashMap<>();
+							for (MIRegisterValue value : getData().getMIRegisterValues()) {
+								values.put(value.getNumber(), value);
+							}
+							fSnapshotValues.put(frameDmc, values);
+						}
+
+						@Override
+						protected void handleError() {
+							// The frame is deeper than the stack, or GDB cannot unwind to it
+						}
+					});
+		}
+	}
+
+	/**
+	 * Drops the snapshots of the given context and of the threads it contains,
+	 * or all of them if the context is null.
+	 */
+	private void clearSnapshot(IDMContext context) {
+		if (context == null) {
+			fSnapshotValues.clear();
+			fSnapshots.clear();
+			return;
+		}
+		fSnapshotValues.keySet().removeIf(frameDmc -> DMContexts.isAncestorOf(frameDmc, context));
+		fSnapshots.keySet().removeIf(execDmc -> execDmc.equals(context) || DMContexts.isAncestorOf(execDmc, context));
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -586,8 +704,9 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.IResumedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), false);
+		clearSnapshot(e.getDMContext());
 		if (e.getReason() != StateChangeReason.STEP) {
-			fRegisterValueCache.reset();
+			fRegisterValueCache.reset(e.getDMContext());
 		}
 	}
 
@@ -598,7 +717,9 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.ISuspendedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), true);
-		fRegisterValueCache.reset();
+		fRegisterValueCache.reset(e.getDMContext());
+		clearSnapshot(e.getDMContext());
+		takeSnapshot(e);
 	}
 
 	/**
@@ -608,6 +729,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(final IRegisters.IRegisterChangedDMEvent e) {
 		fRegisterValueCache.reset();
+		clearSnapshot(null);
 	}
 
 	/**
@@ -870,5 +992,6 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void flushCache(IDMContext context) {
 		fRegisterNameCache.reset(context);
 		fRegisterValueCache.reset(context);
+		clearSnapshot(context);
 	}
 }
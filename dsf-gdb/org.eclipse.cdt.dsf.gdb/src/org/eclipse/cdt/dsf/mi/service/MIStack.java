@@ -46,6 +46,7 @@ import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
@@ -64,6 +65,7 @@ import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.utils.Addr32;
 import org.eclipse.cdt.utils.Addr64;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
@@ -343,6 +345,18 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 */
 	private boolean fTraceVisualization;
 
+	/**
+	 * The number of top frames of each thread fetched as soon as the thread
+	 * suspends, 0 if nothing is fetched before it is requested.
+	 */
+	private int fSnapshotFrames;
+
+	/**
+	 * The snapshot being taken of each thread, replaced or removed when the
+	 * thread resumes or suspends again.
+	 */
+	private final Map<IExecutionDMContext, Object> fSnapshots = new HashMap<>();
+
 	/**
 	 * A Map of a return value for each thread.
 	 * A return value is stored when the user performs a step-return,
@@ -468,6 +482,9 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		fRunControl = getServicesTracker().getService(IRunControl.class);
 
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
+		fSnapshotFrames = Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES,
+				IGdbDebugPreferenceConstants.SUSPEND_SNAPSHOT_FRAMES_DEFAULT, null);
 
 		getSession().addServiceEventListener(this, null);
 		register(new String[] { IStack.class.getName(), MIStack.class.getName() }, new Hashtable<String, String>());
@@ -1137,10 +1154,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	@DsfServiceEventHandler
 	public void eventDispatched(IResumedDMEvent e) {
 		fMICommandCache.setContextAvailable(e.getDMContext(), false);
+		clearSnapshot(e.getDMContext());
 		if (e.getReason() != StateChangeReason.STEP) {
 			fCachedStoppedEvent = null;
-			fMICommandCache.reset();
-			fFramesCache.clear();
+			fMICommandCache.reset(e.getDMContext());
+			fFramesCache.clear(e.getDMContext());
 		}
 
 		handleReturnValues(e);
@@ -1175,10 +1193,106 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	@DsfServiceEventHandler
 	public void eventDispatched(ISuspendedDMEvent e) {
 		fMICommandCache.setContextAvailable(e.getDMContext(), true);
-		fMICommandCache.reset();
-		fFramesCache.clear();
+		fMICommandCache.reset(e.getDMContext());
+		fFramesCache.clear(e.getDMContext());
+		clearSnapshot(e.getDMContext());
 
 		handleReturnValues(e);
+		takeSnapshot(e);
+	}
+
+	/**
+	 * Fetches the top frames of the threads stopped by the event, with their
+	 * arguments and locals, before the views ask for them.  All the commands are
+	 * sent at once so they are pipelined to GDB, and their results are kept in the
+	 * command cache and the frames cache exactly like the results of the requests
+	 * they anticipate.
+	 */
+	private void takeSnapshot(ISuspendedDMEvent e) {
+		if (fSnapshotFrames <= 0 || fTraceVisualization) {
+			return;
+		}
+
+		IDMContext ctx = e.getDMContext();
+		if (ctx instanceof IMIExecutionDMContext) {
+			// Non-stop mode
+			takeSnapshot((IMIExecutionDMContext) ctx);
+		} else if (ctx instanceof IContainerDMContext) {
+			// All-stop mode, every thread of the process stopped
+			fRunControl.getExecutionContexts((IContainerDMContext) ctx,
+					new DataRequestMonitor<IExecutionDMContext[]>(getExecutor(), null) {
+						@Override
+						protected void handleSuccess() {
+							for (IExecutionDMContext execDmc : getData()) {
+								if (execDmc instanceof IMIExecutionDMContext) {
+									takeSnapshot((IMIExecutionDMContext) execDmc);
+								}
+							}
+						}
+
+						@Override
+						protected void handleError() {
+							// The snapshot is only an optimization
+						}
+					});
+		}
+	}
+
+	private void takeSnapshot(final IMIExecutionDMContext execDmc) {
+		if (!fRunControl.isSuspended(execDmc)) {
+			return;
+		}
+
+		final int maxDepth = fSnapshotFrames;
+		final Object snapshot = new Object();
+		fSnapshots.put(execDmc, snapshot);
+		fMICommandCache.execute(createMIStackListFrames(execDmc, 0, maxDepth - 1),
+				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), null) {
+					@Override
+					protected void handleSuccess() {
+						// Don't fill the frames cache once the thread has resumed
+						if (fSnapshots.get(execDmc) != snapshot) {
+							return;
+						}
+						String threadId = execDmc.getThreadId();
+						fFramesCache.update(threadId, getData());
+						int depth = getData().getMIFrames().length;
+						fFramesCache.update(threadId, depth, maxDepth);
+
+						for (int level = 0; level < depth; level++) {
+							fMICommandCache.execute(
+									fCommandFactory.createMIStackListLocals(createFrameDMContext(execDmc, level), true),
+									new DataRequestMonitor<MIStackListLocalsInfo>(getExecutor(), null) {
+										@Override
+										protected void handleError() {
+										}
+									});
+						}
+					}
+
+					@Override
+					protected void handleError() {
+						// The frames will be requested again when they are needed
+					}
+				});
+		fMICommandCache.execute(fCommandFactory.createMIStackListArguments(execDmc, true),
+				new DataRequestMonitor<MIStackListArgumentsInfo>(getExecutor(), null) {
+					@Override
+					protected void handleError() {
+					}
+				});
+	}
+
+	/**
+	 * Drops the snapshots of the given context and of the threads it contains,
+	 * or all of them if the context is null.
+	 */
+	private void clearSnapshot(IDMContext context) {
+		if (context == null) {
+			fSnapshots.clear();
+			return;
+		}
+		fSnapshots.keySet().removeIf(execDmc -> execDmc.equals(context) || DMContexts.isAncestorOf(execDmc, context));
 	}
 
 	private void handleReturnValues(ISuspendedDMEvent e) {
@@ -1253,6 +1367,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		fMICommandCache.reset(context);
 		fFramesCache.clear(context);
 		fCachedStoppedEvent = null;
+		clearSnapshot(context);
 	}
 
 }
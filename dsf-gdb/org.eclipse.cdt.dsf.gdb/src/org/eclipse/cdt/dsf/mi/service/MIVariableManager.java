@@ -27,7 +27,6 @@ package org.eclipse.cdt.dsf.mi.service;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -168,9 +167,16 @@ import org.eclipse.core.runtime.Status;
  * object and not the command -data-evaluate-expression, because we still need to get
  * the array address in multiple formats.
  *
+ * - the children of non-dynamic varObjects are listed with --all-values, so that
+ * their values are known without a -var-evaluate-expression for each child.  The
+ * elements of an array are created by pages of CHILDREN_PAGE_SIZE children around the
+ * requested one, so that the visible elements need only one or two commands.
+ *
  * - we keep an LRU (Least Recently Used) structure of all variable objects.  This LRU
- * will be bounded to a maximum allowed number of variable objects.  Whenever we get an
- * object from the LRU cleanup will be done if the maximum size has been reached.
+ * is bounded by the estimated size of the variable objects it holds, which mostly
+ * depends on the size of their values (e.g. long strings printed by pretty printers).
+ * Whenever we get an object from the LRU cleanup will be done if the maximum size has
+ * been reached.
  * The LRU will not delete a parent varObject until all its children are deleted; this is
  * achieved by touching each of the parents of an object whenever that object is put or get
  *
@@ -258,6 +264,12 @@ import org.eclipse.core.runtime.Status;
  */
 public class MIVariableManager implements ICommandControl {
 
+	// Estimated size of a variable object in addition to its strings
+	private static final int VARIABLE_OBJECT_OVERHEAD = 512;
+
+	// Number of children of a non-dynamic variable object that are listed at once
+	private static final int CHILDREN_PAGE_SIZE = 64;
+
 	/**
 	 * Stores the information about children of a variable object.
 	 *
@@ -399,6 +411,17 @@ public class MIVariableManager implements ICommandControl {
 
 		private boolean fFetchingChildren = false;
 
+		// Children listed ahead of the creation of their variable object, by index in parent.
+		// They are only valid until the next time variable objects are marked out-of-date.
+		private Map<Integer, MIVar> fListedChildren = null;
+		private int fListedChildrenGeneration;
+		// The requests waiting for a page of children being listed, by first index of the page
+		private Map<Integer, List<RequestMonitor>> fChildPagesPending = null;
+
+		// The estimated size of this object, as accounted for by the LRU
+		private int fEstimatedSize;
+		private boolean fInLruCache = false;
+
 		/**
 		 * In case of base class variables that are accessed in a derived class
 		 * we cannot trust var-info-path-expression because of a bug in gdb.
@@ -620,6 +643,7 @@ public class MIVariableManager implements ICommandControl {
 
 		public void setGdbName(String n) {
 			fGdbName = n;
+			sizeChanged();
 		}
 
 		public void setCurrentFormat(String f) {
@@ -642,6 +666,7 @@ public class MIVariableManager implements ICommandControl {
 			setType(typeName);
 			fNumChildrenHint = num;
 			this.fHasMore = hasMore;
+			sizeChanged();
 		}
 
 		/**
@@ -654,6 +679,7 @@ public class MIVariableManager implements ICommandControl {
 
 		public void setValue(String format, String val) {
 			fValueMap.put(format, val);
+			sizeChanged();
 		}
 
 		public void resetValues(String valueInCurrentFormat) {
@@ -667,6 +693,40 @@ public class MIVariableManager implements ICommandControl {
 			fValueMap.put(IFormattedValues.HEX_FORMAT, null);
 			fValueMap.put(IFormattedValues.OCTAL_FORMAT, null);
 			fValueMap.put(IFormattedValues.DECIMAL_FORMAT, null);
+			sizeChanged();
+		}
+
+		/**
+		 * Returns an estimate of the memory held by this object, mostly made of its
+		 * values. The children are not accounted for since their expression info is
+		 * shared with the expression contexts. It is only called once the object is
+		 * constructed and stored in the cache of variable objects.
+		 *
+		 * @since 5.7
+		 */
+		protected int estimateSize() {
+			int size = VARIABLE_OBJECT_OVERHEAD;
+			size += estimateSize(fGdbName) + estimateSize(fType);
+			if (fExprInfo != null) {
+				size += estimateSize(fExprInfo.getFullExpr()) + estimateSize(fExprInfo.getRelExpr());
+			}
+			for (String value : fValueMap.values()) {
+				size += estimateSize(value);
+			}
+			return size;
+		}
+
+		private int estimateSize(String str) {
+			return str == null ? 0 : 2 * str.length();
+		}
+
+		private void sizeChanged() {
+			// The size is first estimated when the object is put in the cache
+			if (fInLruCache) {
+				int size = estimateSize();
+				lruVariableList.sizeChanged(size - fEstimatedSize);
+				fEstimatedSize = size;
+			}
 		}
 
 		/**
@@ -1433,8 +1493,11 @@ public class MIVariableManager implements ICommandControl {
 			final int from = (addChildren && (fChildren != null)) ? getNumChildrenHint() : 0;
 			final int to = Math.max(newNumChildrenLimit, fExprInfo.getChildCountLimit());
 
+			// The values of the children of a non-dynamic variable object are listed with them,
+			// pretty printers could take long to print the values of uninitialized children
 			ICommand<MIVarListChildrenInfo> varListChildren = isSafeToAskForAllChildren()
-					? fCommandFactory.createMIVarListChildren(getRootToUpdate().getControlDMContext(), getGdbName())
+					? fCommandFactory.createMIVarListChildren(getRootToUpdate().getControlDMContext(), getGdbName(),
+							!isDynamic())
 					: fCommandFactory.createMIVarListChildren(getRootToUpdate().getControlDMContext(), getGdbName(),
 							from, to);
 
@@ -2075,33 +2138,66 @@ public class MIVariableManager implements ICommandControl {
 				final MIExpressionDMC miExprCtx = (MIExpressionDMC) exprCtx;
 				final int indexInParent = miExprCtx.getExpressionInfo().getIndexInParentExpression();
 
-				fCommandControl.queueCommand(
-						fCommandFactory.createMIVarListChildren(getParent().getRootToUpdate().getControlDMContext(),
-								getParent().getGdbName(), indexInParent, indexInParent + 1),
-						new DataRequestMonitor<MIVarListChildrenInfo>(fSession.getExecutor(), rm) {
+				getParent().listChild(indexInParent, new DataRequestMonitor<MIVar>(fSession.getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						MIVar miVar = getData();
 
-							@Override
-							protected void handleSuccess() {
-								if (getData().getMIVars().length == 1) {
-									MIVar miVar = getData().getMIVars()[0];
+						ExpressionInfo localExprInfo = miExprCtx.getExpressionInfo();
 
-									ExpressionInfo localExprInfo = miExprCtx.getExpressionInfo();
+						localExprInfo.setDynamic(miVar.isDynamic());
 
-									localExprInfo.setDynamic(miVar.isDynamic());
+						initFrom(miVar, localExprInfo);
 
-									initFrom(miVar, localExprInfo);
+						if (fExprInfo.isDynamic()
+								&& (fExprInfo.getChildCountLimit() != IMIExpressions.CHILD_COUNT_LIMIT_UNSPECIFIED)) {
+							// Restore the original update range.
+							fCommandControl.queueCommand(
+									fCommandFactory.createMIVarSetUpdateRange(getRootToUpdate().getControlDMContext(),
+											getGdbName(), 0, fExprInfo.getChildCountLimit()),
+									new DataRequestMonitor<MIInfo>(fSession.getExecutor(), rm));
+						} else {
+							rm.done();
+						}
+					}
+				});
+			} else {
+				assert false;
+			}
+		}
 
-									if (fExprInfo.isDynamic() && (fExprInfo
-											.getChildCountLimit() != IMIExpressions.CHILD_COUNT_LIMIT_UNSPECIFIED)) {
-										// Restore the original update range.
-										fCommandControl.queueCommand(
-												fCommandFactory.createMIVarSetUpdateRange(
-														getRootToUpdate().getControlDMContext(), getGdbName(), 0,
-														fExprInfo.getChildCountLimit()),
-												new DataRequestMonitor<MIInfo>(fSession.getExecutor(), rm));
-									} else {
-										rm.done();
-									}
+		/**
+		 * Lists the child at the given index, which creates its variable object in GDB.
+		 * The children of a non-dynamic variable object are listed by pages, together with
+		 * their values, so that creating the neighboring children (e.g. the visible elements
+		 * of an array) needs no further command. GDB creates all the children of such a
+		 * variable object as soon as one is listed anyway.
+		 */
+		private void listChild(final int index, final DataRequestMonitor<MIVar> rm) {
+			// Children listed before the variable objects were last marked out-of-date
+			// may have been updated in GDB without us knowing their new value
+			if (fListedChildren != null && fListedChildrenGeneration != fOutOfDateGeneration) {
+				fListedChildren = null;
+			}
+			MIVar listedChild = fListedChildren == null ? null : fListedChildren.remove(index);
+			if (listedChild != null) {
+				rm.setData(listedChild);
+				rm.done();
+				return;
+			}
+
+			if (isDynamic()) {
+				// Only list the requested child of a dynamic varobj, see isSafeToAskForAllChildren()
+				fCommandControl.queueCommand(
+						fCommandFactory.createMIVarListChildren(getRootToUpdate().getControlDMContext(), getGdbName(),
+								index, index + 1),
+						new DataRequestMonitor<MIVarListChildrenInfo>(fSession.getExecutor(), rm) {
+							@Override
+							protected void handleSuccess() {
+								MIVar[] children = getData().getMIVars();
+								if (children.length == 1) {
+									rm.setData(children[0]);
+									rm.done();
 								} else {
 									rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID,
 											IDsfStatusConstants.INTERNAL_ERROR,
@@ -2110,9 +2206,63 @@ public class MIVariableManager implements ICommandControl {
 								}
 							}
 						});
-			} else {
-				assert false;
+				return;
 			}
+
+			RequestMonitor pageRm = new RequestMonitor(fSession.getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					MIVar child = fListedChildren == null ? null : fListedChildren.remove(index);
+					if (child != null) {
+						rm.setData(child);
+					} else {
+						rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, IDsfStatusConstants.INTERNAL_ERROR,
+								"Unexpected return on -var-list-children", null)); //$NON-NLS-1$
+					}
+					rm.done();
+				}
+			};
+
+			// If the page is already being listed, just wait for it
+			final int from = index - index % CHILDREN_PAGE_SIZE;
+			if (fChildPagesPending == null) {
+				fChildPagesPending = new HashMap<>();
+			}
+			List<RequestMonitor> pending = fChildPagesPending.get(from);
+			if (pending != null) {
+				pending.add(pageRm);
+				return;
+			}
+			pending = new ArrayList<>();
+			pending.add(pageRm);
+			fChildPagesPending.put(from, pending);
+
+			final int generation = fOutOfDateGeneration;
+			fCommandControl.queueCommand(
+					fCommandFactory.createMIVarListChildren(getRootToUpdate().getControlDMContext(), getGdbName(), from,
+							from + CHILDREN_PAGE_SIZE, true),
+					new DataRequestMonitor<MIVarListChildrenInfo>(fSession.getExecutor(), null) {
+						@Override
+						protected void handleCompleted() {
+							if (isSuccess()) {
+								if (fListedChildren == null || fListedChildrenGeneration != generation) {
+									fListedChildren = new HashMap<>();
+									fListedChildrenGeneration = generation;
+								}
+								MIVar[] children = getData().getMIVars();
+								for (int i = 0; i < children.length; i++) {
+									fListedChildren.put(from + i, children[i]);
+								}
+							}
+
+							for (RequestMonitor waitingRm : fChildPagesPending.remove(from)) {
+								if (!isSuccess()) {
+									waitingRm.setStatus(getStatus());
+								}
+								waitingRm.done();
+							}
+						}
+					});
 		}
 
 		private void initFrom(MIVar miVar, ExpressionInfo newExprInfo) {
@@ -2128,6 +2278,13 @@ public class MIVariableManager implements ICommandControl {
 			setDisplayHint(miVar.getDisplayHint());
 			setExpressionData(newExprInfo, miVar.getType(), miVar.getNumChild(), newHasMore);
 
+			// Store the value listed with the children, if any.
+			// Don't store if it is an array, since we want to show
+			// the address of an array as its value
+			if (miVar.hasValue() && !isArray()) {
+				setValue(getCurrentFormat(), miVar.getValue());
+			}
+
 			// This will replace any existing entry
 			lruVariableList.put(getInternalId(), this);
 
@@ -2543,8 +2700,8 @@ public class MIVariableManager implements ICommandControl {
 	/**
 	 * This is the real work horse of managing our objects. Not only must every
 	 * value be unique to get inserted, this also creates an LRU (least recently
-	 * used). When we hit our size limitation, the LRUsed will be removed to
-	 * make space. Removing means that a GDB request to delete the object is
+	 * used). When the estimated size of the objects exceeds our limit, the LRUsed
+	 * will be removed to make space. Removing means that a GDB request to delete the object is
 	 * generated.  We must also take into consideration the fact that GDB will
 	 * automatically delete children of a variable object, when deleting the parent
 	 * variable object.  Our solution to that is to tweak the LRU to make sure that
@@ -2555,8 +2712,10 @@ public class MIVariableManager implements ICommandControl {
 	private static class LRUVariableCache extends LinkedHashMap<VariableObjectId, MIVariableObject> {
 		public static final long serialVersionUID = 0;
 
-		// Maximum allowed concurrent variables
-		private static final int MAX_VARIABLE_LIST = 1000;
+		// Maximum allowed estimated size of the variables, see MIVariableObject#estimateSize()
+		private static final long MAX_VARIABLE_PAYLOAD = 1024 * 1024;
+
+		private long fPayloadSize;
 
 		public LRUVariableCache() {
 			super(0, // Initial load capacity
@@ -2576,14 +2735,15 @@ public class MIVariableManager implements ICommandControl {
 			MIVariableObject varObj = super.get(key);
 			touchAncestors(varObj);
 
-			// If we're over our max size, attempt to remove eldest entry.
-			if (size() > MAX_VARIABLE_LIST) {
+			// If we're over our max size, attempt to remove eldest entries.
+			while (fPayloadSize > MAX_VARIABLE_PAYLOAD && !isEmpty()) {
 				Map.Entry<VariableObjectId, MIVariableObject> eldest = entrySet().iterator().next();
 				// First make sure we are not deleting ourselves!
-				if (!eldest.getValue().equals(varObj)
-						&& eldest.getValue().currentState == MIVariableObject.STATE_READY) {
-					remove(eldest.getKey());
+				if (eldest.getValue().equals(varObj)
+						|| eldest.getValue().currentState != MIVariableObject.STATE_READY) {
+					break;
 				}
+				remove(eldest.getKey());
 			}
 			return varObj;
 		}
@@ -2601,6 +2761,14 @@ public class MIVariableManager implements ICommandControl {
 		@Override
 		public MIVariableObject put(VariableObjectId key, MIVariableObject varObj) {
 			MIVariableObject retVal = super.put(key, varObj);
+			if (retVal != varObj) {
+				removed(retVal);
+				if (varObj != null) {
+					varObj.fInLruCache = true;
+					varObj.fEstimatedSize = varObj.estimateSize();
+					fPayloadSize += varObj.fEstimatedSize;
+				}
+			}
 
 			// Touch all parents of this element so as
 			// to guarantee they are not deleted before their children.
@@ -2613,10 +2781,34 @@ public class MIVariableManager implements ICommandControl {
 		public MIVariableObject remove(Object key) {
 			MIVariableObject varObj = super.remove(key);
 			if (varObj != null) {
+				removed(varObj);
 				varObj.deleteInGdb();
 			}
 			return varObj;
 		}
+
+		/**
+		 * Removes all the entries, without deleting them in GDB.
+		 */
+		@Override
+		public void clear() {
+			for (MIVariableObject varObj : values()) {
+				varObj.fInLruCache = false;
+			}
+			super.clear();
+			fPayloadSize = 0;
+		}
+
+		private void removed(MIVariableObject varObj) {
+			if (varObj != null && varObj.fInLruCache) {
+				varObj.fInLruCache = false;
+				fPayloadSize -= varObj.fEstimatedSize;
+			}
+		}
+
+		void sizeChanged(int delta) {
+			fPayloadSize += delta;
+		}
 	}
 
 	private GDBTypeParser fGDBTypeParser = null;
@@ -2639,6 +2831,9 @@ public class MIVariableManager implements ICommandControl {
 	/** Our least recently used cache */
 	private final LRUVariableCache lruVariableList;
 
+	/** Incremented each time the variable objects are marked out-of-date */
+	private int fOutOfDateGeneration;
+
 	/** The list of root variable objects that have been updated */
 	private final LinkedList<MIRootVariableObject> updatedRootList = new LinkedList<>();
 
@@ -3146,6 +3341,7 @@ public class MIVariableManager implements ICommandControl {
 	 * @since 1.1
 	 */
 	public void markAllOutOfDate() {
+		fOutOfDateGeneration++;
 		MIRootVariableObject root;
 		while ((root = updatedRootList.poll()) != null) {
 			root.setOutOfDate(true);
@@ -3186,11 +3382,7 @@ public class MIVariableManager implements ICommandControl {
 		// fails miserably because all objects will have the same depth and we will confuse
 		// them.  Until we find a good solution, we have to clear our entire list of
 		// of variable objects (and delete them in GDB to avoid having too many).
-		Iterator<Map.Entry<VariableObjectId, MIVariableObject>> iterator = lruVariableList.entrySet().iterator();
-		while (iterator.hasNext()) {
-			iterator.next();
-			iterator.remove();
-		}
+		lruVariableList.clear();
 	}
 
 	/**
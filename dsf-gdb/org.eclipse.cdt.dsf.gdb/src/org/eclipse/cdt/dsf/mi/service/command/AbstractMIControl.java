@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -70,6 +71,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIValue;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -85,7 +87,10 @@ import com.ibm.icu.text.MessageFormat;
  */
 public abstract class AbstractMIControl extends AbstractDsfService implements IMICommandControl {
 	private static final String MI_TRACE_IDENTIFIER = "[MI]"; //$NON-NLS-1$
-	private static final int NUMBER_CONCURRENT_COMMANDS = 3;
+	/**
+	 * Upper bound for the number of commands written to the back end in a single write.
+	 */
+	private static final int MAX_COMMANDS_PER_WRITE = 64;
 	private static final int DEVELOPMENT_TRACE_LIMIT_CHARS = 5000;
 
 	/*
@@ -132,6 +137,20 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 	private final List<CommandHandle> fCommandQueue = new ArrayList<>();
 
+	/**
+	 * Number of commands that may be sent to the back end before their results are received.
+	 */
+	private final int fMaxCommandsInFlight;
+
+	/**
+	 * Number of commands handed to the transmit thread whose results have not been received yet.
+	 * Incremented when a command is handed over, decremented when its result is received, when it
+	 * fails, or when a raw command, which gets no result, is written.
+	 */
+	private final AtomicInteger fCommandsInFlight = new AtomicInteger();
+
+	private final MICommandMetrics fMetrics = new MICommandMetrics();
+
 	/**
 	 * Flag indicating that the command control has stopped processing commands.
 	 */
@@ -174,6 +193,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fUseThreadAndFrameOptions = true;
 		}
 		fCommandFactory = factory;
+		fMaxCommandsInFlight = Math.max(1,
+				Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+						IGdbDebugPreferenceConstants.PREF_MAX_MI_COMMANDS_IN_FLIGHT,
+						IGdbDebugPreferenceConstants.MAX_MI_COMMANDS_IN_FLIGHT_DEFAULT, null));
 	}
 
 	/**
@@ -220,6 +243,14 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return fCommandFactory;
 	}
 
+	/**
+	 * Returns the counters for the commands exchanged with the back end.
+	 * @since 5.7
+	 */
+	public MICommandMetrics getCommandMetrics() {
+		return fMetrics;
+	}
+
 	/**
 	 * Starts the threads that process the debugger input/output channels.
 	 * To be invoked by the initialization routine of the extending class.
@@ -289,6 +320,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			commandHandle.getRequestMonitor().done();
 		}
 		fCommandQueue.clear();
+		fMetrics.queueDepthChanged(0);
 
 		/*
 		 *  Now go through the commands which are outstanding in that they have been sent to the backend.
@@ -301,6 +333,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		List<CommandHandle> txCommands = new ArrayList<>();
 		fTxCommands.drainTo(txCommands);
 		for (CommandHandle commandHandle : txCommands) {
+			if (commandHandle != fTerminatorHandle) {
+				fCommandsInFlight.decrementAndGet();
+			}
 			if (commandHandle.getRequestMonitor() == null)
 				continue;
 			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
@@ -313,6 +348,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 	private synchronized void cancelRxCommands() {
 		for (CommandHandle commandHandle : fRxCommands.values()) {
+			fCommandsInFlight.decrementAndGet();
 			if (commandHandle.getRequestMonitor() == null)
 				continue;
 			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
@@ -353,15 +389,16 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			rm.done();
 		} else {
 			/*
-			 *  We only allow three outstanding commands to be on the wire to the backend
-			 *  at any one time. This allows for coalescing as well as canceling
-			 *  existing commands on a state change. So we add it to the waiting list and let
-			 *  the user know they can now work with this item if need be.
+			 *  We only allow a few outstanding commands to be on the wire to the backend
+			 *  at any one time (see PREF_MAX_MI_COMMANDS_IN_FLIGHT). This allows for coalescing
+			 *  as well as canceling existing commands on a state change. So we add it to the
+			 *  waiting list and let the user know they can now work with this item if need be.
 			 */
 			fCommandQueue.add(handle);
+			fMetrics.queueDepthChanged(fCommandQueue.size());
 			processCommandQueued(handle);
 
-			if (fRxCommands.size() < NUMBER_CONCURRENT_COMMANDS) {
+			if (getCommandsInFlight() < fMaxCommandsInFlight) {
 				// In a separate dispatch cycle.  This allows command listeners
 				// to respond to the command queued event.
 				getExecutor().execute(new DsfRunnable() {
@@ -376,9 +413,37 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return handle;
 	}
 
+	/**
+	 * Returns the number of commands handed to the transmit thread whose results have not been
+	 * received yet.
+	 */
+	private int getCommandsInFlight() {
+		return fCommandsInFlight.get();
+	}
+
+	/**
+	 * Hands the given command to the transmit thread.
+	 */
+	private void transmitCommand(CommandHandle handle) {
+		fCommandsInFlight.incrementAndGet();
+		fTxCommands.add(handle);
+	}
+
+	/**
+	 * Sends the next queued command, and further ones as long as the number of commands in
+	 * flight allows it. Commands handed to the transmit thread together are written to the
+	 * back end in a single write.
+	 */
 	private void processNextQueuedCommand() {
+		do {
+			sendNextQueuedCommand();
+		} while (!fCommandQueue.isEmpty() && getCommandsInFlight() < fMaxCommandsInFlight);
+	}
+
+	private void sendNextQueuedCommand() {
 		if (!fCommandQueue.isEmpty()) {
 			final CommandHandle handle = fCommandQueue.remove(0);
+			fMetrics.queueDepthChanged(fCommandQueue.size());
 			if (handle != null) {
 				processCommandSent(handle);
 
@@ -407,7 +472,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIThreadSelect(targetContext, targetThread), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmitCommand(cmdHandle);
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
@@ -417,7 +482,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIStackSelectFrame(targetContext, targetFrame), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmitCommand(cmdHandle);
 						}
 					}
 				}
@@ -428,7 +493,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					// need a token id.  In fact, GDB will fail if we send one in this case.
 					handle.generateTokenId();
 				}
-				fTxCommands.add(handle);
+				transmitCommand(handle);
 			}
 		}
 	}
@@ -449,6 +514,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			for (CommandHandle handle : fCommandQueue) {
 				if (handle.equals(token)) {
 					fCommandQueue.remove(handle);
+					fMetrics.queueDepthChanged(fCommandQueue.size());
 
 					final CommandHandle finalHandle = handle;
 					getExecutor().execute(new DsfRunnable() {
@@ -625,6 +691,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private MICommand<MIInfo> fCommand;
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
+		private long fSentTime;
 
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
@@ -689,6 +756,22 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	 *  the message to the backend.
 	 */
 
+	private String constructCommand(CommandHandle commandHandle) {
+		if (commandHandle.getCommand() instanceof RawCommand) {
+			// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+			return commandHandle.getCommand().constructCommand();
+		} else if (fUseThreadGroupOption) {
+			// Implies that fUseThreadAndFrameOptions == true
+			return commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(commandHandle.getGroupId(),
+					commandHandle.getThreadId(), commandHandle.getStackFrameId());
+		} else if (fUseThreadAndFrameOptions) {
+			return commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(commandHandle.getThreadId(),
+					commandHandle.getStackFrameId());
+		} else {
+			return commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+		}
+	}
+
 	private class TxThread extends Thread {
 
 		final private OutputStream fOutputStream;
@@ -700,69 +783,72 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		@Override
 		public void run() {
-			while (true) {
-				CommandHandle commandHandle = null;
-
+			List<CommandHandle> batch = new ArrayList<>();
+			StringBuilder output = new StringBuilder();
+			boolean terminate = false;
+			while (!terminate) {
+				batch.clear();
 				try {
-					commandHandle = fTxCommands.take();
+					batch.add(fTxCommands.take());
 				} catch (InterruptedException e) {
 					break; // Shutting down.
 				}
+				// Commands handed over in the meantime are written together with the first one.
+				fTxCommands.drainTo(batch, MAX_COMMANDS_PER_WRITE - 1);
+
+				output.setLength(0);
+				int count = 0;
+				for (CommandHandle commandHandle : batch) {
+					if (commandHandle == fTerminatorHandle) {
+						terminate = true; // Null command is an indicator that we're shutting down.
+						break;
+					}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
-				}
-
-				/*
-				 *  We note that this is an outstanding request at this point.
-				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
-
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
+					/*
+					 *  We note that this is an outstanding request at this point.
+					 */
+					commandHandle.fSentTime = System.nanoTime();
+					if (!(commandHandle.getCommand() instanceof RawCommand)) {
+						// RawCommands will not get an answer, so we cannot put them in the receive queue.
+						fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+					} else {
+						fCommandsInFlight.decrementAndGet();
+					}
 
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+					/*
+					 *   Construct the new command and push this command out the pipeline.
+					 */
+					final String str = constructCommand(commandHandle);
+					if (GdbDebugOptions.DEBUG) {
+						GdbDebugOptions.trace(
+								String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+					}
+					writeToTracingStream(true, str);
+					output.append(str);
+					count++;
 				}
 
-				try {
-					if (fOutputStream != null) {
-
-						if (GdbDebugOptions.DEBUG) {
-							GdbDebugOptions.trace(
-									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+				if (count > 0) {
+					try {
+						if (fOutputStream != null) {
+							fOutputStream.write(output.toString().getBytes());
+							fOutputStream.flush();
+							fMetrics.commandsWritten(count);
 						}
-						writeToTracingStream(true, str);
-
-						fOutputStream.write(str.getBytes());
-						fOutputStream.flush();
+					} catch (IOException e) {
+						// Shutdown thread in case of IO error.
+						break;
 					}
-				} catch (IOException e) {
-					// Shutdown thread in case of IO error.
-					break;
 				}
 			}
+			if (terminate) {
+				// There is a small possibility that a new command was inserted
+				// in the fRxCommands map after we cleared that map.
+				// Just to be safe, clear it again.
+				// We do this to avoid synchronizing the handling of fRxCommands
+				// because this is more efficient, as it happens only once at shutdown.
+				cancelRxCommands();
+			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
 			try {
@@ -967,6 +1053,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				final CommandHandle commandHandle = fRxCommands.remove(id);
 
 				if (commandHandle != null) {
+					fCommandsInFlight.decrementAndGet();
+					fMetrics.resultReceived(commandHandle.getCommand().getOperation(),
+							System.nanoTime() - commandHandle.fSentTime);
 					final MIOutput response = new MIOutput(rr,
 							fAccumulatedOOBRecords.toArray(new MIOOBRecord[fAccumulatedOOBRecords.size()]));
 					fAccumulatedOOBRecords.clear();
@@ -1200,6 +1289,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		if (h == null)
 			// Command has already been processed by RxThread.
 			return;
+		fCommandsInFlight.decrementAndGet();
 
 		MIConst value = new MIConst();
 		value.setCString(errorMessage);
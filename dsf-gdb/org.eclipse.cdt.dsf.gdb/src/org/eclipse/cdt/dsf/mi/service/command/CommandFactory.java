@@ -65,6 +65,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInfoRecord;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInfoSharedLibrary;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInfoThreads;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIJump;
+import org.eclipse.cdt.dsf.mi.service.command.commands.CLIMaintInfoSections;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIMaintenance;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIPasscount;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIRecord;
@@ -208,6 +209,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoProgramInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoRecordInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoSharedLibraryInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoThreadsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIShowEndianInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIThreadInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLITraceDumpInfo;
@@ -329,6 +331,11 @@ public class CommandFactory {
 		return new CLIJump(ctx, location);
 	}
 
+	/** @since 5.7 */
+	public ICommand<CLIMaintInfoSectionsInfo> createCLIMaintInfoSections(IDMContext ctx) {
+		return new CLIMaintInfoSections(ctx);
+	}
+
 	/** @since 4.0 */
 	public ICommand<MIInfo> createCLIMaintenance(ICommandControlDMContext ctx, String subCommand) {
 		return new CLIMaintenance(ctx, subCommand);
@@ -1191,6 +1198,18 @@ public class CommandFactory {
 		return new MIVarListChildren(ctx, name, from, to);
 	}
 
+	/** @since 5.7 */
+	public ICommand<MIVarListChildrenInfo> createMIVarListChildren(ICommandControlDMContext ctx, String name,
+			boolean allValues) {
+		return new MIVarListChildren(ctx, name, allValues);
+	}
+
+	/** @since 5.7 */
+	public ICommand<MIVarListChildrenInfo> createMIVarListChildren(ICommandControlDMContext ctx, String name, int from,
+			int to, boolean allValues) {
+		return new MIVarListChildren(ctx, name, from, to, allValues);
+	}
+
 	public ICommand<MIVarSetFormatInfo> createMIVarSetFormat(ICommandControlDMContext ctx, String name, String fmt) {
 		return new MIVarSetFormat(ctx, name, fmt);
 	}
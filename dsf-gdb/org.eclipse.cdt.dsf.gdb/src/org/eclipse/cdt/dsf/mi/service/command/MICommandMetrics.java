@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the traffic between an MI command control and the back end. The
+ * counters are updated from the DSF executor and the transmit and receive threads, they can
+ * be read from any thread.
+ *
+ * @since 5.7
+ */
+public class MICommandMetrics {
+	private final AtomicLong fCommandsSent = new AtomicLong();
+	private final AtomicLong fWrites = new AtomicLong();
+	private final AtomicLong fResultsReceived = new AtomicLong();
+	private final AtomicLong fTotalRoundTripNanos = new AtomicLong();
+	private final AtomicLong fMaxRoundTripNanos = new AtomicLong();
+	private volatile int fQueueDepth;
+	private volatile int fMaxQueueDepth;
+	private final Map<String, AtomicLong> fCountsByOperation = new ConcurrentHashMap<>();
+
+	void queueDepthChanged(int depth) {
+		fQueueDepth = depth;
+		if (depth > fMaxQueueDepth) {
+			fMaxQueueDepth = depth;
+		}
+	}
+
+	void commandsWritten(int count) {
+		fCommandsSent.addAndGet(count);
+		fWrites.incrementAndGet();
+	}
+
+	void resultReceived(String operation, long roundTripNanos) {
+		fResultsReceived.incrementAndGet();
+		fTotalRoundTripNanos.addAndGet(roundTripNanos);
+		long max;
+		while (roundTripNanos > (max = fMaxRoundTripNanos.get())) {
+			if (fMaxRoundTripNanos.compareAndSet(max, roundTripNanos))
+				break;
+		}
+		AtomicLong count = fCountsByOperation.get(operation);
+		if (count == null) {
+			AtomicLong newCount = new AtomicLong();
+			count = fCountsByOperation.putIfAbsent(operation, newCount);
+			if (count == null)
+				count = newCount;
+		}
+		count.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of commands waiting to be sent to the back end.
+	 */
+	public int getQueueDepth() {
+		return fQueueDepth;
+	}
+
+	/**
+	 * Returns the largest number of commands that were waiting to be sent at the same time.
+	 */
+	public int getMaxQueueDepth() {
+		return fMaxQueueDepth;
+	}
+
+	/**
+	 * Returns the number of commands written to the back end.
+	 */
+	public long getCommandsSent() {
+		return fCommandsSent.get();
+	}
+
+	/**
+	 * Returns the number of writes to the back end. It is less than the number of commands
+	 * sent when several commands were written at once.
+	 */
+	public long getWrites() {
+		return fWrites.get();
+	}
+
+	/**
+	 * Returns the number of results received for commands.
+	 */
+	public long getResultsReceived() {
+		return fResultsReceived.get();
+	}
+
+	/**
+	 * Returns the average time between writing a command and receiving its result, in nanoseconds.
+	 */
+	public long getAverageRoundTripNanos() {
+		long results = fResultsReceived.get();
+		return results == 0 ? 0 : fTotalRoundTripNanos.get() / results;
+	}
+
+	/**
+	 * Returns the longest time between writing a command and receiving its result, in nanoseconds.
+	 */
+	public long getMaxRoundTripNanos() {
+		return fMaxRoundTripNanos.get();
+	}
+
+	/**
+	 * Returns the number of results received per MI operation, sorted by operation.
+	 */
+	public Map<String, Long> getCountsByOperation() {
+		Map<String, Long> result = new TreeMap<>();
+		for (Map.Entry<String, AtomicLong> entry : fCountsByOperation.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().get());
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "sent=" + getCommandsSent() + " writes=" + getWrites() + " results=" + getResultsReceived() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " queue=" + getQueueDepth() + " maxQueue=" + getMaxQueueDepth() //$NON-NLS-1$ //$NON-NLS-2$
+				+ " avgRoundTripMs=" + getAverageRoundTripNanos() / 1000000 //$NON-NLS-1$
+				+ " maxRoundTripMs=" + getMaxRoundTripNanos() / 1000000 + " " + getCountsByOperation(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
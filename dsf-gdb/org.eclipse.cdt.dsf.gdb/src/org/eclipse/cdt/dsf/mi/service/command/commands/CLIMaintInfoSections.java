@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.commands;
+
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIMaintInfoSectionsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+
+/**
+ *    maintenance info sections ALLOBJ
+ *
+ * Lists the sections of all the object files loaded, the program and its
+ * shared libraries.
+ *
+ * @since 5.7
+ */
+public class CLIMaintInfoSections extends MIInterpreterExecConsole<CLIMaintInfoSectionsInfo> {
+	private static final String COMMAND = "maintenance info sections ALLOBJ"; //$NON-NLS-1$
+
+	public CLIMaintInfoSections(IDMContext ctx) {
+		super(ctx, COMMAND);
+	}
+
+	@Override
+	public MIInfo getResult(MIOutput out) {
+		return new CLIMaintInfoSectionsInfo(out);
+	}
+}
@@ -22,7 +22,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIVarListChildrenInfo;
 
 /**
  *
- *     -var-list-children NAME
+ *     -var-list-children [print-values] NAME [FROM TO]
  *
  *  Returns a list of the children of the specified variable object:
  *
@@ -53,6 +53,39 @@ public class MIVarListChildren extends MICommand<MIVarListChildrenInfo> {
 		super(ctx, "-var-list-children", new String[] { name, String.valueOf(from), String.valueOf(to) }); //$NON-NLS-1$
 	}
 
+	/**
+	 * @param ctx
+	 * @param name
+	 * @param from
+	 *            The index of the first child to be listed, if there is one
+	 *            with this index.
+	 * @param to
+	 *            One behind the last child to be listed.
+	 * @param allValues
+	 *            Whether the values of the children are listed as well, which
+	 *            saves evaluating each child afterwards.
+	 *
+	 * @since 5.7
+	 */
+	public MIVarListChildren(ICommandControlDMContext ctx, String name, int from, int to, boolean allValues) {
+		super(ctx, "-var-list-children", allValues //$NON-NLS-1$
+				? new String[] { "--all-values", name, String.valueOf(from), String.valueOf(to) } //$NON-NLS-1$
+				: new String[] { name, String.valueOf(from), String.valueOf(to) });
+	}
+
+	/**
+	 * @param ctx
+	 * @param name
+	 * @param allValues
+	 *            Whether the values of the children are listed as well.
+	 *
+	 * @since 5.7
+	 */
+	public MIVarListChildren(ICommandControlDMContext ctx, String name, boolean allValues) {
+		super(ctx, "-var-list-children", //$NON-NLS-1$
+				allValues ? new String[] { "--all-values", name } : new String[] { name }); //$NON-NLS-1$
+	}
+
 	@Override
 	public MIVarListChildrenInfo getResult(MIOutput out) {
 		return new MIVarListChildrenInfo(out);
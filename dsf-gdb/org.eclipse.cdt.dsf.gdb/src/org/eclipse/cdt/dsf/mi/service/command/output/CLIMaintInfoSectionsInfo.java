@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 'maintenance info sections ALLOBJ' lists the sections of the loaded object files.
+ *
+ * sample output:
+ *
+ * (gdb) maintenance info sections ALLOBJ
+ * ~"Exec file:\n"
+ * ~"    `/tmp/a.out', file type elf64-x86-64.\n"
+ * ~"Object file: /tmp/a.out\n"
+ * ~" [13]     0x555555555040->0x5555555551b1 at 0x00001040: .text ALLOC LOAD READONLY CODE HAS_CONTENTS\n"
+ * ~" [23]     0x555555558010->0x555555558020 at 0x00003010: .data ALLOC LOAD DATA HAS_CONTENTS\n"
+ *
+ * @since 5.7
+ */
+public class CLIMaintInfoSectionsInfo extends MIInfo {
+
+	private static final Pattern SECTION_PATTERN = Pattern
+			.compile("(0x\\p{XDigit}+)->(0x\\p{XDigit}+)\\s+at\\s+0x\\p{XDigit}+:\\s+(\\S+)(.*)"); //$NON-NLS-1$
+
+	public static class Section {
+		private final BigInteger fStart;
+		private final BigInteger fEnd;
+		private final String fName;
+		private final Set<String> fFlags;
+
+		public Section(BigInteger start, BigInteger end, String name, Set<String> flags) {
+			fStart = start;
+			fEnd = end;
+			fName = name;
+			fFlags = flags;
+		}
+
+		public BigInteger getStart() {
+			return fStart;
+		}
+
+		/** Address following the section */
+		public BigInteger getEnd() {
+			return fEnd;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/** Whether the section holds code that the program cannot modify */
+		public boolean isReadOnlyCode() {
+			return fFlags.contains("CODE") && fFlags.contains("READONLY"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private List<Section> fSections = new ArrayList<>();
+
+	public CLIMaintInfoSectionsInfo(MIOutput record) {
+		super(record);
+		parse();
+	}
+
+	protected void parse() {
+		if (isDone()) {
+			for (MIOOBRecord rec : getMIOutput().getMIOOBRecords()) {
+				if (rec instanceof MIConsoleStreamOutput) {
+					for (String line : ((MIStreamRecord) rec).getString().split("\n")) { //$NON-NLS-1$
+						parseSection(line);
+					}
+				}
+			}
+		}
+	}
+
+	protected void parseSection(String line) {
+		Matcher matcher = SECTION_PATTERN.matcher(line);
+		if (matcher.find()) {
+			Set<String> flags = new HashSet<>(Arrays.asList(matcher.group(4).trim().split("\\s+"))); //$NON-NLS-1$
+			fSections.add(new Section(new BigInteger(matcher.group(1).substring(2), 16),
+					new BigInteger(matcher.group(2).substring(2), 16), matcher.group(3), flags));
+		}
+	}
+
+	public Section[] getSections() {
+		return fSections.toArray(new Section[fSections.size()]);
+	}
+}
@@ -126,37 +126,37 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Cursor buffer = new Cursor(line);
 		// Fetch the Token/Id
 		int id = parseToken(buffer);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		buffer.skip(1);
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
+		if (buffer.startsWith(MIResultRecord.DONE)) {
 			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
+			buffer.skip(MIResultRecord.DONE.length());
+		} else if (buffer.startsWith(MIResultRecord.ERROR)) {
 			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
+			buffer.skip(MIResultRecord.ERROR.length());
+		} else if (buffer.startsWith(MIResultRecord.EXIT)) {
 			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
+			buffer.skip(MIResultRecord.EXIT.length());
+		} else if (buffer.startsWith(MIResultRecord.RUNNING)) {
 			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
+			buffer.skip(MIResultRecord.RUNNING.length());
+		} else if (buffer.startsWith(MIResultRecord.CONNECTED)) {
 			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
+			buffer.skip(MIResultRecord.CONNECTED.length());
 		} else {
 			// Error throw an exception?
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (buffer.peek() == ',') {
+			buffer.skip(1);
+			MIResult[] res = processMIResults(buffer);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +166,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Cursor buffer = new Cursor(line);
 		int id = parseToken(buffer);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = buffer.peek();
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			buffer.skip(1);
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +192,20 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = buffer.indexOf(',');
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
-				async.setAsyncClass(asyncClass);
+				async.setAsyncClass(buffer.substring(i));
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				buffer.skip(i + 1);
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(buffer.rest().trim());
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(buffer);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			buffer.skip(1);
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +223,13 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
+			// translateCString() assumes that the leading " is consumed
+			if (buffer.peek() == '"') {
+				buffer.skip(1);
 			}
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			stream.setCString(translateCString(buffer, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,21 +240,20 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Cursor buffer) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
+		if (Character.isDigit(buffer.peek())) {
 			int i = 1;
 			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
 				i++;
 			}
-			String numbers = buffer.substring(0, i);
 			try {
-				id = Integer.parseInt(numbers);
+				id = Integer.parseInt(buffer.substring(i));
 			} catch (NumberFormatException e) {
 			}
 			// Consume the token.
-			buffer.delete(0, i);
+			buffer.skip(i);
 		}
 		return id;
 	}
@@ -265,14 +262,14 @@ public class MIParser {
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private MIResult[] processMIResults(Cursor buffer) {
 		List<MIResult> aList = new ArrayList<>();
 		MIResult result = processMIResult(buffer);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
+		while (buffer.peek() == ',') {
+			buffer.skip(1);
 			result = processMIResult(buffer);
 			if (result != null) {
 				aList.add(result);
@@ -282,17 +279,17 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
+	 * Construct the DsfMIResult.  Characters will be consumed
 	 * moving forward constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
+	private MIResult processMIResult(Cursor buffer) {
 		MIResult result = new MIResult();
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (Character.isLetter(buffer.peek()) && (equal = buffer.indexOf('=')) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
+			String variable = buffer.substring(equal);
 			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
+			buffer.skip(equal + 1);
 			MIValue value = processMIValue(buffer);
 			result.setMIValue(value);
 		} else {
@@ -301,9 +298,8 @@ public class MIParser {
 				// Result is a value only (bug 527419)
 				result.setMIValue(value);
 			} else {
-				result.setVariable(buffer.toString());
+				result.setVariable(buffer.rest());
 				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
 			}
 		}
 		return result;
@@ -312,55 +308,36 @@ public class MIParser {
 	/**
 	 * Find a DsfMIValue implementation or return null.
 	 */
-	private MIValue processMIValue(FSB buffer) {
+	private MIValue processMIValue(Cursor buffer) {
 		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-				MIConst cnst = new MIConst();
-				// Parse backslashes - backslashes within result
-				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
-				value = cnst;
-			}
+		char c = buffer.peek();
+		if (c == '{') {
+			buffer.skip(1);
+			value = processMITuple(buffer);
+		} else if (c == '[') {
+			buffer.skip(1);
+			value = processMIList(buffer);
+		} else if (c == '"') {
+			buffer.skip(1);
+			MIConst cnst = new MIConst();
+			// Parse backslashes - backslashes within result
+			// and out of band records are escaped.
+			cnst.setCString(translateCString(buffer, true));
+			value = cnst;
 		}
 		return value;
 	}
 
 	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
+	 * Assuming the starting '{' was consumed, go to the closing '}'
+	 * consuming all the characters.
 	 * This is usually call by processMIvalue();
 	 */
-	private MIValue processMITuple(FSB buffer) {
+	private MIValue processMITuple(Cursor buffer) {
 		MITuple tuple = new MITuple();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
-			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
-				valueList.add(value);
-			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
-				}
-			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
-		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
-		}
+		processMIElements(buffer, '}', valueList, resultList);
 		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
 		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
 		tuple.setMIValues(values);
@@ -369,15 +346,25 @@ public class MIParser {
 	}
 
 	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
+	 * Assuming the leading '[' was consumed, find the closing
+	 * ']' consuming the chars.
 	 */
-	private MIValue processMIList(FSB buffer) {
+	private MIValue processMIList(Cursor buffer) {
 		MIList list = new MIList();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
+		processMIElements(buffer, ']', valueList, resultList);
+		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
+		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
+		list.setMIValues(values);
+		list.setMIResults(res);
+		return list;
+	}
+
+	private void processMIElements(Cursor buffer, char closing, List<MIValue> valueList,
+			List<MIResult> resultList) {
+		// Catch the closing char
+		while (buffer.length() > 0 && buffer.peek() != closing) {
 			// Try for the DsfMIValue first
 			MIValue value = processMIValue(buffer);
 			if (value != null) {
@@ -388,42 +375,56 @@ public class MIParser {
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
+			if (buffer.peek() == ',') {
+				buffer.skip(1);
 			}
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+		if (buffer.peek() == closing) {
+			buffer.skip(1);
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
-		return list;
 	}
 
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
+	 * Assuming the starting double quote was consumed. This method will
 	 * stop at the closing double quote, remove the extra backslash escaping
 	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * cursor will move forward.
+	 * @param buffer The cursor to read from.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
 	 * @return The translated C string.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
-		boolean escape = false;
-		boolean closingQuotes = false;
-
-		StringBuffer sb = new StringBuffer();
+	private String translateCString(Cursor buffer, boolean parseBackslashes) {
+		final String line = buffer.fLine;
+		final int start = buffer.fPos;
+		final int end = line.length();
+
+		// Without escapes the result is a plain substring of the line.
+		int index = start;
+		while (index < end) {
+			char c = line.charAt(index);
+			if (c == '"') {
+				buffer.fPos = index + 1;
+				return line.substring(start, index);
+			}
+			if (c == '\\') {
+				break;
+			}
+			index++;
+		}
+		if (index == end) {
+			buffer.fPos = end;
+			return line.substring(start, end);
+		}
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		boolean escape = false;
+		StringBuilder sb = new StringBuilder(index - start + 16);
+		sb.append(line, start, index);
+		for (; index < end; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
 				if (escape) {
 					sb.append(c);
@@ -440,7 +441,8 @@ public class MIParser {
 					escape = false;
 				} else {
 					// Bail out.
-					closingQuotes = true;
+					index++;
+					break;
 				}
 			} else {
 				if (escape) {
@@ -450,10 +452,62 @@ public class MIParser {
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
+		buffer.fPos = index;
 		return sb.toString();
 	}
 
+	/**
+	 * Read position within a line of MI output. The parser moves the position forward in a single
+	 * pass, the line itself is never copied.
+	 */
+	private static final class Cursor {
+		final String fLine;
+		int fPos;
+
+		Cursor(String line) {
+			fLine = line;
+		}
+
+		int length() {
+			return fLine.length() - fPos;
+		}
+
+		/** Returns the current character, or <code>0</code> at the end of the line. */
+		char peek() {
+			return fPos < fLine.length() ? fLine.charAt(fPos) : 0;
+		}
+
+		char charAt(int index) {
+			return fLine.charAt(fPos + index);
+		}
+
+		void skip(int count) {
+			fPos = Math.min(fPos + count, fLine.length());
+		}
+
+		boolean startsWith(String prefix) {
+			return fLine.startsWith(prefix, fPos);
+		}
+
+		/** Returns the offset of the given character relative to the current position, or -1. */
+		int indexOf(char c) {
+			int i = fLine.indexOf(c, fPos);
+			return i < 0 ? -1 : i - fPos;
+		}
+
+		/** Returns the given number of characters from the current position. */
+		String substring(int count) {
+			return fLine.substring(fPos, fPos + count);
+		}
+
+		/** Returns and consumes the remainder of the line. */
+		String rest() {
+			String rest = fLine.substring(fPos);
+			fPos = fLine.length();
+			return rest;
+		}
+	}
+
 	/**
 	 * Tests if this string starts with the specified prefix beginning
 	 * a specified index.
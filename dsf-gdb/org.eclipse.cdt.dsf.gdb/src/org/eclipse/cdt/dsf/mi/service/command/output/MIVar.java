@@ -34,6 +34,7 @@ public class MIVar {
 	String name = ""; //$NON-NLS-1$
 	String type = ""; //$NON-NLS-1$
 	String value = ""; //$NON-NLS-1$
+	private boolean hasValue = false;
 	String exp = ""; //$NON-NLS-1$
 	private boolean isDynamic = false;
 	int numchild;
@@ -115,6 +116,15 @@ public class MIVar {
 		return value;
 	}
 
+	/**
+	 * @return Whether GDB reported the value of the variable, e.g. when the children
+	 *         were listed with <code>--all-values</code>.
+	 * @since 5.7
+	 */
+	public boolean hasValue() {
+		return hasValue;
+	}
+
 	/**
 	 * @return Whether the value and children of this variable are provided
 	 *         by a pretty printer.
@@ -182,6 +192,7 @@ public class MIVar {
 				type = str;
 			} else if (var.equals("value")) { //$NON-NLS-1$
 				this.value = str;
+				hasValue = true;
 			} else if (var.equals("exp")) { //$NON-NLS-1$
 				exp = str;
 			} else if (var.equals("dynamic") && str.trim().equals("1")) { //$NON-NLS-1$ //$NON-NLS-2$
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.gdb.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.CompositeDMContext;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.FormattedValueDMContext;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.FormattedValueDMData;
+import org.eclipse.cdt.dsf.debug.service.IRegisters;
+import org.eclipse.cdt.dsf.debug.service.IRegisters.IRegisterDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterValues;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIStackInfoDepth;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIStackListArguments;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIStackListFrames;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIStackListLocals;
+import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
+import org.eclipse.cdt.tests.dsf.gdb.framework.SyncUtil;
+import org.eclipse.cdt.tests.dsf.gdb.launching.TestsPlugin;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests that the stack frames, locals and register values fetched when a thread
+ * suspends are used to answer the requests of the views.
+ */
+@RunWith(Parameterized.class)
+public class SuspendSnapshotTest extends BaseParametrizedTestCase {
+
+	protected static final String EXEC_NAME = "MultiThread.exe";
+	protected static final String SOURCE_NAME = "MultiThread.cc";
+
+	private static final int SNAPSHOT_FRAMES = 2;
+	/** How long no command must be queued or completed before the snapshot is considered complete */
+	private static final int QUIET_PERIOD = 1000;
+
+	private static int fgSnapshotFrames;
+
+	protected DsfSession fSession;
+	private DsfServicesTracker fServicesTracker;
+	private ICommandControl fCommandControl;
+	private IRegisters fRegService;
+	private final SnapshotCommandCounter fCounter = new SnapshotCommandCounter();
+
+	/**
+	 * Counts the commands of the kinds the suspend snapshot sends, and keeps track
+	 * of the last time any command was queued or completed.
+	 */
+	private static class SnapshotCommandCounter implements ICommandListener {
+		private final AtomicInteger fSent = new AtomicInteger();
+		private volatile long fLastActivity = System.currentTimeMillis();
+
+		@Override
+		public void commandQueued(ICommandToken token) {
+			fLastActivity = System.currentTimeMillis();
+		}
+
+		@Override
+		public void commandSent(ICommandToken token) {
+			ICommand<? extends ICommandResult> command = token.getCommand();
+			if (command instanceof MIStackListFrames || command instanceof MIStackInfoDepth
+					|| command instanceof MIStackListArguments || command instanceof MIStackListLocals
+					|| command instanceof MIDataListRegisterValues) {
+				fSent.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void commandRemoved(ICommandToken token) {
+			fLastActivity = System.currentTimeMillis();
+		}
+
+		@Override
+		public void commandDone(ICommandToken token, ICommandResult result) {
+			fLastActivity = System.currentTimeMillis();
+		}
+	}
+
+	@BeforeClass
+	public static void doBeforeClass() throws Exception {
+		fgSnapshotFrames = Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES,
+				IGdbDebugPreferenceConstants.SUSPEND_SNAPSHOT_FRAMES_DEFAULT, null);
+	}
+
+	@Override
+	public void doBeforeTest() throws Exception {
+		// The services read the preference when they start
+		InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID)
+				.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES, SNAPSHOT_FRAMES);
+		super.doBeforeTest();
+
+		fSession = getGDBLaunch().getSession();
+		fSession.getExecutor().submit(() -> {
+			fServicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(), fSession.getId());
+			fCommandControl = fServicesTracker.getService(ICommandControl.class);
+			fRegService = fServicesTracker.getService(IRegisters.class);
+			fCommandControl.addCommandListener(fCounter);
+		}).get();
+	}
+
+	@Override
+	protected void setLaunchAttributes() {
+		super.setLaunchAttributes();
+
+		setLaunchAttribute(ICDTLaunchConfigurationConstants.ATTR_PROGRAM_NAME, EXEC_PATH + EXEC_NAME);
+	}
+
+	@Override
+	public void doAfterTest() throws Exception {
+		if (fSession != null && fCommandControl != null) {
+			fSession.getExecutor().submit(() -> fCommandControl.removeCommandListener(fCounter)).get();
+		}
+		super.doAfterTest();
+
+		if (fServicesTracker != null)
+			fServicesTracker.dispose();
+
+		InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID)
+				.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_SNAPSHOT_FRAMES, fgSnapshotFrames);
+	}
+
+	/**
+	 * Waits until the snapshot commands sent when the last thread suspended are
+	 * all answered.
+	 */
+	protected void waitForSnapshot() throws InterruptedException {
+		long timeout = System.currentTimeMillis() + TestsPlugin.massageTimeout(10000);
+		while (System.currentTimeMillis() - fCounter.fLastActivity < QUIET_PERIOD) {
+			assertTrue("Commands are still being sent", System.currentTimeMillis() < timeout);
+			Thread.sleep(100);
+		}
+	}
+
+	/**
+	 * Requests the top frames, the locals and some register values of the given
+	 * thread, and checks that none of them needed a command to GDB.
+	 */
+	protected void assertServedFromSnapshot(IExecutionDMContext execDmc) throws Throwable {
+		fCounter.fSent.set(0);
+
+		assertEquals("PrintHello", SyncUtil.getFrameData(execDmc, 0).getFunction());
+		SyncUtil.getFrameData(execDmc, 1);
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(execDmc, 0);
+		assertTrue(SyncUtil.getLocals(frameDmc).length > 0);
+
+		IContainerDMContext containerDmc = DMContexts.getAncestorOfType(execDmc, IContainerDMContext.class);
+		IRegisterDMContext[] registers = getRegisters(
+				new CompositeDMContext(new IDMContext[] { containerDmc, frameDmc }));
+		assertTrue(registers.length > 0);
+		for (int i = 0; i < Math.min(4, registers.length); i++) {
+			getHexValue(registers[i]);
+		}
+
+		assertEquals("Commands sent for data of the snapshot", 0, fCounter.fSent.get());
+	}
+
+	private IRegisterDMContext[] getRegisters(final IDMContext dmc) throws Throwable {
+		Query<IRegisterDMContext[]> query = new Query<IRegisterDMContext[]>() {
+			@Override
+			protected void execute(DataRequestMonitor<IRegisterDMContext[]> rm) {
+				fRegService.getRegisters(dmc, rm);
+			}
+		};
+
+		fSession.getExecutor().execute(query);
+		return query.get(TestsPlugin.massageTimeout(500), TimeUnit.MILLISECONDS);
+	}
+
+	private String getHexValue(IRegisterDMContext registerDmc) throws Throwable {
+		final FormattedValueDMContext valueDmc = fRegService.getFormattedValueContext(registerDmc,
+				IFormattedValues.HEX_FORMAT);
+		Query<FormattedValueDMData> query = new Query<FormattedValueDMData>() {
+			@Override
+			protected void execute(DataRequestMonitor<FormattedValueDMData> rm) {
+				fRegService.getFormattedExpressionValue(valueDmc, rm);
+			}
+		};
+
+		fSession.getExecutor().execute(query);
+		return query.get(TestsPlugin.massageTimeout(500), TimeUnit.MILLISECONDS).getFormattedValue();
+	}
+
+	/**
+	 * Stops a thread in a function and checks that its stack, locals and
+	 * registers come from the snapshot.
+	 */
+	@Test
+	public void stackLocalsAndRegistersFromSnapshot() throws Throwable {
+		MIStoppedEvent stoppedEvent = SyncUtil.runToLocation("PrintHello");
+		waitForSnapshot();
+
+		assertServedFromSnapshot(stoppedEvent.getDMContext());
+	}
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.cdt.tests.dsf.gdb.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -23,12 +24,14 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
 import org.eclipse.cdt.debug.core.breakpointactions.BreakpointActionManager;
 import org.eclipse.cdt.debug.core.model.ICTracepoint;
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.debug.service.IBreakpoints;
@@ -41,12 +44,17 @@ import org.eclipse.cdt.dsf.gdb.internal.tracepointactions.EvaluateAction;
 import org.eclipse.cdt.dsf.gdb.internal.tracepointactions.ITracepointAction;
 import org.eclipse.cdt.dsf.gdb.internal.tracepointactions.TracepointActionManager;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl;
+import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordDMContext;
+import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordDMData;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceStatusDMData;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceTargetDMContext;
+import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl3;
+import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
 import org.eclipse.cdt.dsf.mi.service.MIBreakpoints;
 import org.eclipse.cdt.dsf.mi.service.MIBreakpoints.MIBreakpointDMContext;
 import org.eclipse.cdt.dsf.mi.service.command.events.MIBreakpointHitEvent;
 import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataEvaluateExpressionInfo;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.tests.dsf.gdb.framework.AsyncCompletionWaitor;
@@ -255,6 +263,115 @@ public class TraceFileTest extends BaseParametrizedTestCase {
 		checkActionsAndTracepoints();
 	}
 
+	/**
+	 * This test sets up by first creating a trace file and importing it back
+	 * by calling {@link #testTraceFile}.
+	 *
+	 * It then selects the last trace record, reads all the trace records into the
+	 * local store of the trace service, and verifies that the records can be found
+	 * by tracepoint and that GDB is still on the selected record afterwards.
+	 */
+	@Test
+	public void testLoadTraceRecords() throws Throwable {
+		// This test will force a local post-mortem session, so only run it in local mode
+		Assume.assumeTrue("Skipping remote", !remote);
+
+		testTraceFile();
+		initTraceFileServices();
+		assertTrue(fTraceService instanceof IGDBTraceControl3);
+		final IGDBTraceControl3 traceService = (IGDBTraceControl3) fTraceService;
+
+		int recordCount = runQuery(new Query<ITraceStatusDMData>() {
+			@Override
+			protected void execute(DataRequestMonitor<ITraceStatusDMData> rm) {
+				fTraceService.getTraceStatus(fTraceTargetDmc, rm);
+			}
+		}).getNumberOfCollectedFrame();
+		assertTrue("No trace records in " + TRACE_FILE_PATH, recordCount > 1);
+
+		final ITraceRecordDMContext selectedRecord = fTraceService.createTraceRecordContext(fTraceTargetDmc,
+				Integer.toString(recordCount - 1));
+		runQuery(new Query<Object>() {
+			@Override
+			protected void execute(DataRequestMonitor<Object> rm) {
+				fTraceService.selectTraceRecord(selectedRecord, rm);
+			}
+		});
+
+		int loadedCount = runQuery(new Query<Integer>() {
+			@Override
+			protected void execute(DataRequestMonitor<Integer> rm) {
+				traceService.loadTraceRecords(fTraceTargetDmc, rm);
+			}
+		});
+		assertEquals(recordCount, loadedCount);
+
+		// The selected record is unchanged, in the service and in GDB
+		ITraceRecordDMContext currentRecord = runQuery(new Query<ITraceRecordDMContext>() {
+			@Override
+			protected void execute(DataRequestMonitor<ITraceRecordDMContext> rm) {
+				fTraceService.getCurrentTraceRecordContext(fTraceTargetDmc, rm);
+			}
+		});
+		assertEquals(selectedRecord, currentRecord);
+		String gdbRecord = runQuery(new Query<MIDataEvaluateExpressionInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<MIDataEvaluateExpressionInfo> rm) {
+				IMICommandControl commandControl = fServicesTracker.getService(IMICommandControl.class);
+				commandControl.queueCommand(commandControl.getCommandFactory()
+						.createMIDataEvaluateExpression(commandControl.getContext(), "$trace_frame"), rm);
+			}
+		}).getValue();
+		assertEquals(Integer.toString(recordCount - 1), gdbRecord);
+
+		final ITraceRecordDMContext[] allRecords = runQuery(new Query<ITraceRecordDMContext[]>() {
+			@Override
+			protected void execute(DataRequestMonitor<ITraceRecordDMContext[]> rm) {
+				traceService.findTraceRecords(fTraceTargetDmc, null, null, null, rm);
+			}
+		});
+		assertEquals(recordCount, allRecords.length);
+
+		// Every record of the first tracepoint, and only those, are found by tracepoint
+		final String tracepoint = getTraceRecordData(allRecords[0]).getTracepointNumber();
+		ITraceRecordDMContext[] tracepointRecords = runQuery(new Query<ITraceRecordDMContext[]>() {
+			@Override
+			protected void execute(DataRequestMonitor<ITraceRecordDMContext[]> rm) {
+				traceService.findTraceRecords(fTraceTargetDmc, Integer.valueOf(tracepoint), null, null, rm);
+			}
+		});
+		assertTrue(tracepointRecords.length > 0 && tracepointRecords.length < recordCount);
+		for (ITraceRecordDMContext record : tracepointRecords) {
+			assertEquals(tracepoint, getTraceRecordData(record).getTracepointNumber());
+		}
+	}
+
+	private void initTraceFileServices() throws Throwable {
+		fSession = getGDBLaunch().getSession();
+		fSession.getExecutor().submit(() -> {
+			fServicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(), fSession.getId());
+			fTraceService = fServicesTracker.getService(IGDBTraceControl.class);
+		}).get();
+
+		IContainerDMContext containerDmc = SyncUtil.getContainerContext();
+		fTraceTargetDmc = DMContexts.getAncestorOfType(containerDmc, ITraceTargetDMContext.class);
+		assertNotNull(fTraceTargetDmc);
+	}
+
+	private ITraceRecordDMData getTraceRecordData(final ITraceRecordDMContext record) throws Throwable {
+		return runQuery(new Query<ITraceRecordDMData>() {
+			@Override
+			protected void execute(DataRequestMonitor<ITraceRecordDMData> rm) {
+				fTraceService.getTraceRecordData(record, rm);
+			}
+		});
+	}
+
+	private <V> V runQuery(Query<V> query) throws Throwable {
+		fSession.getExecutor().execute(query);
+		return query.get(TestsPlugin.massageTimeout(5000), TimeUnit.MILLISECONDS);
+	}
+
 	private void startTraceFileSession() throws Throwable {
 		// Set launch attributes
 		super.setLaunchAttributes();
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.gdb.tests.nonstop;
+
+import org.eclipse.cdt.dsf.gdb.IGDBLaunchConfigurationConstants;
+import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.tests.dsf.gdb.framework.ServiceEventWaitor;
+import org.eclipse.cdt.tests.dsf.gdb.framework.SyncUtil;
+import org.eclipse.cdt.tests.dsf.gdb.launching.TestsPlugin;
+import org.eclipse.cdt.tests.dsf.gdb.tests.ITestConstants;
+import org.eclipse.cdt.tests.dsf.gdb.tests.SuspendSnapshotTest;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class SuspendSnapshotNonStopTest extends SuspendSnapshotTest {
+	// The printf between the two barriers of PrintHello
+	private static final String LINE_THREAD_MIDDLE = "36";
+
+	@BeforeClass
+	public static void beforeClass() {
+		Assume.assumeTrue(supportsNonStop());
+	}
+
+	@Override
+	protected void setLaunchAttributes() {
+		super.setLaunchAttributes();
+		setLaunchAttribute(IGDBLaunchConfigurationConstants.ATTR_DEBUGGER_NON_STOP, true);
+	}
+
+	@Override
+	public void doBeforeTest() throws Exception {
+		assumeGdbVersionAtLeast(ITestConstants.SUFFIX_GDB_7_0);
+		super.doBeforeTest();
+	}
+
+	/**
+	 * Resuming one thread must not drop the snapshot of another thread that
+	 * is still suspended.
+	 */
+	@Test
+	public void resumeKeepsSnapshotOfOtherThreads() throws Throwable {
+		ServiceEventWaitor<MIStoppedEvent> eventWaitor = new ServiceEventWaitor<>(fSession, MIStoppedEvent.class);
+
+		SyncUtil.addBreakpoint(SOURCE_NAME + ":" + LINE_THREAD_MIDDLE, false);
+		SyncUtil.resumeAll();
+
+		MIStoppedEvent firstStop = eventWaitor.waitForEvent(TestsPlugin.massageTimeout(2000));
+		MIStoppedEvent secondStop = eventWaitor.waitForEvent(TestsPlugin.massageTimeout(2000));
+		waitForSnapshot();
+
+		SyncUtil.resume(firstStop.getDMContext(), TestsPlugin.massageTimeout(2000));
+
+		assertServedFromSnapshot(secondStop.getDMContext());
+	}
+}
@@ -81,7 +81,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		super(1, new DsfThreadFactory(name + " - " + fgInstanceCounter++)); //$NON-NLS-1$
 		fName = name;
 
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			// If tracing, pre-start the dispatch thread, and add it to the map.
 			prestartAllCoreThreads();
 			fThreadToExecutorMap.put(((DsfThreadFactory) getThreadFactory()).fThread, DefaultDsfExecutor.this);
@@ -135,9 +135,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 	protected static boolean DEBUG_EXECUTOR = false;
 	protected static String DEBUG_EXECUTOR_NAME = ""; //$NON-NLS-1$
 	protected static boolean ASSERTIONS_ENABLED = false;
+	static boolean DEBUG_EXECUTOR_QUEUE_TIME = false;
 	static {
 		DEBUG_EXECUTOR = DsfPlugin.DEBUG
 				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executor")); //$NON-NLS-1$
+		DEBUG_EXECUTOR_QUEUE_TIME = DsfPlugin.DEBUG
+				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executor/queueTime")); //$NON-NLS-1$
 		DEBUG_EXECUTOR_NAME = DsfPlugin.DEBUG ? Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executorName") : ""; //$NON-NLS-1$ //$NON-NLS-2$
 		assert (ASSERTIONS_ENABLED = true) == true;
 	}
@@ -161,6 +164,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 	 */
 	int fSequenceCounter;
 
+	/**
+	 * Time the executables waited in the queue, per executable class.
+	 * <br>Note: Only used when tracing.
+	 */
+	final QueueWaitStatistics fQueueWaitStatistics = new QueueWaitStatistics();
+
 	/**
 	 * Wrapper for runnables/callables, is used to store tracing information
 	 * <br>Note: Only used when tracing.
@@ -176,6 +185,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		/** Reference to the runnable/callable that submitted this runnable/callable to the executor */
 		TracingWrapper fSubmittedBy = null;
 
+		/** Time at which this runnable/callable became ready to run, as given by System.nanoTime() */
+		long fReadyAt = System.nanoTime();
+
+		/** Whether the queue wait time has been recorded, periodic executables only record their first run */
+		boolean fQueueWaitRecorded = false;
+
 		/**
 		 * The names of the executor submitter methods we support, ordered by
 		 * popularity so as to optimize the tracing logic. (For the curious,
@@ -226,6 +241,11 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		}
 
 		void traceExecution() {
+			if (DEBUG_EXECUTOR_QUEUE_TIME && !fQueueWaitRecorded) {
+				fQueueWaitRecorded = true;
+				fQueueWaitStatistics.record(getExecutable().getClass(), Math.max(0, System.nanoTime() - fReadyAt));
+			}
+
 			fSequenceNumber = fSequenceCounter++;
 			fDepth = fSubmittedBy == null ? 0 : fSubmittedBy.fDepth + 1;
 			fCurrentlyExecuting = this;
@@ -432,43 +452,57 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			if (!(callable instanceof TracingWrapper)) {
 				callable = new TracingWrapperCallable<>(callable);
 			}
+			delayReadyAt(callable, delay, unit);
 		}
 		return super.schedule(callable, delay, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			if (!(command instanceof TracingWrapper)) {
 				command = new TracingWrapperRunnable(command);
 			}
+			delayReadyAt(command, delay, unit);
 		}
 		return super.schedule(command, delay, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
+			delayReadyAt(command, initialDelay, unit);
 		}
 		return super.scheduleAtFixedRate(command, initialDelay, period, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
+			delayReadyAt(command, initialDelay, unit);
 		}
 		return super.scheduleWithFixedDelay(command, initialDelay, delay, unit);
 	}
 
+	/**
+	 * Moves the time at which a delayed runnable/callable becomes ready to run, so
+	 * that the delay is not counted as time waited in the queue.
+	 */
+	private static void delayReadyAt(Object executable, long delay, TimeUnit unit) {
+		if (executable instanceof TracingWrapper) {
+			((TracingWrapper) executable).fReadyAt += unit.toNanos(delay);
+		}
+	}
+
 	@Override
 	public void execute(Runnable command) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
 		super.execute(command);
@@ -476,7 +510,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public Future<?> submit(Runnable command) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
 		return super.submit(command);
@@ -484,7 +518,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <T> Future<T> submit(Callable<T> callable) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			callable = new TracingWrapperCallable<>(callable);
 		}
 		return super.submit(callable);
@@ -492,7 +526,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <T> Future<T> submit(Runnable command, T result) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (DEBUG_EXECUTOR || DEBUG_EXECUTOR_QUEUE_TIME || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
 		return super.submit(command, result);
@@ -520,6 +554,11 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	protected void terminated() {
+		if (DEBUG_EXECUTOR_QUEUE_TIME && ("".equals(DEBUG_EXECUTOR_NAME) || fName.equals(DEBUG_EXECUTOR_NAME))) { //$NON-NLS-1$
+			DsfPlugin.debug(DsfPlugin.getDebugTime() + " Executor (" //$NON-NLS-1$
+					+ ((DsfThreadFactory) getThreadFactory()).fThreadName + ") queue wait times:" //$NON-NLS-1$
+					+ fQueueWaitStatistics);
+		}
 		fThreadToExecutorMap.remove(((DsfThreadFactory) getThreadFactory()).fThread);
 		super.terminated();
 	}
@@ -0,0 +1,447 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.internal.DsfPlugin;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * DSF executor which runs its executables on threads borrowed from a pool that
+ * is shared with other executors, rather than on a dedicated thread.
+ * <p>
+ * The executables submitted to one executor are run one at a time and in the
+ * order in which they became ready, and each of them sees the effects of the
+ * ones run before it.  This gives the data confined to the executor the same
+ * guarantees as with a {@link DefaultDsfExecutor}, and
+ * {@link #isInExecutorThread()} is true while one of its executables is running.
+ * Executables of different executors run in parallel, up to the number of
+ * threads in the pool.  So a group of services, or the objects of a context,
+ * which only interact with each other through their own executor can be given
+ * a pooled executor of their own without competing with the rest of the session
+ * for a single thread.
+ * <p>
+ * An executor gives its thread back to the pool after running a bounded number
+ * of executables, so that one busy executor cannot starve the others.
+ *
+ * @since 2.9
+ */
+public class PooledDsfExecutor extends AbstractExecutorService implements DsfExecutor {
+	/**
+	 * Maximum number of executables run before the thread is given back to the pool.
+	 */
+	private static final int MAX_EXECUTABLES_PER_DISPATCH = 64;
+
+	/**
+	 * Debug flag used for tracing the time executables wait in the queue.
+	 */
+	private static boolean DEBUG_EXECUTOR_QUEUE_TIME = false;
+	static {
+		DEBUG_EXECUTOR_QUEUE_TIME = DsfPlugin.DEBUG
+				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executor/queueTime")); //$NON-NLS-1$
+	}
+
+	private static ScheduledExecutorService fgSharedPool;
+
+	/**
+	 * Returns the pool used by the executors which were not given one, it has
+	 * one thread per available processor.
+	 */
+	public static synchronized ScheduledExecutorService getSharedPool() {
+		if (fgSharedPool == null) {
+			ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(
+					Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+						private int fCounter = 0;
+
+						@Override
+						public synchronized Thread newThread(Runnable r) {
+							Thread thread = new Thread(r, "DSF Pooled Executor - " + fCounter++); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			pool.setRemoveOnCancelPolicy(true);
+			fgSharedPool = pool;
+		}
+		return fgSharedPool;
+	}
+
+	/**
+	 * Runnable which records how long it waited in the queue.
+	 * <br>Note: Only used when tracing.
+	 */
+	private class TimedRunnable implements Runnable {
+		final Runnable fRunnable;
+		final long fQueuedAt = System.nanoTime();
+
+		TimedRunnable(Runnable runnable) {
+			fRunnable = runnable;
+		}
+
+		@Override
+		public void run() {
+			Object executable = fRunnable instanceof ExecutableFuture ? ((ExecutableFuture<?>) fRunnable).fExecutable
+					: fRunnable;
+			fQueueWaitStatistics.record(executable.getClass(), System.nanoTime() - fQueuedAt);
+			fRunnable.run();
+		}
+	}
+
+	/**
+	 * Future which remembers the executable it was created for.
+	 */
+	private static class ExecutableFuture<V> extends FutureTask<V> {
+		final Object fExecutable;
+
+		ExecutableFuture(Callable<V> callable) {
+			super(callable);
+			fExecutable = callable;
+		}
+
+		ExecutableFuture(Runnable runnable, V result) {
+			super(runnable, result);
+			fExecutable = runnable;
+		}
+	}
+
+	/**
+	 * Delayed or periodic executable.  A timer of the pool queues it in the
+	 * executor when it is due.
+	 */
+	private class ScheduledTask<V> extends ExecutableFuture<V> implements ScheduledFuture<V> {
+		/**
+		 * Period in nanoseconds: positive for a fixed rate, negative for a fixed
+		 * delay and zero for an executable which runs once.
+		 */
+		private final long fPeriod;
+
+		/** Time at which the executable is due, as given by System.nanoTime() */
+		private volatile long fTime;
+
+		private volatile Future<?> fTimer;
+
+		private final Runnable fEnqueue = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					execute(ScheduledTask.this);
+				} catch (RejectedExecutionException e) {
+					// The executor was shut down while waiting.
+					cancel(false);
+				}
+			}
+		};
+
+		ScheduledTask(Callable<V> callable) {
+			super(callable);
+			fPeriod = 0;
+		}
+
+		ScheduledTask(Runnable runnable, long period) {
+			super(runnable, null);
+			fPeriod = period;
+		}
+
+		void schedule(long time) {
+			fTime = time;
+			fTimer = fPool.schedule(fEnqueue, time - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void run() {
+			if (fPeriod == 0) {
+				super.run();
+			} else if (runAndReset()) {
+				schedule(fPeriod > 0 ? fTime + fPeriod : System.nanoTime() - fPeriod);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			Future<?> timer = fTimer;
+			if (cancelled && timer != null) {
+				timer.cancel(false);
+			}
+			return cancelled;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(fTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+	private final String fName;
+	private final ScheduledExecutorService fPool;
+
+	/** Executables ready to run.  Guards the fields below as well. */
+	private final ArrayDeque<Runnable> fQueue = new ArrayDeque<>();
+
+	/** Whether a dispatch has been given to the pool and has not finished yet */
+	private boolean fDispatching;
+
+	private boolean fShutdown;
+
+	/** Thread running the current dispatch, if any */
+	private volatile Thread fDispatchThread;
+
+	private final CountDownLatch fTerminated = new CountDownLatch(1);
+
+	/**
+	 * Time the executables waited in the queue, per executable class.
+	 * <br>Note: Only used when tracing.
+	 */
+	private final QueueWaitStatistics fQueueWaitStatistics = new QueueWaitStatistics();
+
+	private final Runnable fDispatch = new Runnable() {
+		@Override
+		public void run() {
+			fDispatchThread = Thread.currentThread();
+			try {
+				for (int i = 0; i < MAX_EXECUTABLES_PER_DISPATCH; i++) {
+					Runnable next;
+					synchronized (fQueue) {
+						next = fQueue.poll();
+					}
+					if (next == null) {
+						break;
+					}
+					try {
+						next.run();
+					} catch (RuntimeException e) {
+						// There is no one else to catch it, it is a programming error.
+						DefaultDsfExecutor.logException(e);
+					} catch (Error e) {
+						DefaultDsfExecutor.logException(e);
+					}
+				}
+			} finally {
+				fDispatchThread = null;
+			}
+
+			boolean dispatch;
+			boolean terminate;
+			synchronized (fQueue) {
+				dispatch = fDispatching = !fQueue.isEmpty();
+				terminate = !dispatch && fShutdown;
+			}
+			if (dispatch) {
+				dispatch();
+			} else if (terminate) {
+				terminate();
+			}
+		}
+	};
+
+	/**
+	 * Creates an executor running on the shared pool.
+	 * @param name Name of the executor, used for tracing.
+	 */
+	public PooledDsfExecutor(String name) {
+		this(name, getSharedPool());
+	}
+
+	/**
+	 * Creates an executor running on the given pool.  The pool is used to wait
+	 * for the delayed executables as well.
+	 * @param name Name of the executor, used for tracing.
+	 * @param pool Pool to borrow the threads from.
+	 */
+	public PooledDsfExecutor(String name, ScheduledExecutorService pool) {
+		fName = name;
+		fPool = pool;
+	}
+
+	protected String getName() {
+		return fName;
+	}
+
+	@Override
+	public boolean isInExecutorThread() {
+		return Thread.currentThread() == fDispatchThread;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (command == null)
+			throw new NullPointerException();
+		if (DEBUG_EXECUTOR_QUEUE_TIME) {
+			command = new TimedRunnable(command);
+		}
+		boolean dispatch;
+		synchronized (fQueue) {
+			if (fShutdown) {
+				throw new RejectedExecutionException("Executor " + fName + " is shut down"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			fQueue.add(command);
+			dispatch = !fDispatching;
+			fDispatching = true;
+		}
+		if (dispatch) {
+			dispatch();
+		}
+	}
+
+	private void dispatch() {
+		try {
+			fPool.execute(fDispatch);
+		} catch (RejectedExecutionException e) {
+			// The pool was shut down, nothing will run anymore.
+			synchronized (fQueue) {
+				fShutdown = true;
+				fDispatching = false;
+				fQueue.clear();
+			}
+			terminate();
+			throw e;
+		}
+	}
+
+	@Override
+	protected <T> FutureTask<T> newTaskFor(Runnable runnable, T value) {
+		return new ExecutableFuture<>(runnable, value);
+	}
+
+	@Override
+	protected <T> FutureTask<T> newTaskFor(Callable<T> callable) {
+		return new ExecutableFuture<>(callable);
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		ScheduledTask<?> task = new ScheduledTask<>(command, 0);
+		task.schedule(System.nanoTime() + unit.toNanos(delay));
+		return task;
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		if (callable == null || unit == null)
+			throw new NullPointerException();
+		ScheduledTask<V> task = new ScheduledTask<>(callable);
+		task.schedule(System.nanoTime() + unit.toNanos(delay));
+		return task;
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		if (period <= 0)
+			throw new IllegalArgumentException();
+		ScheduledTask<?> task = new ScheduledTask<>(command, unit.toNanos(period));
+		task.schedule(System.nanoTime() + unit.toNanos(initialDelay));
+		return task;
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+		if (command == null || unit == null)
+			throw new NullPointerException();
+		if (delay <= 0)
+			throw new IllegalArgumentException();
+		ScheduledTask<?> task = new ScheduledTask<>(command, -unit.toNanos(delay));
+		task.schedule(System.nanoTime() + unit.toNanos(initialDelay));
+		return task;
+	}
+
+	/**
+	 * Stops accepting new executables.  The ones already queued are run, the
+	 * delayed ones which are not due yet are cancelled when they become due.
+	 */
+	@Override
+	public void shutdown() {
+		boolean terminate;
+		synchronized (fQueue) {
+			fShutdown = true;
+			terminate = !fDispatching;
+		}
+		if (terminate) {
+			terminate();
+		}
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		List<Runnable> notRun = new ArrayList<>();
+		boolean terminate;
+		synchronized (fQueue) {
+			fShutdown = true;
+			for (Runnable runnable : fQueue) {
+				notRun.add(runnable instanceof TimedRunnable ? ((TimedRunnable) runnable).fRunnable : runnable);
+			}
+			fQueue.clear();
+			terminate = !fDispatching;
+		}
+		if (terminate) {
+			terminate();
+		}
+		return notRun;
+	}
+
+	private void terminate() {
+		synchronized (fTerminated) {
+			if (fTerminated.getCount() == 0) {
+				return;
+			}
+			fTerminated.countDown();
+		}
+		if (DEBUG_EXECUTOR_QUEUE_TIME) {
+			DsfPlugin.debug(DsfPlugin.getDebugTime() + " Executor (" + fName + ") queue wait times:" //$NON-NLS-1$ //$NON-NLS-2$
+					+ fQueueWaitStatistics);
+		}
+	}
+
+	@Override
+	public boolean isShutdown() {
+		synchronized (fQueue) {
+			return fShutdown;
+		}
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return fTerminated.getCount() == 0;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return fTerminated.await(timeout, unit);
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDsfExecutor(" + fName + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
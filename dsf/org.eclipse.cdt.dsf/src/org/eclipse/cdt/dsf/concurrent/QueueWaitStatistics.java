@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time spent by executables in an executor's queue before they were run, per
+ * class of executable.
+ * <br>Note: Only used when tracing.
+ */
+class QueueWaitStatistics {
+	private static class Entry {
+		final String fClassName;
+		int fCount;
+		long fTotalNanos;
+		long fMaxNanos;
+
+		Entry(String className) {
+			fClassName = className;
+		}
+	}
+
+	private final Map<Class<?>, Entry> fEntries = new HashMap<>();
+
+	synchronized void record(Class<?> executableClass, long waitNanos) {
+		Entry entry = fEntries.get(executableClass);
+		if (entry == null) {
+			entry = new Entry(executableClass.getName());
+			fEntries.put(executableClass, entry);
+		}
+		entry.fCount++;
+		entry.fTotalNanos += waitNanos;
+		entry.fMaxNanos = Math.max(entry.fMaxNanos, waitNanos);
+	}
+
+	/**
+	 * Returns a table of the recorded classes, the ones which waited longest in total first.
+	 */
+	@Override
+	public synchronized String toString() {
+		List<Entry> entries = new ArrayList<>(fEntries.values());
+		Collections.sort(entries, new Comparator<Entry>() {
+			@Override
+			public int compare(Entry o1, Entry o2) {
+				return Long.compare(o2.fTotalNanos, o1.fTotalNanos);
+			}
+		});
+		StringBuilder builder = new StringBuilder();
+		for (Entry entry : entries) {
+			builder.append("\n\t").append(entry.fClassName); //$NON-NLS-1$
+			builder.append(": count=").append(entry.fCount); //$NON-NLS-1$
+			builder.append(" totalMs=").append(entry.fTotalNanos / 1000000); //$NON-NLS-1$
+			builder.append(" avgUs=").append(entry.fTotalNanos / entry.fCount / 1000); //$NON-NLS-1$
+			builder.append(" maxUs=").append(entry.fMaxNanos / 1000); //$NON-NLS-1$
+		}
+		return builder.toString();
+	}
+}
@@ -25,8 +25,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
@@ -274,6 +272,52 @@ public class DsfSession {
 		}
 	}
 
+	/**
+	 * A listener together with its handler methods which accept a given event class.
+	 */
+	private static class DispatchEntry {
+		final ListenerEntry fListenerEntry;
+		final Method[] fMethods;
+		final int fStartupNumber;
+
+		DispatchEntry(ListenerEntry listenerEntry, Method[] methods) {
+			fListenerEntry = listenerEntry;
+			fMethods = methods;
+			fStartupNumber = getStartupNumber(listenerEntry.fListener);
+		}
+	}
+
+	/**
+	 * Orders the services by their startup number, followed by the listeners which
+	 * are not services.
+	 */
+	private static final Comparator<DispatchEntry> DISPATCH_ORDER = new Comparator<DispatchEntry>() {
+		@Override
+		public int compare(DispatchEntry o1, DispatchEntry o2) {
+			boolean service1 = o1.fListenerEntry.fListener instanceof IDsfService;
+			boolean service2 = o2.fListenerEntry.fListener instanceof IDsfService;
+			if (service1 && service2) {
+				return Integer.compare(o1.fStartupNumber, o2.fStartupNumber);
+			} else if (service1) {
+				return -1;
+			} else if (service2) {
+				return 1;
+			}
+			return 0;
+		}
+	};
+
+	/**
+	 * Handler methods of the listener classes.  They are looked up once per class
+	 * rather than every time a listener is registered.
+	 */
+	private static final ClassValue<Method[]> fgEventHandlerMethods = new ClassValue<Method[]>() {
+		@Override
+		protected Method[] computeValue(Class<?> type) {
+			return getEventHandlerMethods(type);
+		}
+	};
+
 	/** ID (plugin ID preferably) of the owner of this session */
 	private final String fOwnerId;
 
@@ -289,6 +333,12 @@ public class DsfSession {
 	/** Map of registered event listeners. */
 	private Map<ListenerEntry, Method[]> fListeners = new HashMap<>();
 
+	/**
+	 * Listeners which accept a given event class, in the order in which they are called.
+	 * Cleared whenever a listener is added or removed.
+	 */
+	private Map<Class<?>, DispatchEntry[]> fDispatchTable = new HashMap<>();
+
 	/**
 	 * Map of registered adapters, for implementing the <code>IDMContext.getAdapter()</code>
 	 * method.
@@ -348,7 +398,8 @@ public class DsfSession {
 
 			DsfPlugin.debug(msg);
 		}
-		fListeners.put(entry, getEventHandlerMethods(listener));
+		fListeners.put(entry, fgEventHandlerMethods.get(listener.getClass()));
+		fDispatchTable.clear();
 	}
 
 	/**
@@ -370,7 +421,9 @@ public class DsfSession {
 
 			DsfPlugin.debug(msg);
 		}
-		fListeners.remove(entry);
+		if (fListeners.remove(entry) != null) {
+			fDispatchTable.clear();
+		}
 	}
 
 	/**
@@ -484,61 +537,23 @@ public class DsfSession {
 		@SuppressWarnings("unchecked")
 		Dictionary<String, ?> serviceProperties = (Dictionary<String, ?>) _serviceProperties;
 
-		// Build a list of listeners;
-		SortedMap<ListenerEntry, List<Method>> listeners = new TreeMap<>(new Comparator<ListenerEntry>() {
-			@Override
-			public int compare(ListenerEntry o1, ListenerEntry o2) {
-				if (o1.fListener == o2.fListener) {
-					return 0;
-				}
-				if (o1.fListener instanceof IDsfService && !(o2.fListener instanceof IDsfService)) {
-					return -1;
-				} else if (o2.fListener instanceof IDsfService && !(o1.fListener instanceof IDsfService)) {
-					return 1;
-				} else if ((o1.fListener instanceof IDsfService) && (o2.fListener instanceof IDsfService)) {
-					return ((IDsfService) o1.fListener).getStartupNumber()
-							- ((IDsfService) o2.fListener).getStartupNumber();
-				}
-				return 1;
-			}
-
-			@Override
-			public boolean equals(Object obj) {
-				return obj == this;
-			}
-		});
-
-		// Build a list of listeners and methods that are registered for this event class.
-		Class<?> eventClass = event.getClass();
-		for (Map.Entry<ListenerEntry, Method[]> entry : fListeners.entrySet()) {
-			if (entry.getKey().fFilter != null && !entry.getKey().fFilter.match(serviceProperties)) {
+		// Only the filters need to be checked here, the listeners which cannot accept
+		// this event class have been left out of the dispatch table.
+		DispatchEntry[] dispatchEntries = getDispatchEntries(event.getClass());
+		for (DispatchEntry dispatchEntry : dispatchEntries) {
+			ListenerEntry listenerEntry = dispatchEntry.fListenerEntry;
+			if (listenerEntry.fFilter != null && !listenerEntry.fFilter.match(serviceProperties)) {
 				// Dispatching service doesn't match the listener's filter, skip it.
 				continue;
 			}
-			Method[] allMethods = entry.getValue();
-			List<Method> matchingMethods = new ArrayList<>();
-			for (Method method : allMethods) {
-				assert method.getParameterTypes().length > 0 : eventClass.getName() + "." + method.getName() //$NON-NLS-1$
-						+ " signature contains zero parameters"; //$NON-NLS-1$
-				if (method.getParameterTypes()[0].isAssignableFrom(eventClass)) {
-					matchingMethods.add(method);
-				}
-			}
-			if (!matchingMethods.isEmpty()) {
-				listeners.put(entry.getKey(), matchingMethods);
-			}
-		}
-
-		// Call the listeners
-		for (Map.Entry<ListenerEntry, List<Method>> entry : listeners.entrySet()) {
-			for (Method method : entry.getValue()) {
+			for (Method method : dispatchEntry.fMethods) {
 				try {
 					if (DEBUG_SESSION_DISPATCHES) {
 						DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
-								+ LoggingUtils.toString(entry.getKey().fListener) + " invoked with event " //$NON-NLS-1$
+								+ LoggingUtils.toString(listenerEntry.fListener) + " invoked with event " //$NON-NLS-1$
 								+ LoggingUtils.toString(event));
 					}
-					method.invoke(entry.getKey().fListener, new Object[] { event });
+					method.invoke(listenerEntry.fListener, event);
 				} catch (IllegalAccessException e) {
 					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
 							"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
@@ -552,6 +567,56 @@ public class DsfSession {
 		}
 	}
 
+	/**
+	 * Returns the listeners, with their handler methods, which accept the given event
+	 * class.  The result is kept in the dispatch table until the listeners change.
+	 */
+	private DispatchEntry[] getDispatchEntries(Class<?> eventClass) {
+		DispatchEntry[] dispatchEntries = fDispatchTable.get(eventClass);
+		if (dispatchEntries != null && !startupNumbersChanged(dispatchEntries)) {
+			return dispatchEntries;
+		}
+
+		List<DispatchEntry> entries = new ArrayList<>();
+		for (Map.Entry<ListenerEntry, Method[]> entry : fListeners.entrySet()) {
+			List<Method> matchingMethods = null;
+			for (Method method : entry.getValue()) {
+				if (method.getParameterTypes()[0].isAssignableFrom(eventClass)) {
+					if (matchingMethods == null) {
+						matchingMethods = new ArrayList<>(1);
+					}
+					matchingMethods.add(method);
+				}
+			}
+			if (matchingMethods != null) {
+				entries.add(new DispatchEntry(entry.getKey(),
+						matchingMethods.toArray(new Method[matchingMethods.size()])));
+			}
+		}
+		// The sort is stable, the listeners which are not services keep their order.
+		Collections.sort(entries, DISPATCH_ORDER);
+		dispatchEntries = entries.toArray(new DispatchEntry[entries.size()]);
+		fDispatchTable.put(eventClass, dispatchEntries);
+		return dispatchEntries;
+	}
+
+	/**
+	 * A service can register as a listener before it is initialized and given its
+	 * startup number, in which case the dispatch order has to be computed again.
+	 */
+	private static boolean startupNumbersChanged(DispatchEntry[] dispatchEntries) {
+		for (DispatchEntry dispatchEntry : dispatchEntries) {
+			if (dispatchEntry.fStartupNumber != getStartupNumber(dispatchEntry.fListenerEntry.fListener)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int getStartupNumber(Object listener) {
+		return listener instanceof IDsfService ? ((IDsfService) listener).getStartupNumber() : 0;
+	}
+
 	/**
 	 * DSF event handlers don't implement any particular interfaces. They
 	 * declare one or more methods that are annotated with
@@ -564,14 +629,14 @@ public class DsfSession {
 	 * checked to ensure it takes a single parameter; an
 	 * {@link IllegalArgumentException} is thrown otherwise.
 	 *
-	 * @param listener
-	 *            an object which should contain handler methods
+	 * @param listenerClass
+	 *            the class of an object which should contain handler methods
 	 * @return the collection of handler methods
 	 */
-	private Method[] getEventHandlerMethods(Object listener) {
+	private static Method[] getEventHandlerMethods(Class<?> listenerClass) {
 		List<Method> retVal = new ArrayList<>();
 		try {
-			Method[] methods = listener.getClass().getMethods();
+			Method[] methods = listenerClass.getMethods();
 			for (Method method : methods) {
 				if (method.isAnnotationPresent(DsfServiceEventHandler.class)) {
 					Class<?>[] paramTypes = method.getParameterTypes();
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.concurrent.PooledDsfExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that exercise the PooledDsfExecutor.
+ */
+public class PooledDsfExecutorTests {
+	private static final int EXECUTORS = 8;
+
+	ScheduledThreadPoolExecutor fPool;
+	PooledDsfExecutor[] fExecutors;
+
+	@Before
+	public void startExecutors() {
+		fPool = new ScheduledThreadPoolExecutor(4);
+		fExecutors = new PooledDsfExecutor[EXECUTORS];
+		for (int i = 0; i < EXECUTORS; i++) {
+			fExecutors[i] = new PooledDsfExecutor("Test " + i, fPool); //$NON-NLS-1$
+		}
+	}
+
+	@After
+	public void shutdownExecutors() throws InterruptedException {
+		for (PooledDsfExecutor executor : fExecutors) {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		}
+		fPool.shutdown();
+	}
+
+	private void waitForExecutor(PooledDsfExecutor executor) throws InterruptedException, ExecutionException {
+		executor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+			}
+		}).get();
+	}
+
+	/**
+	 * Executables of one executor never overlap, even when they are submitted
+	 * from several threads and the executors share the pool.
+	 */
+	@Test
+	public void confinementTest() throws InterruptedException, ExecutionException {
+		final int[] counts = new int[EXECUTORS];
+		final boolean[] running = new boolean[EXECUTORS];
+		final AtomicInteger violations = new AtomicInteger();
+		final int submissions = 5000;
+
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread() {
+				@Override
+				public void run() {
+					for (int n = 0; n < submissions; n++) {
+						for (int i = 0; i < EXECUTORS; i++) {
+							final int index = i;
+							fExecutors[i].execute(new DsfRunnable() {
+								@Override
+								public void run() {
+									if (!fExecutors[index].isInExecutorThread() || running[index]) {
+										violations.incrementAndGet();
+									}
+									running[index] = true;
+									counts[index]++;
+									running[index] = false;
+								}
+							});
+						}
+					}
+				}
+			};
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (int i = 0; i < EXECUTORS; i++) {
+			waitForExecutor(fExecutors[i]);
+			assertEquals(4 * submissions, counts[i]);
+		}
+		assertEquals(0, violations.get());
+		assertTrue(!fExecutors[0].isInExecutorThread());
+	}
+
+	@Test
+	public void orderTest() throws InterruptedException, ExecutionException {
+		final List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			final int value = i;
+			fExecutors[0].execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					order.add(value);
+				}
+			});
+		}
+		waitForExecutor(fExecutors[0]);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+
+	/**
+	 * Two executors can run at the same time, each of them waits for the other.
+	 */
+	@Test
+	public void parallelTest() throws InterruptedException, ExecutionException {
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		Callable<Integer> callable = new Callable<Integer>() {
+			@Override
+			public Integer call() throws Exception {
+				return barrier.await(10, TimeUnit.SECONDS);
+			}
+		};
+		Future<Integer> first = fExecutors[0].submit(callable);
+		Future<Integer> second = fExecutors[1].submit(callable);
+		assertEquals(1, first.get() + second.get());
+	}
+
+	@Test
+	public void scheduleTest() throws InterruptedException, ExecutionException {
+		long start = System.nanoTime();
+		ScheduledFuture<Integer> delayed = fExecutors[0].schedule(new Callable<Integer>() {
+			@Override
+			public Integer call() {
+				return 1;
+			}
+		}, 100, TimeUnit.MILLISECONDS);
+		assertEquals(1, (int) delayed.get());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+
+		// A periodic executable stops when it throws.
+		final AtomicInteger runs = new AtomicInteger();
+		ScheduledFuture<?> periodic = fExecutors[0].scheduleWithFixedDelay(new DsfRunnable() {
+			@Override
+			public void run() {
+				if (runs.incrementAndGet() == 3) {
+					throw new IllegalStateException();
+				}
+			}
+		}, 0, 5, TimeUnit.MILLISECONDS);
+		try {
+			periodic.get();
+			fail("Expected an exception"); //$NON-NLS-1$
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(3, runs.get());
+	}
+
+	@Test
+	public void shutdownTest() throws InterruptedException {
+		final AtomicInteger runs = new AtomicInteger();
+		for (int i = 0; i < 100; i++) {
+			fExecutors[0].execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					runs.incrementAndGet();
+				}
+			});
+		}
+		ScheduledFuture<?> delayed = fExecutors[0].schedule(new DsfRunnable() {
+			@Override
+			public void run() {
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+		fExecutors[0].shutdown();
+		try {
+			fExecutors[0].execute(new DsfRunnable() {
+				@Override
+				public void run() {
+				}
+			});
+			fail("Expected a RejectedExecutionException"); //$NON-NLS-1$
+		} catch (RejectedExecutionException e) {
+		}
+		assertTrue(fExecutors[0].awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(100, runs.get());
+
+		// The delayed executable is cancelled when it becomes due.
+		Thread.sleep(200);
+		assertTrue(delayed.isCancelled());
+	}
+}
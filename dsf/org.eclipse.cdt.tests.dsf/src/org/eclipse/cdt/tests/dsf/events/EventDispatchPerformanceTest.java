@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.events;
+
+import java.util.Hashtable;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.TestDsfExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures how many events per second a session dispatches to a large number of
+ * listeners, most of which do not accept the events.
+ *
+ * n.b. this is intentionally not added to any test suite at the moment
+ */
+public class EventDispatchPerformanceTest {
+	private static final int LISTENERS = 200;
+	private static final int EVENTS = 100000;
+
+	public static class SuspendedEvent {
+	}
+
+	public static class ResumedEvent {
+	}
+
+	public static class SuspendedListener {
+		int fCount;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(SuspendedEvent e) {
+			fCount++;
+		}
+	}
+
+	public static class ResumedListener {
+		int fCount;
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ResumedEvent e) {
+			fCount++;
+		}
+	}
+
+	private TestDsfExecutor fExecutor;
+	private DsfSession fSession;
+	private final SuspendedListener[] fSuspendedListeners = new SuspendedListener[LISTENERS / 10];
+	private final ResumedListener[] fResumedListeners = new ResumedListener[LISTENERS - LISTENERS / 10];
+
+	@Before
+	public void startSession() throws ExecutionException, InterruptedException {
+		fExecutor = new TestDsfExecutor();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				fSession = DsfSession.startSession(fExecutor, "org.eclipse.cdt.tests.dsf"); //$NON-NLS-1$
+				for (int i = 0; i < fSuspendedListeners.length; i++) {
+					fSuspendedListeners[i] = new SuspendedListener();
+					fSession.addServiceEventListener(fSuspendedListeners[i], null);
+				}
+				for (int i = 0; i < fResumedListeners.length; i++) {
+					fResumedListeners[i] = new ResumedListener();
+					fSession.addServiceEventListener(fResumedListeners[i], null);
+				}
+			}
+		}).get();
+	}
+
+	@After
+	public void endSession() throws ExecutionException, InterruptedException {
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				DsfSession.endSession(fSession);
+				fSession = null;
+				fExecutor.shutdown();
+			}
+		}).get();
+
+		if (fExecutor.exceptionsCaught()) {
+			Throwable[] exceptions = fExecutor.getExceptions();
+			throw new ExecutionException(exceptions[0]);
+		}
+		fExecutor = null;
+	}
+
+	@Test
+	public void dispatchEvents() throws ExecutionException, InterruptedException {
+		Hashtable<String, String> serviceProperties = new Hashtable<>();
+		SuspendedEvent event = new SuspendedEvent();
+
+		// Warm up the reflective invocation.
+		for (int i = 0; i < EVENTS / 10; i++) {
+			fSession.dispatchEvent(event, serviceProperties);
+		}
+		waitForDispatch();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < EVENTS; i++) {
+			fSession.dispatchEvent(event, serviceProperties);
+		}
+		waitForDispatch();
+		long time = System.nanoTime() - start;
+
+		for (SuspendedListener listener : fSuspendedListeners) {
+			Assert.assertEquals(EVENTS + EVENTS / 10, listener.fCount);
+		}
+		for (ResumedListener listener : fResumedListeners) {
+			Assert.assertEquals(0, listener.fCount);
+		}
+		System.out.println(EVENTS + " events to " + LISTENERS + " listeners: " //$NON-NLS-1$ //$NON-NLS-2$
+				+ EVENTS * 1000000000L / Math.max(time, 1) + " events per second"); //$NON-NLS-1$
+	}
+
+	private void waitForDispatch() throws ExecutionException, InterruptedException {
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+			}
+		}).get();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 QNX Software Systems and others.
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -8,24 +8,15 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  *******************************************************************************/
-package org.eclipse.cdt.cmake.core.internal;
+package org.eclipse.cdt.debug.ui.memory.search;
 
-public class CompileCommand {
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
 
-	private String directory;
-	private String command;
-	private String file;
-
-	public String getDirectory() {
-		return directory;
-	}
-
-	public String getCommand() {
-		return command;
-	}
-
-	public String getFile() {
-		return file;
-	}
+@RunWith(Suite.class)
 
+// Add additional test case classes below
+@SuiteClasses({ BytePatternMatcherTest.class, })
+public class AutomatedIntegrationSuite {
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BytePatternMatcherTest {
+
+	private static byte[] bytes(String s) {
+		return s.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	/** The last offset at which the pattern fits in the data */
+	private static int lastStart(byte[] data, BytePatternMatcher matcher) {
+		return data.length - matcher.getLength();
+	}
+
+	@Test
+	public void matchesAtStartAndEnd() {
+		BytePatternMatcher matcher = new BytePatternMatcher(bytes("AB"), false);
+		byte[] data = bytes("ABxxAB");
+		int last = lastStart(data, matcher);
+
+		assertEquals(0, matcher.indexOf(data, 0, last));
+		assertEquals(4, matcher.indexOf(data, 1, last));
+		assertEquals(4, matcher.lastIndexOf(data, 0, last));
+		assertEquals(0, matcher.lastIndexOf(data, 0, 3));
+	}
+
+	@Test
+	public void overlappingMatches() {
+		BytePatternMatcher matcher = new BytePatternMatcher(bytes("aa"), false);
+		byte[] data = bytes("aaaa");
+		int last = lastStart(data, matcher);
+
+		assertEquals(0, matcher.indexOf(data, 0, last));
+		assertEquals(1, matcher.indexOf(data, 1, last));
+		assertEquals(2, matcher.indexOf(data, 2, last));
+		assertEquals(-1, matcher.indexOf(data, 3, last));
+
+		assertEquals(2, matcher.lastIndexOf(data, 0, last));
+		assertEquals(1, matcher.lastIndexOf(data, 0, 1));
+		assertEquals(0, matcher.lastIndexOf(data, 0, 0));
+	}
+
+	@Test
+	public void backwardSearch() {
+		BytePatternMatcher matcher = new BytePatternMatcher(bytes("abc"), false);
+		byte[] data = bytes("abcxabcyabz");
+		int last = lastStart(data, matcher);
+
+		assertEquals(4, matcher.lastIndexOf(data, 0, last));
+		assertEquals(0, matcher.lastIndexOf(data, 0, 3));
+		assertEquals(-1, matcher.lastIndexOf(data, 1, 3));
+	}
+
+	@Test
+	public void searchStaysInRange() {
+		BytePatternMatcher matcher = new BytePatternMatcher(bytes("AB"), false);
+		byte[] data = bytes("ABxAB");
+
+		assertEquals(-1, matcher.indexOf(data, 1, 2));
+		assertEquals(-1, matcher.lastIndexOf(data, 1, 2));
+		// An empty range, as for a chunk too short for the pattern
+		assertEquals(-1, matcher.indexOf(data, 0, -1));
+		assertEquals(-1, matcher.lastIndexOf(data, 0, -1));
+	}
+
+	@Test
+	public void caseFolding() {
+		byte[] data = bytes("say hELLo");
+		int last = data.length - 5;
+
+		assertEquals(4, new BytePatternMatcher(bytes("Hello"), true).indexOf(data, 0, last));
+		assertEquals(4, new BytePatternMatcher(bytes("Hello"), true).lastIndexOf(data, 0, last));
+		assertEquals(-1, new BytePatternMatcher(bytes("Hello"), false).indexOf(data, 0, last));
+		assertEquals(-1, new BytePatternMatcher(bytes("Hello"), false).lastIndexOf(data, 0, last));
+
+		// Only ASCII letters are folded
+		byte[] brackets = bytes("{[");
+		assertEquals(1, new BytePatternMatcher(bytes("["), true).indexOf(brackets, 0, 1));
+		assertEquals(-1, new BytePatternMatcher(bytes("["), true).indexOf(brackets, 0, 0));
+	}
+
+	@Test
+	public void notFound() {
+		BytePatternMatcher matcher = new BytePatternMatcher(bytes("xyz"), false);
+		byte[] data = bytes("xyxyxzyz");
+		int last = lastStart(data, matcher);
+
+		assertEquals(-1, matcher.indexOf(data, 0, last));
+		assertEquals(-1, matcher.lastIndexOf(data, 0, last));
+	}
+
+	/**
+	 * Compares every match with the one a naive search finds, on random data
+	 * over a small alphabet so that there are many partial matches.
+	 */
+	@Test
+	public void sameMatchesAsNaiveSearch() {
+		Random random = new Random(42);
+		byte[] alphabet = { 'a', 'b', 'A', 'B', (byte) 0xe1 };
+		for (int round = 0; round < 200; round++) {
+			byte[] data = new byte[1 + random.nextInt(64)];
+			for (int i = 0; i < data.length; i++) {
+				data[i] = alphabet[random.nextInt(alphabet.length)];
+			}
+			byte[] pattern = new byte[1 + random.nextInt(Math.min(4, data.length))];
+			for (int i = 0; i < pattern.length; i++) {
+				pattern[i] = alphabet[random.nextInt(alphabet.length)];
+			}
+			boolean caseInsensitive = random.nextBoolean();
+			BytePatternMatcher matcher = new BytePatternMatcher(pattern, caseInsensitive);
+			int last = lastStart(data, matcher);
+
+			for (int from = 0; from <= last; from++) {
+				assertEquals(naiveIndexOf(data, pattern, caseInsensitive, from, last),
+						matcher.indexOf(data, from, last));
+				assertEquals(naiveLastIndexOf(data, pattern, caseInsensitive, 0, from),
+						matcher.lastIndexOf(data, 0, from));
+			}
+		}
+	}
+
+	private static int naiveIndexOf(byte[] data, byte[] pattern, boolean caseInsensitive, int from, int to) {
+		for (int i = from; i <= to; i++) {
+			if (naiveMatchesAt(data, pattern, caseInsensitive, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int naiveLastIndexOf(byte[] data, byte[] pattern, boolean caseInsensitive, int from, int to) {
+		for (int i = to; i >= from; i--) {
+			if (naiveMatchesAt(data, pattern, caseInsensitive, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean naiveMatchesAt(byte[] data, byte[] pattern, boolean caseInsensitive, int position) {
+		for (int i = 0; i < pattern.length; i++) {
+			byte b = data[position + i];
+			byte p = pattern[i];
+			if (caseInsensitive && b >= 'a' && b <= 'z') {
+				b = (byte) (b - 'a' + 'A');
+			}
+			if (caseInsensitive && p >= 'a' && p <= 'z') {
+				p = (byte) (p - 'a' + 'A');
+			}
+			if (b != p) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.debug.ui.memory.search;
+
+/**
+ * Finds a byte pattern in a byte array with the Boyer-Moore-Horspool algorithm,
+ * forward or backward, optionally ignoring the case of ASCII letters.
+ */
+class BytePatternMatcher {
+	private final byte[] fPattern;
+	private final boolean fCaseInsensitive;
+
+	// How far the pattern can move forward given the byte under its last byte
+	private final int[] fForwardShift = new int[256];
+	// How far the pattern can move backward given the byte under its first byte
+	private final int[] fBackwardShift = new int[256];
+
+	public BytePatternMatcher(byte[] pattern, boolean caseInsensitive) {
+		fCaseInsensitive = caseInsensitive;
+		fPattern = new byte[pattern.length];
+		for (int i = 0; i < pattern.length; i++) {
+			fPattern[i] = fold(pattern[i]);
+		}
+
+		int m = fPattern.length;
+		for (int c = 0; c < 256; c++) {
+			fForwardShift[c] = m;
+			fBackwardShift[c] = m;
+		}
+		for (int i = 0; i < m - 1; i++) {
+			fForwardShift[fPattern[i] & 0xff] = m - 1 - i;
+		}
+		for (int i = m - 1; i > 0; i--) {
+			fBackwardShift[fPattern[i] & 0xff] = i;
+		}
+		if (fCaseInsensitive) {
+			// The folded table entries apply to both cases of a letter
+			for (int c = 'a'; c <= 'z'; c++) {
+				fForwardShift[c] = fForwardShift[c - 'a' + 'A'];
+				fBackwardShift[c] = fBackwardShift[c - 'a' + 'A'];
+			}
+		}
+	}
+
+	public int getLength() {
+		return fPattern.length;
+	}
+
+	/**
+	 * Returns the first offset, between from and to inclusive, at which the pattern
+	 * is found in data, or -1.  The pattern must fit in data at offset to.
+	 */
+	public int indexOf(byte[] data, int from, int to) {
+		int m = fPattern.length;
+		if (m == 0 || from > to) {
+			return -1;
+		}
+		int position = from;
+		while (position <= to) {
+			if (matchesAt(data, position)) {
+				return position;
+			}
+			position += fForwardShift[data[position + m - 1] & 0xff];
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the last offset, between from and to inclusive, at which the pattern
+	 * is found in data, or -1.  The pattern must fit in data at offset to.
+	 */
+	public int lastIndexOf(byte[] data, int from, int to) {
+		if (fPattern.length == 0 || from > to) {
+			return -1;
+		}
+		int position = to;
+		while (position >= from) {
+			if (matchesAt(data, position)) {
+				return position;
+			}
+			position -= fBackwardShift[data[position] & 0xff];
+		}
+		return -1;
+	}
+
+	private boolean matchesAt(byte[] data, int position) {
+		for (int i = fPattern.length - 1; i >= 0; i--) {
+			if (fold(data[position + i]) != fPattern[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private byte fold(byte b) {
+		if (fCaseInsensitive && b >= 'a' && b <= 'z') {
+			return (byte) (b - 'a' + 'A');
+		}
+		return b;
+	}
+}
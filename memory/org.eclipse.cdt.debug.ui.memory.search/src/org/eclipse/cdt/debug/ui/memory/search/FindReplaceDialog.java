@@ -16,6 +16,7 @@ package org.eclipse.cdt.debug.ui.memory.search;
 
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.text.MessageFormat;
 import java.util.Properties;
 import java.util.StringTokenizer;
 import java.util.Vector;
@@ -27,7 +28,6 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
-import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.ui.memory.IMemoryRendering;
 import org.eclipse.debug.ui.memory.IMemoryRenderingContainer;
 import org.eclipse.debug.ui.memory.IMemoryRenderingSite;
@@ -65,8 +65,6 @@ public class FindReplaceDialog extends SelectionDialog {
 
 	private IMemoryBlockExtension fMemoryBlock;
 
-	final static int preFetchSize = 20 * 1024;
-
 	private Text fFindText;
 	private Text fReplaceText;
 
@@ -784,217 +782,6 @@ public class FindReplaceDialog extends SelectionDialog {
 		return composite;
 	}
 
-	class FindReplaceMemoryCache {
-		BigInteger memoryCacheStartAddress = BigInteger.ZERO;
-		MemoryByte memoryCacheData[] = new MemoryByte[0];
-	}
-
-	/**
-	 * Function : getSearchableBytes
-	 *
-	 * This function returns to the user an array of memory
-	 * @param start Address ( inclusive ) of the beginning byte of the memory region to be searched
-	 * @param end Address ( inclusive ) of the ending
-	 * @param forwardSearch direction of the search ( true == searching forward , false = searching backwards
-	 * @param address Address ( inclusive ) of the byte set being requested/returned
-	 * @param length Number of bytes of data to be returned
-	 * @param cache Cached memory byte data ( this routine fetches additional bytes of memory to try and reduce interaction with the debug engine )
-	 * @return MemoryByte[] array which contains the requested bytes
-	 * @throws DebugException
-	 */
-	private MemoryByte[] getSearchableBytes(BigInteger start, BigInteger end, boolean forwardSearch, BigInteger address,
-			int length, FindReplaceMemoryCache cache) throws DebugException {
-		BigInteger endCacheAddress = cache.memoryCacheStartAddress
-				.add(BigInteger.valueOf(cache.memoryCacheData.length));
-
-		/*
-		 * Determine if the requested data is already within the cache.
-		 */
-
-		if (!((address.compareTo(cache.memoryCacheStartAddress) >= 0)
-				&& (address.add(BigInteger.valueOf(length)).compareTo(endCacheAddress) < 0))) {
-			BigInteger prefetchSize = BigInteger.valueOf(preFetchSize);
-			BigInteger len = BigInteger.valueOf(length);
-			BigInteger fetchAddress = address;
-			BigInteger fetchSize;
-
-			/*
-			 *  Determine which way we are searching. Whichever way we are searching we need to make sure
-			 *  we capture the minimum requested amount of data in the forward direction.
-			 */
-
-			if (forwardSearch) {
-				/*
-				 *  Legend : "#" == minimum requested data , "*" == additional data we want to prefetch/cache
-				 *
-				 *  This is the best case where everything cleanly fits within the starting/ending ranges
-				 *  to be searched.  What we cannot do is to fetch data outside of these ranges. The user
-				 *  has specified them, if they are in error that is OK, but we must respect the boundaries
-				 *  they specified.
-				 *
-				 *  +-- address
-				 *  |
-				 *  +--length--+--prefetch--+------------------------------------+
-				 *  |##########|************|                                    |
-				 *  |##########|************|                                    |
-				 *  |##########|************|                                    |
-				 *  +----------+------------+------------------------------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the worst case scenario. We cannot even get the requested minimum ( no matter
-				 *  the desired prefetch ) before we run out of the specified range.
-				 *
-				 *                                                       +-- address
-				 *                                                       |
-				 *  +----------------------------------------------------+--length--+--prefetch--+
-				 *  |                                                    |##########|************|
-				 *  |                                                    |##########|************|
-				 *  |                                                    |##########|************|
-				 *  +----------------------------------------------------+-------+--+------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  See if the desired size ( minimum length + desired prefetch ) fits in to the current range.
-				 *  If so there is nothing to adjust.
-				 */
-
-				if (prefetchSize.compareTo(len) >= 0) {
-					fetchSize = prefetchSize;
-				} else {
-					fetchSize = len;
-				}
-
-				if (address.add(fetchSize).compareTo(end) > 0) {
-					/*
-					 *  It does not all fit. Get as much as we can ( end - current ) + 1.
-					 */
-					fetchSize = end.subtract(address).add(BigInteger.ONE);
-
-					/*
-					 *  If the amount of data we can get does not even meet the minimum request. In this case
-					 *  we have to readjust how much we copy to match what we can actually read. If we do not
-					 *  do this then we will run past the actual data fetched and generate an exception.
-					 */
-					if (fetchSize.compareTo(len) < 0) {
-						length = fetchSize.intValue();
-					}
-				}
-
-				/*
-				 *  The fetch address just starts at the current requested location since we are searching in
-				 *  the forward direction and thus prefetching in the forward direction.
-				 */
-				fetchAddress = address;
-			} else {
-
-				/*
-				 *  Legend : "#" == minimum requested data , "*" == additional data we want to prefetch/cache
-				 *
-				 *  This is the best case where everything cleanly fits within the starting/ending ranges
-				 *  to be searched.  What we cannot do is to fetch data outside of these ranges. The user
-				 *  has specified them, if they are in error that is OK, but we must respect the boundaries
-				 *  they specified.
-				 *
-				 *               +-- address
-				 *               |
-				 *  +--prefetch--+--length--+------------------------------------+
-				 *  |************|##########|                                    |
-				 *  |************|##########|                                    |
-				 *  |************|##########|                                    |
-				 *  +------------+----------+------------------------------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the second worst case scenario. We cannot even get the requested minimum ( no matter
-				 *  the desired prefetch ) before we run out of the specified range.
-				 *
-				 *                                                            +-- address
-				 *                                                            |
-				 *  +--------------------------------------------+--prefetch--+--length--+
-				 *  |                                            |************|##########|
-				 *  |                                            |************|##########|
-				 *  |                                            |************|##########|
-				 *  +--------------------------------------------+------------+--+-------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the worst case scenario. The minimum length moves us off the end of the high range
-				 *  end and the prefetch before this minimum data request ( remember we are fetching backwards
-				 *  since we are searching backwards ) runs us off the start of the data.
-				 *
-				 *                                                                +-- address
-				 *                                                                |
-				 *  +---+-----------------------------------------------prefetch--+--length--+
-				 *  |*************************************************************|##########|
-				 *  |*************************************************************|##########|
-				 *  |*************************************************************|##########|
-				 *  +---+---------------------------------------------------------+--+-------+
-				 *      |                                                            |
-				 *      +-- start                                              end --+
-				 *
-				 *  See if the desired size ( minimum length + desired prefetch ) fits in to the current range.
-				 *  Without running off the end.
-				 */
-				if (address.add(len).compareTo(end) > 0) {
-					/*
-					 *  We need to reduce the amount we can ask for to whats left. Also make sure to reduce the
-					 *  amount to copy, otherwise we will overrun the buffer and generate an exception.
-					 */
-					len = end.subtract(address).add(BigInteger.ONE);
-					length = len.intValue();
-				}
-
-				/*
-				 *  Now determine  if the prefetch is going to run backwards past the "start" of where we are allowed
-				 *  to access the memory. We will normalize the prefetch size so it takes in to account the amount of
-				 *  data being gathered as part of the length requested portion.  This should insure that  in the end
-				 *  we will request the prefetch amount of data unless there is not enough to service this request.
-				 */
-				if (len.compareTo(prefetchSize) > 0) {
-					prefetchSize = BigInteger.ZERO;
-				} else {
-					prefetchSize = prefetchSize.subtract(len);
-				}
-
-				if (address.subtract(prefetchSize).compareTo(start) < 0) {
-					/*
-					 *  Just get what we can from the beginning up to the current required address.
-					 */
-					prefetchSize = address.subtract(start);
-					fetchAddress = start;
-				} else {
-					/*
-					 *  It fits so just start reading from the calculated position prior to the requested point.
-					 */
-					fetchAddress = address.subtract(prefetchSize);
-				}
-
-				fetchSize = len.add(prefetchSize);
-			}
-
-			/*
-			 *  OK, we have determined where to start reading the data and how much. Just get the data
-			 *  and store it in the cache.
-			 */
-			MemoryByte bytes[] = fMemoryBlock.getBytesFromAddress(fetchAddress, fetchSize.longValue());
-
-			cache.memoryCacheStartAddress = fetchAddress;
-			cache.memoryCacheData = bytes;
-		}
-
-		/*
-		 * Either it was already cached or just has been, either way we have the data so copy what we can
-		 * back to the user buffer.
-		 */
-
-		MemoryByte bytes[] = new MemoryByte[length];
-		System.arraycopy(cache.memoryCacheData, address.subtract(cache.memoryCacheStartAddress).intValue(), bytes, 0,
-				length);
-
-		return bytes;
-	}
-
 	private BigInteger parseHexBigInteger(String s) {
 		if (s.toUpperCase().startsWith("0X")) //$NON-NLS-1$
 			return new BigInteger(s.substring(2), 16);
@@ -1069,48 +856,59 @@ public class FindReplaceDialog extends SelectionDialog {
 			@Override
 			public IStatus run(IProgressMonitor monitor) throws OperationCanceledException {
 
-				final BigInteger searchPhraseLength = BigInteger.valueOf(searchPhrase.getByteLength());
-				BigInteger range = end.subtract(start).add(BigInteger.ONE);
-				BigInteger currentPosition = searchForward ? start : end.subtract(searchPhraseLength);
+				final int length = searchPhrase.getByteLength();
+				final BigInteger searchPhraseLength = BigInteger.valueOf(length);
+				// The last address at which a match can start
+				final BigInteger last = end.subtract(searchPhraseLength).add(BigInteger.ONE);
 
-				if (searchPhraseLength.compareTo(range) >= 0) {
+				if (length == 0 || last.compareTo(start) < 0) {
 					return Status.OK_STATUS;
 				}
 
 				boolean isReplace = replaceData != null;
 
-				BigInteger jobs = range;
-				BigInteger factor = BigInteger.ONE;
-				if (jobs.compareTo(BigInteger.valueOf(0x07FFFFFF)) > 0) {
-					factor = jobs.divide(BigInteger.valueOf(0x07FFFFFF));
-					jobs = jobs.divide(factor);
-				}
+				BigInteger replaceCount = BigInteger.ZERO;
+
+				MemoryChunkReader reader = new MemoryChunkReader(fMemoryBlock, start, last, length, searchForward);
+				int chunkCount = reader.getChunkCount();
+				monitor.beginTask(Messages.getString("FindReplaceDialog.SearchingMemoryFor") + searchPhrase, //$NON-NLS-1$
+						chunkCount >= 0 ? chunkCount : IProgressMonitor.UNKNOWN);
 
-				BigInteger jobCount = BigInteger.ZERO;
+				long startTime = System.nanoTime();
+				long searchedBytes = 0;
+				BytePatternMatcher matcher = null;
+				boolean matcherLittleEndian = false;
+				try {
+					for (MemoryChunkReader.Chunk chunk = reader.next(); chunk != null
+							&& !monitor.isCanceled(); chunk = reader.next()) {
+						if (chunk.getLastStart() < 0) {
+							// Too few bytes were read for the pattern to fit
+							monitor.worked(1);
+							continue;
+						}
 
-				BigInteger replaceCount = BigInteger.ZERO;
+						// Integers are matched in the byte order of the target
+						boolean littleEndian = searchPhrase instanceof BigIntegerSearchPhrase && chunk.isLittleEndian(0);
+						if (matcher == null || littleEndian != matcherLittleEndian) {
+							matcher = new BytePatternMatcher(searchPhrase.getBytes(littleEndian),
+									searchPhrase.isCaseInsensitive());
+							matcherLittleEndian = littleEndian;
+						}
 
-				FindReplaceMemoryCache cache = new FindReplaceMemoryCache();
+						byte[] data = chunk.getData();
+						int offset = searchForward ? matcher.indexOf(data, 0, chunk.getLastStart())
+								: matcher.lastIndexOf(data, 0, chunk.getLastStart());
+						while (offset >= 0 && !monitor.isCanceled()) {
+							BigInteger currentPosition = chunk.getAddress(offset);
+							boolean matched = true;
 
-				monitor.beginTask(Messages.getString("FindReplaceDialog.SearchingMemoryFor") + searchPhrase, //$NON-NLS-1$
-						jobs.intValue());
-
-				boolean matched = false;
-				while (((searchForward && currentPosition.compareTo(end.subtract(searchPhraseLength)) < 0)
-						|| (!searchForward && currentPosition.compareTo(start) > 0)) && !monitor.isCanceled()) {
-					try {
-						MemoryByte bytes[] = getSearchableBytes(start, end, searchForward, currentPosition,
-								searchPhraseLength.intValue(), cache);
-						matched = searchPhrase.isMatch(bytes);
-						if (matched) {
 							if (all && !isReplace)
 								((MemorySearchResult) getSearchResult())
 										.addMatch(new MemoryMatch(currentPosition, searchPhraseLength));
 
 							if (isReplace) {
 								try {
-									if ((searchPhrase instanceof BigIntegerSearchPhrase) && (bytes.length > 0)
-											&& bytes[0].isEndianessKnown() && !bytes[0].isBigEndian()) {
+									if (littleEndian) {
 										// swap the bytes when replacing an integer on little-endian targets
 										fMemoryBlock.setValue(
 												currentPosition.subtract(fMemoryBlock.getBigBaseAddress()),
@@ -1188,25 +986,22 @@ public class FindReplaceDialog extends SelectionDialog {
 								}
 								return Status.OK_STATUS;
 							}
-						}
-
-						matched = false;
 
-						if (searchForward)
-							currentPosition = currentPosition.add(BigInteger.ONE);
-						else
-							currentPosition = currentPosition.subtract(BigInteger.ONE);
-
-					} catch (DebugException e) {
-						MemorySearchPlugin.logError(Messages.getString("FindReplaceDialog.MemorySearchFailure"), e); //$NON-NLS-1$
-						return Status.CANCEL_STATUS;
-					}
+							offset = searchForward ? matcher.indexOf(data, offset + 1, chunk.getLastStart())
+									: matcher.lastIndexOf(data, 0, offset - 1);
+						}
 
-					jobCount = jobCount.add(BigInteger.ONE);
-					if (jobCount.compareTo(factor) == 0) {
-						jobCount = BigInteger.ZERO;
+						searchedBytes += chunk.getLastStart() + 1;
 						monitor.worked(1);
+						long elapsed = Math.max(System.nanoTime() - startTime, 1);
+						monitor.subTask(MessageFormat.format(Messages.getString("FindReplaceDialog.SearchProgress"), //$NON-NLS-1$
+								searchedBytes / 1024, searchedBytes * 1000000000L / elapsed / 1024));
 					}
+				} catch (DebugException e) {
+					MemorySearchPlugin.logError(Messages.getString("FindReplaceDialog.MemorySearchFailure"), e); //$NON-NLS-1$
+					return Status.CANCEL_STATUS;
+				} finally {
+					reader.dispose();
 				}
 
 				if (monitor.isCanceled())
@@ -1242,7 +1037,12 @@ public class FindReplaceDialog extends SelectionDialog {
 	}
 
 	interface SearchPhrase {
-		boolean isMatch(MemoryByte[] bytes);
+		/**
+		 * Returns the bytes to find, in the given byte order for the phrases that depend on it.
+		 */
+		byte[] getBytes(boolean littleEndian);
+
+		boolean isCaseInsensitive();
 
 		int getByteLength();
 
@@ -1252,16 +1052,18 @@ public class FindReplaceDialog extends SelectionDialog {
 
 	class AsciiSearchPhrase implements SearchPhrase {
 		private String fPhrase;
+		private byte[] fBytes;
 		private boolean fIsCaseInsensitive;
 
 		public AsciiSearchPhrase(String phrase, boolean isCaseInsensitive) {
 			fPhrase = phrase;
+			fBytes = phrase.getBytes();
 			fIsCaseInsensitive = isCaseInsensitive;
 		}
 
 		@Override
 		public int getByteLength() {
-			return fPhrase.length();
+			return fBytes.length;
 		}
 
 		@Override
@@ -1270,20 +1072,13 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			byte[] targetBytes = new byte[bytes.length];
-			for (int i = 0; i < bytes.length; i++)
-				targetBytes[i] = bytes[i].getValue();
-
-			String searchString = fPhrase;
-			String targetString = new String(targetBytes);
-
-			if (fIsCaseInsensitive) {
-				searchString = searchString.toUpperCase();
-				targetString = targetString.toUpperCase();
-			}
+		public byte[] getBytes(boolean littleEndian) {
+			return fBytes;
+		}
 
-			return searchString.equals(targetString);
+		@Override
+		public boolean isCaseInsensitive() {
+			return fIsCaseInsensitive;
 		}
 	}
 
@@ -1314,13 +1109,13 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			if (fBytes == null)
-				return false;
-			for (int i = 0; i < bytes.length; i++)
-				if (bytes[i].getValue() != fBytes[i])
-					return false;
-			return true;
+		public byte[] getBytes(boolean littleEndian) {
+			return fBytes != null ? fBytes : new byte[0];
+		}
+
+		@Override
+		public boolean isCaseInsensitive() {
+			return false;
 		}
 	}
 
@@ -1344,21 +1139,15 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			byte[] targetBytes = new byte[bytes.length + 1];
-			targetBytes[0] = 0;
-			for (int i = 0; i < bytes.length; i++) {
-				if (bytes[i].isEndianessKnown() && !bytes[i].isBigEndian()) {
-					// swap the bytes when matching an integer on little-endian targets
-					targetBytes[i + 1] = bytes[bytes.length - i - 1].getValue();
-				} else {
-					targetBytes[i + 1] = bytes[i].getValue();
-				}
-			}
-
-			BigInteger targetBigInteger = new BigInteger(targetBytes);
+		public byte[] getBytes(boolean littleEndian) {
+			byte[] bytes = removeZeroPrefixByte(fPhrase.toByteArray());
+			// swap the bytes when matching an integer on little-endian targets
+			return littleEndian ? swapBytes(bytes) : bytes;
+		}
 
-			return fPhrase.equals(targetBigInteger);
+		@Override
+		public boolean isCaseInsensitive() {
+			return false;
 		}
 	}
 
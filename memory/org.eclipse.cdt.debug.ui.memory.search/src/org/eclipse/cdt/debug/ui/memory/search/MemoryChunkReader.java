@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse CDT contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import java.math.BigInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Reads the memory to search by large chunks aligned on their size, in the
+ * direction of the search.  The next chunk is read in the background while
+ * the current one is searched.
+ */
+class MemoryChunkReader {
+	static final int CHUNK_SIZE = 64 * 1024;
+
+	private static final BigInteger BIG_CHUNK_SIZE = BigInteger.valueOf(CHUNK_SIZE);
+
+	/**
+	 * The memory read for the matches that start in one chunk.  The data extends
+	 * past the chunk by the length of the pattern minus one, so that the matches
+	 * that straddle two chunks are found.
+	 */
+	static class Chunk {
+		private final BigInteger fAddress;
+		private final MemoryByte[] fBytes;
+		private final byte[] fData;
+		private final int fLastStart;
+
+		Chunk(BigInteger address, MemoryByte[] bytes, int lastStart) {
+			fAddress = address;
+			fBytes = bytes;
+			fData = new byte[bytes.length];
+			for (int i = 0; i < bytes.length; i++) {
+				fData[i] = bytes[i].getValue();
+			}
+			fLastStart = lastStart;
+		}
+
+		/** The address of the first byte of the data */
+		BigInteger getAddress() {
+			return fAddress;
+		}
+
+		byte[] getData() {
+			return fData;
+		}
+
+		/** The offset of the last byte at which a match can start, the first one is 0, or -1 if there is none */
+		int getLastStart() {
+			return fLastStart;
+		}
+
+		BigInteger getAddress(int offset) {
+			return fAddress.add(BigInteger.valueOf(offset));
+		}
+
+		boolean isLittleEndian(int offset) {
+			return fBytes.length > offset && fBytes[offset].isEndianessKnown() && !fBytes[offset].isBigEndian();
+		}
+	}
+
+	private final IMemoryBlockExtension fMemoryBlock;
+	private final BigInteger fStart;
+	private final BigInteger fLast;
+	private final int fLength;
+	private final boolean fForward;
+	private final ExecutorService fReader;
+
+	private BigInteger fNextChunk;
+	private Future<Chunk> fPending;
+
+	/**
+	 * @param start the first address at which a match can start
+	 * @param last the last address at which a match can start
+	 * @param length the length of the pattern
+	 */
+	MemoryChunkReader(IMemoryBlockExtension memoryBlock, BigInteger start, BigInteger last, int length,
+			boolean forward) {
+		fMemoryBlock = memoryBlock;
+		fStart = start;
+		fLast = last;
+		fLength = length;
+		fForward = forward;
+		fNextChunk = (forward ? start : last).divide(BIG_CHUNK_SIZE);
+		fReader = Executors.newSingleThreadExecutor();
+	}
+
+	/**
+	 * Returns the number of chunks to read, or -1 if there are more than fit in an int.
+	 */
+	int getChunkCount() {
+		BigInteger count = fLast.divide(BIG_CHUNK_SIZE).subtract(fStart.divide(BIG_CHUNK_SIZE)).add(BigInteger.ONE);
+		return count.bitLength() < 32 ? count.intValue() : -1;
+	}
+
+	/**
+	 * Returns the next chunk in the direction of the search, or null once all of them
+	 * were read.
+	 */
+	Chunk next() throws DebugException {
+		if (fPending == null) {
+			fPending = readNext();
+		}
+		if (fPending == null) {
+			return null;
+		}
+		try {
+			Chunk chunk = fPending.get();
+			fPending = readNext();
+			return chunk;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DebugException(new Status(IStatus.CANCEL, MemorySearchPlugin.getUniqueIdentifier(),
+					DebugException.REQUEST_FAILED, e.getMessage(), e));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DebugException) {
+				throw (DebugException) e.getCause();
+			}
+			throw new DebugException(new Status(IStatus.ERROR, MemorySearchPlugin.getUniqueIdentifier(),
+					DebugException.INTERNAL_ERROR, e.getMessage(), e.getCause()));
+		}
+	}
+
+	private Future<Chunk> readNext() {
+		final BigInteger chunkStart = fNextChunk.multiply(BIG_CHUNK_SIZE);
+		if (fForward ? chunkStart.compareTo(fLast) > 0
+				: chunkStart.add(BIG_CHUNK_SIZE).subtract(BigInteger.ONE).compareTo(fStart) < 0) {
+			return null;
+		}
+		fNextChunk = fForward ? fNextChunk.add(BigInteger.ONE) : fNextChunk.subtract(BigInteger.ONE);
+
+		final BigInteger first = chunkStart.max(fStart);
+		final BigInteger last = chunkStart.add(BIG_CHUNK_SIZE).subtract(BigInteger.ONE).min(fLast);
+		return fReader.submit(new Callable<Chunk>() {
+			@Override
+			public Chunk call() throws DebugException {
+				long size = last.subtract(first).longValue() + fLength;
+				MemoryByte[] bytes = fMemoryBlock.getBytesFromAddress(first, size);
+				// Only search what the memory block returned, -1 if it is shorter than the pattern
+				int lastStart = (int) Math.max(-1,
+						Math.min(last.subtract(first).longValue(), bytes.length - fLength));
+				return new Chunk(first, bytes, lastStart);
+			}
+		});
+	}
+
+	/**
+	 * Stops reading ahead.
+	 */
+	void dispose() {
+		fReader.shutdownNow();
+	}
+}